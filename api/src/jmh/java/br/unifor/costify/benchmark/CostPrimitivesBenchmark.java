@@ -0,0 +1,90 @@
+package br.unifor.costify.benchmark;
+
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.MoneyAccumulator;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-line building blocks of the costing hot path: {@link Money} arithmetic,
+ * {@link Unit#toBase} and {@link Ingredient#getUnitCost}.
+ * <p>
+ * Inputs live in non-final state fields so the JIT cannot constant-fold them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2)
+@State(Scope.Thread)
+public class CostPrimitivesBenchmark {
+
+    private Money price;
+    private Money otherPrice;
+    private double amount;
+    private double quantity;
+    private long microCents;
+    private Unit unit;
+    private Ingredient ingredient;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(CostingFixtures.SEED);
+        price = Money.of(12.34);
+        otherPrice = Money.of(5.67);
+        amount = 8.91;
+        quantity = 250.0;
+        microCents = MoneyAccumulator.toMicroCents(amount * quantity);
+        unit = Unit.KG;
+        ingredient = CostingFixtures.catalog(1, random).values().iterator().next();
+    }
+
+    @Benchmark
+    public Money moneyOfDouble() {
+        return Money.of(amount);
+    }
+
+    @Benchmark
+    public Money moneyOfMicroCents() {
+        return Money.ofMicroCents(microCents);
+    }
+
+    @Benchmark
+    public Money moneyAdd() {
+        return price.add(otherPrice);
+    }
+
+    @Benchmark
+    public Money moneyMultiply() {
+        return price.multiply(quantity);
+    }
+
+    @Benchmark
+    public long moneyAccumulatorAdd() {
+        return new MoneyAccumulator().add(MoneyAccumulator.toMicroCents(amount * quantity)).getMicroCents();
+    }
+
+    @Benchmark
+    public double unitToBase() {
+        return unit.toBase(quantity);
+    }
+
+    @Benchmark
+    public double ingredientUnitCost() {
+        return ingredient.getUnitCost();
+    }
+}
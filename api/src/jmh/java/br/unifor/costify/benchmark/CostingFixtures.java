@@ -0,0 +1,86 @@
+package br.unifor.costify.benchmark;
+
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic catalogs and recipes for the benchmarks.
+ * Every fixture is built from a fixed seed so runs are comparable across commits.
+ */
+final class CostingFixtures {
+    static final long SEED = 42L;
+
+    private static final Unit[][] UNITS_BY_TYPE = {
+        {Unit.G, Unit.KG, Unit.TBSP_BUTTER},
+        {Unit.ML, Unit.L, Unit.TBSP},
+        {Unit.UN}
+    };
+
+    private CostingFixtures() {
+    }
+
+    static Map<Id, Ingredient> catalog(int size, Random random) {
+        Map<Id, Ingredient> catalog = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            Unit[] units = UNITS_BY_TYPE[i % UNITS_BY_TYPE.length];
+            Ingredient ingredient = new Ingredient(
+                    id(random),
+                    "Ingredient " + i,
+                    1 + random.nextInt(5000),
+                    Money.of(0.5 + random.nextInt(10_000) / 100.0),
+                    units[random.nextInt(units.length)]);
+            catalog.put(ingredient.getId(), ingredient);
+        }
+        return catalog;
+    }
+
+    /**
+     * Builds a recipe using {@code size} distinct ingredients from the catalog, each measured
+     * in a unit compatible with the ingredient's package unit.
+     */
+    static Recipe recipe(Map<Id, Ingredient> catalog, int size, Random random) {
+        if (size > catalog.size()) {
+            throw new IllegalArgumentException("Recipe size " + size + " exceeds catalog size " + catalog.size());
+        }
+
+        List<Ingredient> candidates = new ArrayList<>(catalog.values());
+        candidates.sort((a, b) -> a.getName().compareTo(b.getName()));
+        Collections.shuffle(candidates, random);
+
+        List<RecipeIngredient> ingredients = new ArrayList<>(size);
+        for (Ingredient ingredient : candidates.subList(0, size)) {
+            Unit[] units = unitsOfType(ingredient.getPackageUnit().getType());
+            ingredients.add(new RecipeIngredient(
+                    ingredient.getId(),
+                    0.5 + random.nextInt(1000) / 10.0,
+                    units[random.nextInt(units.length)]));
+        }
+
+        return new Recipe(id(random), "Recipe with " + size + " ingredients", ingredients, Money.zero());
+    }
+
+    static Id id(Random random) {
+        return Id.of(new UUID(random.nextLong(), random.nextLong()).toString());
+    }
+
+    private static Unit[] unitsOfType(Unit.Type type) {
+        for (Unit[] units : UNITS_BY_TYPE) {
+            if (units[0].getType() == type) {
+                return units;
+            }
+        }
+        throw new IllegalArgumentException("No units for type " + type);
+    }
+}
@@ -0,0 +1,181 @@
+package br.unifor.costify.benchmark;
+
+import br.unifor.costify.CostifyApplication;
+import br.unifor.costify.catalog.application.dto.command.RegisterIngredientCommand;
+import br.unifor.costify.catalog.application.usecase.RegisterIngredientUseCase;
+import br.unifor.costify.recipe.application.dto.command.RegisterRecipeCommand;
+import br.unifor.costify.recipe.application.usecase.RegisterRecipeUseCase;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ingredient price updates through the HTTP API, against PostgreSQL and the Hikari pool,
+ * with Tomcat on platform threads and on virtual threads.
+ * <p>
+ * Each invocation sends a burst of concurrent {@code PUT /ingredients/{id}} requests, one per
+ * ingredient, so they never conflict on the ingredient itself; every request commits the update and then recalculates the affected recipes, synchronously or
+ * through the background queue. The {@code virtual-threads} profile also turns on the
+ * connection pool limit, so requests past it are rejected with 503 and counted separately.
+ * <p>
+ * Needs Docker for the PostgreSQL container.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+public class IngredientUpdateBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"false", "true"})
+    public boolean asyncRecalculation;
+
+    @Param({"200"})
+    public int concurrentUpdates;
+
+    @Param({"10"})
+    public int poolSize;
+
+    private static final int RECIPES = 500;
+    private static final int INGREDIENTS_PER_RECIPE = 5;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private ExecutorService clients;
+    private String baseUrl;
+    private List<Id> ingredientIds;
+    private final AtomicLong priceStep = new AtomicLong();
+
+    /** Responses of the measured requests, reported next to the timings. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Responses {
+        public long updated;
+        public long rejected;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16.9"));
+        postgres.start();
+
+        SpringApplicationBuilder application = new SpringApplicationBuilder(CostifyApplication.class)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        "costify.recipe.recalculation.async.enabled=" + asyncRecalculation,
+                        "server.port=0",
+                        "logging.level.root=WARN");
+        if ("virtual".equals(threads)) {
+            application.profiles("virtual-threads");
+        }
+        context = application.run();
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        seed();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        // The load generator always uses virtual threads, so only the server side varies
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clients.shutdownNow();
+        httpClient.close();
+        context.close();
+        postgres.stop();
+    }
+
+    private void seed() {
+        Random random = new Random(CostingFixtures.SEED);
+        RegisterIngredientUseCase registerIngredient = context.getBean(RegisterIngredientUseCase.class);
+        RegisterRecipeUseCase registerRecipe = context.getBean(RegisterRecipeUseCase.class);
+
+        ingredientIds = new ArrayList<>(concurrentUpdates);
+        for (int i = 0; i < concurrentUpdates; i++) {
+            ingredientIds.add(Id.of(registerIngredient.execute(
+                    new RegisterIngredientCommand("Ingredient " + i, 1000.0, 10.0 + i, Unit.G)).id()));
+        }
+        for (int i = 0; i < RECIPES; i++) {
+            List<RecipeIngredient> lines = new ArrayList<>(INGREDIENTS_PER_RECIPE);
+            List<Id> shuffled = new ArrayList<>(ingredientIds);
+            Collections.shuffle(shuffled, random);
+            for (Id ingredientId : shuffled.subList(0, INGREDIENTS_PER_RECIPE)) {
+                lines.add(new RecipeIngredient(ingredientId, 1 + random.nextInt(500), Unit.G));
+            }
+            registerRecipe.execute(new RegisterRecipeCommand("Recipe " + i, lines));
+        }
+    }
+
+    @Benchmark
+    public void concurrentPriceUpdates(Responses responses) throws Exception {
+        List<Future<Integer>> statuses = new ArrayList<>(concurrentUpdates);
+        for (int i = 0; i < concurrentUpdates; i++) {
+            int ingredient = i;
+            double price = 10.0 + priceStep.incrementAndGet() % 1000 / 100.0;
+            statuses.add(clients.submit(() -> updatePrice(ingredient, price)));
+        }
+
+        for (Future<Integer> status : statuses) {
+            int code = status.get();
+            if (code == 200) {
+                responses.updated++;
+            } else if (code == 503) {
+                responses.rejected++;
+            } else {
+                throw new IllegalStateException("Unexpected response status " + code);
+            }
+        }
+    }
+
+    private int updatePrice(int ingredient, double price) throws Exception {
+        String body = "{\"name\":\"Ingredient " + ingredient + "\",\"packageQuantity\":1000.0,"
+                + "\"packagePrice\":" + price + ",\"packageUnit\":\"G\"}";
+        Id ingredientId = ingredientIds.get(ingredient);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/ingredients/" + ingredientId.getValue()))
+                .header("Content-Type", "application/json")
+                .header("If-Match", "*")
+                .PUT(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
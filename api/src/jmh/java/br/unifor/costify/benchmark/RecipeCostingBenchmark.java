@@ -0,0 +1,86 @@
+package br.unifor.costify.benchmark;
+
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.recipe.domain.valueobject.IngredientCost;
+import br.unifor.costify.recipe.domain.valueobject.RecipeCost;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recipe-level costing hot path: full cost breakdown, total-only calculation,
+ * {@link RecipeCost} construction and the {@link RecipeDto} mapping used by the API.
+ * <p>
+ * Parameterized by recipe size and catalog size; a larger catalog makes the
+ * ingredient map lookups less cache-friendly without changing the amount of work.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2)
+@State(Scope.Benchmark)
+public class RecipeCostingBenchmark {
+
+    @Param({"5", "50", "500"})
+    public int recipeSize;
+
+    @Param({"500", "10000"})
+    public int catalogSize;
+
+    private RecipeCostCalculationService calculationService;
+    private Map<Id, Ingredient> catalog;
+    private Recipe recipe;
+    private List<IngredientCost> ingredientCosts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(CostingFixtures.SEED);
+        calculationService = new RecipeCostCalculationService();
+        catalog = CostingFixtures.catalog(catalogSize, random);
+        recipe = CostingFixtures.recipe(catalog, recipeSize, random);
+
+        RecipeCost recipeCost = calculationService.calculateCost(recipe, catalog);
+        ingredientCosts = recipeCost.getIngredientCosts();
+        recipe.updateTotalCost(recipeCost.getTotalCost());
+    }
+
+    @Benchmark
+    public RecipeCost calculateCost() {
+        return calculationService.calculateCost(recipe, catalog);
+    }
+
+    @Benchmark
+    public Money calculateTotalCost() {
+        return calculationService.calculateTotalCost(recipe, catalog);
+    }
+
+    @Benchmark
+    public RecipeCost recipeCostConstruction() {
+        return new RecipeCost(recipe.getId(), recipe.getName(), ingredientCosts);
+    }
+
+    @Benchmark
+    public RecipeDto recipeDtoFrom() {
+        return RecipeDto.from(recipe);
+    }
+}
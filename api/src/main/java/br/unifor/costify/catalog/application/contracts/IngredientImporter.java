@@ -0,0 +1,18 @@
+package br.unifor.costify.catalog.application.contracts;
+
+import br.unifor.costify.shared.application.imports.ImportReport;
+import java.io.InputStream;
+
+public interface IngredientImporter {
+
+  /**
+   * Imports ingredients from a UTF-8 CSV file with a header row and the columns
+   * {@code name, package_quantity, package_price, package_unit}, in that order.
+   * Valid rows are inserted; rows that are invalid, repeat an earlier row's name or name an
+   * existing ingredient are skipped and reported.
+   *
+   * @throws br.unifor.costify.shared.application.imports.InvalidImportFileException if the
+   *     file cannot be read as CSV with those columns
+   */
+  ImportReport importCsv(InputStream csv);
+}
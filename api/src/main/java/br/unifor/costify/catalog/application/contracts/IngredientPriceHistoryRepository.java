@@ -0,0 +1,22 @@
+package br.unifor.costify.catalog.application.contracts;
+
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read side of the ingredient price history. The history itself is written by the database
+ * whenever an ingredient's package or price changes, in the same transaction as the change.
+ */
+public interface IngredientPriceHistoryRepository {
+
+  /**
+   * Loads the ingredients whose ID is in {@code ids} as they were priced at {@code at}: each
+   * one carries the package and price of its latest change at or before that instant, under
+   * its current name. Ingredients that did not exist yet at {@code at}, or no longer exist,
+   * are absent from the result.
+   */
+  List<Ingredient> findAllAsOf(Collection<Id> ids, Instant at);
+}
@@ -0,0 +1,25 @@
+package br.unifor.costify.catalog.application.contracts;
+
+import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
+import br.unifor.costify.catalog.application.dto.query.IngredientSort;
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import java.util.List;
+
+/**
+ * Read side of the ingredient listings. Ingredients are read straight into
+ * {@link IngredientDto}s, without building {@code Ingredient} entities. Everything else goes
+ * through {@link IngredientRepository}.
+ */
+public interface IngredientQueryService {
+
+  /**
+   * Every ingredient, by name.
+   */
+  List<IngredientDto> findAll();
+
+  /**
+   * One page of ingredients in the requested order, continuing after the request's cursor.
+   */
+  CursorPage<IngredientDto> findPage(PageRequest<IngredientSort> request);
+}
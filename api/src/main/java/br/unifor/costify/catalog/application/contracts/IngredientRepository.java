@@ -1,7 +1,10 @@
 package br.unifor.costify.catalog.application.contracts;
 
 import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
 import br.unifor.costify.shared.domain.valueobject.Id;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,10 +12,40 @@ public interface IngredientRepository {
 
   Ingredient save(Ingredient ingredient);
 
+  /**
+   * Saves several ingredients in one round of batched statements.
+   */
+  List<Ingredient> saveAll(Collection<Ingredient> ingredients);
+
   Optional<Ingredient> findById(Id id);
 
+  /**
+   * Loads every ingredient whose ID is in {@code ids} with a single query.
+   * IDs that do not exist are simply absent from the result.
+   */
+  List<Ingredient> findAllByIds(Collection<Id> ids);
+
+  /**
+   * Same as {@link #findAllByIds}, but always read from the database, never from a cache.
+   * Used where the prices read are turned into stored totals, which must not be computed
+   * from a copy that a write on another instance has made stale.
+   */
+  List<Ingredient> findCurrentByIds(Collection<Id> ids);
+
   List<Ingredient> findAll();
 
+  /**
+   * Reads only the version and last write time of a ingredient, with a single primary key lookup,
+   * so a client's cached copy can be validated without loading the ingredient.
+   */
+  Optional<ResourceVersion> findVersionById(Id id);
+
+  /**
+   * Summarizes every ingredient with one aggregate query, without loading any of them, so a
+   * client's cached listing can be validated cheaply.
+   */
+  CollectionVersion findCollectionVersion();
+
   boolean existsByName(String name);
 
   void deleteById(Id id);
@@ -0,0 +1,10 @@
+package br.unifor.costify.catalog.application.dto.command;
+
+import br.unifor.costify.shared.domain.valueobject.Id;
+import java.util.List;
+
+public record BulkUpdateIngredientsCommand(List<Item> updates) {
+  // Items are applied in order; an ingredient listed twice gets both changes, the last one winning
+
+  public record Item(Id ingredientId, UpdateIngredientCommand changes) {}
+}
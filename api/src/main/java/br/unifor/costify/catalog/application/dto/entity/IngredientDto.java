@@ -9,7 +9,8 @@ public record IngredientDto(
     double packageQuantity,
     double packagePrice,
     Unit packageUnit,
-    double unitCost) {
+    double unitCost,
+    long version) {
 
   public static IngredientDto from(Ingredient ingredient) {
     return new IngredientDto(
@@ -18,6 +19,7 @@ public record IngredientDto(
         ingredient.getPackageQuantity(),
         ingredient.getPackagePrice().doubleValue(),
         ingredient.getPackageUnit(),
-        ingredient.getUnitCost());
+        ingredient.getUnitCost(),
+        ingredient.getVersion());
   }
 }
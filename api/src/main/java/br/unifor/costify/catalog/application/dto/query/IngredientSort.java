@@ -0,0 +1,10 @@
+package br.unifor.costify.catalog.application.dto.query;
+
+/**
+ * Sort keys available for the ingredient listing. Ties are broken by ingredient ID.
+ */
+public enum IngredientSort {
+  NAME,
+  PACKAGE_PRICE,
+  UPDATED_AT
+}
@@ -0,0 +1,32 @@
+package br.unifor.costify.catalog.application.errors;
+
+import br.unifor.costify.shared.application.errors.ApplicationException;
+import br.unifor.costify.shared.application.errors.ApplicationErrorCode;
+
+import java.time.Instant;
+
+/**
+ * Exception thrown when an ingredient has no recorded price at a requested point in time,
+ * typically because it was created after that instant.
+ */
+public class IngredientPriceNotFoundException extends ApplicationException {
+    
+    private static final String DEFAULT_MESSAGE = "Ingredient had no price at the requested time";
+    
+    public IngredientPriceNotFoundException() {
+        super(ApplicationErrorCode.INGREDIENT_PRICE_NOT_FOUND, DEFAULT_MESSAGE);
+    }
+    
+    public IngredientPriceNotFoundException(String message) {
+        super(ApplicationErrorCode.INGREDIENT_PRICE_NOT_FOUND, message);
+    }
+    
+    public IngredientPriceNotFoundException(String message, Throwable cause) {
+        super(ApplicationErrorCode.INGREDIENT_PRICE_NOT_FOUND, message, cause);
+    }
+    
+    public static IngredientPriceNotFoundException withIdAt(String ingredientId, Instant at) {
+        return new IngredientPriceNotFoundException(
+            String.format("Ingredient with ID '%s' had no price at %s", ingredientId, at));
+    }
+}
@@ -7,9 +7,10 @@ import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -20,20 +21,30 @@ public class IngredientLoaderService {
     this.ingredientRepository = ingredientRepository;
   }
 
+  /**
+   * Loads all ingredients referenced by the given recipe lines with a single repository call.
+   * The ingredients are read from the database, bypassing the ingredient cache, since the
+   * callers store totals computed from their prices.
+   *
+   * @throws IngredientNotFoundException if any referenced ingredient does not exist
+   */
   public Map<Id, Ingredient> loadIngredients(List<RecipeIngredient> recipeIngredients) {
-    Map<Id, Ingredient> ingredientMap = new HashMap<>();
-    
+    Set<Id> ingredientIds = new LinkedHashSet<>();
     for (RecipeIngredient recipeIngredient : recipeIngredients) {
-      Id ingredientId = recipeIngredient.getIngredientId();
-      
-      Optional<Ingredient> ingredientOpt = ingredientRepository.findById(ingredientId);
-      if (ingredientOpt.isEmpty()) {
+      ingredientIds.add(recipeIngredient.getIngredientId());
+    }
+
+    Map<Id, Ingredient> ingredientMap = new HashMap<>();
+    for (Ingredient ingredient : ingredientRepository.findCurrentByIds(ingredientIds)) {
+      ingredientMap.put(ingredient.getId(), ingredient);
+    }
+
+    for (Id ingredientId : ingredientIds) {
+      if (!ingredientMap.containsKey(ingredientId)) {
         throw new IngredientNotFoundException("Ingredient not found with ID: " + ingredientId);
       }
-      
-      ingredientMap.put(ingredientId, ingredientOpt.get());
     }
-    
+
     return ingredientMap;
   }
-}
\ No newline at end of file
+}
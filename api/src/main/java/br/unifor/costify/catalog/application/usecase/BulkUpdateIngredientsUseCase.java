@@ -0,0 +1,101 @@
+package br.unifor.costify.catalog.application.usecase;
+
+import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.application.dto.command.BulkUpdateIngredientsCommand;
+import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
+import br.unifor.costify.catalog.application.errors.IngredientNotFoundException;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.catalog.domain.events.IngredientUpdatedEvent;
+import br.unifor.costify.catalog.domain.events.IngredientsBulkUpdatedEvent;
+import br.unifor.costify.shared.application.contracts.TransactionManager;
+import br.unifor.costify.shared.domain.events.DomainEvent;
+import br.unifor.costify.shared.domain.events.DomainEventPublisher;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Use case for updating many ingredients in one transaction.
+ * <p>
+ * All ingredients are loaded with a single query and written back with one batched save.
+ * Instead of one event per ingredient, a single {@link IngredientsBulkUpdatedEvent} is
+ * published, so the recipes affected by several of the ingredients are recalculated once.
+ * Like {@link UpdateIngredientUseCase}, it is framework-agnostic.
+ */
+public class BulkUpdateIngredientsUseCase {
+  public static final int MAX_BATCH_SIZE = 1000;
+
+  private static final Logger logger = LoggerFactory.getLogger(BulkUpdateIngredientsUseCase.class);
+  private final IngredientRepository ingredientRepository;
+  private final DomainEventPublisher eventPublisher;
+  private final TransactionManager transactionManager;
+
+  public BulkUpdateIngredientsUseCase(
+      IngredientRepository ingredientRepository,
+      DomainEventPublisher eventPublisher,
+      TransactionManager transactionManager) {
+    this.ingredientRepository = ingredientRepository;
+    this.eventPublisher = eventPublisher;
+    this.transactionManager = transactionManager;
+  }
+
+  /**
+   * Applies every update or none of them.
+   *
+   * @param command The updates, applied in order
+   * @return The updated ingredients, each once, in the order they first appear in the command
+   * @throws IngredientNotFoundException if any of the ingredients does not exist
+   */
+  public List<IngredientDto> execute(BulkUpdateIngredientsCommand command) {
+    if (command.updates().size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException(
+          "Cannot update more than " + MAX_BATCH_SIZE + " ingredients at once");
+    }
+
+    return transactionManager.executeInTransaction(() -> {
+      Set<Id> ingredientIds = new LinkedHashSet<>();
+      for (BulkUpdateIngredientsCommand.Item item : command.updates()) {
+        ingredientIds.add(item.ingredientId());
+      }
+
+      Map<Id, Ingredient> ingredients = new LinkedHashMap<>();
+      for (Ingredient ingredient : ingredientRepository.findAllByIds(ingredientIds)) {
+        ingredients.put(ingredient.getId(), ingredient);
+      }
+      for (Id ingredientId : ingredientIds) {
+        if (!ingredients.containsKey(ingredientId)) {
+          throw IngredientNotFoundException.withId(ingredientId.getValue());
+        }
+      }
+
+      for (BulkUpdateIngredientsCommand.Item item : command.updates()) {
+        UpdateIngredientUseCase.applyChanges(ingredients.get(item.ingredientId()), item.changes());
+      }
+
+      // Keep the ingredients in request order, whatever order the repository returned them in
+      List<Ingredient> updated = ingredientIds.stream().map(ingredients::get).toList();
+      List<IngredientUpdatedEvent> events = new ArrayList<>();
+      for (Ingredient ingredient : updated) {
+        for (DomainEvent event : ingredient.getDomainEvents()) {
+          if (event instanceof IngredientUpdatedEvent updatedEvent) {
+            events.add(updatedEvent);
+          }
+        }
+        ingredient.clearDomainEvents();
+      }
+
+      List<Ingredient> saved = ingredientRepository.saveAll(updated);
+
+      logger.info("Publishing bulk update event for {} ingredients ({} changes)", saved.size(), events.size());
+      eventPublisher.publish(new IngredientsBulkUpdatedEvent(events));
+
+      return saved.stream().map(IngredientDto::from).toList();
+    });
+  }
+}
@@ -3,10 +3,13 @@ package br.unifor.costify.catalog.application.usecase;
 import br.unifor.costify.catalog.application.contracts.IngredientRepository;
 import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
 import br.unifor.costify.catalog.application.errors.IngredientNotFoundException;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class GetIngredientByIdUseCase {
@@ -20,4 +23,14 @@ public class GetIngredientByIdUseCase {
 
         return IngredientDto.from(ingredient);
     }
+
+    /**
+     * Reads only the ingredient's version and last write time, for answering conditional requests
+     * without loading it.
+     *
+     * @return empty if the ingredient does not exist
+     */
+    public Optional<ResourceVersion> findVersion(String ingredientId) {
+        return ingredientRepository.findVersionById(Id.of(ingredientId));
+    }
 }
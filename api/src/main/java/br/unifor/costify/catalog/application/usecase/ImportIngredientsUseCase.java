@@ -0,0 +1,25 @@
+package br.unifor.costify.catalog.application.usecase;
+
+import br.unifor.costify.catalog.application.contracts.IngredientImporter;
+import br.unifor.costify.shared.application.imports.ImportReport;
+import java.io.InputStream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for loading many ingredients from a CSV file in one transaction.
+ * The file is streamed to the database as it is read, so its size is not bounded by memory.
+ */
+@Service
+public class ImportIngredientsUseCase {
+  private final IngredientImporter ingredientImporter;
+
+  public ImportIngredientsUseCase(IngredientImporter ingredientImporter) {
+    this.ingredientImporter = ingredientImporter;
+  }
+
+  @Transactional
+  public ImportReport execute(InputStream csv) {
+    return ingredientImporter.importCsv(csv);
+  }
+}
@@ -1,19 +1,40 @@
 package br.unifor.costify.catalog.application.usecase;
 
+import br.unifor.costify.catalog.application.contracts.IngredientQueryService;
 import br.unifor.costify.catalog.application.contracts.IngredientRepository;
 import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
+import br.unifor.costify.catalog.application.dto.query.IngredientSort;
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
 import java.util.List;
 import org.springframework.stereotype.Service;
 
+/**
+ * Lists ingredients through the read-side {@link IngredientQueryService}, which maps rows straight into DTOs.
+ */
 @Service
 public class ListIngredientsUseCase {
   private final IngredientRepository ingredientRepository;
+  private final IngredientQueryService ingredientQueryService;
 
-  public ListIngredientsUseCase(IngredientRepository ingredientRepository) {
+  public ListIngredientsUseCase(IngredientRepository ingredientRepository, IngredientQueryService ingredientQueryService) {
     this.ingredientRepository = ingredientRepository;
+    this.ingredientQueryService = ingredientQueryService;
   }
 
   public List<IngredientDto> execute() {
-    return ingredientRepository.findAll().stream().map(IngredientDto::from).toList();
+    return ingredientQueryService.findAll();
+  }
+
+  public CursorPage<IngredientDto> execute(PageRequest<IngredientSort> request) {
+    return ingredientQueryService.findPage(request);
+  }
+
+  /**
+   * Summarizes all ingredients without loading them; it changes whenever any listing would.
+   */
+  public CollectionVersion findCollectionVersion() {
+    return ingredientRepository.findCollectionVersion();
   }
 }
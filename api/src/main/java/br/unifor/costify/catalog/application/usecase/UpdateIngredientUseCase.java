@@ -2,6 +2,7 @@ package br.unifor.costify.catalog.application.usecase;
 
 import br.unifor.costify.catalog.application.contracts.IngredientRepository;
 import br.unifor.costify.shared.application.contracts.TransactionManager;
+import br.unifor.costify.shared.application.errors.StaleVersionException;
 import br.unifor.costify.catalog.application.dto.command.UpdateIngredientCommand;
 import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
@@ -9,6 +10,7 @@ import br.unifor.costify.shared.domain.events.DomainEvent;
 import br.unifor.costify.shared.domain.events.DomainEventPublisher;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Money;
+import java.util.OptionalLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,18 +44,31 @@ public class UpdateIngredientUseCase {
    * @return The updated ingredient DTO
    */
   public IngredientDto execute(Id ingredientId, UpdateIngredientCommand command) {
+    return update(ingredientId, OptionalLong.empty(), command);
+  }
+
+  /**
+   * Same as {@link #execute(Id, UpdateIngredientCommand)}, but only if the ingredient is
+   * still at {@code expectedVersion}.
+   *
+   * @throws StaleVersionException if the ingredient has been changed since that version
+   */
+  public IngredientDto execute(Id ingredientId, long expectedVersion, UpdateIngredientCommand command) {
+    return update(ingredientId, OptionalLong.of(expectedVersion), command);
+  }
+
+  private IngredientDto update(Id ingredientId, OptionalLong expectedVersion, UpdateIngredientCommand command) {
     return transactionManager.executeInTransaction(() -> {
       // Load existing entity
       Ingredient ingredient = ingredientRepository.findById(ingredientId)
           .orElseThrow(() -> new IllegalArgumentException("Ingredient not found with id: " + ingredientId));
+      if (expectedVersion.isPresent() && expectedVersion.getAsLong() != ingredient.getVersion()) {
+        throw StaleVersionException.of(
+            "Ingredient", ingredientId.getValue(), expectedVersion.getAsLong(), ingredient.getVersion());
+      }
 
       // Update entity (this will emit domain events)
-      ingredient.update(
-          command.name() != null ? command.name() : ingredient.getName(),
-          command.packageQuantity() != null ? command.packageQuantity() : ingredient.getPackageQuantity(),
-          command.packagePrice() != null ? Money.of(command.packagePrice()) : ingredient.getPackagePrice(),
-          command.packageUnit() != null ? command.packageUnit() : ingredient.getPackageUnit()
-      );
+      applyChanges(ingredient, command);
 
       // Get a copy of domain events before clearing (getDomainEvents() returns a new list)
       var domainEvents = ingredient.getDomainEvents();
@@ -73,6 +88,19 @@ public class UpdateIngredientUseCase {
     });
   }
 
+  /**
+   * Applies the non-null fields of the command to the ingredient, keeping the current
+   * value of every field left null. Emits an {@code IngredientUpdatedEvent}.
+   */
+  static void applyChanges(Ingredient ingredient, UpdateIngredientCommand command) {
+    ingredient.update(
+        command.name() != null ? command.name() : ingredient.getName(),
+        command.packageQuantity() != null ? command.packageQuantity() : ingredient.getPackageQuantity(),
+        command.packagePrice() != null ? Money.of(command.packagePrice()) : ingredient.getPackagePrice(),
+        command.packageUnit() != null ? command.packageUnit() : ingredient.getPackageUnit()
+    );
+  }
+
   /**
    * Publishes all domain events that were extracted before the entity was saved.
    * This method ensures events are published exactly once after the transaction commits.
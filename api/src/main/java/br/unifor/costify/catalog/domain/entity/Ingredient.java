@@ -17,6 +17,7 @@ public class Ingredient {
   private double packageQuantity;
   private Money packagePrice;
   private Unit packageUnit;
+  private long version;
   private final List<DomainEvent> domainEvents = new ArrayList<>();
 
   /**
@@ -30,12 +31,28 @@ public class Ingredient {
    */
   public Ingredient(
       Id id, String name, double packageQuantity, Money packagePrice, Unit packageUnit) {
+    this(id, name, packageQuantity, packagePrice, packageUnit, 0);
+  }
+
+  /**
+   * Construtor da entidade
+   *
+   * @param id Ingredient ID
+   * @param name Ingredient name
+   * @param packageQuantity total quantity in the package
+   * @param packagePrice Price of the package
+   * @param packageUnit Unit of measurement for the package
+   * @param version Stored version, incremented on every write; used to detect concurrent updates
+   */
+  public Ingredient(
+      Id id, String name, double packageQuantity, Money packagePrice, Unit packageUnit, long version) {
     this.validate(name, packageQuantity);
     this.id = id;
     this.name = name;
     this.packageQuantity = packageQuantity;
     this.packagePrice = packagePrice;
     this.packageUnit = packageUnit;
+    this.version = version;
   }
 
   /**
@@ -62,7 +79,15 @@ public class Ingredient {
   }
 
   public double getUnitCost() {
-    return packagePrice.doubleValue() / packageUnit.toBase(packageQuantity);
+    return unitCost(packagePrice.doubleValue(), packageQuantity, packageUnit);
+  }
+
+  /**
+   * Cost of one base unit (ml, g or unit) of an ingredient sold in the given package.
+   * Shared with read paths that report unit costs without building an {@code Ingredient}.
+   */
+  public static double unitCost(double packagePrice, double packageQuantity, Unit packageUnit) {
+    return packagePrice / packageUnit.toBase(packageQuantity);
   }
 
   // Getters
@@ -86,6 +111,10 @@ public class Ingredient {
     return packageUnit;
   }
 
+  public long getVersion() {
+    return version;
+  }
+
 
   /**
    * Update the ingredient with new values and emit a domain event.
@@ -97,6 +126,7 @@ public class Ingredient {
    */
   public void update(String name, double packageQuantity, Money packagePrice, Unit packageUnit) {
     this.validate(name, packageQuantity);
+    double previousUnitCost = getUnitCost();
     this.name = name;
     this.packageQuantity = packageQuantity;
     this.packagePrice = packagePrice;
@@ -108,7 +138,8 @@ public class Ingredient {
         name,
         packageQuantity,
         packagePrice,
-        packageUnit
+        packageUnit,
+        previousUnitCost
     ));
   }
 
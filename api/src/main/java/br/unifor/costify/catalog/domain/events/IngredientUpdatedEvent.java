@@ -9,7 +9,9 @@ import java.time.Instant;
 
 /**
  * Domain event emitted when an ingredient is updated.
- * This event captures the new state of the ingredient after the update.
+ * This event captures the new state of the ingredient after the update, together with
+ * the unit cost it had before the update so that consumers can apply the price change
+ * as a delta instead of recalculating from scratch.
  */
 public class IngredientUpdatedEvent implements DomainEvent {
   private final Id ingredientId;
@@ -17,6 +19,8 @@ public class IngredientUpdatedEvent implements DomainEvent {
   private final double newPackageQuantity;
   private final Money newPackagePrice;
   private final Unit newPackageUnit;
+  private final double previousUnitCost;
+  private final double newUnitCost;
   private final Instant occurredOn;
 
   public IngredientUpdatedEvent(
@@ -25,11 +29,26 @@ public class IngredientUpdatedEvent implements DomainEvent {
       double newPackageQuantity,
       Money newPackagePrice,
       Unit newPackageUnit) {
+    this(ingredientId, newName, newPackageQuantity, newPackagePrice, newPackageUnit, Double.NaN);
+  }
+
+  /**
+   * @param previousUnitCost cost per base unit before the update, or {@code Double.NaN} if unknown
+   */
+  public IngredientUpdatedEvent(
+      Id ingredientId,
+      String newName,
+      double newPackageQuantity,
+      Money newPackagePrice,
+      Unit newPackageUnit,
+      double previousUnitCost) {
     this.ingredientId = ingredientId;
     this.newName = newName;
     this.newPackageQuantity = newPackageQuantity;
     this.newPackagePrice = newPackagePrice;
     this.newPackageUnit = newPackageUnit;
+    this.previousUnitCost = previousUnitCost;
+    this.newUnitCost = newPackagePrice.doubleValue() / newPackageUnit.toBase(newPackageQuantity);
     this.occurredOn = Instant.now();
   }
 
@@ -62,4 +81,29 @@ public class IngredientUpdatedEvent implements DomainEvent {
   public Unit getNewPackageUnit() {
     return newPackageUnit;
   }
+
+  /**
+   * @return cost per base unit before the update, or {@code Double.NaN} if unknown
+   */
+  public double getPreviousUnitCost() {
+    return previousUnitCost;
+  }
+
+  /**
+   * @return cost per base unit after the update
+   */
+  public double getNewUnitCost() {
+    return newUnitCost;
+  }
+
+  public boolean hasPreviousUnitCost() {
+    return !Double.isNaN(previousUnitCost);
+  }
+
+  /**
+   * @return true if the unit cost changed, or if the previous unit cost is unknown
+   */
+  public boolean isUnitCostChanged() {
+    return !hasPreviousUnitCost() || Double.compare(previousUnitCost, newUnitCost) != 0;
+  }
 }
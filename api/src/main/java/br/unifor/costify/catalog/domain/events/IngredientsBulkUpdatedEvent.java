@@ -0,0 +1,49 @@
+package br.unifor.costify.catalog.domain.events;
+
+import br.unifor.costify.shared.domain.events.DomainEvent;
+import br.unifor.costify.shared.domain.valueobject.Id;
+
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Domain event emitted once when several ingredients are updated together in one transaction.
+ * It carries the individual {@link IngredientUpdatedEvent}s, so consumers that react to price
+ * changes can handle the whole set at once instead of once per ingredient.
+ */
+public class IngredientsBulkUpdatedEvent implements DomainEvent {
+  private final List<IngredientUpdatedEvent> updates;
+  private final Instant occurredOn;
+
+  public IngredientsBulkUpdatedEvent(List<IngredientUpdatedEvent> updates) {
+    this.updates = List.copyOf(updates);
+    this.occurredOn = Instant.now();
+  }
+
+  @Override
+  public Instant getOccurredOn() {
+    return occurredOn;
+  }
+
+  @Override
+  public String getEventType() {
+    return "IngredientsBulkUpdated";
+  }
+
+  public List<IngredientUpdatedEvent> getUpdates() {
+    return updates;
+  }
+
+  /**
+   * @return the IDs of the updated ingredients, each once, in update order
+   */
+  public Set<Id> getIngredientIds() {
+    Set<Id> ingredientIds = new LinkedHashSet<>();
+    for (IngredientUpdatedEvent update : updates) {
+      ingredientIds.add(update.getIngredientId());
+    }
+    return ingredientIds;
+  }
+}
@@ -2,6 +2,7 @@ package br.unifor.costify.catalog.infra.config;
 
 import br.unifor.costify.catalog.application.contracts.IngredientRepository;
 import br.unifor.costify.shared.application.contracts.TransactionManager;
+import br.unifor.costify.catalog.application.usecase.BulkUpdateIngredientsUseCase;
 import br.unifor.costify.catalog.application.usecase.UpdateIngredientUseCase;
 import br.unifor.costify.shared.domain.events.DomainEventPublisher;
 import org.springframework.context.annotation.Bean;
@@ -26,4 +27,15 @@ public class CatalogConfiguration {
       TransactionManager transactionManager) {
     return new UpdateIngredientUseCase(ingredientRepository, eventPublisher, transactionManager);
   }
+
+  /**
+   * Creates the BulkUpdateIngredientsUseCase bean with all required dependencies.
+   */
+  @Bean
+  public BulkUpdateIngredientsUseCase bulkUpdateIngredientsUseCase(
+      IngredientRepository ingredientRepository,
+      DomainEventPublisher eventPublisher,
+      TransactionManager transactionManager) {
+    return new BulkUpdateIngredientsUseCase(ingredientRepository, eventPublisher, transactionManager);
+  }
 }
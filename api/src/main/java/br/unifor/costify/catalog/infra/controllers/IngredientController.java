@@ -1,23 +1,41 @@
 package br.unifor.costify.catalog.infra.controllers;
 
+import br.unifor.costify.catalog.application.dto.command.BulkUpdateIngredientsCommand;
 import br.unifor.costify.catalog.application.dto.command.RegisterIngredientCommand;
 import br.unifor.costify.catalog.application.dto.command.UpdateIngredientCommand;
 import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
+import br.unifor.costify.catalog.application.dto.query.IngredientSort;
+import br.unifor.costify.catalog.application.usecase.BulkUpdateIngredientsUseCase;
 import br.unifor.costify.catalog.application.usecase.GetIngredientByIdUseCase;
+import br.unifor.costify.catalog.application.usecase.ImportIngredientsUseCase;
 import br.unifor.costify.catalog.application.usecase.ListIngredientsUseCase;
 import br.unifor.costify.catalog.application.usecase.RegisterIngredientUseCase;
 import br.unifor.costify.catalog.application.usecase.UpdateIngredientUseCase;
+import br.unifor.costify.shared.application.imports.ImportReport;
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import br.unifor.costify.shared.application.pagination.SortDirection;
 import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.catalog.infra.controllers.dto.IngredientBulkUpdateRequest;
 import br.unifor.costify.catalog.infra.controllers.dto.IngredientControllerRegisterRequest;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
+import br.unifor.costify.shared.infra.web.ConditionalRequests;
+import br.unifor.costify.shared.infra.web.VersionETags;
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -27,26 +45,70 @@ public class IngredientController {
   private final UpdateIngredientUseCase updateIngredientUseCase;
   private final ListIngredientsUseCase listIngredientsUseCase;
   private final GetIngredientByIdUseCase getIngredientByIdUseCase;
+  private final BulkUpdateIngredientsUseCase bulkUpdateIngredientsUseCase;
+  private final ImportIngredientsUseCase importIngredientsUseCase;
 
   public IngredientController(
       RegisterIngredientUseCase registerIngredientUseCase,
       UpdateIngredientUseCase updateIngredientUseCase,
       ListIngredientsUseCase listIngredientsUseCase,
-      GetIngredientByIdUseCase getIngredientByIdUseCase) {
+      GetIngredientByIdUseCase getIngredientByIdUseCase,
+      BulkUpdateIngredientsUseCase bulkUpdateIngredientsUseCase,
+      ImportIngredientsUseCase importIngredientsUseCase) {
     this.registerIngredientUseCase = registerIngredientUseCase;
     this.updateIngredientUseCase = updateIngredientUseCase;
     this.listIngredientsUseCase = listIngredientsUseCase;
     this.getIngredientByIdUseCase = getIngredientByIdUseCase;
+    this.bulkUpdateIngredientsUseCase = bulkUpdateIngredientsUseCase;
+    this.importIngredientsUseCase = importIngredientsUseCase;
   }
 
+  /**
+   * The ETag summarizes every ingredient; send it back in {@code If-None-Match} to get an empty
+   * 304 while nothing has changed.
+   */
   @GetMapping
-  public List<IngredientDto> listIngredients() {
-    return listIngredientsUseCase.execute();
+  public ResponseEntity<List<IngredientDto>> listIngredients(@RequestHeader HttpHeaders headers) {
+    String etag = VersionETags.of(listIngredientsUseCase.findCollectionVersion());
+    if (ConditionalRequests.isNotModified(headers, etag, null)) {
+      return ConditionalRequests.notModified(etag);
+    }
+    return ResponseEntity.ok().eTag(etag).body(listIngredientsUseCase.execute());
   }
 
+  /**
+   * Keyset-paginated listing, selected by passing {@code limit}. Follow {@code nextCursor}
+   * from each page (with the same sort and direction) to get the next one. Pages carry the
+   * same ETag as the full listing.
+   */
+  @GetMapping(params = "limit")
+  public ResponseEntity<CursorPage<IngredientDto>> listIngredientsPage(
+      @RequestParam int limit,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "NAME") IngredientSort sort,
+      @RequestParam(defaultValue = "ASC") SortDirection direction,
+      @RequestHeader HttpHeaders headers) {
+    PageRequest<IngredientSort> request = PageRequest.of(sort, direction, cursor, limit);
+    String etag = VersionETags.of(listIngredientsUseCase.findCollectionVersion());
+    if (ConditionalRequests.isNotModified(headers, etag, null)) {
+      return ConditionalRequests.notModified(etag);
+    }
+    return ResponseEntity.ok().eTag(etag).body(listIngredientsUseCase.execute(request));
+  }
+
+  /**
+   * The ETag is the ingredient's version; send it back in {@code If-Match} to update the ingredient, or in
+   * {@code If-None-Match} to get an empty 304 while it is unchanged. {@code If-Modified-Since}
+   * is answered from {@code Last-Modified}. Either check costs a single primary key lookup.
+   */
   @GetMapping("/{id}")
-  public IngredientDto getIngredientById(@PathVariable String id) {
-    return getIngredientByIdUseCase.execute(id);
+  public ResponseEntity<IngredientDto> getIngredientById(@PathVariable String id, @RequestHeader HttpHeaders headers) {
+    Optional<ResourceVersion> current = getIngredientByIdUseCase.findVersion(id);
+    if (current.isPresent() && ConditionalRequests.isNotModified(headers, current.get())) {
+      return ConditionalRequests.notModified(current.get());
+    }
+    IngredientDto ingredient = getIngredientByIdUseCase.execute(id);
+    return ConditionalRequests.ok(ingredient, ingredient.version(), current);
   }
 
   @PostMapping
@@ -60,10 +122,16 @@ public class IngredientController {
     return registerIngredientUseCase.execute(command);
   }
 
+  /**
+   * Requires {@code If-Match} with the ETag of the version being replaced; see {@link VersionETags}.
+   * The header is bound as optional only so a missing one is answered with 428 rather than 400.
+   */
   @PutMapping("/{id}")
   public ResponseEntity<IngredientDto> updateIngredient(
       @PathVariable String id,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @RequestBody @Valid IngredientControllerRegisterRequest request) {
+    OptionalLong expectedVersion = VersionETags.expectedVersion(ifMatch);
     try {
       UpdateIngredientCommand command =
           new UpdateIngredientCommand(
@@ -72,10 +140,40 @@ public class IngredientController {
               request.packagePrice(),
               request.packageUnit());
 
-      IngredientDto updatedIngredient = updateIngredientUseCase.execute(Id.of(id), command);
-      return ResponseEntity.ok(updatedIngredient);
+      IngredientDto updatedIngredient = expectedVersion.isPresent()
+          ? updateIngredientUseCase.execute(Id.of(id), expectedVersion.getAsLong(), command)
+          : updateIngredientUseCase.execute(Id.of(id), command);
+      return ResponseEntity.ok().eTag(VersionETags.of(updatedIngredient.version())).body(updatedIngredient);
     } catch (IllegalArgumentException e) {
       return ResponseEntity.notFound().build();
     }
   }
+
+  /**
+   * Updates many ingredients in one transaction; either all updates apply or none do.
+   * Recipes using several of the ingredients are recalculated once for the whole batch.
+   */
+  @PostMapping("/updates:batch")
+  public List<IngredientDto> updateIngredients(@RequestBody @Valid IngredientBulkUpdateRequest request) {
+    List<BulkUpdateIngredientsCommand.Item> updates = request.updates().stream()
+        .map(item -> new BulkUpdateIngredientsCommand.Item(
+            Id.of(item.id()),
+            new UpdateIngredientCommand(
+                item.name(),
+                item.packageQuantity(),
+                item.packagePrice(),
+                item.packageUnit())))
+        .toList();
+    return bulkUpdateIngredientsUseCase.execute(new BulkUpdateIngredientsCommand(updates));
+  }
+
+  /**
+   * Imports ingredients from a UTF-8 CSV body with a header row and the columns
+   * {@code name,package_quantity,package_price,package_unit}. Valid rows are created and
+   * invalid ones are listed in the report by row number.
+   */
+  @PostMapping(path = "/import", consumes = "text/csv")
+  public ImportReport importIngredients(InputStream csv) {
+    return importIngredientsUseCase.execute(csv);
+  }
 }
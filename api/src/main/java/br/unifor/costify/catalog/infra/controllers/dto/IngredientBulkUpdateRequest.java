@@ -0,0 +1,38 @@
+package br.unifor.costify.catalog.infra.controllers.dto;
+
+import br.unifor.costify.catalog.application.usecase.BulkUpdateIngredientsUseCase;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request DTO for updating several ingredients at once. Fields left out of an item keep
+ * their current value.
+ */
+public record IngredientBulkUpdateRequest(
+    @NotEmpty(message = "At least one ingredient update is required")
+    @Size(
+        max = BulkUpdateIngredientsUseCase.MAX_BATCH_SIZE,
+        message = "Cannot update more than " + BulkUpdateIngredientsUseCase.MAX_BATCH_SIZE + " ingredients at once")
+    List<@Valid @NotNull(message = "Ingredient update cannot be null") Item> updates) {
+
+  public record Item(
+      @NotBlank(message = "Ingredient ID cannot be blank")
+      String id,
+
+      @Size(min = 2, max = 100, message = "Ingredient name must be between 2 and 100 characters")
+      String name,
+
+      @DecimalMin(value = "0.01", message = "Package quantity must be greater than 0")
+      Double packageQuantity,
+
+      @DecimalMin(value = "0.01", message = "Package price must be greater than 0")
+      Double packagePrice,
+
+      Unit packageUnit) {}
+}
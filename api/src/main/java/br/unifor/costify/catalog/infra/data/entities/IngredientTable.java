@@ -3,14 +3,17 @@ package br.unifor.costify.catalog.infra.data.entities;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
 import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.shared.domain.valueobject.Unit;
+import br.unifor.costify.shared.infra.data.Quantities;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.type.SqlTypes;
@@ -19,7 +22,7 @@ import org.springframework.data.annotation.CreatedDate;
 @Entity
 @Table(name = "ingredients")
 public class IngredientTable {
-  @Id public String id;
+  @Id public UUID id;
 
   @Column(nullable = false)
   public String name;
@@ -40,13 +43,16 @@ public class IngredientTable {
 
   @UpdateTimestamp public LocalDateTime updatedAt;
 
+  @Version public long version;
+
   public static IngredientTable fromDomain(Ingredient ingredient) {
     IngredientTable table = new IngredientTable();
-    table.id = ingredient.getId().getValue();
+    table.id = ingredient.getId().toUuid();
     table.name = ingredient.getName();
-    table.packageQuantity = new BigDecimal(ingredient.getPackageQuantity());
+    table.packageQuantity = Quantities.of(ingredient.getPackageQuantity());
     table.packagePrice = ingredient.getPackagePrice().getAmount();
     table.packageUnit = ingredient.getPackageUnit();
+    table.version = ingredient.getVersion();
     return table;
   }
 
@@ -56,6 +62,7 @@ public class IngredientTable {
         raw.name,
         raw.packageQuantity.doubleValue(),
         Money.of(raw.packagePrice),
-        raw.packageUnit);
+        raw.packageUnit,
+        raw.version);
   }
 }
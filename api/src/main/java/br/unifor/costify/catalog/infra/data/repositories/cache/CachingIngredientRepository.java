@@ -0,0 +1,158 @@
+package br.unifor.costify.catalog.infra.data.repositories.cache;
+
+import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.catalog.infra.data.repositories.postgres.PostgresIngredientRepository;
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Bounded in-process cache in front of {@link PostgresIngredientRepository}.
+ * <p>
+ * Single-ingredient and by-ID lookups are served from memory; listings, pages and name
+ * checks always go to the database. Entries are evicted by size and TTL, on every write
+ * through this repository, and after commit when an ingredient update event is handled
+ * (see {@code IngredientEventHandler}), so other transactions cannot keep a stale copy.
+ * Writes on other instances, and events delivered by the outbox relay, evict nothing here,
+ * so a copy can be stale for up to the TTL: paths that store totals computed from prices
+ * read through {@link #findCurrentByIds}, which bypasses the cache.
+ * <p>
+ * Cached ingredients are never handed out directly: {@link Ingredient} is mutable and
+ * collects domain events, so every read returns a fresh copy.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "costify.catalog.ingredient-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingIngredientRepository implements IngredientRepository {
+  private final PostgresIngredientRepository delegate;
+  private final Cache<Id, Ingredient> cache;
+
+  public CachingIngredientRepository(
+      PostgresIngredientRepository delegate,
+      @Value("${costify.catalog.ingredient-cache.max-size:10000}") long maxSize,
+      @Value("${costify.catalog.ingredient-cache.ttl:10m}") Duration ttl,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.delegate = delegate;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+    meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "ingredients"));
+  }
+
+  @Override
+  public Optional<Ingredient> findById(Id id) {
+    Ingredient cached = cache.get(id, key -> delegate.findById(key).orElse(null));
+    return Optional.ofNullable(cached).map(CachingIngredientRepository::copyOf);
+  }
+
+  @Override
+  public List<Ingredient> findAllByIds(Collection<Id> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    Map<Id, Ingredient> found = cache.getAll(ids, missing -> delegate.findAllByIds(Set.copyOf(missing)).stream()
+        .collect(Collectors.toMap(Ingredient::getId, Function.identity())));
+
+    List<Ingredient> result = new ArrayList<>(found.size());
+    for (Ingredient ingredient : found.values()) {
+      result.add(copyOf(ingredient));
+    }
+    return result;
+  }
+
+  @Override
+  public List<Ingredient> findCurrentByIds(Collection<Id> ids) {
+    return delegate.findCurrentByIds(ids);
+  }
+
+  @Override
+  public List<Ingredient> findAll() {
+    return delegate.findAll();
+  }
+
+  /** Always read from the database: whether a client copy is current must not depend on the cache. */
+  @Override
+  public Optional<ResourceVersion> findVersionById(Id id) {
+    return delegate.findVersionById(id);
+  }
+
+  @Override
+  public CollectionVersion findCollectionVersion() {
+    return delegate.findCollectionVersion();
+  }
+
+  @Override
+  public Ingredient save(Ingredient ingredient) {
+    // Not cached here: the surrounding transaction may still roll back. Evicted even when
+    // the save fails, so a version conflict caused by a stale entry clears it
+    try {
+      return delegate.save(ingredient);
+    } finally {
+      cache.invalidate(ingredient.getId());
+    }
+  }
+
+  @Override
+  public List<Ingredient> saveAll(Collection<Ingredient> ingredients) {
+    try {
+      return delegate.saveAll(ingredients);
+    } finally {
+      cache.invalidateAll(ingredients.stream().map(Ingredient::getId).toList());
+    }
+  }
+
+  @Override
+  public boolean existsByName(String name) {
+    return delegate.existsByName(name);
+  }
+
+  @Override
+  public void deleteById(Id id) {
+    delegate.deleteById(id);
+    cache.invalidate(id);
+  }
+
+  /**
+   * Drops the cached copy of an ingredient, if any.
+   */
+  public void evict(Id id) {
+    cache.invalidate(id);
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  private static Ingredient copyOf(Ingredient ingredient) {
+    return new Ingredient(
+        ingredient.getId(),
+        ingredient.getName(),
+        ingredient.getPackageQuantity(),
+        ingredient.getPackagePrice(),
+        ingredient.getPackageUnit(),
+        ingredient.getVersion());
+  }
+}
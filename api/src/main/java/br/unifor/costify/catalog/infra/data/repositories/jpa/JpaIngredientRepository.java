@@ -1,8 +1,15 @@
 package br.unifor.costify.catalog.infra.data.repositories.jpa;
 
 import br.unifor.costify.catalog.infra.data.entities.IngredientTable;
+import java.util.List;
+import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface JpaIngredientRepository extends JpaRepository<IngredientTable, String> {
+public interface JpaIngredientRepository extends JpaRepository<IngredientTable, UUID> {
   boolean existsByName(String name);
+
+  @Query(value = "SELECT * FROM ingredients WHERE id = ANY(CAST(:ids AS uuid[]))", nativeQuery = true)
+  List<IngredientTable> findAllByIdAny(@Param("ids") String[] ids);
 }
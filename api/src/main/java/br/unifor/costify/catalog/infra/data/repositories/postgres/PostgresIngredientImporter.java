@@ -0,0 +1,106 @@
+package br.unifor.costify.catalog.infra.data.repositories.postgres;
+
+import static br.unifor.costify.shared.infra.data.CsvImport.isDecimal;
+import static br.unifor.costify.shared.infra.data.CsvImport.isUnit;
+import static br.unifor.costify.shared.infra.data.CsvImport.toDecimal;
+import static br.unifor.costify.shared.infra.data.CsvImport.toUnit;
+
+import br.unifor.costify.catalog.application.contracts.IngredientImporter;
+import br.unifor.costify.shared.application.imports.ImportReport;
+import br.unifor.costify.shared.domain.contracts.IdGenerator;
+import br.unifor.costify.shared.infra.data.CsvImport;
+import java.io.InputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Imports ingredients through a staging table filled with {@code COPY}; see {@link CsvImport}.
+ * Validation, deduplication and the insert are one statement each, whatever the file size.
+ */
+@Repository
+public class PostgresIngredientImporter implements IngredientImporter {
+  private static final Logger logger = LoggerFactory.getLogger(PostgresIngredientImporter.class);
+
+  private static final String CREATE_STAGING_TABLE =
+      "CREATE TEMPORARY TABLE ingredient_import ("
+          + " row_no BIGSERIAL,"
+          + " name TEXT,"
+          + " package_quantity TEXT,"
+          + " package_price TEXT,"
+          + " package_unit TEXT,"
+          + " error TEXT"
+          + ") ON COMMIT DROP";
+  private static final String COPY_INTO_STAGING_TABLE =
+      "COPY ingredient_import (name, package_quantity, package_price, package_unit)"
+          + " FROM STDIN WITH (FORMAT csv, HEADER true)";
+
+  // Limits follow the column types: DECIMAL(10,3) quantities and DECIMAL(10,2) prices
+  private static final String VALIDATE_ROWS =
+      "UPDATE ingredient_import SET name = btrim(name), error = CASE"
+          + " WHEN COALESCE(btrim(name), '') = '' THEN 'Ingredient name is required'"
+          + " WHEN char_length(btrim(name)) NOT BETWEEN 2 AND 100"
+          + "   THEN 'Ingredient name must be between 2 and 100 characters'"
+          + " WHEN NOT " + isDecimal("package_quantity") + " THEN 'Package quantity must be a number'"
+          + " WHEN " + toDecimal("package_quantity", 3) + " < 0.01 THEN 'Package quantity must be greater than 0'"
+          + " WHEN " + toDecimal("package_quantity", 3) + " >= 10000000 THEN 'Package quantity is too large'"
+          + " WHEN NOT " + isDecimal("package_price") + " THEN 'Package price must be a number'"
+          + " WHEN " + toDecimal("package_price", 2) + " < 0.01 THEN 'Package price must be greater than 0'"
+          + " WHEN " + toDecimal("package_price", 2) + " >= 100000000 THEN 'Package price is too large'"
+          + " WHEN NOT " + isUnit("package_unit") + " THEN 'Unknown package unit'"
+          + " END";
+
+  /** Among the valid rows, the first row with a name wins; later ones and names already in use are rejected. */
+  private static final String REJECT_DUPLICATES =
+      "UPDATE ingredient_import s SET error = CASE"
+          + "   WHEN d.first_row_no <> s.row_no THEN 'Duplicate of row ' || d.first_row_no"
+          + "   ELSE 'Ingredient already exists' END"
+          + " FROM ("
+          + "   SELECT v.row_no, MIN(v.row_no) OVER (PARTITION BY v.name) AS first_row_no,"
+          + "     EXISTS (SELECT 1 FROM ingredients i WHERE i.name = v.name) AS existing"
+          + "   FROM ingredient_import v WHERE v.error IS NULL"
+          + " ) d"
+          + " WHERE d.row_no = s.row_no AND (d.first_row_no <> s.row_no OR d.existing)";
+
+  private static final String COUNT_VALID_ROWS =
+      "SELECT COUNT(*) FROM ingredient_import WHERE error IS NULL";
+
+  private static final String INSERT_VALID_ROWS =
+      "INSERT INTO ingredients (id, name, package_quantity, package_price, package_unit)"
+          + " SELECT new_ids.id, s.name, " + toDecimal("s.package_quantity", 3) + ", "
+          + toDecimal("s.package_price", 2) + ", " + toUnit("s.package_unit")
+          + " FROM (SELECT *, ROW_NUMBER() OVER (ORDER BY row_no) AS ordinal"
+          + "   FROM ingredient_import WHERE error IS NULL) s"
+          + " JOIN " + CsvImport.NEW_IDS + " ON new_ids.ordinal = s.ordinal";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final IdGenerator idGenerator;
+
+  public PostgresIngredientImporter(JdbcTemplate jdbcTemplate, IdGenerator idGenerator) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.idGenerator = idGenerator;
+  }
+
+  @Override
+  @Transactional
+  public ImportReport importCsv(InputStream csv) {
+    jdbcTemplate.execute(CREATE_STAGING_TABLE);
+    long copiedRows = CsvImport.copyIn(jdbcTemplate, COPY_INTO_STAGING_TABLE, csv);
+    // Temporary tables are never analyzed automatically; give the planner real row counts
+    jdbcTemplate.execute("ANALYZE ingredient_import");
+
+    jdbcTemplate.update(VALIDATE_ROWS);
+    jdbcTemplate.update(REJECT_DUPLICATES);
+
+    Integer validRows = jdbcTemplate.queryForObject(COUNT_VALID_ROWS, Integer.class);
+    if (validRows != null && validRows > 0) {
+      jdbcTemplate.update(INSERT_VALID_ROWS, (Object) CsvImport.newIds(idGenerator, validRows));
+    }
+
+    ImportReport report = CsvImport.report(jdbcTemplate, "ingredient_import");
+    logger.info("Imported {} of {} ingredient rows", report.importedRows(), copiedRows);
+    return report;
+  }
+}
@@ -0,0 +1,58 @@
+package br.unifor.costify.catalog.infra.data.repositories.postgres;
+
+import br.unifor.costify.catalog.application.contracts.IngredientPriceHistoryRepository;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class PostgresIngredientPriceHistoryRepository implements IngredientPriceHistoryRepository {
+
+  /**
+   * One backward probe of the (ingredient_id, effective_from) primary key per ingredient:
+   * the lateral subquery stops at the first row at or before :at.
+   */
+  private static final String SELECT_AS_OF =
+      "SELECT CAST(i.id AS text), i.name, h.package_quantity, h.package_price, h.package_unit::text"
+          + " FROM ingredients i"
+          + " CROSS JOIN LATERAL ("
+          + " SELECT package_quantity, package_price, package_unit FROM ingredient_price_history"
+          + " WHERE ingredient_id = i.id AND effective_from <= :at"
+          + " ORDER BY effective_from DESC LIMIT 1"
+          + ") h"
+          + " WHERE i.id = ANY(CAST(:ids AS uuid[]))";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  @Transactional(readOnly = true)
+  @SuppressWarnings("unchecked")
+  public List<Ingredient> findAllAsOf(Collection<Id> ids, Instant at) {
+    String[] rawIds = ids.stream().map(Id::getValue).distinct().toArray(String[]::new);
+    if (rawIds.length == 0) {
+      return List.of();
+    }
+    List<Object[]> rows = entityManager.createNativeQuery(SELECT_AS_OF)
+        .setParameter("ids", rawIds)
+        .setParameter("at", at)
+        .getResultList();
+    return rows.stream()
+        .map(row -> new Ingredient(
+            Id.of((String) row[0]),
+            (String) row[1],
+            ((BigDecimal) row[2]).doubleValue(),
+            Money.of((BigDecimal) row[3]),
+            Unit.valueOf((String) row[4])))
+        .toList();
+  }
+}
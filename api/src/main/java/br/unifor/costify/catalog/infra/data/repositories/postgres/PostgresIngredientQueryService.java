@@ -0,0 +1,116 @@
+package br.unifor.costify.catalog.infra.data.repositories.postgres;
+
+import br.unifor.costify.catalog.application.contracts.IngredientQueryService;
+import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
+import br.unifor.costify.catalog.application.dto.query.IngredientSort;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.InvalidPageRequestException;
+import br.unifor.costify.shared.application.pagination.PageCursor;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import br.unifor.costify.shared.infra.data.KeysetPagination;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads ingredient listings with plain JDBC, mapped straight into DTO records. Listings
+ * always came from the database, so this bypasses the ingredient cache as before.
+ */
+@Repository
+public class PostgresIngredientQueryService implements IngredientQueryService {
+  private static final String SELECT_ALL = "SELECT * FROM ingredients ORDER BY name, id";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public PostgresIngredientQueryService(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<IngredientDto> findAll() {
+    return jdbcTemplate.query(SELECT_ALL, (rs, rowNum) -> IngredientRow.read(rs).toDto());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<IngredientDto> findPage(PageRequest<IngredientSort> request) {
+    PageCursor after = request.after();
+    String sql = KeysetPagination.selectPage(
+        "ingredients", sortColumn(request.sort()), request.direction(), after != null);
+
+    MapSqlParameterSource parameters = new MapSqlParameterSource("limit", KeysetPagination.fetchSize(request));
+    if (after != null) {
+      parameters.addValue("value", parseSortValue(request.sort(), after.value()))
+          .addValue("id", KeysetPagination.cursorId(after));
+    }
+
+    List<IngredientRow> rows = jdbcTemplate.query(sql, parameters, (rs, rowNum) -> IngredientRow.read(rs));
+    return KeysetPagination.toPage(
+        rows, request, row -> row.sortValue(request.sort()), IngredientRow::id, IngredientRow::toDto);
+  }
+
+  private static String sortColumn(IngredientSort sort) {
+    return switch (sort) {
+      case NAME -> "name";
+      case PACKAGE_PRICE -> "package_price";
+      case UPDATED_AT -> "updated_at";
+    };
+  }
+
+  private static Object parseSortValue(IngredientSort sort, String value) {
+    try {
+      return switch (sort) {
+        case NAME -> value;
+        case PACKAGE_PRICE -> new BigDecimal(value);
+        case UPDATED_AT -> LocalDateTime.parse(value);
+      };
+    } catch (RuntimeException e) {
+      throw new InvalidPageRequestException("Invalid page cursor", e);
+    }
+  }
+
+  private record IngredientRow(
+      String id,
+      String name,
+      BigDecimal packageQuantity,
+      BigDecimal packagePrice,
+      Unit packageUnit,
+      long version,
+      LocalDateTime updatedAt) {
+
+    static IngredientRow read(ResultSet rs) throws SQLException {
+      return new IngredientRow(
+          rs.getString("id"),
+          rs.getString("name"),
+          rs.getBigDecimal("package_quantity"),
+          rs.getBigDecimal("package_price"),
+          Unit.valueOf(rs.getString("package_unit")),
+          rs.getLong("version"),
+          rs.getObject("updated_at", LocalDateTime.class));
+    }
+
+    String sortValue(IngredientSort sort) {
+      return switch (sort) {
+        case NAME -> name;
+        case PACKAGE_PRICE -> packagePrice.toPlainString();
+        case UPDATED_AT -> updatedAt.toString();
+      };
+    }
+
+    IngredientDto toDto() {
+      double quantity = packageQuantity.doubleValue();
+      double price = packagePrice.doubleValue();
+      return new IngredientDto(
+          id, name, quantity, price, packageUnit, Ingredient.unitCost(price, quantity, packageUnit), version);
+    }
+  }
+}
@@ -2,17 +2,27 @@ package br.unifor.costify.catalog.infra.data.repositories.postgres;
 
 import br.unifor.costify.catalog.application.contracts.IngredientRepository;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.catalog.infra.data.entities.IngredientTable;
 import br.unifor.costify.catalog.infra.data.repositories.jpa.JpaIngredientRepository;
+import br.unifor.costify.shared.infra.data.ResourceVersions;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class PostgresIngredientRepository implements IngredientRepository {
   private final JpaIngredientRepository jpaIngredientRepository;
 
+  @PersistenceContext
+  private EntityManager entityManager;
+
   public PostgresIngredientRepository(JpaIngredientRepository jpaIngredientRepository) {
     this.jpaIngredientRepository = jpaIngredientRepository;
   }
@@ -20,24 +30,78 @@ public class PostgresIngredientRepository implements IngredientRepository {
   @Override
   public Optional<Ingredient> findById(Id id) {
     IngredientTable ingredientQueryResult =
-        this.jpaIngredientRepository.findById(id.getValue()).orElse(null);
+        this.jpaIngredientRepository.findById(id.toUuid()).orElse(null);
 
     return Optional.ofNullable(ingredientQueryResult).map(IngredientTable::toDomain);
   }
 
+  @Override
+  public List<Ingredient> findAllByIds(Collection<Id> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    String[] rawIds = ids.stream().map(Id::getValue).distinct().toArray(String[]::new);
+    return this.jpaIngredientRepository.findAllByIdAny(rawIds).stream()
+        .map(IngredientTable::toDomain)
+        .toList();
+  }
+
+  @Override
+  public List<Ingredient> findCurrentByIds(Collection<Id> ids) {
+    return findAllByIds(ids);
+  }
+
   @Override
   public List<Ingredient> findAll() {
     return this.jpaIngredientRepository.findAll().stream().map(IngredientTable::toDomain).toList();
   }
 
+  /**
+   * Merges the ingredient with the version it was read at, so Hibernate rejects the write
+   * with an optimistic locking failure if the row changed since. Flushed right away, so the
+   * returned ingredient carries the incremented version.
+   */
+  @Transactional
   public Ingredient save(Ingredient ingredient) {
     IngredientTable ingredientTable = IngredientTable.fromDomain(ingredient);
-    IngredientTable savedIngredient = this.jpaIngredientRepository.save(ingredientTable);
+    IngredientTable savedIngredient = this.jpaIngredientRepository.saveAndFlush(ingredientTable);
     return IngredientTable.toDomain(savedIngredient);
   }
 
+  /**
+   * Loads the existing rows with one query first, so merging the detached copies does not
+   * select each row again; the changed rows are then flushed as batched UPDATEs, each
+   * checked against the version it was read at like {@link #save(Ingredient)}.
+   */
+  @Override
+  @Transactional
+  public List<Ingredient> saveAll(Collection<Ingredient> ingredients) {
+    if (ingredients.isEmpty()) {
+      return List.of();
+    }
+
+    List<IngredientTable> tables = ingredients.stream().map(IngredientTable::fromDomain).toList();
+    this.jpaIngredientRepository.findAllById(tables.stream().map(table -> table.id).toList());
+    return this.jpaIngredientRepository.saveAllAndFlush(tables).stream()
+        .map(IngredientTable::toDomain)
+        .toList();
+  }
+
   public void deleteById(Id id) {
-    this.jpaIngredientRepository.deleteById(id.getValue());
+    this.jpaIngredientRepository.deleteById(id.toUuid());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<ResourceVersion> findVersionById(Id id) {
+    return ResourceVersions.findById(entityManager, "ingredients", id);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CollectionVersion findCollectionVersion() {
+    return ResourceVersions.findCollection(entityManager, "ingredients");
   }
 
   public boolean existsByName(String name) {
@@ -1,9 +1,14 @@
 package br.unifor.costify.catalog.infra.events.handlers;
 
 import br.unifor.costify.catalog.domain.events.IngredientUpdatedEvent;
+import br.unifor.costify.catalog.domain.events.IngredientsBulkUpdatedEvent;
+import br.unifor.costify.catalog.infra.data.repositories.cache.CachingIngredientRepository;
 import br.unifor.costify.shared.infra.events.TransactionalDomainEventWrapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -22,6 +27,12 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class IngredientEventHandler {
   private static final Logger logger = LoggerFactory.getLogger(IngredientEventHandler.class);
 
+  private final ObjectProvider<CachingIngredientRepository> ingredientCache;
+
+  public IngredientEventHandler(ObjectProvider<CachingIngredientRepository> ingredientCache) {
+    this.ingredientCache = ingredientCache;
+  }
+
   /**
    * Handles IngredientUpdatedEvent after transaction commit.
    * This is where you would implement side effects like:
@@ -31,8 +42,12 @@ public class IngredientEventHandler {
    * - Updating analytics/reporting databases
    * - Sending events to external systems
    *
+   * Runs before other after-commit listeners, so that recipe recalculation never
+   * reads the ingredient's pre-update state from the cache.
+   *
    * @param wrapper The wrapped domain event from Spring's event bus
    */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
   @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
   public void handleIngredientUpdated(TransactionalDomainEventWrapper wrapper) {
     if (wrapper.getEvent() instanceof IngredientUpdatedEvent event) {
@@ -40,6 +55,9 @@ public class IngredientEventHandler {
           event.getIngredientId().getValue(),
           event.getNewName());
 
+      // Invalidate cache
+      ingredientCache.ifAvailable(cache -> cache.evict(event.getIngredientId()));
+
       // Example side effects (implement as needed):
       // 1. Send notification to users
       // notificationService.notifyIngredientUpdate(event);
@@ -47,15 +65,17 @@ public class IngredientEventHandler {
       // 2. Update search index
       // searchIndexService.updateIngredient(event.getIngredientId());
 
-      // 3. Invalidate cache
-      // cacheService.evictIngredient(event.getIngredientId());
-
-      // 4. Audit logging
+      // 3. Audit logging
       // auditService.logIngredientUpdate(event);
 
       logger.debug("IngredientUpdatedEvent processed successfully for ingredient {}",
           event.getIngredientId().getValue());
     }
+    if (wrapper.getEvent() instanceof IngredientsBulkUpdatedEvent event) {
+      logger.info("Processing IngredientsBulkUpdatedEvent after commit: {} ingredients updated",
+          event.getIngredientIds().size());
+      ingredientCache.ifAvailable(cache -> event.getIngredientIds().forEach(cache::evict));
+    }
   }
 
   /**
@@ -0,0 +1,92 @@
+package br.unifor.costify.catalog.infra.events.outbox;
+
+import br.unifor.costify.catalog.domain.events.IngredientUpdatedEvent;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import br.unifor.costify.shared.infra.events.outbox.OutboxEventCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores {@link IngredientUpdatedEvent}s in the outbox. A decoded event carries the
+ * stored state but its occurrence time is the time of decoding.
+ */
+@Component
+public class IngredientUpdatedEventCodec implements OutboxEventCodec<IngredientUpdatedEvent> {
+  private final ObjectMapper objectMapper;
+
+  public IngredientUpdatedEventCodec(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public Class<IngredientUpdatedEvent> eventClass() {
+    return IngredientUpdatedEvent.class;
+  }
+
+  @Override
+  public String eventType() {
+    return "IngredientUpdated";
+  }
+
+  @Override
+  public String encode(IngredientUpdatedEvent event) {
+    return write(objectMapper, Payload.from(event));
+  }
+
+  @Override
+  public IngredientUpdatedEvent decode(String payload) {
+    return read(objectMapper, payload, Payload.class).toEvent();
+  }
+
+  /**
+   * @param previousUnitCost null when unknown, since JSON has no NaN
+   */
+  record Payload(
+      String ingredientId,
+      String name,
+      double packageQuantity,
+      BigDecimal packagePrice,
+      Unit packageUnit,
+      Double previousUnitCost) {
+
+    static Payload from(IngredientUpdatedEvent event) {
+      return new Payload(
+          event.getIngredientId().getValue(),
+          event.getNewName(),
+          event.getNewPackageQuantity(),
+          event.getNewPackagePrice().getAmount(),
+          event.getNewPackageUnit(),
+          event.hasPreviousUnitCost() ? event.getPreviousUnitCost() : null);
+    }
+
+    IngredientUpdatedEvent toEvent() {
+      return new IngredientUpdatedEvent(
+          Id.of(ingredientId),
+          name,
+          packageQuantity,
+          Money.of(packagePrice),
+          packageUnit,
+          previousUnitCost != null ? previousUnitCost : Double.NaN);
+    }
+  }
+
+  static String write(ObjectMapper objectMapper, Object payload) {
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not encode outbox payload", e);
+    }
+  }
+
+  static <T> T read(ObjectMapper objectMapper, String payload, Class<T> type) {
+    try {
+      return objectMapper.readValue(payload, type);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not decode outbox payload", e);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package br.unifor.costify.catalog.infra.events.outbox;
+
+import br.unifor.costify.catalog.domain.events.IngredientsBulkUpdatedEvent;
+import br.unifor.costify.shared.infra.events.outbox.OutboxEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores {@link IngredientsBulkUpdatedEvent}s in the outbox as the list of their updates,
+ * in the format of {@link IngredientUpdatedEventCodec}.
+ */
+@Component
+public class IngredientsBulkUpdatedEventCodec implements OutboxEventCodec<IngredientsBulkUpdatedEvent> {
+  private final ObjectMapper objectMapper;
+
+  public IngredientsBulkUpdatedEventCodec(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public Class<IngredientsBulkUpdatedEvent> eventClass() {
+    return IngredientsBulkUpdatedEvent.class;
+  }
+
+  @Override
+  public String eventType() {
+    return "IngredientsBulkUpdated";
+  }
+
+  @Override
+  public String encode(IngredientsBulkUpdatedEvent event) {
+    List<IngredientUpdatedEventCodec.Payload> updates = event.getUpdates().stream()
+        .map(IngredientUpdatedEventCodec.Payload::from)
+        .toList();
+    return IngredientUpdatedEventCodec.write(objectMapper, new Payload(updates));
+  }
+
+  @Override
+  public IngredientsBulkUpdatedEvent decode(String payload) {
+    Payload decoded = IngredientUpdatedEventCodec.read(objectMapper, payload, Payload.class);
+    return new IngredientsBulkUpdatedEvent(decoded.updates().stream()
+        .map(IngredientUpdatedEventCodec.Payload::toEvent)
+        .toList());
+  }
+
+  record Payload(List<IngredientUpdatedEventCodec.Payload> updates) {
+  }
+}
@@ -0,0 +1,42 @@
+package br.unifor.costify.recipe.application.contracts;
+
+import br.unifor.costify.recipe.domain.valueobject.RecipeCost;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Stored per-ingredient cost breakdown of each recipe.
+ */
+public interface RecipeCostRepository {
+
+  /**
+   * Replaces the stored breakdown of the recipe with the given one.
+   * The recipe must already be saved. Only ingredient lines are stored; sub-recipe lines
+   * are read back from the sub-recipes' current totals.
+   */
+  void save(RecipeCost recipeCost);
+
+  /**
+   * Loads the stored breakdown of a recipe, in recipe line order.
+   *
+   * @return empty if the recipe does not exist or has no stored breakdown
+   */
+  Optional<RecipeCost> findByRecipeId(Id recipeId);
+
+  /**
+   * Sums the stored ingredient lines of each recipe, unrounded, in micro-cents.
+   *
+   * @return the sum by recipe ID; recipes without stored lines are left out
+   */
+  Map<Id, Long> sumLineCostsByRecipeIds(Collection<Id> recipeIds);
+
+  /**
+   * Recomputes, from current ingredient data, the stored lines that use any of the given
+   * ingredients, including the denormalized ingredient names.
+   *
+   * @return the number of lines refreshed
+   */
+  int refreshLinesByIngredientIds(Collection<Id> ingredientIds);
+}
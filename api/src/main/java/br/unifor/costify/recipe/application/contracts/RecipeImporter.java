@@ -0,0 +1,28 @@
+package br.unifor.costify.recipe.application.contracts;
+
+import br.unifor.costify.shared.application.imports.ImportReport;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
+public interface RecipeImporter {
+
+  /**
+   * Imports recipes from a UTF-8 CSV file with a header row and one row per recipe line,
+   * with the columns {@code recipe_name, ingredient_name, quantity, unit} in that order.
+   * Rows with the same recipe name make up one recipe, and ingredients are referenced by
+   * name. A recipe is imported with its total cost and cost breakdown only if all its rows
+   * are valid; otherwise all its rows are skipped and reported.
+   *
+   * @throws br.unifor.costify.shared.application.imports.InvalidImportFileException if the
+   *     file cannot be read as CSV with those columns
+   */
+  Result importCsv(InputStream csv);
+
+  /**
+   * @param report the outcome per row
+   * @param ingredientIdsByRecipe the IDs of the imported recipes, with their ingredient IDs
+   */
+  record Result(ImportReport report, Map<Id, List<Id>> ingredientIdsByRecipe) {}
+}
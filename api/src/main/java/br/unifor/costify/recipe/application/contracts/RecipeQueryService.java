@@ -0,0 +1,25 @@
+package br.unifor.costify.recipe.application.contracts;
+
+import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
+import br.unifor.costify.recipe.application.dto.query.RecipeSort;
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import java.util.List;
+
+/**
+ * Read side of the recipe listings. Recipes are read straight into {@link RecipeDto}s,
+ * without building {@code Recipe} aggregates: listings only display what is stored, so they
+ * need none of the aggregate's rules. Everything else goes through {@link RecipeRepository}.
+ */
+public interface RecipeQueryService {
+
+  /**
+   * Every recipe with its ingredient and sub-recipe lines, by name.
+   */
+  List<RecipeDto> findAll();
+
+  /**
+   * One page of recipes in the requested order, continuing after the request's cursor.
+   */
+  CursorPage<RecipeDto> findPage(PageRequest<RecipeSort> request);
+}
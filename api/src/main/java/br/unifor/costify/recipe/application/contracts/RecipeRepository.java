@@ -1,9 +1,15 @@
 package br.unifor.costify.recipe.application.contracts;
 
 import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.valueobject.RecipeDependency;
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
 import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface RecipeRepository {
 
@@ -11,11 +17,85 @@ public interface RecipeRepository {
 
   Optional<Recipe> findById(Id id);
 
+  /**
+   * Loads every recipe whose ID is in {@code ids}, with their ingredient lines, in a constant
+   * number of queries. IDs that do not exist are simply absent from the result.
+   */
+  List<Recipe> findAllByIds(Collection<Id> ids);
+
   List<Recipe> findAll();
 
+  /**
+   * Passes every recipe, in ID order, to {@code consumer} while reading them from the
+   * database, so memory use does not grow with the number of recipes.
+   */
+  void forEach(Consumer<Recipe> consumer);
+
+  /**
+   * Reads only the version and last write time of a recipe, with a single primary key lookup,
+   * so a client's cached copy can be validated without loading the recipe.
+   */
+  Optional<ResourceVersion> findVersionById(Id id);
+
+  /**
+   * Summarizes every recipe with one aggregate query, without loading any of them, so a
+   * client's cached listing can be validated cheaply.
+   */
+  CollectionVersion findCollectionVersion();
+
   boolean existsByName(String name);
 
   void deleteById(Id id);
 
   List<Recipe> findByIngredientId(Id ingredientId);
+
+  /**
+   * Returns the IDs of the recipes that use the given ingredient, without loading the recipes.
+   */
+  List<Id> findIdsByIngredientId(Id ingredientId);
+
+  /**
+   * Returns how many recipes use the given ingredient.
+   */
+  int countByIngredientId(Id ingredientId);
+
+  /**
+   * Returns every sub-recipe dependency on a path from the given recipes up to the recipes
+   * that use them, directly or through other sub-recipes. The recipes on those paths are
+   * the ones whose cost depends on the given recipes.
+   */
+  List<RecipeDependency> findDependenciesAbove(Collection<Id> recipeIds);
+
+  /**
+   * Tells whether giving {@code recipeId} the sub-recipes {@code subRecipeIds} would close a
+   * cycle, that is whether {@code recipeId} is one of them or one of their sub-recipes at any
+   * depth. Until the current transaction ends, other checks wait for this one, so the
+   * recipe must be saved in the same transaction.
+   */
+  boolean wouldCreateCycle(Id recipeId, Collection<Id> subRecipeIds);
+
+  /**
+   * Updates only the stored total cost of a recipe, leaving its ingredient lines untouched,
+   * provided the recipe is still at {@code expectedVersion}. The version is incremented.
+   *
+   * @return true if the recipe was updated; false if it was deleted or changed since it
+   *     was read at {@code expectedVersion}
+   */
+  boolean updateTotalCost(Id recipeId, long expectedVersion, Money totalCost);
+
+  /**
+   * Recomputes the stored total cost of every recipe that uses the given ingredient
+   * directly in the database, without loading the recipes.
+   *
+   * @return the number of recipes whose total cost changed
+   */
+  int recalculateTotalCostsByIngredientId(Id ingredientId);
+
+  /**
+   * Same as {@link #recalculateTotalCostsByIngredientId(Id)} for several ingredients at once.
+   * A recipe using more than one of the ingredients is updated once.
+   *
+   * @return the number of recipes whose total cost changed
+   */
+  int recalculateTotalCostsByIngredientIds(Collection<Id> ingredientIds);
 }
@@ -1,9 +1,14 @@
 package br.unifor.costify.recipe.application.dto.command;
 
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
 import java.util.List;
 
-public record RegisterRecipeCommand(String name, List<RecipeIngredient> ingredients) {
+public record RegisterRecipeCommand(String name, List<RecipeIngredient> ingredients, List<SubRecipe> subRecipes) {
+
+  public RegisterRecipeCommand(String name, List<RecipeIngredient> ingredients) {
+    this(name, ingredients, List.of());
+  }
 
   public RegisterRecipeCommand {
     if (name == null || name.isBlank()) {
@@ -12,5 +17,6 @@ public record RegisterRecipeCommand(String name, List<RecipeIngredient> ingredie
     if (ingredients == null || ingredients.isEmpty()) {
       throw new IllegalArgumentException("Recipe must have at least one ingredient");
     }
+    subRecipes = subRecipes == null ? List.of() : List.copyOf(subRecipes);
   }
 }
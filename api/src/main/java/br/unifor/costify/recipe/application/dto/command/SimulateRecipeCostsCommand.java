@@ -0,0 +1,37 @@
+package br.unifor.costify.recipe.application.dto.command;
+
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import java.util.List;
+
+public record SimulateRecipeCostsCommand(List<Change> changes) {
+  // An ingredient listed twice gets the last change only
+
+  public SimulateRecipeCostsCommand {
+    if (changes == null || changes.isEmpty()) {
+      throw new IllegalArgumentException("At least one ingredient change is required");
+    }
+    changes = List.copyOf(changes);
+  }
+
+  /**
+   * A hypothetical change to one ingredient. Fields left null keep their current value;
+   * {@code packagePrice} and {@code priceChangePercent} are mutually exclusive.
+   */
+  public record Change(
+      Id ingredientId,
+      Double packageQuantity,
+      Double packagePrice,
+      Double priceChangePercent,
+      Unit packageUnit) {
+
+    public Change {
+      if (ingredientId == null) {
+        throw new IllegalArgumentException("Ingredient ID cannot be null");
+      }
+      if (packagePrice != null && priceChangePercent != null) {
+        throw new IllegalArgumentException("Give either a package price or a price change percent, not both");
+      }
+    }
+  }
+}
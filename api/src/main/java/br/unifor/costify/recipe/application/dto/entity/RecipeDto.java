@@ -1,22 +1,34 @@
 package br.unifor.costify.recipe.application.dto.entity;
 
 import br.unifor.costify.recipe.application.dto.response.RecipeIngredientDto;
+import br.unifor.costify.recipe.application.dto.response.SubRecipeDto;
 import br.unifor.costify.recipe.domain.entity.Recipe;
 import java.math.BigDecimal;
 import java.util.List;
 
-public record RecipeDto(String id, String name, List<RecipeIngredientDto> ingredients, BigDecimal totalCost) {
+public record RecipeDto(
+    String id,
+    String name,
+    List<RecipeIngredientDto> ingredients,
+    List<SubRecipeDto> subRecipes,
+    BigDecimal totalCost,
+    long version) {
 
   public static RecipeDto from(Recipe recipe) {
     List<RecipeIngredientDto> ingredientDtos = recipe.getIngredients().stream()
             .map(RecipeIngredientDto::from)
             .toList();
+    List<SubRecipeDto> subRecipeDtos = recipe.getSubRecipes().stream()
+            .map(SubRecipeDto::from)
+            .toList();
 
     return new RecipeDto(
             recipe.getId().getValue(),
             recipe.getName(),
             ingredientDtos,
-            recipe.getTotalCost().getAmount()
+            subRecipeDtos,
+            recipe.getTotalCost().getAmount(),
+            recipe.getVersion()
     );
   }
 }
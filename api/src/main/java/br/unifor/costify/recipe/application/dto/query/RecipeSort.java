@@ -0,0 +1,10 @@
+package br.unifor.costify.recipe.application.dto.query;
+
+/**
+ * Sort keys available for the recipe listing. Ties are broken by recipe ID.
+ */
+public enum RecipeSort {
+  NAME,
+  TOTAL_COST,
+  UPDATED_AT
+}
@@ -0,0 +1,9 @@
+package br.unifor.costify.recipe.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Result of a batch cost calculation: the cost of every recipe found, in request order,
+ * and the requested IDs that did not match any recipe.
+ */
+public record RecipeCostBatchDto(List<RecipeCostDto> costs, List<String> missingRecipeIds) {}
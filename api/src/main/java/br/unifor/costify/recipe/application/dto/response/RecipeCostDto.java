@@ -10,12 +10,23 @@ public class RecipeCostDto {
     private final String recipeId;
     private final String recipeName;
     private final List<IngredientCostDto> ingredientCosts;
+    private final List<SubRecipeCostDto> subRecipeCosts;
     private final BigDecimal totalCost;
     
     public RecipeCostDto(String recipeId, String recipeName, List<IngredientCostDto> ingredientCosts, BigDecimal totalCost) {
+        this(recipeId, recipeName, ingredientCosts, List.of(), totalCost);
+    }
+
+    public RecipeCostDto(
+            String recipeId,
+            String recipeName,
+            List<IngredientCostDto> ingredientCosts,
+            List<SubRecipeCostDto> subRecipeCosts,
+            BigDecimal totalCost) {
         this.recipeId = recipeId;
         this.recipeName = recipeName;
         this.ingredientCosts = ingredientCosts;
+        this.subRecipeCosts = subRecipeCosts;
         this.totalCost = totalCost;
     }
     
@@ -24,11 +35,16 @@ public class RecipeCostDto {
                 .stream()
                 .map(IngredientCostDto::fromDomain)
                 .collect(Collectors.toList());
+        List<SubRecipeCostDto> subRecipeCostDtos = recipeCost.getSubRecipeCosts()
+                .stream()
+                .map(SubRecipeCostDto::fromDomain)
+                .collect(Collectors.toList());
                 
         return new RecipeCostDto(
                 recipeCost.getRecipeId().getValue(),
                 recipeCost.getRecipeName(),
                 ingredientCostDtos,
+                subRecipeCostDtos,
                 recipeCost.getTotalCost().getAmount()
         );
     }
@@ -45,6 +61,10 @@ public class RecipeCostDto {
         return ingredientCosts;
     }
     
+    public List<SubRecipeCostDto> getSubRecipeCosts() {
+        return subRecipeCosts;
+    }
+
     public BigDecimal getTotalCost() {
         return totalCost;
     }
@@ -0,0 +1,16 @@
+package br.unifor.costify.recipe.application.dto.response;
+
+import java.math.BigDecimal;
+
+/**
+ * How much one recipe's total cost would change in a simulation. {@code deltaPercent} is
+ * relative to the current total, and null when the current total is zero.
+ */
+public record RecipeCostImpactDto(
+        String recipeId,
+        String recipeName,
+        BigDecimal currentTotalCost,
+        BigDecimal simulatedTotalCost,
+        BigDecimal delta,
+        BigDecimal deltaPercent
+) {}
@@ -0,0 +1,9 @@
+package br.unifor.costify.recipe.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Result of a cost simulation: how many recipes were priced, and the ones whose total would
+ * change, largest change first.
+ */
+public record RecipeCostSimulationDto(int recipesEvaluated, List<RecipeCostImpactDto> impacts) {}
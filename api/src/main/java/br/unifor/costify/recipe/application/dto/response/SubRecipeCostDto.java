@@ -0,0 +1,44 @@
+package br.unifor.costify.recipe.application.dto.response;
+
+import br.unifor.costify.recipe.domain.valueobject.SubRecipeCost;
+
+import java.math.BigDecimal;
+
+public class SubRecipeCostDto {
+    private final String subRecipeId;
+    private final String subRecipeName;
+    private final double quantityUsed;
+    private final BigDecimal cost;
+
+    public SubRecipeCostDto(String subRecipeId, String subRecipeName, double quantityUsed, BigDecimal cost) {
+        this.subRecipeId = subRecipeId;
+        this.subRecipeName = subRecipeName;
+        this.quantityUsed = quantityUsed;
+        this.cost = cost;
+    }
+
+    public static SubRecipeCostDto fromDomain(SubRecipeCost subRecipeCost) {
+        return new SubRecipeCostDto(
+                subRecipeCost.getSubRecipeId().getValue(),
+                subRecipeCost.getSubRecipeName(),
+                subRecipeCost.getQuantityUsed(),
+                subRecipeCost.getCost().getAmount()
+        );
+    }
+
+    public String getSubRecipeId() {
+        return subRecipeId;
+    }
+
+    public String getSubRecipeName() {
+        return subRecipeName;
+    }
+
+    public double getQuantityUsed() {
+        return quantityUsed;
+    }
+
+    public BigDecimal getCost() {
+        return cost;
+    }
+}
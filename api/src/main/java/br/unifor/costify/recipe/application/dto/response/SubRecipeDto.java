@@ -0,0 +1,16 @@
+package br.unifor.costify.recipe.application.dto.response;
+
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
+
+/**
+ * DTO for a sub-recipe line in API responses: the ID of the recipe used and how many
+ * batches of it.
+ */
+public record SubRecipeDto(
+        String recipeId,
+        double quantity
+) {
+    public static SubRecipeDto from(SubRecipe subRecipe) {
+        return new SubRecipeDto(subRecipe.getRecipeId().getValue(), subRecipe.getQuantity());
+    }
+}
@@ -1,7 +1,10 @@
 package br.unifor.costify.recipe.application.events;
 
-import br.unifor.costify.recipe.application.usecase.RecalculateRecipeCostsForIngredientUseCase;
 import br.unifor.costify.catalog.domain.events.IngredientUpdatedEvent;
+import br.unifor.costify.catalog.domain.events.IngredientsBulkUpdatedEvent;
+import br.unifor.costify.shared.domain.events.DomainEvent;
+import br.unifor.costify.shared.domain.events.DomainEventHandler;
+import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.infra.events.TransactionalDomainEventWrapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +14,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Event handler that listens to IngredientUpdatedEvent and triggers
  * recipe cost recalculation for all recipes using the updated ingredient.
@@ -19,18 +26,28 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * after the ingredient update transaction has been committed, preventing
  * inconsistent state and potential database deadlocks.
  * <p>
+ * Recalculation is handed to {@link RecipeCostRecalculationQueue}, which can defer and
+ * merge repeated updates of the same ingredient so the request thread does not pay for
+ * the ingredient's full fan-out. A bulk update is submitted as one set, so recipes using
+ * several of its ingredients are recalculated once.
+ * <p>
+ * When the event was stored in the transactional outbox, the after-commit listener skips it
+ * and the outbox relay delivers it through {@link #handleAll} instead. Relayed events are
+ * recalculated synchronously from current prices, so the relay only deletes them once the
+ * totals are stored and a redelivery is harmless.
+ * <p>
  * This handler acts as an orchestrator that connects the UpdateIngredient use case
  * with the RecalculateRecipeCosts use case through domain events, maintaining
  * loose coupling between use cases.
  */
 @Component
-public class IngredientUpdatedEventHandler {
+public class IngredientUpdatedEventHandler implements DomainEventHandler {
     private static final Logger logger = LoggerFactory.getLogger(IngredientUpdatedEventHandler.class);
 
-    private final RecalculateRecipeCostsForIngredientUseCase recalculateRecipeCostsUseCase;
+    private final RecipeCostRecalculationQueue recalculationQueue;
 
-    public IngredientUpdatedEventHandler(RecalculateRecipeCostsForIngredientUseCase recalculateRecipeCostsUseCase) {
-        this.recalculateRecipeCostsUseCase = recalculateRecipeCostsUseCase;
+    public IngredientUpdatedEventHandler(RecipeCostRecalculationQueue recalculationQueue) {
+        this.recalculationQueue = recalculationQueue;
     }
 
     /**
@@ -42,13 +59,48 @@ public class IngredientUpdatedEventHandler {
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleIngredientUpdated(TransactionalDomainEventWrapper wrapper) {
         logger.info("Received TransactionalDomainEventWrapper: {}", wrapper.getEvent().getClass().getSimpleName());
+        if (wrapper.isStoredInOutbox()) {
+            logger.debug("Event {} stored in the outbox, leaving it to the relay", wrapper.getEvent().getEventType());
+            return;
+        }
         // Unwrap the domain event
         if (wrapper.getEvent() instanceof IngredientUpdatedEvent event) {
             logger.info("Handling IngredientUpdatedEvent for ingredient: {}", event.getIngredientId().getValue());
-            recalculateRecipeCostsUseCase.execute(event.getIngredientId());
+            recalculationQueue.submit(event);
             logger.info("Recipe costs recalculation triggered for ingredient: {}", event.getIngredientId().getValue());
+        } else if (wrapper.getEvent() instanceof IngredientsBulkUpdatedEvent event) {
+            logger.info("Handling IngredientsBulkUpdatedEvent for {} ingredients", event.getIngredientIds().size());
+            recalculationQueue.submitAll(event.getIngredientIds());
         } else {
             logger.warn("Received unexpected event type: {}", wrapper.getEvent().getClass().getName());
         }
     }
+
+    @Override
+    public boolean canHandle(DomainEvent event) {
+        return event instanceof IngredientUpdatedEvent || event instanceof IngredientsBulkUpdatedEvent;
+    }
+
+    @Override
+    public void handle(DomainEvent event) {
+        handleAll(List.of(event));
+    }
+
+    /**
+     * Recalculates the recipes affected by a batch of relayed events at once.
+     */
+    @Override
+    public void handleAll(List<DomainEvent> events) {
+        Set<Id> ingredientIds = new LinkedHashSet<>();
+        for (DomainEvent event : events) {
+            if (event instanceof IngredientUpdatedEvent updated) {
+                ingredientIds.add(updated.getIngredientId());
+            } else if (event instanceof IngredientsBulkUpdatedEvent bulkUpdated) {
+                ingredientIds.addAll(bulkUpdated.getIngredientIds());
+            }
+        }
+        logger.info("Recalculating recipe costs for {} ingredients from {} relayed events",
+                ingredientIds.size(), events.size());
+        recalculationQueue.recalculateNow(ingredientIds);
+    }
 }
@@ -0,0 +1,369 @@
+package br.unifor.costify.recipe.application.events;
+
+import br.unifor.costify.catalog.domain.events.IngredientUpdatedEvent;
+import br.unifor.costify.recipe.application.usecase.RecalculateRecipeCostsForIngredientUseCase;
+import br.unifor.costify.shared.application.contracts.ConcurrencyLimit;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded background queue for recipe cost recalculation.
+ * <p>
+ * Updated ingredient IDs are collected for a configurable window; repeated updates of the
+ * same ingredient inside the window are merged into one entry. When the window closes, the
+ * whole batch is handed to {@link RecalculateRecipeCostsForIngredientUseCase#executeBatch},
+ * which recalculates each affected recipe once.
+ * <p>
+ * Backpressure: when the queue is full, the caller recalculates synchronously instead of
+ * dropping the update. On shutdown, pending ingredients are drained before the worker stops;
+ * updates submitted once shutdown has begun are recalculated synchronously.
+ * <p>
+ * A failed batch is put back in the queue, merged with whatever arrived meanwhile, and
+ * retried with exponential backoff starting at the window. After
+ * {@value #MAX_FLUSH_ATTEMPTS} failed attempts, or when a drain fails on shutdown, its
+ * ingredients are recalculated one at a time, so a single failing ingredient does not hold
+ * back the others.
+ * <p>
+ * When disabled, {@link #submit(Id)} recalculates synchronously on the calling thread.
+ * When virtual threads are enabled, the worker is a virtual thread, so its JDBC round trips
+ * do not hold a platform thread. Either way, each background batch first takes a slot of the
+ * {@link ConcurrencyLimit} that API requests also go through, so it cannot starve them of
+ * connections; synchronous recalculations run inside a request that already holds one.
+ * Queued updates are merged by ingredient, so a batch always recalculates the affected
+ * totals from current prices rather than applying per-event deltas.
+ * <p>
+ * The number of pending ingredients is exposed as the {@value #PENDING_GAUGE} gauge, failed
+ * background attempts are counted in {@value #FAILURES_COUNTER} and ingredients whose
+ * recipes could not be recalculated at all in {@value #ABANDONED_COUNTER}.
+ */
+@Component
+public class RecipeCostRecalculationQueue implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeCostRecalculationQueue.class);
+    static final String PENDING_GAUGE = "costify.recalculation.queue.pending";
+    static final String FAILURES_COUNTER = "costify.recalculation.failures";
+    static final String ABANDONED_COUNTER = "costify.recalculation.abandoned";
+    static final int MAX_FLUSH_ATTEMPTS = 5;
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(5);
+
+    private final RecalculateRecipeCostsForIngredientUseCase recalculateRecipeCostsUseCase;
+    private final ConcurrencyLimit concurrencyLimit;
+    private final boolean enabled;
+    private final Duration window;
+    private final int capacity;
+    private final Duration shutdownTimeout;
+    private final ScheduledThreadPoolExecutor worker;
+    private final Counter failures;
+    private final Counter abandoned;
+
+    private final Object lock = new Object();
+    private Set<Id> pending = new LinkedHashSet<>();
+    /** Set while a flush is scheduled or running, so there is only ever one at a time. */
+    private boolean flushScheduled;
+    private int failedAttempts;
+    /** Only cleared under the lock, so nothing is scheduled once destroy() shuts the worker down. */
+    private volatile boolean accepting = true;
+
+    public RecipeCostRecalculationQueue(
+            RecalculateRecipeCostsForIngredientUseCase recalculateRecipeCostsUseCase,
+            ConcurrencyLimit concurrencyLimit,
+            @Value("${costify.recipe.recalculation.async.enabled:false}") boolean enabled,
+            @Value("${costify.recipe.recalculation.async.window:2s}") Duration window,
+            @Value("${costify.recipe.recalculation.async.capacity:10000}") int capacity,
+            @Value("${costify.recipe.recalculation.async.shutdown-timeout:25s}") Duration shutdownTimeout,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            MeterRegistry meterRegistry) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Recalculation queue capacity must be greater than zero");
+        }
+        this.recalculateRecipeCostsUseCase = recalculateRecipeCostsUseCase;
+        this.concurrencyLimit = concurrencyLimit;
+        this.enabled = enabled;
+        this.window = window;
+        this.capacity = capacity;
+        this.shutdownTimeout = shutdownTimeout;
+        this.worker = enabled ? createWorker(virtualThreads) : null;
+        this.failures = Counter.builder(FAILURES_COUNTER)
+                .description("Background recipe cost recalculation attempts that failed")
+                .register(meterRegistry);
+        this.abandoned = Counter.builder(ABANDONED_COUNTER)
+                .description("Ingredients whose recipes could not be recalculated in the background")
+                .register(meterRegistry);
+        Gauge.builder(PENDING_GAUGE, this, RecipeCostRecalculationQueue::pendingCount)
+                .description("Ingredients waiting in the recipe cost recalculation queue")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Creates a queue that recalculates synchronously on the calling thread.
+     */
+    public static RecipeCostRecalculationQueue synchronous(
+            RecalculateRecipeCostsForIngredientUseCase recalculateRecipeCostsUseCase, MeterRegistry meterRegistry) {
+        // Nothing runs in the background, so no connection slot is ever taken
+        return new RecipeCostRecalculationQueue(
+                recalculateRecipeCostsUseCase, null, false, Duration.ZERO, 1, Duration.ZERO, false, meterRegistry);
+    }
+
+    /**
+     * Schedules the recipes using the updated ingredient for recalculation.
+     * When the queue is disabled, the update is applied synchronously, so an update that
+     * leaves the unit cost unchanged can skip the recalculation.
+     *
+     * @param event the ingredient update
+     */
+    public void submit(IngredientUpdatedEvent event) {
+        if (!enabled || !accepting) {
+            recalculateRecipeCostsUseCase.execute(event);
+            return;
+        }
+        submit(event.getIngredientId());
+    }
+
+    /**
+     * Schedules the recipes using the given ingredient for recalculation.
+     *
+     * @param ingredientId the ID of the updated ingredient
+     */
+    public void submit(Id ingredientId) {
+        if (!enabled) {
+            recalculateRecipeCostsUseCase.execute(ingredientId);
+            return;
+        }
+
+        boolean queueFull;
+        synchronized (lock) {
+            if (!accepting) {
+                queueFull = false;
+            } else if (pending.contains(ingredientId)) {
+                logger.debug("Ingredient {} already pending recalculation, merging update", ingredientId.getValue());
+                return;
+            } else if (pending.size() >= capacity) {
+                queueFull = true;
+            } else {
+                pending.add(ingredientId);
+                scheduleFlush(window);
+                return;
+            }
+        }
+
+        if (queueFull) {
+            logger.warn("Recalculation queue is full ({} ingredients), recalculating {} synchronously",
+                    capacity, ingredientId.getValue());
+        }
+        recalculateRecipeCostsUseCase.execute(ingredientId);
+    }
+
+    /**
+     * Schedules the recipes using any of the given ingredients for recalculation. When the
+     * queue is disabled, the whole set is recalculated synchronously as one batch, so a recipe
+     * using several of the ingredients is recalculated once.
+     *
+     * @param ingredientIds the IDs of the updated ingredients
+     */
+    public void submitAll(Collection<Id> ingredientIds) {
+        if (ingredientIds.isEmpty()) {
+            return;
+        }
+        if (!enabled) {
+            recalculateRecipeCostsUseCase.executeBatch(ingredientIds);
+            return;
+        }
+
+        Set<Id> overflow = new LinkedHashSet<>();
+        synchronized (lock) {
+            if (!accepting) {
+                overflow.addAll(ingredientIds);
+            } else {
+                for (Id ingredientId : ingredientIds) {
+                    if (pending.contains(ingredientId)) {
+                        continue;
+                    }
+                    if (pending.size() < capacity) {
+                        pending.add(ingredientId);
+                    } else {
+                        overflow.add(ingredientId);
+                    }
+                }
+                if (!pending.isEmpty()) {
+                    scheduleFlush(window);
+                }
+            }
+        }
+
+        if (!overflow.isEmpty()) {
+            logger.warn("Recalculation queue is full ({} ingredients), recalculating {} ingredients synchronously",
+                    capacity, overflow.size());
+            recalculateRecipeCostsUseCase.executeBatch(overflow);
+        }
+    }
+
+    /**
+     * Recalculates the recipes using any of the given ingredients on the calling thread,
+     * bypassing the queue, for callers that must not acknowledge the work before it is done.
+     *
+     * @param ingredientIds the IDs of the updated ingredients
+     */
+    public void recalculateNow(Collection<Id> ingredientIds) {
+        if (!ingredientIds.isEmpty()) {
+            recalculateRecipeCostsUseCase.executeBatch(ingredientIds);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int pendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Recalculates everything collected so far as one batch, then schedules the next flush
+     * if more ingredients arrived meanwhile, or a retry if the batch failed.
+     */
+    void flush() {
+        Set<Id> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new LinkedHashSet<>();
+        }
+
+        if (!batch.isEmpty()) {
+            logger.info("Flushing recalculation batch of {} ingredients", batch.size());
+            try {
+                executeInBackground(batch);
+            } catch (RuntimeException e) {
+                failures.increment();
+                retry(batch, e);
+                return;
+            }
+        }
+
+        synchronized (lock) {
+            failedAttempts = 0;
+            flushScheduled = false;
+            if (accepting && !pending.isEmpty()) {
+                scheduleFlush(window);
+            }
+        }
+    }
+
+    /**
+     * Puts a failed batch back in front of the queue and schedules its next attempt, or
+     * gives up on batching it once the attempts are exhausted or the queue is shutting down.
+     */
+    private void retry(Set<Id> batch, RuntimeException failure) {
+        synchronized (lock) {
+            failedAttempts++;
+            if (accepting && failedAttempts < MAX_FLUSH_ATTEMPTS) {
+                Duration delay = retryDelay(failedAttempts);
+                logger.warn("Recipe cost recalculation failed for {} ingredients (attempt {}), retrying in {}",
+                        batch.size(), failedAttempts, delay, failure);
+                Set<Id> retried = new LinkedHashSet<>(batch);
+                retried.addAll(pending);
+                pending = retried;
+                flushScheduled = false;
+                scheduleFlush(delay);
+                return;
+            }
+            failedAttempts = 0;
+            flushScheduled = false;
+            if (accepting && !pending.isEmpty()) {
+                scheduleFlush(window);
+            }
+        }
+
+        logger.error("Recipe cost recalculation failed for {} ingredients, recalculating them one at a time",
+                batch.size(), failure);
+        for (Id ingredientId : batch) {
+            try {
+                executeInBackground(Set.of(ingredientId));
+            } catch (RuntimeException e) {
+                abandoned.increment();
+                logger.error("Recipe cost recalculation failed for ingredient {}; its recipes keep their "
+                        + "current totals until it changes again", ingredientId.getValue(), e);
+            }
+        }
+    }
+
+    /**
+     * Recalculates a batch on the worker once a connection slot is free.
+     */
+    private void executeInBackground(Set<Id> ingredientIds) {
+        try {
+            concurrencyLimit.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a database connection slot", e);
+        }
+        try {
+            recalculateRecipeCostsUseCase.executeBatch(ingredientIds);
+        } finally {
+            concurrencyLimit.release();
+        }
+    }
+
+    private Duration retryDelay(int attempt) {
+        Duration delay = window.multipliedBy(1L << Math.min(attempt, 20));
+        return delay.compareTo(MAX_RETRY_DELAY) > 0 ? MAX_RETRY_DELAY : delay;
+    }
+
+    /**
+     * Must be called with the lock held, while accepting, so the worker is not shut down yet.
+     */
+    private void scheduleFlush(Duration delay) {
+        if (!flushScheduled) {
+            flushScheduled = true;
+            worker.schedule(this::flush, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops accepting new work and drains the pending batch before the application context closes.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (worker == null || worker.isShutdown()) {
+            return;
+        }
+
+        synchronized (lock) {
+            accepting = false;
+        }
+        logger.info("Draining recalculation queue ({} pending ingredients)", pendingCount());
+        worker.execute(this::flush);
+        worker.shutdown();
+
+        if (!worker.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            logger.warn("Recalculation queue did not drain within {}", shutdownTimeout);
+            worker.shutdownNow();
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createWorker(boolean virtualThreads) {
+        // Virtual threads are always daemon threads; destroy() drains the queue either way
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("recipe-recalculation").factory()
+                : Thread.ofPlatform().name("recipe-recalculation").daemon(false).factory();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, threadFactory);
+        // Delayed flushes are replaced by the immediate drain in destroy()
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        return executor;
+    }
+}
@@ -5,6 +5,7 @@ import br.unifor.costify.recipe.domain.entity.Recipe;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
 import org.springframework.stereotype.Component;
 import java.util.List;
 
@@ -20,6 +21,11 @@ public class RecipeFactory {
     return new Recipe(idGenerator, name, ingredients, totalCost);
   }
 
+  public Recipe create(
+      String name, List<RecipeIngredient> ingredients, List<SubRecipe> subRecipes, Money totalCost) {
+    return new Recipe(idGenerator, name, ingredients, subRecipes, totalCost);
+  }
+
   public Recipe create(Id id, String name, List<RecipeIngredient> ingredients, Money totalCost) {
     return new Recipe(id, name, ingredients, totalCost);
   }
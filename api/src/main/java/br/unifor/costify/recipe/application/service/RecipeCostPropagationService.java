@@ -0,0 +1,217 @@
+package br.unifor.costify.recipe.application.service;
+
+import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.recipe.domain.service.RecipeDependencyGraph;
+import br.unifor.costify.recipe.domain.valueobject.RecipeDependency;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.shared.application.errors.StaleVersionException;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Writes recalculated recipe totals and carries them up the sub-recipe graph.
+ * <p>
+ * A recipe that uses a changed recipe as a sub-recipe, directly or through other
+ * sub-recipes, is a dependent of it. Dependents are recalculated in topological order,
+ * every one after all of its sub-recipes, so each is recalculated and saved exactly once
+ * per change however many paths lead to it, always from up-to-date sub-recipe totals.
+ * <p>
+ * Totals are only written at the version they were read at; see {@link #saveIfChanged}.
+ * Ingredient prices are read with {@code findCurrentByIds}, never from a cache.
+ */
+@Service
+public class RecipeCostPropagationService {
+    private static final Logger logger = LoggerFactory.getLogger(RecipeCostPropagationService.class);
+    public static final int MAX_SAVE_ATTEMPTS = 3;
+
+    private final RecipeRepository recipeRepository;
+    private final IngredientRepository ingredientRepository;
+    private final RecipeCostCalculationService costCalculationService;
+    private final SubRecipeLoaderService subRecipeLoaderService;
+
+    public RecipeCostPropagationService(
+            RecipeRepository recipeRepository,
+            IngredientRepository ingredientRepository,
+            RecipeCostCalculationService costCalculationService,
+            SubRecipeLoaderService subRecipeLoaderService) {
+        this.recipeRepository = recipeRepository;
+        this.ingredientRepository = ingredientRepository;
+        this.costCalculationService = costCalculationService;
+        this.subRecipeLoaderService = subRecipeLoaderService;
+    }
+
+    /**
+     * Saves the new totals of recipes directly affected by a change, then recalculates their
+     * dependents. A directly affected recipe that is also a dependent of another one is only
+     * recalculated with the dependents, once its sub-recipes are up to date.
+     *
+     * @param recipes the directly affected recipes
+     * @param newTotalCost the new total of a directly affected recipe
+     * @return the number of recipes updated
+     */
+    public int recalculate(List<Recipe> recipes, Function<Recipe, Money> newTotalCost) {
+        if (recipes.isEmpty()) {
+            return 0;
+        }
+        List<Id> recipeIds = recipes.stream().map(Recipe::getId).toList();
+        List<RecipeDependency> dependencies = recipeRepository.findDependenciesAbove(recipeIds);
+        Set<Id> dependents = dependentsIn(dependencies);
+
+        int updatedRecipes = 0;
+        for (Recipe recipe : recipes) {
+            if (!dependents.contains(recipe.getId()) && saveIfChanged(recipe, newTotalCost.apply(recipe))) {
+                updatedRecipes++;
+            }
+        }
+        return updatedRecipes + recalculateInOrder(dependents, dependencies);
+    }
+
+    /**
+     * Recalculates every dependent of recipes whose totals have already been saved.
+     *
+     * @return the number of dependents updated
+     */
+    public int recalculateDependents(Collection<Id> changedRecipeIds) {
+        if (changedRecipeIds.isEmpty()) {
+            return 0;
+        }
+        List<RecipeDependency> dependencies = recipeRepository.findDependenciesAbove(changedRecipeIds);
+        return recalculateInOrder(dependentsIn(dependencies), dependencies);
+    }
+
+    /**
+     * Recalculates a recipe in full, from current ingredient prices and the stored totals of
+     * its sub-recipes.
+     */
+    public Money calculateTotalCost(Recipe recipe) {
+        List<Id> ingredientIds = recipe.getIngredients().stream()
+                .map(RecipeIngredient::getIngredientId)
+                .toList();
+        return costCalculationService.calculateTotalCost(
+                recipe, loadIngredients(ingredientIds), subRecipeLoaderService.loadSubRecipesOf(List.of(recipe)));
+    }
+
+    /**
+     * Stores the new total, or does nothing when the total is unchanged, so unaffected
+     * recipes are not rewritten. Only the total is written; the ingredient lines are
+     * not touched by a recalculation.
+     * <p>
+     * The write only applies if the recipe is still at the version it was read at. If a
+     * concurrent update got there first, the recipe is read again and its total recomputed
+     * in full with {@link #calculateTotalCost(Recipe)}, up to {@value #MAX_SAVE_ATTEMPTS}
+     * attempts; a deleted recipe is skipped.
+     *
+     * @return true if the recipe was updated
+     * @throws StaleVersionException if the recipe kept changing on every attempt
+     */
+    public boolean saveIfChanged(Recipe recipe, Money newTotalCost) {
+        return save(recipe, newTotalCost).updated();
+    }
+
+    /**
+     * The recipe as stored after {@link #saveIfChanged}, or null if it was deleted.
+     */
+    private record Saved(Recipe recipe, boolean updated) {}
+
+    private Saved save(Recipe recipe, Money newTotalCost) {
+        for (int attempt = 1; ; attempt++) {
+            if (newTotalCost.equals(recipe.getTotalCost())) {
+                logger.debug("Total cost of recipe {} unchanged, skipping save", recipe.getId().getValue());
+                return new Saved(recipe, false);
+            }
+            if (recipeRepository.updateTotalCost(recipe.getId(), recipe.getVersion(), newTotalCost)) {
+                recipe.updateTotalCost(newTotalCost);
+                return new Saved(recipe, true);
+            }
+            if (attempt == MAX_SAVE_ATTEMPTS) {
+                throw new StaleVersionException(String.format(
+                        "Recipe '%s' changed concurrently on %d recalculation attempts",
+                        recipe.getId().getValue(), MAX_SAVE_ATTEMPTS));
+            }
+
+            logger.debug("Recipe {} changed since it was read, recalculating it again", recipe.getId().getValue());
+            Optional<Recipe> current = recipeRepository.findById(recipe.getId());
+            if (current.isEmpty()) {
+                return new Saved(null, false);
+            }
+            recipe = current.get();
+            newTotalCost = calculateTotalCost(recipe);
+        }
+    }
+
+    private static Set<Id> dependentsIn(List<RecipeDependency> dependencies) {
+        Set<Id> dependents = new LinkedHashSet<>();
+        for (RecipeDependency dependency : dependencies) {
+            dependents.add(dependency.recipeId());
+        }
+        return dependents;
+    }
+
+    /**
+     * Loads the dependents, their ingredients and their sub-recipes with one query each,
+     * then recalculates the dependents in topological order. Each new total replaces the
+     * stored one in the sub-recipe map before any recipe that uses it is priced.
+     */
+    private int recalculateInOrder(Set<Id> dependents, List<RecipeDependency> dependencies) {
+        if (dependents.isEmpty()) {
+            return 0;
+        }
+
+        Map<Id, Recipe> recipesById = new HashMap<>();
+        for (Recipe recipe : recipeRepository.findAllByIds(dependents)) {
+            recipesById.put(recipe.getId(), recipe);
+        }
+
+        Set<Id> ingredientIds = new LinkedHashSet<>();
+        for (Recipe recipe : recipesById.values()) {
+            for (RecipeIngredient recipeIngredient : recipe.getIngredients()) {
+                ingredientIds.add(recipeIngredient.getIngredientId());
+            }
+        }
+        Map<Id, Ingredient> ingredientMap = loadIngredients(ingredientIds);
+        Map<Id, Recipe> subRecipeMap = new HashMap<>(subRecipeLoaderService.loadSubRecipesOf(recipesById.values()));
+
+        int updatedRecipes = 0;
+        for (Id recipeId : RecipeDependencyGraph.topologicalOrder(dependents, dependencies)) {
+            Recipe recipe = recipesById.get(recipeId);
+            if (recipe == null) {
+                // Deleted since the graph was read
+                continue;
+            }
+            Saved saved = save(recipe, costCalculationService.calculateTotalCost(recipe, ingredientMap, subRecipeMap));
+            if (saved.updated()) {
+                updatedRecipes++;
+            }
+            if (saved.recipe() != null) {
+                subRecipeMap.put(recipeId, saved.recipe());
+            }
+        }
+
+        logger.info("Propagated cost changes to {} of {} dependent recipes", updatedRecipes, dependents.size());
+        return updatedRecipes;
+    }
+
+    private Map<Id, Ingredient> loadIngredients(Collection<Id> ingredientIds) {
+        Map<Id, Ingredient> ingredientMap = new HashMap<>();
+        for (Ingredient ingredient : ingredientRepository.findCurrentByIds(ingredientIds)) {
+            ingredientMap.put(ingredient.getId(), ingredient);
+        }
+        return ingredientMap;
+    }
+}
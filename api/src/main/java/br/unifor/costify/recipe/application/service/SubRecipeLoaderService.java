@@ -0,0 +1,70 @@
+package br.unifor.costify.recipe.application.service;
+
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.application.errors.RecipeNotFoundException;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
+import br.unifor.costify.shared.domain.valueobject.Id;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SubRecipeLoaderService {
+  private final RecipeRepository recipeRepository;
+
+  public SubRecipeLoaderService(RecipeRepository recipeRepository) {
+    this.recipeRepository = recipeRepository;
+  }
+
+  /**
+   * Loads all recipes referenced by the given sub-recipe lines with a single repository call,
+   * or none when there are no lines.
+   *
+   * @throws RecipeNotFoundException if any referenced recipe does not exist
+   */
+  public Map<Id, Recipe> loadSubRecipes(List<SubRecipe> subRecipes) {
+    Set<Id> recipeIds = new LinkedHashSet<>();
+    for (SubRecipe subRecipe : subRecipes) {
+      recipeIds.add(subRecipe.getRecipeId());
+    }
+
+    Map<Id, Recipe> recipeMap = load(recipeIds);
+    for (Id recipeId : recipeIds) {
+      if (!recipeMap.containsKey(recipeId)) {
+        throw RecipeNotFoundException.withId(recipeId.getValue());
+      }
+    }
+    return recipeMap;
+  }
+
+  /**
+   * Loads the sub-recipes of all the given recipes with a single repository call. Stored
+   * sub-recipes cannot be deleted while in use, so none is missing.
+   */
+  public Map<Id, Recipe> loadSubRecipesOf(Collection<Recipe> recipes) {
+    Set<Id> recipeIds = new LinkedHashSet<>();
+    for (Recipe recipe : recipes) {
+      for (SubRecipe subRecipe : recipe.getSubRecipes()) {
+        recipeIds.add(subRecipe.getRecipeId());
+      }
+    }
+    return load(recipeIds);
+  }
+
+  private Map<Id, Recipe> load(Set<Id> recipeIds) {
+    if (recipeIds.isEmpty()) {
+      return Map.of();
+    }
+    Map<Id, Recipe> recipeMap = new HashMap<>();
+    for (Recipe recipe : recipeRepository.findAllByIds(recipeIds)) {
+      recipeMap.put(recipe.getId(), recipe);
+    }
+    return recipeMap;
+  }
+}
@@ -0,0 +1,128 @@
+package br.unifor.costify.recipe.application.usecase;
+
+import br.unifor.costify.catalog.application.contracts.IngredientPriceHistoryRepository;
+import br.unifor.costify.catalog.application.errors.IngredientPriceNotFoundException;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostDto;
+import br.unifor.costify.recipe.application.errors.RecipeNotFoundException;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.recipe.domain.service.RecipeDependencyGraph;
+import br.unifor.costify.recipe.domain.valueobject.RecipeDependency;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Returns the per-ingredient cost breakdown of a recipe as it would have been priced at a
+ * given instant.
+ * <p>
+ * The recipe keeps its current composition; only the ingredient prices are historical. They
+ * are read from the price history with one query, which probes the history index once per
+ * ingredient. Sub-recipes are priced first, bottom-up, from the same historical prices, so
+ * their stored totals (which reflect today's prices) are never used. Nothing is written.
+ */
+@Service
+public class CalculateRecipeCostAsOfUseCase {
+
+    private final RecipeRepository recipeRepository;
+    private final IngredientPriceHistoryRepository priceHistoryRepository;
+    private final RecipeCostCalculationService costCalculationService;
+    private final SubRecipeLoaderService subRecipeLoaderService;
+
+    public CalculateRecipeCostAsOfUseCase(
+            RecipeRepository recipeRepository,
+            IngredientPriceHistoryRepository priceHistoryRepository,
+            RecipeCostCalculationService costCalculationService,
+            SubRecipeLoaderService subRecipeLoaderService) {
+        this.recipeRepository = recipeRepository;
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.costCalculationService = costCalculationService;
+        this.subRecipeLoaderService = subRecipeLoaderService;
+    }
+
+    /**
+     * @throws RecipeNotFoundException if the recipe does not exist
+     * @throws IngredientPriceNotFoundException if one of its ingredients, or of its sub-recipes'
+     *     ingredients, had no price yet at {@code at}
+     */
+    @Transactional(readOnly = true)
+    public RecipeCostDto execute(String recipeId, Instant at) {
+        Recipe recipe = recipeRepository.findById(Id.of(recipeId))
+                .orElseThrow(() -> RecipeNotFoundException.withId(recipeId));
+
+        // The whole sub-recipe tree, one repository call per level
+        Map<Id, Recipe> subRecipes = new LinkedHashMap<>();
+        List<Recipe> frontier = List.of(recipe);
+        while (!frontier.isEmpty()) {
+            List<Recipe> next = new ArrayList<>();
+            for (Recipe subRecipe : subRecipeLoaderService.loadSubRecipesOf(frontier).values()) {
+                if (subRecipes.putIfAbsent(subRecipe.getId(), subRecipe) == null) {
+                    next.add(subRecipe);
+                }
+            }
+            frontier = next;
+        }
+
+        Map<Id, Ingredient> ingredients = loadPricesAsOf(recipe, subRecipes.values(), at);
+
+        List<RecipeDependency> dependencies = new ArrayList<>();
+        for (Recipe subRecipe : subRecipes.values()) {
+            for (SubRecipe line : subRecipe.getSubRecipes()) {
+                dependencies.add(new RecipeDependency(subRecipe.getId(), line.getRecipeId()));
+            }
+        }
+
+        // Replace each sub-recipe's stored total with its total at the historical prices
+        Map<Id, Recipe> pricedSubRecipes = new HashMap<>();
+        for (Id id : RecipeDependencyGraph.topologicalOrder(subRecipes.keySet(), dependencies)) {
+            Recipe subRecipe = subRecipes.get(id);
+            pricedSubRecipes.put(id, new Recipe(
+                    subRecipe.getId(), subRecipe.getName(), subRecipe.getIngredients(), subRecipe.getSubRecipes(),
+                    costCalculationService.calculateTotalCost(subRecipe, ingredients, pricedSubRecipes),
+                    subRecipe.getVersion()));
+        }
+
+        return RecipeCostDto.fromDomain(costCalculationService.calculateCost(recipe, ingredients, pricedSubRecipes));
+    }
+
+    private Map<Id, Ingredient> loadPricesAsOf(Recipe recipe, Iterable<Recipe> subRecipes, Instant at) {
+        Set<Id> ingredientIds = new LinkedHashSet<>();
+        collectIngredientIds(recipe, ingredientIds);
+        for (Recipe subRecipe : subRecipes) {
+            collectIngredientIds(subRecipe, ingredientIds);
+        }
+
+        Map<Id, Ingredient> ingredientMap = new HashMap<>();
+        if (!ingredientIds.isEmpty()) {
+            for (Ingredient ingredient : priceHistoryRepository.findAllAsOf(ingredientIds, at)) {
+                ingredientMap.put(ingredient.getId(), ingredient);
+            }
+        }
+        for (Id ingredientId : ingredientIds) {
+            if (!ingredientMap.containsKey(ingredientId)) {
+                throw IngredientPriceNotFoundException.withIdAt(ingredientId.getValue(), at);
+            }
+        }
+        return ingredientMap;
+    }
+
+    private static void collectIngredientIds(Recipe recipe, Set<Id> ingredientIds) {
+        for (RecipeIngredient recipeIngredient : recipe.getIngredients()) {
+            ingredientIds.add(recipeIngredient.getIngredientId());
+        }
+    }
+}
@@ -1,36 +1,60 @@
 package br.unifor.costify.recipe.application.usecase;
 
+import br.unifor.costify.recipe.application.contracts.RecipeCostRepository;
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
 import br.unifor.costify.recipe.application.dto.response.RecipeCostDto;
 import br.unifor.costify.recipe.application.errors.RecipeNotFoundException;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
 import br.unifor.costify.catalog.application.service.IngredientLoaderService;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
 import br.unifor.costify.recipe.domain.entity.Recipe;
 import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.recipe.domain.valueobject.RecipeCost;
-import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Returns the per-ingredient cost breakdown of a recipe.
+ * <p>
+ * The breakdown is read from the stored cost lines, which are kept in sync when a recipe is
+ * saved or recalculated. Only a recipe without stored lines is calculated from its ingredients;
+ * that result is returned without being stored, so the read never writes. Missing lines are
+ * filled in by the write paths and by the V7 backfill.
+ */
+@Service
 public class CalculateRecipeCostUseCase {
     
     private final RecipeRepository recipeRepository;
+    private final RecipeCostRepository recipeCostRepository;
     private final IngredientLoaderService ingredientLoaderService;
     private final RecipeCostCalculationService costCalculationService;
+    private final SubRecipeLoaderService subRecipeLoaderService;
     
     public CalculateRecipeCostUseCase(
             RecipeRepository recipeRepository,
+            RecipeCostRepository recipeCostRepository,
             IngredientLoaderService ingredientLoaderService,
-            RecipeCostCalculationService costCalculationService) {
+            RecipeCostCalculationService costCalculationService,
+            SubRecipeLoaderService subRecipeLoaderService) {
         this.recipeRepository = recipeRepository;
+        this.recipeCostRepository = recipeCostRepository;
         this.ingredientLoaderService = ingredientLoaderService;
         this.costCalculationService = costCalculationService;
+        this.subRecipeLoaderService = subRecipeLoaderService;
     }
     
+    @Transactional(readOnly = true)
     public RecipeCostDto execute(String recipeId) {
         Id id = Id.of(recipeId);
+
+        Optional<RecipeCost> storedCost = recipeCostRepository.findByRecipeId(id);
+        if (storedCost.isPresent()) {
+            return RecipeCostDto.fromDomain(storedCost.get());
+        }
         
         Optional<Recipe> recipeOpt = recipeRepository.findById(id);
         if (recipeOpt.isEmpty()) {
@@ -39,8 +63,9 @@ public class CalculateRecipeCostUseCase {
         
         Recipe recipe = recipeOpt.get();
         Map<Id, Ingredient> ingredientMap = ingredientLoaderService.loadIngredients(recipe.getIngredients());
+        Map<Id, Recipe> subRecipeMap = subRecipeLoaderService.loadSubRecipes(recipe.getSubRecipes());
         
-        RecipeCost recipeCost = costCalculationService.calculateCost(recipe, ingredientMap);
+        RecipeCost recipeCost = costCalculationService.calculateCost(recipe, ingredientMap, subRecipeMap);
         
         return RecipeCostDto.fromDomain(recipeCost);
     }
@@ -0,0 +1,111 @@
+package br.unifor.costify.recipe.application.usecase;
+
+import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostBatchDto;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostDto;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Calculates the cost breakdown of many recipes at once.
+ * <p>
+ * All recipes are loaded with one query, and every ingredient they reference is loaded once
+ * into a shared, read-only snapshot, so all costs in the response are priced consistently.
+ * Large batches are then calculated in parallel across cores; the calculation only reads
+ * the recipes and the snapshot. Sub-recipe lines are priced at the sub-recipes' stored totals,
+ * loaded with one more query.
+ */
+@Service
+public class CalculateRecipeCostsBatchUseCase {
+
+    public static final int MAX_BATCH_SIZE = 5000;
+
+    /** Below this many recipes, splitting the work costs more than it saves. */
+    static final int PARALLEL_THRESHOLD = 64;
+
+    private final RecipeRepository recipeRepository;
+    private final IngredientRepository ingredientRepository;
+    private final RecipeCostCalculationService costCalculationService;
+    private final SubRecipeLoaderService subRecipeLoaderService;
+
+    public CalculateRecipeCostsBatchUseCase(
+            RecipeRepository recipeRepository,
+            IngredientRepository ingredientRepository,
+            RecipeCostCalculationService costCalculationService,
+            SubRecipeLoaderService subRecipeLoaderService) {
+        this.recipeRepository = recipeRepository;
+        this.ingredientRepository = ingredientRepository;
+        this.costCalculationService = costCalculationService;
+        this.subRecipeLoaderService = subRecipeLoaderService;
+    }
+
+    public RecipeCostBatchDto execute(Collection<String> recipeIds) {
+        Set<Id> requestedIds = new LinkedHashSet<>();
+        for (String recipeId : recipeIds) {
+            requestedIds.add(Id.of(recipeId));
+        }
+        if (requestedIds.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Cannot calculate more than " + MAX_BATCH_SIZE + " recipes at once");
+        }
+
+        Map<Id, Recipe> recipesById = new HashMap<>();
+        for (Recipe recipe : recipeRepository.findAllByIds(requestedIds)) {
+            recipesById.put(recipe.getId(), recipe);
+        }
+
+        // Keep the request order and note what was not found
+        List<Recipe> recipes = new ArrayList<>(recipesById.size());
+        List<String> missingRecipeIds = new ArrayList<>();
+        for (Id id : requestedIds) {
+            Recipe recipe = recipesById.get(id);
+            if (recipe == null) {
+                missingRecipeIds.add(id.getValue());
+            } else {
+                recipes.add(recipe);
+            }
+        }
+
+        Map<Id, Ingredient> ingredientSnapshot = loadIngredientSnapshot(recipes);
+        Map<Id, Recipe> subRecipeSnapshot = Map.copyOf(subRecipeLoaderService.loadSubRecipesOf(recipes));
+
+        Stream<Recipe> stream = recipes.size() >= PARALLEL_THRESHOLD
+                ? recipes.parallelStream()
+                : recipes.stream();
+        List<RecipeCostDto> costs = stream
+                .map(recipe -> costCalculationService.calculateCost(recipe, ingredientSnapshot, subRecipeSnapshot))
+                .map(RecipeCostDto::fromDomain)
+                .toList();
+
+        return new RecipeCostBatchDto(costs, missingRecipeIds);
+    }
+
+    private Map<Id, Ingredient> loadIngredientSnapshot(List<Recipe> recipes) {
+        Set<Id> ingredientIds = new LinkedHashSet<>();
+        for (Recipe recipe : recipes) {
+            for (RecipeIngredient recipeIngredient : recipe.getIngredients()) {
+                ingredientIds.add(recipeIngredient.getIngredientId());
+            }
+        }
+
+        Map<Id, Ingredient> ingredientMap = new HashMap<>();
+        for (Ingredient ingredient : ingredientRepository.findAllByIds(ingredientIds)) {
+            ingredientMap.put(ingredient.getId(), ingredient);
+        }
+        return Map.copyOf(ingredientMap);
+    }
+}
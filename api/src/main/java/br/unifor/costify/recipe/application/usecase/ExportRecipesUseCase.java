@@ -0,0 +1,23 @@
+package br.unifor.costify.recipe.application.usecase;
+
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case for exporting the whole recipe catalog.
+ * Recipes are handed to the sink one at a time as they are read, so callers can write
+ * them out without holding the catalog in memory.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExportRecipesUseCase {
+
+  private final RecipeRepository recipeRepository;
+
+  public void execute(Consumer<RecipeDto> sink) {
+    recipeRepository.forEach(recipe -> sink.accept(RecipeDto.from(recipe)));
+  }
+}
@@ -3,10 +3,13 @@ package br.unifor.costify.recipe.application.usecase;
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
 import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
 import br.unifor.costify.recipe.application.errors.RecipeNotFoundException;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class GetRecipeByIdUseCase {
@@ -20,4 +23,14 @@ public class GetRecipeByIdUseCase {
 
         return RecipeDto.from(recipe);
     }
+
+    /**
+     * Reads only the recipe's version and last write time, for answering conditional requests
+     * without loading it.
+     *
+     * @return empty if the recipe does not exist
+     */
+    public Optional<ResourceVersion> findVersion(String recipeId) {
+        return recipeRepository.findVersionById(Id.of(recipeId));
+    }
 }
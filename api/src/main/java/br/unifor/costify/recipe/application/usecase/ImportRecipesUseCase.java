@@ -0,0 +1,34 @@
+package br.unifor.costify.recipe.application.usecase;
+
+import br.unifor.costify.recipe.application.contracts.RecipeImporter;
+import br.unifor.costify.recipe.domain.events.RecipesImportedEvent;
+import br.unifor.costify.shared.application.imports.ImportReport;
+import br.unifor.costify.shared.domain.events.DomainEventPublisher;
+import java.io.InputStream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for loading many recipes from a CSV file in one transaction.
+ * Recipe costs are computed by the import itself, in one pass over all imported lines,
+ * instead of loading the ingredients of each recipe separately.
+ */
+@Service
+public class ImportRecipesUseCase {
+  private final RecipeImporter recipeImporter;
+  private final DomainEventPublisher eventPublisher;
+
+  public ImportRecipesUseCase(RecipeImporter recipeImporter, DomainEventPublisher eventPublisher) {
+    this.recipeImporter = recipeImporter;
+    this.eventPublisher = eventPublisher;
+  }
+
+  @Transactional
+  public ImportReport execute(InputStream csv) {
+    RecipeImporter.Result result = recipeImporter.importCsv(csv);
+    if (!result.ingredientIdsByRecipe().isEmpty()) {
+      eventPublisher.publish(new RecipesImportedEvent(result.ingredientIdsByRecipe()));
+    }
+    return result.report();
+  }
+}
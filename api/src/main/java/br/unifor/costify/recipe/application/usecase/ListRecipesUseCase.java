@@ -1,19 +1,40 @@
 package br.unifor.costify.recipe.application.usecase;
 
+import br.unifor.costify.recipe.application.contracts.RecipeQueryService;
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
 import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
+import br.unifor.costify.recipe.application.dto.query.RecipeSort;
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
 import java.util.List;
 import org.springframework.stereotype.Service;
 
+/**
+ * Lists recipes through the read-side {@link RecipeQueryService}, which maps rows straight into DTOs.
+ */
 @Service
 public class ListRecipesUseCase {
   private final RecipeRepository recipeRepository;
+  private final RecipeQueryService recipeQueryService;
 
-  public ListRecipesUseCase(RecipeRepository recipeRepository) {
+  public ListRecipesUseCase(RecipeRepository recipeRepository, RecipeQueryService recipeQueryService) {
     this.recipeRepository = recipeRepository;
+    this.recipeQueryService = recipeQueryService;
   }
 
   public List<RecipeDto> execute() {
-    return recipeRepository.findAll().stream().map(RecipeDto::from).toList();
+    return recipeQueryService.findAll();
+  }
+
+  public CursorPage<RecipeDto> execute(PageRequest<RecipeSort> request) {
+    return recipeQueryService.findPage(request);
+  }
+
+  /**
+   * Summarizes all recipes without loading them; it changes whenever any listing would.
+   */
+  public CollectionVersion findCollectionVersion() {
+    return recipeRepository.findCollectionVersion();
   }
 }
@@ -1,23 +1,32 @@
 package br.unifor.costify.recipe.application.usecase;
 
 import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.recipe.application.contracts.RecipeCostRepository;
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.application.service.RecipeCostPropagationService;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.catalog.domain.events.IngredientUpdatedEvent;
 import br.unifor.costify.recipe.domain.entity.Recipe;
 import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
 import br.unifor.costify.shared.domain.valueobject.Id;
-import br.unifor.costify.recipe.domain.valueobject.RecipeCost;
+import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 
 /**
  * Use case for recalculating recipe costs when ingredients are modified.
@@ -27,42 +36,111 @@ import java.util.Optional;
  *
  * This use case is typically triggered by ingredient update events but can also
  * be invoked directly for manual recalculation scenarios.
+ *
+ * In every mode, the stored cost breakdown lines of the updated ingredients are refreshed
+ * first, with a single set-based update.
+ *
+ * In every mode, the change is then carried to the recipes that use an affected recipe as
+ * a sub-recipe, through {@link RecipeCostPropagationService}: each of them is recalculated
+ * once, after its sub-recipes.
+ *
+ * The number of recipes directly affected by each recalculation, whether or not their
+ * totals change, is recorded in the {@value #RECIPES_SUMMARY} histogram, tagged with the
+ * mode, so the modes can be compared on the same quantity.
  */
 @Service
 public class RecalculateRecipeCostsForIngredientUseCase {
     private static final Logger logger = LoggerFactory.getLogger(RecalculateRecipeCostsForIngredientUseCase.class);
+    static final String RECIPES_SUMMARY = "costify.recalculation.recipes";
 
     private final RecipeRepository recipeRepository;
+    private final RecipeCostRepository recipeCostRepository;
     private final IngredientRepository ingredientRepository;
     private final RecipeCostCalculationService costCalculationService;
+    private final RecipeCostPropagationService costPropagationService;
+    private final SubRecipeLoaderService subRecipeLoaderService;
+    private final Mode mode;
+    private final DistributionSummary recipesPerRecalculation;
+
+    /**
+     * How affected recipes are recalculated.
+     */
+    public enum Mode {
+        /** Load each affected recipe, recalculate it in the domain and save it. */
+        PER_RECIPE,
+        /** Recompute every affected total in a single set-based UPDATE in the database. */
+        SET_BASED,
+        /**
+         * Derive each affected total from the recipe's stored cost breakdown lines once they
+         * have been refreshed, without loading the recipes' ingredients. Recipes with
+         * sub-recipes or without stored lines are recalculated as in {@link #PER_RECIPE}.
+         */
+        INCREMENTAL
+    }
 
     public RecalculateRecipeCostsForIngredientUseCase(
             RecipeRepository recipeRepository,
+            RecipeCostRepository recipeCostRepository,
             IngredientRepository ingredientRepository,
-            RecipeCostCalculationService costCalculationService) {
+            RecipeCostCalculationService costCalculationService,
+            RecipeCostPropagationService costPropagationService,
+            SubRecipeLoaderService subRecipeLoaderService,
+            @Value("${costify.recipe.recalculation.mode:PER_RECIPE}") Mode mode,
+            MeterRegistry meterRegistry) {
         this.recipeRepository = recipeRepository;
+        this.recipeCostRepository = recipeCostRepository;
         this.ingredientRepository = ingredientRepository;
         this.costCalculationService = costCalculationService;
+        this.costPropagationService = costPropagationService;
+        this.subRecipeLoaderService = subRecipeLoaderService;
+        this.mode = mode;
+        this.recipesPerRecalculation = DistributionSummary.builder(RECIPES_SUMMARY)
+                .description("Recipes affected by one recipe cost recalculation")
+                .baseUnit("recipes")
+                .tag("mode", mode.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
      * Executes the recipe cost recalculation for all recipes using the specified ingredient.
      *
-     * This method:
+     * In {@link Mode#SET_BASED} mode this delegates to a single UPDATE statement, and in
+     * {@link Mode#INCREMENTAL} mode the totals are taken from the refreshed cost lines.
+     * Otherwise this method:
      * 1. Finds all recipes using the given ingredient
      * 2. Loads all ingredients for each recipe
      * 3. Recalculates the recipe cost
-     * 4. Updates and saves the recipe with the new total cost
+     * 4. Stores the new total cost if it changed
+     * 5. Recalculates the recipes that use the affected ones as sub-recipes
      *
      * @param ingredientId the ID of the updated ingredient
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void execute(Id ingredientId) {
         logger.info("Starting recipe cost recalculation for ingredient: {}", ingredientId.getValue());
+        refreshCostLines(List.of(ingredientId));
+
+        if (mode == Mode.SET_BASED) {
+            List<Id> affectedRecipeIds = recipeRepository.findIdsByIngredientId(ingredientId);
+            recipesPerRecalculation.record(affectedRecipeIds.size());
+            if (affectedRecipeIds.isEmpty()) {
+                logger.info("No recipes found using ingredient {}", ingredientId.getValue());
+                return;
+            }
+            int updatedRecipes = recipeRepository.recalculateTotalCostsByIngredientId(ingredientId);
+            logger.info("Set-based recalculation updated {} of {} recipes for ingredient {}",
+                    updatedRecipes, affectedRecipeIds.size(), ingredientId.getValue());
+            if (updatedRecipes > 0) {
+                costPropagationService.recalculateDependents(affectedRecipeIds);
+            }
+            return;
+        }
 
         // Find all recipes that use this ingredient
         List<Recipe> affectedRecipes = recipeRepository.findByIngredientId(ingredientId);
         logger.info("Found {} recipes affected by ingredient {}", affectedRecipes.size(), ingredientId.getValue());
+        recipesPerRecalculation.record(affectedRecipes.size());
 
         // If no recipes use this ingredient, nothing to update
         if (affectedRecipes.isEmpty()) {
@@ -70,51 +148,141 @@ public class RecalculateRecipeCostsForIngredientUseCase {
             return;
         }
 
-        // Update cost for each affected recipe
-        for (Recipe recipe : affectedRecipes) {
-            logger.info("Recalculating cost for recipe: {} ({})", recipe.getName(), recipe.getId().getValue());
-            updateRecipeCost(recipe);
-            logger.info("Recipe {} cost updated successfully", recipe.getName());
+        if (mode == Mode.INCREMENTAL) {
+            int updatedRecipes = recalculateFromCostLines(affectedRecipes);
+            logger.info("Incremental recalculation updated {} of {} recipes for ingredient {}",
+                    updatedRecipes, affectedRecipes.size(), ingredientId.getValue());
+            return;
         }
 
-        logger.info("Completed recipe cost recalculation for ingredient: {}", ingredientId.getValue());
+        // Recalculate each affected recipe in full, then the recipes built on them
+        int updatedRecipes = costPropagationService.recalculate(affectedRecipes, recipe -> {
+            logger.debug("Recalculating cost for recipe: {} ({})", recipe.getName(), recipe.getId().getValue());
+            return costPropagationService.calculateTotalCost(recipe);
+        });
+
+        logger.info("Completed recipe cost recalculation for ingredient {}: {} recipes updated",
+                ingredientId.getValue(), updatedRecipes);
     }
 
     /**
-     * Updates the cost of a single recipe by recalculating based on current ingredient prices.
+     * Recalculates the recipes affected by an ingredient update.
+     * <p>
+     * In {@link Mode#INCREMENTAL} mode, an update known to leave the unit cost unchanged
+     * only refreshes the stored cost lines, to pick up a name change. Otherwise this behaves
+     * like {@link #execute(Id)}: the new totals never depend on the event's previous unit
+     * cost, so a redelivered event or lines already re-priced cannot skew them.
      *
-     * @param recipe the recipe to update
+     * @param event the ingredient update
      */
-    private void updateRecipeCost(Recipe recipe) {
-        // Load all ingredients for this recipe
-        Map<Id, Ingredient> ingredientMap = loadIngredientsForRecipe(recipe);
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void execute(IngredientUpdatedEvent event) {
+        Id ingredientId = event.getIngredientId();
+        if (mode == Mode.INCREMENTAL && !event.isUnitCostChanged()) {
+            refreshCostLines(List.of(ingredientId));
+            logger.info("Unit cost of ingredient {} did not change, skipping recalculation", ingredientId.getValue());
+            return;
+        }
+        execute(ingredientId);
+    }
 
-        // Calculate the new cost
-        RecipeCost recipeCost = costCalculationService.calculateCost(recipe, ingredientMap);
+    /**
+     * Recalculates the recipes affected by any of the given ingredients, as one batch.
+     * A recipe that uses several of the ingredients is recalculated and saved only once;
+     * the affected recipes and all their ingredients are each loaded with a single query.
+     *
+     * @param ingredientIds the IDs of the updated ingredients
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void executeBatch(Collection<Id> ingredientIds) {
+        if (ingredientIds.isEmpty()) {
+            return;
+        }
+        logger.info("Starting batch recipe cost recalculation for {} ingredients", ingredientIds.size());
+        refreshCostLines(ingredientIds);
 
-        // Update the recipe with the new total cost
-        recipe.updateTotalCost(recipeCost.getTotalCost());
+        Set<Id> affectedRecipeIds = findIdsByIngredientIds(ingredientIds);
+        recipesPerRecalculation.record(affectedRecipeIds.size());
 
-        // Save the updated recipe
-        recipeRepository.save(recipe);
+        if (affectedRecipeIds.isEmpty()) {
+            logger.info("No recipes found using any of the {} ingredients", ingredientIds.size());
+            return;
+        }
+
+        if (mode == Mode.SET_BASED) {
+            int updatedRecipes = recipeRepository.recalculateTotalCostsByIngredientIds(ingredientIds);
+            logger.info("Set-based recalculation updated {} of {} recipes for {} ingredients",
+                    updatedRecipes, affectedRecipeIds.size(), ingredientIds.size());
+            if (updatedRecipes > 0) {
+                costPropagationService.recalculateDependents(affectedRecipeIds);
+            }
+            return;
+        }
+
+        List<Recipe> affectedRecipes = recipeRepository.findAllByIds(affectedRecipeIds);
+
+        if (mode == Mode.INCREMENTAL) {
+            int updatedRecipes = recalculateFromCostLines(affectedRecipes);
+            logger.info("Incremental recalculation updated {} of {} recipes for {} ingredients",
+                    updatedRecipes, affectedRecipes.size(), ingredientIds.size());
+            return;
+        }
+
+        Set<Id> referencedIngredientIds = new LinkedHashSet<>();
+        for (Recipe recipe : affectedRecipes) {
+            for (RecipeIngredient recipeIngredient : recipe.getIngredients()) {
+                referencedIngredientIds.add(recipeIngredient.getIngredientId());
+            }
+        }
+        Map<Id, Ingredient> ingredientMap = loadIngredients(referencedIngredientIds);
+        Map<Id, Recipe> subRecipeMap = subRecipeLoaderService.loadSubRecipesOf(affectedRecipes);
+
+        costPropagationService.recalculate(affectedRecipes, recipe ->
+                costCalculationService.calculateTotalCost(recipe, ingredientMap, subRecipeMap));
+
+        logger.info("Completed batch recalculation of {} recipes for {} ingredients",
+                affectedRecipes.size(), ingredientIds.size());
     }
 
     /**
-     * Loads all ingredients referenced in a recipe into a map.
-     *
-     * @param recipe the recipe whose ingredients to load
-     * @return a map of ingredient IDs to Ingredient entities
+     * Takes each total from the unrounded sum of the recipe's stored cost lines, read after
+     * they were refreshed, so it matches a full recalculation however many times the same
+     * change is applied. A recipe with sub-recipes or without stored lines is recalculated
+     * in full instead.
      */
-    private Map<Id, Ingredient> loadIngredientsForRecipe(Recipe recipe) {
-        Map<Id, Ingredient> ingredientMap = new HashMap<>();
+    private int recalculateFromCostLines(List<Recipe> affectedRecipes) {
+        Map<Id, Long> lineCostSums = recipeCostRepository.sumLineCostsByRecipeIds(
+                affectedRecipes.stream().map(Recipe::getId).toList());
+        return costPropagationService.recalculate(affectedRecipes, recipe -> {
+            Long lineCostSum = lineCostSums.get(recipe.getId());
+            if (lineCostSum == null || !recipe.getSubRecipes().isEmpty()) {
+                return costPropagationService.calculateTotalCost(recipe);
+            }
+            return Money.ofMicroCents(lineCostSum);
+        });
+    }
 
-        for (RecipeIngredient recipeIngredient : recipe.getIngredients()) {
-            Id ingredientId = recipeIngredient.getIngredientId();
-            Optional<Ingredient> ingredientOpt = ingredientRepository.findById(ingredientId);
+    private void refreshCostLines(Collection<Id> ingredientIds) {
+        int refreshedLines = recipeCostRepository.refreshLinesByIngredientIds(ingredientIds);
+        logger.debug("Refreshed {} cost breakdown lines for {} ingredients", refreshedLines, ingredientIds.size());
+    }
 
-            ingredientOpt.ifPresent(ingredient ->
-                    ingredientMap.put(ingredientId, ingredient)
-            );
+    /**
+     * Union of the recipes using any of the ingredients, so each recipe is loaded and
+     * recalculated once per batch.
+     */
+    private Set<Id> findIdsByIngredientIds(Collection<Id> ingredientIds) {
+        Set<Id> recipeIds = new LinkedHashSet<>();
+        for (Id ingredientId : ingredientIds) {
+            recipeIds.addAll(recipeRepository.findIdsByIngredientId(ingredientId));
+        }
+        return recipeIds;
+    }
+
+    private Map<Id, Ingredient> loadIngredients(Collection<Id> ingredientIds) {
+        Map<Id, Ingredient> ingredientMap = new HashMap<>();
+        for (Ingredient ingredient : ingredientRepository.findCurrentByIds(ingredientIds)) {
+            ingredientMap.put(ingredient.getId(), ingredient);
         }
 
         return ingredientMap;
@@ -1,10 +1,12 @@
 package br.unifor.costify.recipe.application.usecase;
 
+import br.unifor.costify.recipe.application.contracts.RecipeCostRepository;
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
 import br.unifor.costify.recipe.application.dto.command.RegisterRecipeCommand;
 import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
 import br.unifor.costify.recipe.application.errors.RecipeAlreadyExistsException;
 import br.unifor.costify.recipe.application.factory.RecipeFactory;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
 import br.unifor.costify.catalog.application.service.IngredientLoaderService;
 import br.unifor.costify.shared.application.validation.ValidationService;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
@@ -16,30 +18,38 @@ import br.unifor.costify.recipe.domain.valueobject.RecipeCost;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 
 @Service
 public class RegisterRecipeUseCase {
   private final RecipeRepository recipeRepository;
+  private final RecipeCostRepository recipeCostRepository;
   private final IngredientLoaderService ingredientLoaderService;
   private final RecipeFactory recipeFactory;
   private final ValidationService validationService;
   private final RecipeCostCalculationService costCalculationService;
+  private final SubRecipeLoaderService subRecipeLoaderService;
 
   public RegisterRecipeUseCase(
       RecipeRepository recipeRepository,
+      RecipeCostRepository recipeCostRepository,
       IngredientLoaderService ingredientLoaderService,
       RecipeFactory recipeFactory,
       ValidationService validationService,
-      RecipeCostCalculationService costCalculationService) {
+      RecipeCostCalculationService costCalculationService,
+      SubRecipeLoaderService subRecipeLoaderService) {
     this.recipeRepository = recipeRepository;
+    this.recipeCostRepository = recipeCostRepository;
     this.ingredientLoaderService = ingredientLoaderService;
     this.recipeFactory = recipeFactory;
     this.validationService = validationService;
     this.costCalculationService = costCalculationService;
+    this.subRecipeLoaderService = subRecipeLoaderService;
   }
 
+  @Transactional
   public RecipeDto execute(RegisterRecipeCommand command) {
     validationService.validateRecipeData(command.name(), command.ingredients());
     
@@ -47,15 +57,16 @@ public class RegisterRecipeUseCase {
 
     // Load ingredients and calculate cost
     Map<Id, Ingredient> ingredientMap = ingredientLoaderService.loadIngredients(command.ingredients());
+    // A new recipe cannot close a cycle: no stored recipe can use it yet
+    Map<Id, Recipe> subRecipeMap = subRecipeLoaderService.loadSubRecipes(command.subRecipes());
     
-    // Create temporary recipe with zero cost for cost calculation
-    Recipe tempRecipe = recipeFactory.create(command.name(), command.ingredients(), Money.zero());
-    RecipeCost recipeCost = costCalculationService.calculateCost(tempRecipe, ingredientMap);
-    
-    // Create final recipe with calculated total cost
-    Recipe recipe = recipeFactory.create(command.name(), command.ingredients(), recipeCost.getTotalCost());
+    // Create the recipe with zero cost, then fill in the calculated total
+    Recipe recipe = recipeFactory.create(command.name(), command.ingredients(), command.subRecipes(), Money.zero());
+    RecipeCost recipeCost = costCalculationService.calculateCost(recipe, ingredientMap, subRecipeMap);
+    recipe.updateTotalCost(recipeCost.getTotalCost());
 
     Recipe savedRecipe = recipeRepository.save(recipe);
+    recipeCostRepository.save(recipeCost);
 
     return RecipeDto.from(savedRecipe);
   }
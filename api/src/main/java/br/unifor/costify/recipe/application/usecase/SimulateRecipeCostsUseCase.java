@@ -0,0 +1,224 @@
+package br.unifor.costify.recipe.application.usecase;
+
+import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.application.errors.IngredientNotFoundException;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.application.dto.command.SimulateRecipeCostsCommand;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostImpactDto;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostSimulationDto;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.recipe.domain.service.RecipeDependencyGraph;
+import br.unifor.costify.recipe.domain.valueobject.RecipeDependency;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Answers "what if these ingredients cost something else?" without writing anything.
+ * <p>
+ * The recipes that use a changed ingredient, and every recipe built on them as a sub-recipe,
+ * are loaded once into a read-only snapshot together with their ingredients. Each recipe is
+ * then priced twice with {@link RecipeCostCalculationService}: once from the snapshot as is,
+ * and once with the hypothetical changes applied to copies of the changed ingredients, so the
+ * difference reflects only the changes. No ingredient is updated and no event is published.
+ * <p>
+ * Recipes are priced level by level along the sub-recipe graph, so a recipe is priced after
+ * its sub-recipes and sees their simulated totals; the recipes within a level are priced in
+ * parallel across cores.
+ */
+@Service
+public class SimulateRecipeCostsUseCase {
+
+    public static final int MAX_CHANGES = 500;
+
+    /** Below this many recipes in a level, splitting the work costs more than it saves. */
+    static final int PARALLEL_THRESHOLD = 64;
+
+    private final RecipeRepository recipeRepository;
+    private final IngredientRepository ingredientRepository;
+    private final RecipeCostCalculationService costCalculationService;
+    private final SubRecipeLoaderService subRecipeLoaderService;
+
+    public SimulateRecipeCostsUseCase(
+            RecipeRepository recipeRepository,
+            IngredientRepository ingredientRepository,
+            RecipeCostCalculationService costCalculationService,
+            SubRecipeLoaderService subRecipeLoaderService) {
+        this.recipeRepository = recipeRepository;
+        this.ingredientRepository = ingredientRepository;
+        this.costCalculationService = costCalculationService;
+        this.subRecipeLoaderService = subRecipeLoaderService;
+    }
+
+    /**
+     * @return the recipes whose total would change, by decreasing size of the change
+     * @throws IngredientNotFoundException if a changed ingredient does not exist
+     */
+    @Transactional(readOnly = true)
+    public RecipeCostSimulationDto execute(SimulateRecipeCostsCommand command) {
+        Map<Id, SimulateRecipeCostsCommand.Change> changes = new LinkedHashMap<>();
+        for (SimulateRecipeCostsCommand.Change change : command.changes()) {
+            changes.put(change.ingredientId(), change);
+        }
+        if (changes.size() > MAX_CHANGES) {
+            throw new IllegalArgumentException("Cannot simulate changes to more than " + MAX_CHANGES + " ingredients");
+        }
+
+        // Recipes using a changed ingredient, then every recipe built on them
+        Set<Id> affectedIds = new LinkedHashSet<>();
+        for (Id ingredientId : changes.keySet()) {
+            affectedIds.addAll(recipeRepository.findIdsByIngredientId(ingredientId));
+        }
+        List<RecipeDependency> dependencies = affectedIds.isEmpty()
+                ? List.of()
+                : recipeRepository.findDependenciesAbove(affectedIds);
+        for (RecipeDependency dependency : dependencies) {
+            affectedIds.add(dependency.recipeId());
+        }
+
+        Map<Id, Recipe> recipesById = new HashMap<>();
+        if (!affectedIds.isEmpty()) {
+            for (Recipe recipe : recipeRepository.findAllByIds(affectedIds)) {
+                recipesById.put(recipe.getId(), recipe);
+            }
+        }
+
+        Map<Id, Ingredient> currentIngredients = loadIngredientSnapshot(recipesById.values(), changes.keySet());
+        Map<Id, Ingredient> simulatedIngredients = new HashMap<>(currentIngredients);
+        for (SimulateRecipeCostsCommand.Change change : changes.values()) {
+            Ingredient ingredient = currentIngredients.get(change.ingredientId());
+            if (ingredient == null) {
+                throw IngredientNotFoundException.withId(change.ingredientId().getValue());
+            }
+            simulatedIngredients.put(ingredient.getId(), apply(change, ingredient));
+        }
+
+        Map<Id, Recipe> subRecipes = subRecipeLoaderService.loadSubRecipesOf(recipesById.values());
+        Snapshot current = new Snapshot(Map.copyOf(currentIngredients), subRecipes);
+        Snapshot simulated = new Snapshot(Map.copyOf(simulatedIngredients), subRecipes);
+
+        List<RecipeCostImpactDto> impacts = new ArrayList<>();
+        for (List<Id> level : RecipeDependencyGraph.levels(recipesById.keySet(), dependencies)) {
+            List<Priced> pricedLevel = price(level.stream().map(recipesById::get).toList(), current, simulated);
+
+            // Recipes in later levels use these totals for the recipes just priced
+            current = current.withTotals(pricedLevel, Priced::currentTotalCost);
+            simulated = simulated.withTotals(pricedLevel, Priced::simulatedTotalCost);
+
+            for (Priced priced : pricedLevel) {
+                if (!priced.currentTotalCost().equals(priced.simulatedTotalCost())) {
+                    impacts.add(priced.toImpact());
+                }
+            }
+        }
+
+        impacts.sort(Comparator.comparing((RecipeCostImpactDto impact) -> impact.delta().abs()).reversed()
+                .thenComparing(RecipeCostImpactDto::recipeName));
+        return new RecipeCostSimulationDto(recipesById.size(), impacts);
+    }
+
+    private static List<Priced> price(List<Recipe> recipes, Snapshot current, Snapshot simulated) {
+        Stream<Recipe> stream = recipes.size() >= PARALLEL_THRESHOLD
+                ? recipes.parallelStream()
+                : recipes.stream();
+        return stream
+                .map(recipe -> new Priced(recipe, current.totalCost(recipe), simulated.totalCost(recipe)))
+                .toList();
+    }
+
+    private static Ingredient apply(SimulateRecipeCostsCommand.Change change, Ingredient ingredient) {
+        double packageQuantity = change.packageQuantity() != null
+                ? change.packageQuantity()
+                : ingredient.getPackageQuantity();
+        Unit packageUnit = change.packageUnit() != null ? change.packageUnit() : ingredient.getPackageUnit();
+
+        Money packagePrice = ingredient.getPackagePrice();
+        if (change.packagePrice() != null) {
+            packagePrice = Money.of(change.packagePrice());
+        } else if (change.priceChangePercent() != null) {
+            BigDecimal factor = BigDecimal.ONE.add(BigDecimal.valueOf(change.priceChangePercent()).movePointLeft(2));
+            packagePrice = packagePrice.multiply(factor);
+        }
+
+        return new Ingredient(
+                ingredient.getId(), ingredient.getName(), packageQuantity, packagePrice, packageUnit,
+                ingredient.getVersion());
+    }
+
+    private Map<Id, Ingredient> loadIngredientSnapshot(Iterable<Recipe> recipes, Set<Id> changedIngredientIds) {
+        Set<Id> ingredientIds = new LinkedHashSet<>(changedIngredientIds);
+        for (Recipe recipe : recipes) {
+            for (RecipeIngredient recipeIngredient : recipe.getIngredients()) {
+                ingredientIds.add(recipeIngredient.getIngredientId());
+            }
+        }
+
+        Map<Id, Ingredient> ingredientMap = new HashMap<>();
+        for (Ingredient ingredient : ingredientRepository.findAllByIds(ingredientIds)) {
+            ingredientMap.put(ingredient.getId(), ingredient);
+        }
+        return ingredientMap;
+    }
+
+    /**
+     * The prices one side of the simulation is evaluated against. Both maps are only read
+     * while a level is priced.
+     */
+    private final class Snapshot {
+        private final Map<Id, Ingredient> ingredients;
+        private final Map<Id, Recipe> subRecipes;
+
+        private Snapshot(Map<Id, Ingredient> ingredients, Map<Id, Recipe> subRecipes) {
+            this.ingredients = ingredients;
+            this.subRecipes = subRecipes;
+        }
+
+        private Money totalCost(Recipe recipe) {
+            return costCalculationService.calculateTotalCost(recipe, ingredients, subRecipes);
+        }
+
+        private Snapshot withTotals(List<Priced> pricedLevel, Function<Priced, Money> total) {
+            Map<Id, Recipe> updated = new HashMap<>(subRecipes);
+            for (Priced priced : pricedLevel) {
+                Recipe recipe = priced.recipe();
+                updated.put(recipe.getId(), new Recipe(
+                        recipe.getId(), recipe.getName(), recipe.getIngredients(), recipe.getSubRecipes(),
+                        total.apply(priced), recipe.getVersion()));
+            }
+            return new Snapshot(ingredients, updated);
+        }
+    }
+
+    private record Priced(Recipe recipe, Money currentTotalCost, Money simulatedTotalCost) {
+
+        private RecipeCostImpactDto toImpact() {
+            BigDecimal current = currentTotalCost.getAmount();
+            BigDecimal delta = simulatedTotalCost.getAmount().subtract(current);
+            BigDecimal deltaPercent = current.signum() == 0
+                    ? null
+                    : delta.multiply(BigDecimal.valueOf(100)).divide(current, 2, RoundingMode.HALF_UP);
+            return new RecipeCostImpactDto(
+                    recipe.getId().getValue(), recipe.getName(), current, simulatedTotalCost.getAmount(),
+                    delta, deltaPercent);
+        }
+    }
+}
@@ -1,53 +1,82 @@
 package br.unifor.costify.recipe.application.usecase;
 
-import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.recipe.application.contracts.RecipeCostRepository;
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
 import br.unifor.costify.recipe.application.dto.command.UpdateRecipeCommand;
 import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
 import br.unifor.costify.recipe.application.errors.RecipeNotFoundException;
+import br.unifor.costify.recipe.application.service.RecipeCostPropagationService;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
 import br.unifor.costify.catalog.application.service.IngredientLoaderService;
-import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.domain.errors.RecipeCycleException;
 import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.shared.application.errors.StaleVersionException;
 import br.unifor.costify.shared.domain.valueobject.Id;
+import java.util.List;
+import java.util.OptionalLong;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class UpdateRecipeUseCase {
 
     private final RecipeRepository recipeRepository;
-    private final IngredientRepository ingredientRepository;
+    private final RecipeCostRepository recipeCostRepository;
+    private final IngredientLoaderService ingredientLoaderService;
     private final RecipeCostCalculationService costCalculationService;
+    private final SubRecipeLoaderService subRecipeLoaderService;
+    private final RecipeCostPropagationService costPropagationService;
 
     @Transactional
     public RecipeDto execute(Id recipeId, UpdateRecipeCommand command) {
+        return update(recipeId, OptionalLong.empty(), command);
+    }
+
+    /**
+     * Updates the recipe only if it is still at {@code expectedVersion}.
+     *
+     * @throws StaleVersionException if the recipe has been changed since that version
+     */
+    @Transactional
+    public RecipeDto execute(Id recipeId, long expectedVersion, UpdateRecipeCommand command) {
+        return update(recipeId, OptionalLong.of(expectedVersion), command);
+    }
+
+    private RecipeDto update(Id recipeId, OptionalLong expectedVersion, UpdateRecipeCommand command) {
         // Find existing recipe
         var recipe = recipeRepository.findById(recipeId)
                 .orElseThrow(() -> RecipeNotFoundException.withId(recipeId.getValue()));
+        if (expectedVersion.isPresent() && expectedVersion.getAsLong() != recipe.getVersion()) {
+            throw StaleVersionException.of(
+                    "Recipe", recipeId.getValue(), expectedVersion.getAsLong(), recipe.getVersion());
+        }
+
+        var previousTotalCost = recipe.getTotalCost();
 
         // Update recipe fields
         recipe.updateName(command.name());
         recipe.updateIngredients(command.ingredients());
+        recipe.updateSubRecipes(command.subRecipes());
 
-        // Load ingredients for cost calculation
-        var ingredientMap = command.ingredients().stream()
-                .map(ri -> ingredientRepository.findById(ri.getIngredientId())
-                        .orElseThrow(() -> new RuntimeException("Ingredient not found: " + ri.getIngredientId())))
-                .collect(java.util.stream.Collectors.toMap(
-                        Ingredient::getId,
-                        ingredient -> ingredient
-                ));
+        // Load ingredients and sub-recipes for cost calculation
+        var ingredientMap = ingredientLoaderService.loadIngredients(command.ingredients());
+        var subRecipeMap = subRecipeLoaderService.loadSubRecipes(command.subRecipes());
+        if (recipe.hasSubRecipes() && recipeRepository.wouldCreateCycle(recipeId, subRecipeMap.keySet())) {
+            throw RecipeCycleException.forRecipe(recipeId.getValue());
+        }
 
         // Recalculate cost
-        var recipeCost = costCalculationService.calculateCost(recipe, ingredientMap);
+        var recipeCost = costCalculationService.calculateCost(recipe, ingredientMap, subRecipeMap);
         recipe.updateTotalCost(recipeCost.getTotalCost());
 
-        // Save and return
+        // Save, then carry a new total to the recipes that use this one
         var savedRecipe = recipeRepository.save(recipe);
+        recipeCostRepository.save(recipeCost);
+        if (!savedRecipe.getTotalCost().equals(previousTotalCost)) {
+            costPropagationService.recalculateDependents(List.of(recipeId));
+        }
         return RecipeDto.from(savedRecipe);
     }
 }
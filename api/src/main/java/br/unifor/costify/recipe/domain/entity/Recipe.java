@@ -3,9 +3,11 @@ package br.unifor.costify.recipe.domain.entity;
 import br.unifor.costify.shared.domain.contracts.IdGenerator;
 import br.unifor.costify.recipe.domain.errors.EmptyRecipeException;
 import br.unifor.costify.recipe.domain.errors.InvalidTotalCostException;
+import br.unifor.costify.recipe.domain.errors.RecipeCycleException;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,10 +15,30 @@ public class Recipe {
   private Id id;
   private String name;
   private List<RecipeIngredient> ingredients;
+  private List<SubRecipe> subRecipes;
   private Money totalCost;
+  private long version;
 
 
   public Recipe(Id id, String name, List<RecipeIngredient> ingredients, Money totalCost) {
+    this(id, name, ingredients, totalCost, 0);
+  }
+
+  /**
+   * @param version the stored version of the recipe, incremented on every write; used to
+   *     detect concurrent updates
+   */
+  public Recipe(Id id, String name, List<RecipeIngredient> ingredients, Money totalCost, long version) {
+    this(id, name, ingredients, List.of(), totalCost, version);
+  }
+
+  /**
+   * @param subRecipes other recipes used as components of this one; the total cost includes
+   *     theirs
+   */
+  public Recipe(
+      Id id, String name, List<RecipeIngredient> ingredients, List<SubRecipe> subRecipes, Money totalCost,
+      long version) {
     this.validate(name, ingredients);
     if (totalCost == null) {
       throw new InvalidTotalCostException("Total cost cannot be null");
@@ -24,11 +46,19 @@ public class Recipe {
     this.id = id;
     this.name = name;
     this.ingredients = new ArrayList<>(ingredients);
+    this.subRecipes = validateSubRecipes(id, subRecipes);
     this.totalCost = totalCost;
+    this.version = version;
   }
 
 
   public Recipe(IdGenerator idGenerator, String name, List<RecipeIngredient> ingredients, Money totalCost) {
+    this(idGenerator, name, ingredients, List.of(), totalCost);
+  }
+
+  public Recipe(
+      IdGenerator idGenerator, String name, List<RecipeIngredient> ingredients, List<SubRecipe> subRecipes,
+      Money totalCost) {
     this.validate(name, ingredients);
     if (totalCost == null) {
       throw new InvalidTotalCostException("Total cost cannot be null");
@@ -36,6 +66,7 @@ public class Recipe {
     this.id = Id.generate(idGenerator);
     this.name = name;
     this.ingredients = new ArrayList<>(ingredients);
+    this.subRecipes = validateSubRecipes(this.id, subRecipes);
     this.totalCost = totalCost;
   }
 
@@ -51,10 +82,22 @@ public class Recipe {
     return new ArrayList<>(ingredients);
   }
 
+  public List<SubRecipe> getSubRecipes() {
+    return new ArrayList<>(subRecipes);
+  }
+
+  public boolean hasSubRecipes() {
+    return !subRecipes.isEmpty();
+  }
+
   public Money getTotalCost() {
     return totalCost;
   }
 
+  public long getVersion() {
+    return version;
+  }
+
 
   public void addIngredient(RecipeIngredient ingredient) {
     this.ingredients.add(ingredient);
@@ -92,6 +135,26 @@ public class Recipe {
     this.ingredients = new ArrayList<>(newIngredients);
   }
 
+  /**
+   * Replaces the sub-recipes. Only a direct self-reference can be rejected here; longer
+   * cycles depend on the other recipes and are checked when the recipe is saved.
+   */
+  public void updateSubRecipes(List<SubRecipe> newSubRecipes) {
+    this.subRecipes = validateSubRecipes(id, newSubRecipes);
+  }
+
+  private static List<SubRecipe> validateSubRecipes(Id id, List<SubRecipe> subRecipes) {
+    if (subRecipes == null) {
+      return new ArrayList<>();
+    }
+    for (SubRecipe subRecipe : subRecipes) {
+      if (subRecipe.getRecipeId().equals(id)) {
+        throw RecipeCycleException.forRecipe(id.getValue());
+      }
+    }
+    return new ArrayList<>(subRecipes);
+  }
+
   private void validate(String name, List<RecipeIngredient> ingredients) {
     if (ingredients == null || ingredients.isEmpty()) {
       throw new EmptyRecipeException("Recipe must have at least one ingredient");
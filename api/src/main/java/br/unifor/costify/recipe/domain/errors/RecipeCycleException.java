@@ -0,0 +1,26 @@
+package br.unifor.costify.recipe.domain.errors;
+
+import br.unifor.costify.shared.domain.errors.DomainErrorCode;
+import br.unifor.costify.shared.domain.errors.DomainException;
+
+/**
+ * Exception thrown when a recipe would contain itself, directly or through its sub-recipes.
+ * Sub-recipes must form a graph without cycles, otherwise no cost could be calculated.
+ */
+public class RecipeCycleException extends DomainException {
+
+    private static final String DEFAULT_MESSAGE = "Recipe cannot contain itself as a sub-recipe";
+
+    public RecipeCycleException() {
+        super(DomainErrorCode.RECIPE_CYCLE, DEFAULT_MESSAGE);
+    }
+
+    public RecipeCycleException(String message) {
+        super(DomainErrorCode.RECIPE_CYCLE, message);
+    }
+
+    public static RecipeCycleException forRecipe(String recipeId) {
+        return new RecipeCycleException(
+            String.format("Recipe '%s' cannot contain itself, directly or through its sub-recipes", recipeId));
+    }
+}
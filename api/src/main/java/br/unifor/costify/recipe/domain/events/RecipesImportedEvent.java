@@ -0,0 +1,39 @@
+package br.unifor.costify.recipe.domain.events;
+
+import br.unifor.costify.shared.domain.events.DomainEvent;
+import br.unifor.costify.shared.domain.valueobject.Id;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Domain event emitted when recipes are created in bulk by an import, bypassing the
+ * one-recipe-at-a-time save path.
+ */
+public class RecipesImportedEvent implements DomainEvent {
+  private final Map<Id, List<Id>> ingredientIdsByRecipe;
+  private final Instant occurredOn;
+
+  public RecipesImportedEvent(Map<Id, List<Id>> ingredientIdsByRecipe) {
+    this.ingredientIdsByRecipe = Map.copyOf(ingredientIdsByRecipe);
+    this.occurredOn = Instant.now();
+  }
+
+  @Override
+  public Instant getOccurredOn() {
+    return occurredOn;
+  }
+
+  @Override
+  public String getEventType() {
+    return "RecipesImported";
+  }
+
+  /**
+   * @return the IDs of the imported recipes, each with the IDs of its ingredients
+   */
+  public Map<Id, List<Id>> getIngredientIdsByRecipe() {
+    return ingredientIdsByRecipe;
+  }
+}
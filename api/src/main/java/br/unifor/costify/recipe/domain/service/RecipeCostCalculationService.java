@@ -5,8 +5,11 @@ import br.unifor.costify.recipe.domain.entity.Recipe;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.recipe.domain.valueobject.IngredientCost;
 import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.MoneyAccumulator;
 import br.unifor.costify.recipe.domain.valueobject.RecipeCost;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipeCost;
 
 import java.util.List;
 import java.util.Map;
@@ -17,11 +20,26 @@ import org.springframework.stereotype.Service;
 public class RecipeCostCalculationService {
 
     public RecipeCost calculateCost(Recipe recipe, Map<Id, Ingredient> ingredientMap) {
+        return calculateCost(recipe, ingredientMap, Map.of());
+    }
+
+    /**
+     * Calculates the cost breakdown of a recipe that may use other recipes as components.
+     * Each sub-recipe line costs its quantity times the sub-recipe's current total cost,
+     * which must already be up to date.
+     *
+     * @param subRecipeMap the recipe's sub-recipes, by ID
+     */
+    public RecipeCost calculateCost(Recipe recipe, Map<Id, Ingredient> ingredientMap, Map<Id, Recipe> subRecipeMap) {
         validateInputs(recipe, ingredientMap);
+        if (subRecipeMap == null) {
+            throw new IllegalArgumentException("Sub-recipe map cannot be null");
+        }
 
-        List<IngredientCost> ingredientCosts = new ArrayList<>();
+        List<RecipeIngredient> recipeIngredients = recipe.getIngredients();
+        List<IngredientCost> ingredientCosts = new ArrayList<>(recipeIngredients.size());
 
-        for (RecipeIngredient recipeIngredient : recipe.getIngredients()) {
+        for (RecipeIngredient recipeIngredient : recipeIngredients) {
             Ingredient ingredient = ingredientMap.get(recipeIngredient.getIngredientId());
             
             if (ingredient == null) {
@@ -33,7 +51,63 @@ public class RecipeCostCalculationService {
             ingredientCosts.add(ingredientCost);
         }
 
-        return new RecipeCost(recipe.getId(), recipe.getName(), ingredientCosts);
+        List<SubRecipe> subRecipes = recipe.getSubRecipes();
+        List<SubRecipeCost> subRecipeCosts = new ArrayList<>(subRecipes.size());
+        for (SubRecipe subRecipe : subRecipes) {
+            Recipe component = requireSubRecipe(subRecipeMap, subRecipe);
+            subRecipeCosts.add(SubRecipeCost.of(
+                component.getId(), component.getName(), subRecipe.getQuantity(), component.getTotalCost()));
+        }
+
+        return new RecipeCost(recipe.getId(), recipe.getName(), ingredientCosts, subRecipeCosts);
+    }
+
+    /**
+     * Calculates only the recipe total, without building the per-ingredient breakdown.
+     * Line costs are summed as unrounded micro-cents and rounded once at the end,
+     * which keeps bulk recalculation free of intermediate Money allocations.
+     */
+    public Money calculateTotalCost(Recipe recipe, Map<Id, Ingredient> ingredientMap) {
+        return calculateTotalCost(recipe, ingredientMap, Map.of());
+    }
+
+    /**
+     * Same as {@link #calculateTotalCost(Recipe, Map)} for a recipe that may use other recipes
+     * as components, priced at the totals in {@code subRecipeMap}.
+     */
+    public Money calculateTotalCost(Recipe recipe, Map<Id, Ingredient> ingredientMap, Map<Id, Recipe> subRecipeMap) {
+        validateInputs(recipe, ingredientMap);
+        if (subRecipeMap == null) {
+            throw new IllegalArgumentException("Sub-recipe map cannot be null");
+        }
+
+        MoneyAccumulator total = new MoneyAccumulator();
+
+        for (RecipeIngredient recipeIngredient : recipe.getIngredients()) {
+            Ingredient ingredient = ingredientMap.get(recipeIngredient.getIngredientId());
+
+            if (ingredient == null) {
+                throw new IllegalArgumentException(
+                    "Ingredient not found with ID: " + recipeIngredient.getIngredientId());
+            }
+
+            total.add(calculateIngredientCostMicroCents(ingredient, recipeIngredient));
+        }
+
+        for (SubRecipe subRecipe : recipe.getSubRecipes()) {
+            Recipe component = requireSubRecipe(subRecipeMap, subRecipe);
+            total.add(SubRecipeCost.costMicroCents(subRecipe.getQuantity(), component.getTotalCost()));
+        }
+
+        return total.toMoney();
+    }
+
+    private static Recipe requireSubRecipe(Map<Id, Recipe> subRecipeMap, SubRecipe subRecipe) {
+        Recipe component = subRecipeMap.get(subRecipe.getRecipeId());
+        if (component == null) {
+            throw new IllegalArgumentException("Sub-recipe not found with ID: " + subRecipe.getRecipeId());
+        }
+        return component;
     }
 
     private void validateInputs(Recipe recipe, Map<Id, Ingredient> ingredientMap) {
@@ -46,22 +120,24 @@ public class RecipeCostCalculationService {
     }
 
     private IngredientCost calculateIngredientCost(Ingredient ingredient, RecipeIngredient recipeIngredient) {
-        // Use existing getUnitCost() method which already handles unit conversion properly
-        double unitCost = ingredient.getUnitCost();
-        
-        // Convert recipe quantity to base units for calculation
-        double recipeQuantityInBaseUnits = recipeIngredient.getUnit().toBase(recipeIngredient.getQuantity());
-        
-        // Calculate total cost for the recipe quantity
-        Money totalCost = Money.of(unitCost * recipeQuantityInBaseUnits);
-
         return new IngredientCost(
             ingredient.getId(),
             ingredient.getName(),
             recipeIngredient.getQuantity(), // Keep original quantity
             recipeIngredient.getUnit(),     // Keep original unit
-            totalCost
+            calculateIngredientCostMicroCents(ingredient, recipeIngredient)
         );
     }
 
+    private long calculateIngredientCostMicroCents(Ingredient ingredient, RecipeIngredient recipeIngredient) {
+        // Use existing getUnitCost() method which already handles unit conversion properly
+        double unitCost = ingredient.getUnitCost();
+
+        // Convert recipe quantity to base units for calculation
+        double recipeQuantityInBaseUnits = recipeIngredient.getUnit().toBase(recipeIngredient.getQuantity());
+
+        // Keep the line cost unrounded; it is rounded to 2 decimals only at the API boundary
+        return MoneyAccumulator.toMicroCents(unitCost * recipeQuantityInBaseUnits);
+    }
+
 }
\ No newline at end of file
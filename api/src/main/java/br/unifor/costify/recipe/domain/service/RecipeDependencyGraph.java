@@ -0,0 +1,103 @@
+package br.unifor.costify.recipe.domain.service;
+
+import br.unifor.costify.recipe.domain.errors.RecipeCycleException;
+import br.unifor.costify.recipe.domain.valueobject.RecipeDependency;
+import br.unifor.costify.shared.domain.valueobject.Id;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Ordering of recipes along the sub-recipe graph.
+ */
+public final class RecipeDependencyGraph {
+
+    private RecipeDependencyGraph() {
+    }
+
+    /**
+     * Orders recipes so that every recipe comes after all of its sub-recipes, which is the
+     * order in which their costs can be recalculated, each exactly once. Dependencies with an
+     * end outside {@code recipeIds} do not constrain the order; recipes that do not depend on
+     * each other are ordered deterministically, starting from the order of {@code recipeIds}.
+     *
+     * @throws RecipeCycleException if the dependencies among the recipes contain a cycle
+     */
+    public static List<Id> topologicalOrder(Collection<Id> recipeIds, Collection<RecipeDependency> dependencies) {
+        Set<Id> nodes = new LinkedHashSet<>(recipeIds);
+        Map<Id, Integer> pendingSubRecipes = new HashMap<>();
+        Map<Id, List<Id>> dependents = new HashMap<>();
+        for (RecipeDependency dependency : dependencies) {
+            if (!nodes.contains(dependency.recipeId()) || !nodes.contains(dependency.subRecipeId())) {
+                continue;
+            }
+            pendingSubRecipes.merge(dependency.recipeId(), 1, Integer::sum);
+            dependents.computeIfAbsent(dependency.subRecipeId(), id -> new ArrayList<>()).add(dependency.recipeId());
+        }
+
+        // Kahn's algorithm: a recipe is ready once all of its sub-recipes have been emitted
+        Deque<Id> ready = new ArrayDeque<>();
+        for (Id id : nodes) {
+            if (!pendingSubRecipes.containsKey(id)) {
+                ready.add(id);
+            }
+        }
+
+        List<Id> order = new ArrayList<>(nodes.size());
+        while (!ready.isEmpty()) {
+            Id id = ready.poll();
+            order.add(id);
+            for (Id dependent : dependents.getOrDefault(id, List.of())) {
+                if (pendingSubRecipes.merge(dependent, -1, Integer::sum) == 0) {
+                    pendingSubRecipes.remove(dependent);
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (order.size() < nodes.size()) {
+            Id stuck = pendingSubRecipes.keySet().iterator().next();
+            throw RecipeCycleException.forRecipe(stuck.getValue());
+        }
+        return order;
+    }
+
+    /**
+     * Groups recipes into levels: every recipe is in a later level than all of its
+     * sub-recipes among {@code recipeIds}, so the recipes within one level do not depend on
+     * each other and can be priced in parallel once the previous levels are done.
+     *
+     * @throws RecipeCycleException if the dependencies among the recipes contain a cycle
+     */
+    public static List<List<Id>> levels(Collection<Id> recipeIds, Collection<RecipeDependency> dependencies) {
+        Set<Id> nodes = new LinkedHashSet<>(recipeIds);
+        Map<Id, List<Id>> subRecipes = new HashMap<>();
+        for (RecipeDependency dependency : dependencies) {
+            if (nodes.contains(dependency.recipeId()) && nodes.contains(dependency.subRecipeId())) {
+                subRecipes.computeIfAbsent(dependency.recipeId(), id -> new ArrayList<>()).add(dependency.subRecipeId());
+            }
+        }
+
+        Map<Id, Integer> levelOf = new HashMap<>();
+        List<List<Id>> levels = new ArrayList<>();
+        for (Id id : topologicalOrder(nodes, dependencies)) {
+            int level = 0;
+            for (Id subRecipeId : subRecipes.getOrDefault(id, List.of())) {
+                level = Math.max(level, levelOf.get(subRecipeId) + 1);
+            }
+            levelOf.put(id, level);
+            if (level == levels.size()) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level).add(id);
+        }
+        return levels;
+    }
+}
@@ -11,9 +11,17 @@ public final class IngredientCost {
     private final String ingredientName;
     private final double quantityUsed;
     private final Unit unit;
-    private final Money cost;
+    private final long costMicroCents;
 
     public IngredientCost(Id ingredientId, String ingredientName, double quantityUsed, Unit unit, Money cost) {
+        this(ingredientId, ingredientName, quantityUsed, unit, requireCost(cost).toMicroCents());
+    }
+
+    /**
+     * Creates an ingredient cost from an unrounded fixed-point amount.
+     * The cost is only rounded to 2 decimals when read through {@link #getCost()}.
+     */
+    public IngredientCost(Id ingredientId, String ingredientName, double quantityUsed, Unit unit, long costMicroCents) {
         if (ingredientId == null) {
             throw new IllegalArgumentException("Ingredient ID cannot be null");
         }
@@ -26,15 +34,22 @@ public final class IngredientCost {
         if (unit == null) {
             throw new IllegalArgumentException("Unit cannot be null");
         }
-        if (cost == null) {
-            throw new IllegalArgumentException("Cost cannot be null");
+        if (costMicroCents < 0) {
+            throw new IllegalArgumentException("Cost cannot be negative");
         }
 
         this.ingredientId = ingredientId;
         this.ingredientName = ingredientName;
         this.quantityUsed = quantityUsed;
         this.unit = unit;
-        this.cost = cost;
+        this.costMicroCents = costMicroCents;
+    }
+
+    private static Money requireCost(Money cost) {
+        if (cost == null) {
+            throw new IllegalArgumentException("Cost cannot be null");
+        }
+        return cost;
     }
 
     public Id getIngredientId() {
@@ -54,7 +69,11 @@ public final class IngredientCost {
     }
 
     public Money getCost() {
-        return cost;
+        return Money.ofMicroCents(costMicroCents);
+    }
+
+    public long getCostMicroCents() {
+        return costMicroCents;
     }
 
     @Override
@@ -65,18 +84,18 @@ public final class IngredientCost {
         return Double.compare(quantityUsed, that.quantityUsed) == 0 &&
                 Objects.equals(ingredientId, that.ingredientId) &&
                 Objects.equals(ingredientName, that.ingredientName) &&
-                Objects.equals(cost, that.cost) &&
+                costMicroCents == that.costMicroCents &&
                 unit == that.unit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(ingredientId, ingredientName, quantityUsed, unit, cost);
+        return Objects.hash(ingredientId, ingredientName, quantityUsed, unit, costMicroCents);
     }
 
     @Override
     public String toString() {
         return String.format("IngredientCost{ingredientId=%s, ingredientName='%s', quantityUsed=%.2f %s, cost=%s}", 
-                ingredientId, ingredientName, quantityUsed, unit, cost);
+                ingredientId, ingredientName, quantityUsed, unit, getCost());
     }
 }
\ No newline at end of file
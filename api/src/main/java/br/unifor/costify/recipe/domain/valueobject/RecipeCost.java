@@ -2,7 +2,7 @@ package br.unifor.costify.recipe.domain.valueobject;
 
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Money;
-import br.unifor.costify.shared.domain.valueobject.Unit;
+import br.unifor.costify.shared.domain.valueobject.MoneyAccumulator;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -13,9 +13,15 @@ public final class RecipeCost {
     private final Id recipeId;
     private final String recipeName;
     private final List<IngredientCost> ingredientCosts;
-    private final Money totalCost;
+    private final List<SubRecipeCost> subRecipeCosts;
+    private final long totalCostMicroCents;
 
     public RecipeCost(Id recipeId, String recipeName, List<IngredientCost> ingredientCosts) {
+        this(recipeId, recipeName, ingredientCosts, List.of());
+    }
+
+    public RecipeCost(
+            Id recipeId, String recipeName, List<IngredientCost> ingredientCosts, List<SubRecipeCost> subRecipeCosts) {
         if (recipeId == null) {
             throw new IllegalArgumentException("Recipe ID cannot be null");
         }
@@ -28,13 +34,23 @@ public final class RecipeCost {
         if (ingredientCosts.isEmpty()) {
             throw new IllegalArgumentException("Recipe must have at least one ingredient cost");
         }
+        if (subRecipeCosts == null) {
+            throw new IllegalArgumentException("Sub-recipe costs cannot be null");
+        }
 
         this.recipeId = recipeId;
         this.recipeName = recipeName;
         this.ingredientCosts = new ArrayList<>(ingredientCosts);
-        this.totalCost = ingredientCosts.stream()
-                .map(IngredientCost::getCost)
-                .reduce(Money.zero(), Money::add);
+        this.subRecipeCosts = new ArrayList<>(subRecipeCosts);
+        // Sum unrounded line costs; rounding happens once, in getTotalCost()
+        MoneyAccumulator total = new MoneyAccumulator();
+        for (IngredientCost ingredientCost : this.ingredientCosts) {
+            total.add(ingredientCost.getCostMicroCents());
+        }
+        for (SubRecipeCost subRecipeCost : this.subRecipeCosts) {
+            total.add(subRecipeCost.getCostMicroCents());
+        }
+        this.totalCostMicroCents = total.getMicroCents();
     }
 
     public Id getRecipeId() {
@@ -49,8 +65,16 @@ public final class RecipeCost {
         return Collections.unmodifiableList(ingredientCosts);
     }
 
+    public List<SubRecipeCost> getSubRecipeCosts() {
+        return Collections.unmodifiableList(subRecipeCosts);
+    }
+
     public Money getTotalCost() {
-        return totalCost;
+        return Money.ofMicroCents(totalCostMicroCents);
+    }
+
+    public long getTotalCostMicroCents() {
+        return totalCostMicroCents;
     }
 
     @Override
@@ -58,20 +82,21 @@ public final class RecipeCost {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         RecipeCost that = (RecipeCost) o;
-        return Objects.equals(totalCost, that.totalCost) &&
+        return totalCostMicroCents == that.totalCostMicroCents &&
                 Objects.equals(recipeId, that.recipeId) &&
                 Objects.equals(recipeName, that.recipeName) &&
-                Objects.equals(ingredientCosts, that.ingredientCosts);
+                Objects.equals(ingredientCosts, that.ingredientCosts) &&
+                Objects.equals(subRecipeCosts, that.subRecipeCosts);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(recipeId, recipeName, ingredientCosts, totalCost);
+        return Objects.hash(recipeId, recipeName, ingredientCosts, subRecipeCosts, totalCostMicroCents);
     }
 
     @Override
     public String toString() {
         return String.format("RecipeCost{recipeId=%s, recipeName='%s', totalCost=%s, ingredientCount=%d}", 
-                recipeId, recipeName, totalCost, ingredientCosts.size());
+                recipeId, recipeName, getTotalCost(), ingredientCosts.size());
     }
 }
\ No newline at end of file
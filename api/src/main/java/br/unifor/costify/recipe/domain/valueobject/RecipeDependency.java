@@ -0,0 +1,8 @@
+package br.unifor.costify.recipe.domain.valueobject;
+
+import br.unifor.costify.shared.domain.valueobject.Id;
+
+/**
+ * An edge of the sub-recipe graph: the recipe {@code recipeId} uses {@code subRecipeId}.
+ */
+public record RecipeDependency(Id recipeId, Id subRecipeId) {}
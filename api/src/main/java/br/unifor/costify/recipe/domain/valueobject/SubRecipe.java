@@ -0,0 +1,45 @@
+package br.unifor.costify.recipe.domain.valueobject;
+
+import br.unifor.costify.shared.domain.valueobject.Id;
+
+import br.unifor.costify.recipe.domain.errors.InvalidQuantityException;
+import java.util.Objects;
+
+/**
+ * Another recipe used as a component of a recipe. The quantity is a number of batches of
+ * the sub-recipe, so the line costs {@code quantity} times the sub-recipe's total cost.
+ */
+public final class SubRecipe {
+  private final Id recipeId;
+  private final double quantity;
+
+  public SubRecipe(Id recipeId, double quantity) {
+    if (quantity <= 0) {
+      throw new InvalidQuantityException("Sub-recipe quantity must be greater than zero");
+    }
+
+    this.recipeId = recipeId;
+    this.quantity = quantity;
+  }
+
+  public Id getRecipeId() {
+    return recipeId;
+  }
+
+  public double getQuantity() {
+    return quantity;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    SubRecipe that = (SubRecipe) o;
+    return Double.compare(quantity, that.quantity) == 0 && Objects.equals(recipeId, that.recipeId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(recipeId, quantity);
+  }
+}
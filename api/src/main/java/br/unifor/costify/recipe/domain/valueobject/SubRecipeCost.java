@@ -0,0 +1,92 @@
+package br.unifor.costify.recipe.domain.valueobject;
+
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+
+import java.util.Objects;
+
+/**
+ * Cost of a sub-recipe line: {@code quantity} batches of another recipe at its total cost.
+ */
+public final class SubRecipeCost {
+    private final Id subRecipeId;
+    private final String subRecipeName;
+    private final double quantityUsed;
+    private final long costMicroCents;
+
+    public SubRecipeCost(Id subRecipeId, String subRecipeName, double quantityUsed, long costMicroCents) {
+        if (subRecipeId == null) {
+            throw new IllegalArgumentException("Sub-recipe ID cannot be null");
+        }
+        if (subRecipeName == null || subRecipeName.isBlank()) {
+            throw new IllegalArgumentException("Sub-recipe name cannot be null or empty");
+        }
+        if (quantityUsed <= 0) {
+            throw new IllegalArgumentException("Quantity used must be greater than zero");
+        }
+        if (costMicroCents < 0) {
+            throw new IllegalArgumentException("Cost cannot be negative");
+        }
+
+        this.subRecipeId = subRecipeId;
+        this.subRecipeName = subRecipeName;
+        this.quantityUsed = quantityUsed;
+        this.costMicroCents = costMicroCents;
+    }
+
+    /**
+     * Prices {@code quantityUsed} batches of a sub-recipe whose total is {@code subRecipeTotal}.
+     */
+    public static SubRecipeCost of(Id subRecipeId, String subRecipeName, double quantityUsed, Money subRecipeTotal) {
+        return new SubRecipeCost(subRecipeId, subRecipeName, quantityUsed, costMicroCents(quantityUsed, subRecipeTotal));
+    }
+
+    /**
+     * Unrounded cost of {@code quantityUsed} batches of a sub-recipe, in micro-cents.
+     */
+    public static long costMicroCents(double quantityUsed, Money subRecipeTotal) {
+        return Math.round(quantityUsed * subRecipeTotal.toMicroCents());
+    }
+
+    public Id getSubRecipeId() {
+        return subRecipeId;
+    }
+
+    public String getSubRecipeName() {
+        return subRecipeName;
+    }
+
+    public double getQuantityUsed() {
+        return quantityUsed;
+    }
+
+    public Money getCost() {
+        return Money.ofMicroCents(costMicroCents);
+    }
+
+    public long getCostMicroCents() {
+        return costMicroCents;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SubRecipeCost that = (SubRecipeCost) o;
+        return Double.compare(quantityUsed, that.quantityUsed) == 0 &&
+                Objects.equals(subRecipeId, that.subRecipeId) &&
+                Objects.equals(subRecipeName, that.subRecipeName) &&
+                costMicroCents == that.costMicroCents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(subRecipeId, subRecipeName, quantityUsed, costMicroCents);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SubRecipeCost{subRecipeId=%s, subRecipeName='%s', quantityUsed=%.3f, cost=%s}",
+                subRecipeId, subRecipeName, quantityUsed, getCost());
+    }
+}
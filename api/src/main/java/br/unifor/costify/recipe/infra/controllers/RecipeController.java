@@ -1,53 +1,249 @@
 package br.unifor.costify.recipe.infra.controllers;
 
 import br.unifor.costify.recipe.application.dto.command.RegisterRecipeCommand;
+import br.unifor.costify.recipe.application.dto.command.SimulateRecipeCostsCommand;
 import br.unifor.costify.recipe.application.dto.command.UpdateRecipeCommand;
 import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
+import br.unifor.costify.recipe.application.dto.query.RecipeSort;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostBatchDto;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostDto;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostSimulationDto;
+import br.unifor.costify.recipe.application.usecase.CalculateRecipeCostAsOfUseCase;
+import br.unifor.costify.recipe.application.usecase.CalculateRecipeCostUseCase;
+import br.unifor.costify.recipe.application.usecase.CalculateRecipeCostsBatchUseCase;
+import br.unifor.costify.recipe.application.usecase.ExportRecipesUseCase;
 import br.unifor.costify.recipe.application.usecase.GetRecipeByIdUseCase;
+import br.unifor.costify.recipe.application.usecase.ImportRecipesUseCase;
 import br.unifor.costify.recipe.application.usecase.ListRecipesUseCase;
 import br.unifor.costify.recipe.application.usecase.RegisterRecipeUseCase;
+import br.unifor.costify.recipe.application.usecase.SimulateRecipeCostsUseCase;
 import br.unifor.costify.recipe.application.usecase.UpdateRecipeUseCase;
+import br.unifor.costify.shared.application.imports.ImportReport;
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import br.unifor.costify.shared.application.pagination.SortDirection;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
 import br.unifor.costify.recipe.infra.controllers.dto.RecipeControllerRegisterRequest;
+import br.unifor.costify.recipe.infra.controllers.dto.RecipeCostBatchRequest;
+import br.unifor.costify.recipe.infra.controllers.dto.RecipeCostSimulationRequest;
 import br.unifor.costify.recipe.infra.controllers.dto.RecipeControllerRegisterIngredientDto;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
+import br.unifor.costify.shared.infra.web.ConditionalRequests;
+import br.unifor.costify.shared.infra.web.VersionETags;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 @RestController
 @RequestMapping("/recipes")
 public class RecipeController {
+  private static final String NDJSON = "application/x-ndjson";
+
   private final RegisterRecipeUseCase registerRecipeUseCase;
   private final ListRecipesUseCase listRecipesUseCase;
   private final GetRecipeByIdUseCase getRecipeByIdUseCase;
   private final UpdateRecipeUseCase updateRecipeUseCase;
+  private final ExportRecipesUseCase exportRecipesUseCase;
+  private final CalculateRecipeCostUseCase calculateRecipeCostUseCase;
+  private final CalculateRecipeCostAsOfUseCase calculateRecipeCostAsOfUseCase;
+  private final CalculateRecipeCostsBatchUseCase calculateRecipeCostsBatchUseCase;
+  private final SimulateRecipeCostsUseCase simulateRecipeCostsUseCase;
+  private final ImportRecipesUseCase importRecipesUseCase;
+  private final ObjectMapper objectMapper;
+  private final Duration exportTimeout;
 
   public RecipeController(
       RegisterRecipeUseCase registerRecipeUseCase,
       ListRecipesUseCase listRecipesUseCase,
       GetRecipeByIdUseCase getRecipeByIdUseCase,
-      UpdateRecipeUseCase updateRecipeUseCase) {
+      UpdateRecipeUseCase updateRecipeUseCase,
+      ExportRecipesUseCase exportRecipesUseCase,
+      CalculateRecipeCostUseCase calculateRecipeCostUseCase,
+      CalculateRecipeCostAsOfUseCase calculateRecipeCostAsOfUseCase,
+      CalculateRecipeCostsBatchUseCase calculateRecipeCostsBatchUseCase,
+      SimulateRecipeCostsUseCase simulateRecipeCostsUseCase,
+      ImportRecipesUseCase importRecipesUseCase,
+      ObjectMapper objectMapper,
+      @Value("${costify.recipe.export.timeout:30m}") Duration exportTimeout) {
     this.registerRecipeUseCase = registerRecipeUseCase;
     this.listRecipesUseCase = listRecipesUseCase;
     this.getRecipeByIdUseCase = getRecipeByIdUseCase;
     this.updateRecipeUseCase = updateRecipeUseCase;
+    this.exportRecipesUseCase = exportRecipesUseCase;
+    this.calculateRecipeCostUseCase = calculateRecipeCostUseCase;
+    this.calculateRecipeCostAsOfUseCase = calculateRecipeCostAsOfUseCase;
+    this.calculateRecipeCostsBatchUseCase = calculateRecipeCostsBatchUseCase;
+    this.simulateRecipeCostsUseCase = simulateRecipeCostsUseCase;
+    this.importRecipesUseCase = importRecipesUseCase;
+    this.objectMapper = objectMapper;
+    this.exportTimeout = exportTimeout;
   }
 
+  /**
+   * The ETag summarizes every recipe; send it back in {@code If-None-Match} to get an empty
+   * 304 while nothing has changed.
+   */
   @GetMapping
-  public List<RecipeDto> listRecipes() {
-    return listRecipesUseCase.execute();
+  public ResponseEntity<List<RecipeDto>> listRecipes(@RequestHeader HttpHeaders headers) {
+    String etag = VersionETags.of(listRecipesUseCase.findCollectionVersion());
+    if (ConditionalRequests.isNotModified(headers, etag, null)) {
+      return ConditionalRequests.notModified(etag);
+    }
+    return ResponseEntity.ok().eTag(etag).body(listRecipesUseCase.execute());
+  }
+
+  /**
+   * Keyset-paginated listing, selected by passing {@code limit}. Follow {@code nextCursor}
+   * from each page (with the same sort and direction) to get the next one. Pages carry the
+   * same ETag as the full listing.
+   */
+  @GetMapping(params = "limit")
+  public ResponseEntity<CursorPage<RecipeDto>> listRecipesPage(
+      @RequestParam int limit,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "NAME") RecipeSort sort,
+      @RequestParam(defaultValue = "ASC") SortDirection direction,
+      @RequestHeader HttpHeaders headers) {
+    PageRequest<RecipeSort> request = PageRequest.of(sort, direction, cursor, limit);
+    String etag = VersionETags.of(listRecipesUseCase.findCollectionVersion());
+    if (ConditionalRequests.isNotModified(headers, etag, null)) {
+      return ConditionalRequests.notModified(etag);
+    }
+    return ResponseEntity.ok().eTag(etag).body(listRecipesUseCase.execute(request));
+  }
+
+  /**
+   * Streams every recipe as newline-delimited JSON, one {@link RecipeDto} per line,
+   * writing each recipe as soon as it is read from the database. A large export can outlive the
+   * container's default async timeout, so this request alone gets {@code costify.recipe.export.timeout}.
+   */
+  @GetMapping(value = "/export", produces = NDJSON)
+  public ResponseEntity<StreamingResponseBody> exportRecipes(HttpServletRequest request) {
+    WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportTimeout.toMillis());
+    ObjectWriter recipeWriter = objectMapper.writerFor(RecipeDto.class);
+    StreamingResponseBody body = outputStream -> {
+      OutputStream out = new BufferedOutputStream(outputStream);
+      try {
+        exportRecipesUseCase.execute(recipe -> writeLine(out, recipeWriter, recipe));
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      out.flush();
+    };
+
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(NDJSON))
+        .header("Content-Disposition", "attachment; filename=\"recipes.ndjson\"")
+        .body(body);
   }
 
+  private static void writeLine(OutputStream out, ObjectWriter recipeWriter, RecipeDto recipe) {
+    try {
+      out.write(recipeWriter.writeValueAsBytes(recipe));
+      out.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * The ETag is the recipe's version; send it back in {@code If-Match} to update the recipe, or in
+   * {@code If-None-Match} to get an empty 304 while it is unchanged. {@code If-Modified-Since}
+   * is answered from {@code Last-Modified}. Either check costs a single primary key lookup.
+   */
   @GetMapping("/{id}")
-  public RecipeDto getRecipeById(@PathVariable String id) {
-    return getRecipeByIdUseCase.execute(id);
+  public ResponseEntity<RecipeDto> getRecipeById(@PathVariable String id, @RequestHeader HttpHeaders headers) {
+    Optional<ResourceVersion> current = getRecipeByIdUseCase.findVersion(id);
+    if (current.isPresent() && ConditionalRequests.isNotModified(headers, current.get())) {
+      return ConditionalRequests.notModified(current.get());
+    }
+    RecipeDto recipe = getRecipeByIdUseCase.execute(id);
+    return ConditionalRequests.ok(recipe, recipe.version(), current);
+  }
+
+  /**
+   * Per-ingredient cost breakdown of the recipe, read from the stored cost lines.
+   */
+  @GetMapping("/{id}/cost")
+  public RecipeCostDto getRecipeCost(@PathVariable String id) {
+    return calculateRecipeCostUseCase.execute(id);
+  }
+
+  /**
+   * Cost breakdown of the recipe's current composition at the ingredient prices in effect at
+   * {@code at}, an ISO-8601 instant such as {@code 2025-01-31T23:59:59Z}.
+   */
+  @GetMapping(value = "/{id}/cost", params = "at")
+  public RecipeCostDto getRecipeCostAsOf(
+      @PathVariable String id,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+    return calculateRecipeCostAsOfUseCase.execute(id, at);
+  }
+
+  /**
+   * Cost breakdowns of many recipes, all priced from one snapshot of their ingredients.
+   * Unknown IDs are reported in {@code missingRecipeIds} instead of failing the batch.
+   */
+  @PostMapping("/costs:batch")
+  public RecipeCostBatchDto calculateRecipeCosts(@RequestBody @Valid RecipeCostBatchRequest request) {
+    return calculateRecipeCostsBatchUseCase.execute(request.recipeIds());
+  }
+
+  /**
+   * What-if pricing: how the totals of the recipes would change if the given ingredients
+   * had other prices or packages. Nothing is written, and the largest changes come first.
+   */
+  @PostMapping("/costs:simulate")
+  public RecipeCostSimulationDto simulateRecipeCosts(@RequestBody @Valid RecipeCostSimulationRequest request) {
+    List<SimulateRecipeCostsCommand.Change> changes = request.changes().stream()
+        .map(change -> new SimulateRecipeCostsCommand.Change(
+            Id.of(change.ingredientId()),
+            change.packageQuantity(),
+            change.packagePrice(),
+            change.priceChangePercent(),
+            change.packageUnit()))
+        .toList();
+    return simulateRecipeCostsUseCase.execute(new SimulateRecipeCostsCommand(changes));
+  }
+
+  /**
+   * Imports recipes from a UTF-8 CSV body with a header row and one row per recipe line,
+   * with the columns {@code recipe_name,ingredient_name,quantity,unit}. Ingredients are
+   * referenced by name. A recipe is created, with its cost, only if all its rows are valid;
+   * invalid rows are listed in the report by row number.
+   */
+  @PostMapping(path = "/import", consumes = "text/csv")
+  public ImportReport importRecipes(InputStream csv) {
+    return importRecipesUseCase.execute(csv);
   }
 
   @PostMapping
@@ -60,14 +256,21 @@ public class RecipeController {
         .toList();
 
     RegisterRecipeCommand command =
-        new RegisterRecipeCommand(request.name(), ingredients);
+        new RegisterRecipeCommand(request.name(), ingredients, toSubRecipes(request));
     return registerRecipeUseCase.execute(command);
   }
 
+  /**
+   * Requires {@code If-Match} with the ETag of the version being replaced; see {@link VersionETags}.
+   * The header is bound as optional only so a missing one is answered with 428 rather than 400.
+   */
   @PutMapping("/{id}")
-  public RecipeDto updateRecipe(
+  public ResponseEntity<RecipeDto> updateRecipe(
       @PathVariable String id,
+      @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
       @RequestBody @Valid RecipeControllerRegisterRequest request) {
+    OptionalLong expectedVersion = VersionETags.expectedVersion(ifMatch);
+
     List<RecipeIngredient> ingredients = request.ingredients().stream()
         .map(dto -> new RecipeIngredient(
             Id.of(dto.ingredientId()),
@@ -76,7 +279,19 @@ public class RecipeController {
         .toList();
 
     UpdateRecipeCommand command =
-        new UpdateRecipeCommand(request.name(), ingredients);
-    return updateRecipeUseCase.execute(Id.of(id), command);
+        new UpdateRecipeCommand(request.name(), ingredients, toSubRecipes(request));
+    RecipeDto updatedRecipe = expectedVersion.isPresent()
+        ? updateRecipeUseCase.execute(Id.of(id), expectedVersion.getAsLong(), command)
+        : updateRecipeUseCase.execute(Id.of(id), command);
+    return ResponseEntity.ok().eTag(VersionETags.of(updatedRecipe.version())).body(updatedRecipe);
+  }
+
+  private static List<SubRecipe> toSubRecipes(RecipeControllerRegisterRequest request) {
+    if (request.subRecipes() == null) {
+      return List.of();
+    }
+    return request.subRecipes().stream()
+        .map(dto -> new SubRecipe(Id.of(dto.recipeId()), dto.quantity()))
+        .toList();
   }
-}
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ import java.util.List;
 
 /**
  * Request DTO for recipe registration with comprehensive validation.
+ * Sub-recipes are optional.
  */
 public record RecipeControllerRegisterRequest(
     @NotBlank(message = "Recipe name is required and cannot be blank")
@@ -17,4 +18,13 @@ public record RecipeControllerRegisterRequest(
     @NotEmpty(message = "Recipe must have at least one ingredient")
     @Size(max = 50, message = "Recipe cannot have more than 50 ingredients")
     @Valid
-    List<RecipeControllerRegisterIngredientDto> ingredients) {}
\ No newline at end of file
+    List<RecipeControllerRegisterIngredientDto> ingredients,
+
+    @Size(max = 50, message = "Recipe cannot have more than 50 sub-recipes")
+    @Valid
+    List<RecipeControllerSubRecipeDto> subRecipes) {
+
+  public RecipeControllerRegisterRequest(String name, List<RecipeControllerRegisterIngredientDto> ingredients) {
+    this(name, ingredients, null);
+  }
+}
@@ -0,0 +1,20 @@
+package br.unifor.costify.recipe.infra.controllers.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * DTO representing another recipe used as a component within a recipe request.
+ * The quantity is a number of batches of that recipe.
+ */
+public record RecipeControllerSubRecipeDto(
+    @NotBlank(message = "Sub-recipe ID is required and cannot be blank")
+    @Pattern(
+        regexp = "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$",
+        message = "Sub-recipe ID must be a valid UUID format"
+    )
+    String recipeId,
+
+    @DecimalMin(value = "0.001", message = "Sub-recipe quantity must be greater than 0")
+    double quantity) {}
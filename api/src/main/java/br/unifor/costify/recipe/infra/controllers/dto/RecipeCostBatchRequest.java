@@ -0,0 +1,17 @@
+package br.unifor.costify.recipe.infra.controllers.dto;
+
+import br.unifor.costify.recipe.application.usecase.CalculateRecipeCostsBatchUseCase;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request DTO for calculating the costs of several recipes at once.
+ */
+public record RecipeCostBatchRequest(
+    @NotEmpty(message = "At least one recipe ID is required")
+    @Size(
+        max = CalculateRecipeCostsBatchUseCase.MAX_BATCH_SIZE,
+        message = "Cannot calculate more than " + CalculateRecipeCostsBatchUseCase.MAX_BATCH_SIZE + " recipes at once")
+    List<@NotBlank(message = "Recipe ID cannot be blank") String> recipeIds) {}
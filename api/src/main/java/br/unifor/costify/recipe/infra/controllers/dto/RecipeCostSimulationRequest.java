@@ -0,0 +1,46 @@
+package br.unifor.costify.recipe.infra.controllers.dto;
+
+import br.unifor.costify.recipe.application.usecase.SimulateRecipeCostsUseCase;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Request DTO for simulating hypothetical ingredient changes. Fields left out of a change
+ * keep their current value; a new price is given either as {@code packagePrice} or as
+ * {@code priceChangePercent} (e.g. 12 for +12%, -5 for -5%).
+ */
+public record RecipeCostSimulationRequest(
+    @NotEmpty(message = "At least one ingredient change is required")
+    @Size(
+        max = SimulateRecipeCostsUseCase.MAX_CHANGES,
+        message = "Cannot simulate changes to more than " + SimulateRecipeCostsUseCase.MAX_CHANGES + " ingredients")
+    List<@Valid @NotNull(message = "Ingredient change cannot be null") Change> changes) {
+
+  public record Change(
+      @NotBlank(message = "Ingredient ID cannot be blank")
+      String ingredientId,
+
+      @DecimalMin(value = "0.01", message = "Package quantity must be greater than 0")
+      Double packageQuantity,
+
+      @DecimalMin(value = "0.01", message = "Package price must be greater than 0")
+      Double packagePrice,
+
+      @DecimalMin(value = "-100", message = "Price change cannot be below -100%")
+      Double priceChangePercent,
+
+      Unit packageUnit) {
+
+    @AssertTrue(message = "Give either a package price or a price change percent, not both")
+    public boolean isPriceChangeUnambiguous() {
+      return packagePrice == null || priceChangePercent == null;
+    }
+  }
+}
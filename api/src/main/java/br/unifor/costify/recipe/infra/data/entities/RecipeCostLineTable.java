@@ -0,0 +1,94 @@
+package br.unifor.costify.recipe.infra.data.entities;
+
+import br.unifor.costify.recipe.domain.valueobject.IngredientCost;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import br.unifor.costify.shared.infra.data.Quantities;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity
+@Table(name = "recipe_cost_lines")
+@IdClass(RecipeCostLineTable.Key.class)
+public class RecipeCostLineTable {
+  @jakarta.persistence.Id
+  public UUID recipeId;
+
+  @jakarta.persistence.Id
+  public UUID ingredientId;
+
+  @Column(nullable = false)
+  public int position;
+
+  @Column(nullable = false)
+  public String ingredientName;
+
+  @Column(nullable = false)
+  public BigDecimal quantity;
+
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+  @Column(nullable = false, columnDefinition = "measurement_unit")
+  public Unit unit;
+
+  @Column(nullable = false)
+  public long costMicroCents;
+
+  public static RecipeCostLineTable fromDomain(UUID recipeId, int position, IngredientCost ingredientCost) {
+    RecipeCostLineTable table = new RecipeCostLineTable();
+    table.recipeId = recipeId;
+    table.ingredientId = ingredientCost.getIngredientId().toUuid();
+    table.position = position;
+    table.ingredientName = ingredientCost.getIngredientName();
+    table.quantity = Quantities.of(ingredientCost.getQuantityUsed());
+    table.unit = ingredientCost.getUnit();
+    table.costMicroCents = ingredientCost.getCostMicroCents();
+    return table;
+  }
+
+  public static IngredientCost toDomain(RecipeCostLineTable raw) {
+    return new IngredientCost(
+        Id.of(raw.ingredientId),
+        raw.ingredientName,
+        raw.quantity.doubleValue(),
+        raw.unit,
+        raw.costMicroCents
+    );
+  }
+
+  public static class Key implements Serializable {
+    public UUID recipeId;
+    public UUID ingredientId;
+
+    public Key() {}
+
+    public Key(UUID recipeId, UUID ingredientId) {
+      this.recipeId = recipeId;
+      this.ingredientId = ingredientId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Key)) return false;
+      Key key = (Key) o;
+      return Objects.equals(recipeId, key.recipeId) && Objects.equals(ingredientId, key.ingredientId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(recipeId, ingredientId);
+    }
+  }
+}
@@ -3,6 +3,7 @@ package br.unifor.costify.recipe.infra.data.entities;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
 import br.unifor.costify.shared.domain.valueobject.Unit;
+import br.unifor.costify.shared.infra.data.Quantities;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -17,6 +18,7 @@ import org.springframework.data.annotation.CreatedDate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Entity
 @Table(name = "recipe_ingredients")
@@ -26,10 +28,10 @@ public class RecipeIngredientTable {
   public Integer id;
 
   @Column(nullable = false)
-  public String recipeId;
+  public UUID recipeId;
 
   @Column(nullable = false)
-  public String ingredientId;
+  public UUID ingredientId;
 
   @Column(nullable = false)
   public BigDecimal quantity;
@@ -42,11 +44,11 @@ public class RecipeIngredientTable {
   @CreatedDate
   public LocalDateTime createdAt;
 
-  public static RecipeIngredientTable fromDomain(String recipeId, RecipeIngredient recipeIngredient) {
+  public static RecipeIngredientTable fromDomain(UUID recipeId, RecipeIngredient recipeIngredient) {
     RecipeIngredientTable table = new RecipeIngredientTable();
     table.recipeId = recipeId;
-    table.ingredientId = recipeIngredient.getIngredientId().getValue();
-    table.quantity = new BigDecimal(recipeIngredient.getQuantity());
+    table.ingredientId = recipeIngredient.getIngredientId().toUuid();
+    table.quantity = Quantities.of(recipeIngredient.getQuantity());
     table.unit = recipeIngredient.getUnit();
     return table;
   }
@@ -0,0 +1,47 @@
+package br.unifor.costify.recipe.infra.data.entities;
+
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.infra.data.Quantities;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Table;
+import org.springframework.data.annotation.CreatedDate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "recipe_sub_recipes")
+public class RecipeSubRecipeTable {
+  @jakarta.persistence.Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  public Integer id;
+
+  @Column(nullable = false)
+  public UUID recipeId;
+
+  @Column(nullable = false)
+  public UUID subRecipeId;
+
+  @Column(nullable = false)
+  public BigDecimal quantity;
+
+  @CreatedDate
+  public LocalDateTime createdAt;
+
+  public static RecipeSubRecipeTable fromDomain(UUID recipeId, SubRecipe subRecipe) {
+    RecipeSubRecipeTable table = new RecipeSubRecipeTable();
+    table.recipeId = recipeId;
+    table.subRecipeId = subRecipe.getRecipeId().toUuid();
+    table.quantity = Quantities.of(subRecipe.getQuantity());
+    return table;
+  }
+
+  public static SubRecipe toDomain(RecipeSubRecipeTable raw) {
+    return new SubRecipe(Id.of(raw.subRecipeId), raw.quantity.doubleValue());
+  }
+}
@@ -4,12 +4,17 @@ import br.unifor.costify.recipe.domain.entity.Recipe;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.data.annotation.CreatedDate;
 
@@ -17,12 +22,14 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "recipes")
 public class RecipeTable {
   @jakarta.persistence.Id
-  public String id;
+  public UUID id;
 
   @Column(nullable = false)
   public String name;
@@ -31,23 +38,37 @@ public class RecipeTable {
   public BigDecimal totalCost;
 
   @OneToMany(mappedBy = "recipeId", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @BatchSize(size = 100)
   public List<RecipeIngredientTable> ingredients = new ArrayList<>();
 
+  // Loaded with its own batched select: joining two eager lists at once is not supported
+  @OneToMany(mappedBy = "recipeId", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+  @Fetch(FetchMode.SELECT)
+  @BatchSize(size = 100)
+  public List<RecipeSubRecipeTable> subRecipes = new ArrayList<>();
+
   @CreatedDate
   public LocalDateTime createdAt;
 
   @UpdateTimestamp
   public LocalDateTime updatedAt;
 
+  @Version
+  public long version;
+
   public static RecipeTable fromDomain(Recipe recipe) {
     RecipeTable table = new RecipeTable();
-    table.id = recipe.getId().getValue();
+    table.id = recipe.getId().toUuid();
     table.name = recipe.getName();
     table.totalCost = recipe.getTotalCost().getAmount();
+    table.version = recipe.getVersion();
 
     table.ingredients = recipe.getIngredients().stream()
-        .map(ingredient -> RecipeIngredientTable.fromDomain(recipe.getId().getValue(), ingredient))
-        .toList();
+        .map(ingredient -> RecipeIngredientTable.fromDomain(table.id, ingredient))
+        .collect(Collectors.toCollection(ArrayList::new));
+    table.subRecipes = recipe.getSubRecipes().stream()
+        .map(subRecipe -> RecipeSubRecipeTable.fromDomain(table.id, subRecipe))
+        .collect(Collectors.toCollection(ArrayList::new));
 
     return table;
   }
@@ -56,12 +77,17 @@ public class RecipeTable {
     List<RecipeIngredient> ingredients = raw.ingredients.stream()
         .map(RecipeIngredientTable::toDomain)
         .toList();
+    List<SubRecipe> subRecipes = raw.subRecipes.stream()
+        .map(RecipeSubRecipeTable::toDomain)
+        .toList();
 
     return new Recipe(
         Id.of(raw.id),
         raw.name,
         ingredients,
-        Money.of(raw.totalCost)
+        subRecipes,
+        Money.of(raw.totalCost),
+        raw.version
     );
   }
 }
\ No newline at end of file
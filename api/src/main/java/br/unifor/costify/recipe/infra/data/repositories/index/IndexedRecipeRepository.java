@@ -0,0 +1,293 @@
+package br.unifor.costify.recipe.infra.data.repositories.index;
+
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.events.RecipesImportedEvent;
+import br.unifor.costify.recipe.domain.valueobject.RecipeDependency;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.infra.data.repositories.postgres.PostgresRecipeRepository;
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.infra.events.TransactionalDomainEventWrapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link PostgresRecipeRepository} with an in-memory ingredient to recipe index for
+ * read-only hints.
+ * <p>
+ * Only "how many recipes use this ingredient" is answered from a {@link RecipeIngredientIndex}.
+ * The lookups and updates a recalculation relies on always go to the delegate, so the index
+ * never skips or narrows a write. Everything else goes straight to the delegate too.
+ * <p>
+ * The index is built in the background once the context is up and rebuilt on a fixed
+ * interval; until the first build finishes, lookups fall back to the database. Saves and
+ * deletes through this repository, and recipe imports, update it after their transaction
+ * commits, so a transaction does not see its own recipe changes in the index. Changes
+ * made by other instances, or by cascades such as deleting an ingredient, show up at the
+ * next rebuild, which makes the index suitable for a single instance only. It is off unless
+ * {@code costify.recipe.ingredient-index.enabled} is set.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "costify.recipe.ingredient-index.enabled", havingValue = "true")
+public class IndexedRecipeRepository implements RecipeRepository, SmartInitializingSingleton, DisposableBean {
+  private static final Logger logger = LoggerFactory.getLogger(IndexedRecipeRepository.class);
+
+  private final PostgresRecipeRepository delegate;
+  private final Duration rebuildInterval;
+  private final ScheduledThreadPoolExecutor worker;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  /** Null until the first build completes. */
+  private RecipeIngredientIndex index;
+  /** Changes committed while a rebuild reads the database; replayed onto the new index. */
+  private List<Consumer<RecipeIngredientIndex>> changesDuringRebuild;
+
+  public IndexedRecipeRepository(
+      PostgresRecipeRepository delegate,
+      @Value("${costify.recipe.ingredient-index.rebuild-interval:15m}") Duration rebuildInterval) {
+    this.delegate = delegate;
+    this.rebuildInterval = rebuildInterval;
+    this.worker = new ScheduledThreadPoolExecutor(1, runnable -> {
+      Thread thread = new Thread(runnable, "recipe-ingredient-index");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Schedules the first build once every bean, including the schema migration, is ready.
+   * A zero or negative interval builds once and disables the periodic rebuild.
+   */
+  @Override
+  public void afterSingletonsInstantiated() {
+    if (rebuildInterval.isPositive()) {
+      worker.scheduleWithFixedDelay(this::rebuild, 0, rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+    } else {
+      worker.execute(this::rebuild);
+    }
+  }
+
+  @Override
+  public void destroy() {
+    worker.shutdownNow();
+  }
+
+  /**
+   * Reads every recipe line and swaps in a fresh index. Reads keep using the current index
+   * (or the database) while the lines are streamed in.
+   */
+  void rebuild() {
+    lock.writeLock().lock();
+    try {
+      changesDuringRebuild = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    RecipeIngredientIndex rebuilt;
+    try {
+      RecipeIngredientIndex.Builder builder = new RecipeIngredientIndex.Builder();
+      delegate.forEachIngredientUsage(
+          (recipeId, ingredientId) -> builder.add(recipeId.getValue(), ingredientId.getValue()));
+      rebuilt = builder.build();
+    } catch (RuntimeException e) {
+      logger.error("Could not rebuild the recipe ingredient index", e);
+      lock.writeLock().lock();
+      try {
+        changesDuringRebuild = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+      return;
+    }
+
+    lock.writeLock().lock();
+    try {
+      // The changes are idempotent, so replaying one already read from the database is harmless
+      changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+      changesDuringRebuild = null;
+      index = rebuilt;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    logger.info("Recipe ingredient index built for {} recipes", rebuilt.size());
+  }
+
+  @Override
+  public Recipe save(Recipe recipe) {
+    Recipe saved = delegate.save(recipe);
+    String recipeId = saved.getId().getValue();
+    List<String> ingredientIds = saved.getIngredients().stream()
+        .map(RecipeIngredient::getIngredientId)
+        .map(Id::getValue)
+        .toList();
+    applyAfterCommit(current -> current.put(recipeId, ingredientIds));
+    return saved;
+  }
+
+  @Override
+  public void deleteById(Id id) {
+    delegate.deleteById(id);
+    applyAfterCommit(current -> current.remove(id.getValue()));
+  }
+
+  /**
+   * Adds recipes created by an import, which writes the tables directly instead of
+   * going through {@link #save(Recipe)}.
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onRecipesImported(TransactionalDomainEventWrapper wrapper) {
+    if (wrapper.getEvent() instanceof RecipesImportedEvent event) {
+      apply(current -> event.getIngredientIdsByRecipe().forEach((recipeId, ingredientIds) ->
+          current.put(recipeId.getValue(), ingredientIds.stream().map(Id::getValue).toList())));
+    }
+  }
+
+  /**
+   * Always reads the database: the recipes found here are the ones a recalculation writes,
+   * and the index may lag behind them.
+   */
+  @Override
+  public List<Recipe> findByIngredientId(Id ingredientId) {
+    return delegate.findByIngredientId(ingredientId);
+  }
+
+  /**
+   * Always reads the database, for the same reason as {@link #findByIngredientId(Id)}.
+   */
+  @Override
+  public List<Id> findIdsByIngredientId(Id ingredientId) {
+    return delegate.findIdsByIngredientId(ingredientId);
+  }
+
+  /**
+   * Answered from the index once it is built. Only a hint: it may miss recipes written by
+   * other instances or by cascades until the next rebuild.
+   */
+  @Override
+  public int countByIngredientId(Id ingredientId) {
+    lock.readLock().lock();
+    try {
+      if (index != null) {
+        return index.countRecipesUsing(ingredientId.getValue());
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    return delegate.countByIngredientId(ingredientId);
+  }
+
+  @Override
+  public int recalculateTotalCostsByIngredientId(Id ingredientId) {
+    return delegate.recalculateTotalCostsByIngredientId(ingredientId);
+  }
+
+  @Override
+  public int recalculateTotalCostsByIngredientIds(Collection<Id> ingredientIds) {
+    return delegate.recalculateTotalCostsByIngredientIds(ingredientIds);
+  }
+
+  @Override
+  public Optional<Recipe> findById(Id id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public List<Recipe> findAllByIds(Collection<Id> ids) {
+    return delegate.findAllByIds(ids);
+  }
+
+  @Override
+  public List<Recipe> findAll() {
+    return delegate.findAll();
+  }
+
+  @Override
+  public void forEach(Consumer<Recipe> consumer) {
+    delegate.forEach(consumer);
+  }
+
+  @Override
+  public Optional<ResourceVersion> findVersionById(Id id) {
+    return delegate.findVersionById(id);
+  }
+
+  @Override
+  public CollectionVersion findCollectionVersion() {
+    return delegate.findCollectionVersion();
+  }
+
+  @Override
+  public boolean existsByName(String name) {
+    return delegate.existsByName(name);
+  }
+
+  @Override
+  public List<RecipeDependency> findDependenciesAbove(Collection<Id> recipeIds) {
+    return delegate.findDependenciesAbove(recipeIds);
+  }
+
+  @Override
+  public boolean wouldCreateCycle(Id recipeId, Collection<Id> subRecipeIds) {
+    return delegate.wouldCreateCycle(recipeId, subRecipeIds);
+  }
+
+  @Override
+  public boolean updateTotalCost(Id recipeId, long expectedVersion, Money totalCost) {
+    return delegate.updateTotalCost(recipeId, expectedVersion, totalCost);
+  }
+
+  /**
+   * Applies an index change once the surrounding transaction commits, or right away when
+   * there is none. A rolled back transaction leaves the index untouched.
+   */
+  private void applyAfterCommit(Consumer<RecipeIngredientIndex> change) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      apply(change);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        apply(change);
+      }
+    });
+  }
+
+  private void apply(Consumer<RecipeIngredientIndex> change) {
+    lock.writeLock().lock();
+    try {
+      if (index != null) {
+        change.accept(index);
+      }
+      if (changesDuringRebuild != null) {
+        changesDuringRebuild.add(change);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+}
@@ -0,0 +1,220 @@
+package br.unifor.costify.recipe.infra.data.repositories.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact reverse index from ingredient to the recipes that use it.
+ * <p>
+ * Recipe and ingredient IDs are mapped once to dense {@code int} surrogate keys, and each
+ * ingredient keeps a sorted {@code int[]} of recipe keys, so "which recipes use X" is a single
+ * array copy and "how many" is an array length. The forward direction (recipe to ingredient
+ * keys) is kept as well, so a recipe's old postings can be removed when it changes.
+ * <p>
+ * Surrogate keys are never reused; a deleted recipe just leaves an unused slot.
+ * Not thread-safe: callers synchronize access.
+ */
+final class RecipeIngredientIndex {
+  private static final int[] EMPTY = new int[0];
+
+  private final Map<String, Integer> recipeKeys = new HashMap<>();
+  private final List<String> recipeIds = new ArrayList<>();
+  private final Map<String, Integer> ingredientKeys = new HashMap<>();
+
+  private int[][] ingredientsByRecipe = new int[16][];
+  private int[][] recipesByIngredient = new int[16][];
+  private int indexedRecipes;
+
+  /**
+   * Replaces the ingredients of a recipe, adding the recipe if it is not indexed yet.
+   */
+  void put(String recipeId, Collection<String> ingredientIds) {
+    int recipeKey = recipeKey(recipeId);
+
+    int[] newIngredients = new int[ingredientIds.size()];
+    int size = 0;
+    for (String ingredientId : ingredientIds) {
+      newIngredients[size++] = ingredientKey(ingredientId);
+    }
+    Arrays.sort(newIngredients);
+    newIngredients = distinct(newIngredients);
+
+    int[] oldIngredients = ingredientsByRecipe[recipeKey];
+    if (oldIngredients == null) {
+      indexedRecipes++;
+      oldIngredients = EMPTY;
+    }
+
+    for (int ingredientKey : oldIngredients) {
+      if (Arrays.binarySearch(newIngredients, ingredientKey) < 0) {
+        recipesByIngredient[ingredientKey] = without(recipesByIngredient[ingredientKey], recipeKey);
+      }
+    }
+    for (int ingredientKey : newIngredients) {
+      if (Arrays.binarySearch(oldIngredients, ingredientKey) < 0) {
+        recipesByIngredient[ingredientKey] = with(recipesByIngredient[ingredientKey], recipeKey);
+      }
+    }
+    ingredientsByRecipe[recipeKey] = newIngredients;
+  }
+
+  void remove(String recipeId) {
+    Integer recipeKey = recipeKeys.get(recipeId);
+    if (recipeKey == null || ingredientsByRecipe[recipeKey] == null) {
+      return;
+    }
+    for (int ingredientKey : ingredientsByRecipe[recipeKey]) {
+      recipesByIngredient[ingredientKey] = without(recipesByIngredient[ingredientKey], recipeKey);
+    }
+    ingredientsByRecipe[recipeKey] = null;
+    indexedRecipes--;
+  }
+
+  List<String> recipeIdsUsing(String ingredientId) {
+    int[] recipes = postings(ingredientId);
+    List<String> result = new ArrayList<>(recipes.length);
+    for (int recipeKey : recipes) {
+      result.add(recipeIds.get(recipeKey));
+    }
+    return result;
+  }
+
+  int countRecipesUsing(String ingredientId) {
+    return postings(ingredientId).length;
+  }
+
+  int size() {
+    return indexedRecipes;
+  }
+
+  private int[] postings(String ingredientId) {
+    Integer ingredientKey = ingredientKeys.get(ingredientId);
+    return ingredientKey == null ? EMPTY : recipesByIngredient[ingredientKey];
+  }
+
+  private int recipeKey(String recipeId) {
+    Integer key = recipeKeys.get(recipeId);
+    if (key != null) {
+      return key;
+    }
+    int newKey = recipeIds.size();
+    recipeKeys.put(recipeId, newKey);
+    recipeIds.add(recipeId);
+    if (newKey == ingredientsByRecipe.length) {
+      ingredientsByRecipe = Arrays.copyOf(ingredientsByRecipe, newKey * 2);
+    }
+    return newKey;
+  }
+
+  private int ingredientKey(String ingredientId) {
+    Integer key = ingredientKeys.get(ingredientId);
+    if (key != null) {
+      return key;
+    }
+    int newKey = ingredientKeys.size();
+    ingredientKeys.put(ingredientId, newKey);
+    if (newKey == recipesByIngredient.length) {
+      recipesByIngredient = Arrays.copyOf(recipesByIngredient, newKey * 2);
+    }
+    recipesByIngredient[newKey] = EMPTY;
+    return newKey;
+  }
+
+  /**
+   * Builds an index from individual (recipe, ingredient) pairs in any order. Postings are
+   * appended unsorted and sorted once at the end, so a full rebuild stays linear in the
+   * number of pairs instead of re-copying a posting array for every recipe.
+   */
+  static final class Builder {
+    private final RecipeIngredientIndex index = new RecipeIngredientIndex();
+    private int[] ingredientCounts = new int[16];
+    private int[] recipeCounts = new int[16];
+
+    void add(String recipeId, String ingredientId) {
+      int recipeKey = index.recipeKey(recipeId);
+      int ingredientKey = index.ingredientKey(ingredientId);
+
+      if (recipeKey >= ingredientCounts.length) {
+        ingredientCounts = Arrays.copyOf(ingredientCounts, index.ingredientsByRecipe.length);
+      }
+      if (ingredientKey >= recipeCounts.length) {
+        recipeCounts = Arrays.copyOf(recipeCounts, index.recipesByIngredient.length);
+      }
+
+      index.ingredientsByRecipe[recipeKey] =
+          append(index.ingredientsByRecipe[recipeKey], ingredientCounts[recipeKey]++, ingredientKey);
+      index.recipesByIngredient[ingredientKey] =
+          append(index.recipesByIngredient[ingredientKey], recipeCounts[ingredientKey]++, recipeKey);
+    }
+
+    RecipeIngredientIndex build() {
+      for (int recipeKey = 0; recipeKey < index.recipeIds.size(); recipeKey++) {
+        index.ingredientsByRecipe[recipeKey] =
+            sortedDistinct(index.ingredientsByRecipe[recipeKey], ingredientCounts[recipeKey]);
+      }
+      for (int ingredientKey = 0; ingredientKey < index.ingredientKeys.size(); ingredientKey++) {
+        index.recipesByIngredient[ingredientKey] =
+            sortedDistinct(index.recipesByIngredient[ingredientKey], recipeCounts[ingredientKey]);
+      }
+      index.indexedRecipes = index.recipeIds.size();
+      return index;
+    }
+
+    private static int[] append(int[] keys, int size, int key) {
+      if (keys == null || size == keys.length) {
+        keys = keys == null ? new int[4] : Arrays.copyOf(keys, Math.max(4, size * 2));
+      }
+      keys[size] = key;
+      return keys;
+    }
+
+    private static int[] sortedDistinct(int[] keys, int size) {
+      int[] result = Arrays.copyOf(keys, size);
+      Arrays.sort(result);
+      return distinct(result);
+    }
+  }
+
+  /** Inserts {@code key} into a sorted array, returning a new array (or the same one if present). */
+  private static int[] with(int[] sorted, int key) {
+    int position = Arrays.binarySearch(sorted, key);
+    if (position >= 0) {
+      return sorted;
+    }
+    position = -position - 1;
+    int[] result = new int[sorted.length + 1];
+    System.arraycopy(sorted, 0, result, 0, position);
+    result[position] = key;
+    System.arraycopy(sorted, position, result, position + 1, sorted.length - position);
+    return result;
+  }
+
+  /** Removes {@code key} from a sorted array, returning a new array (or the same one if absent). */
+  private static int[] without(int[] sorted, int key) {
+    int position = Arrays.binarySearch(sorted, key);
+    if (position < 0) {
+      return sorted;
+    }
+    if (sorted.length == 1) {
+      return EMPTY;
+    }
+    int[] result = new int[sorted.length - 1];
+    System.arraycopy(sorted, 0, result, 0, position);
+    System.arraycopy(sorted, position + 1, result, position, sorted.length - position - 1);
+    return result;
+  }
+
+  private static int[] distinct(int[] sorted) {
+    int size = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[i - 1]) {
+        sorted[size++] = sorted[i];
+      }
+    }
+    return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+  }
+}
@@ -0,0 +1,23 @@
+package br.unifor.costify.recipe.infra.data.repositories.jpa;
+
+import br.unifor.costify.recipe.infra.data.entities.RecipeCostLineTable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaRecipeCostLineRepository
+    extends JpaRepository<RecipeCostLineTable, RecipeCostLineTable.Key> {
+
+  List<RecipeCostLineTable> findByRecipeId(UUID recipeId);
+
+  /**
+   * Returns the recipe name followed by the recipe's cost lines in line order,
+   * one {@code [name, line]} pair per line, with a single query.
+   */
+  @Query("SELECT r.name, l FROM RecipeTable r JOIN RecipeCostLineTable l ON l.recipeId = r.id "
+      + "WHERE r.id = :recipeId ORDER BY l.position")
+  List<Object[]> findBreakdownByRecipeId(@Param("recipeId") UUID recipeId);
+}
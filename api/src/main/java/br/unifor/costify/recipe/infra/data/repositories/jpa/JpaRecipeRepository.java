@@ -2,11 +2,36 @@ package br.unifor.costify.recipe.infra.data.repositories.jpa;
 
 import br.unifor.costify.recipe.infra.data.entities.RecipeTable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.UUID;
 
-public interface JpaRecipeRepository extends JpaRepository<RecipeTable, String> {
+public interface JpaRecipeRepository extends JpaRepository<RecipeTable, UUID> {
   boolean existsByName(String name);
 
-  List<RecipeTable> findByIngredientsIngredientId(String ingredientId);
+  @Query(value = "SELECT * FROM recipes WHERE id = ANY(CAST(:ids AS uuid[]))", nativeQuery = true)
+  List<RecipeTable> findAllByIdAny(@Param("ids") String[] ids);
+
+  List<RecipeTable> findByIngredientsIngredientId(UUID ingredientId);
+
+  @Query(value = "SELECT recipe_id FROM recipe_ingredients WHERE ingredient_id = :ingredientId", nativeQuery = true)
+  List<UUID> findIdsByIngredientId(@Param("ingredientId") UUID ingredientId);
+
+  @Query(value = "SELECT COUNT(*) FROM recipe_ingredients WHERE ingredient_id = :ingredientId", nativeQuery = true)
+  int countByIngredientId(@Param("ingredientId") UUID ingredientId);
+
+  /**
+   * Updates the total only if the recipe is still at {@code version}, incrementing it.
+   * The persistence context is cleared afterwards, so recipes read later in the same
+   * transaction, e.g. to retry after a conflict, come from the database.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE RecipeTable r SET r.totalCost = :totalCost, r.updatedAt = LOCAL DATETIME, "
+      + "r.version = r.version + 1 WHERE r.id = :id AND r.version = :version")
+  int updateTotalCost(
+      @Param("id") UUID id, @Param("version") long version, @Param("totalCost") BigDecimal totalCost);
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+package br.unifor.costify.recipe.infra.data.repositories.postgres;
+
+import br.unifor.costify.recipe.application.contracts.RecipeCostRepository;
+import br.unifor.costify.recipe.domain.valueobject.IngredientCost;
+import br.unifor.costify.recipe.domain.valueobject.RecipeCost;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipeCost;
+import br.unifor.costify.recipe.infra.data.entities.RecipeCostLineTable;
+import br.unifor.costify.recipe.infra.data.repositories.jpa.JpaRecipeCostLineRepository;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.infra.data.Quantities;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public class PostgresRecipeCostRepository implements RecipeCostRepository {
+  private static final String SELECT_SUB_RECIPE_LINES =
+      "SELECT CAST(s.sub_recipe_id AS text), sr.name, s.quantity, sr.total_cost"
+          + " FROM recipe_sub_recipes s JOIN recipes sr ON sr.id = s.sub_recipe_id"
+          + " WHERE s.recipe_id = CAST(:recipeId AS uuid) ORDER BY s.id";
+  private static final String SUM_LINE_COSTS =
+      "SELECT CAST(recipe_id AS text), SUM(cost_micro_cents) FROM recipe_cost_lines"
+          + " WHERE recipe_id = ANY(CAST(:recipeIds AS uuid[])) GROUP BY recipe_id";
+  private final JpaRecipeCostLineRepository jpaRecipeCostLineRepository;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  public PostgresRecipeCostRepository(JpaRecipeCostLineRepository jpaRecipeCostLineRepository) {
+    this.jpaRecipeCostLineRepository = jpaRecipeCostLineRepository;
+  }
+
+  /**
+   * Brings the stored lines in line with the breakdown, touching only the rows that differ,
+   * the same way recipe ingredient lines are merged on save.
+   */
+  @Override
+  @Transactional
+  public void save(RecipeCost recipeCost) {
+    UUID recipeId = recipeCost.getRecipeId().toUuid();
+
+    Map<UUID, RecipeCostLineTable> existingLines = new HashMap<>();
+    for (RecipeCostLineTable line : jpaRecipeCostLineRepository.findByRecipeId(recipeId)) {
+      existingLines.put(line.ingredientId, line);
+    }
+
+    List<IngredientCost> ingredientCosts = recipeCost.getIngredientCosts();
+    for (int position = 0; position < ingredientCosts.size(); position++) {
+      IngredientCost ingredientCost = ingredientCosts.get(position);
+      RecipeCostLineTable line = existingLines.remove(ingredientCost.getIngredientId().toUuid());
+      if (line == null) {
+        entityManager.persist(RecipeCostLineTable.fromDomain(recipeId, position, ingredientCost));
+      } else {
+        merge(line, position, ingredientCost);
+      }
+    }
+
+    jpaRecipeCostLineRepository.deleteAll(existingLines.values());
+  }
+
+  private static void merge(RecipeCostLineTable line, int position, IngredientCost ingredientCost) {
+    if (line.position != position) {
+      line.position = position;
+    }
+    if (!line.ingredientName.equals(ingredientCost.getIngredientName())) {
+      line.ingredientName = ingredientCost.getIngredientName();
+    }
+    BigDecimal quantity = Quantities.of(ingredientCost.getQuantityUsed());
+    if (line.quantity.compareTo(quantity) != 0) {
+      line.quantity = quantity;
+    }
+    if (line.unit != ingredientCost.getUnit()) {
+      line.unit = ingredientCost.getUnit();
+    }
+    if (line.costMicroCents != ingredientCost.getCostMicroCents()) {
+      line.costMicroCents = ingredientCost.getCostMicroCents();
+    }
+  }
+
+  /**
+   * Sub-recipe lines are not stored: they are priced at the sub-recipes' current totals,
+   * which cost propagation keeps up to date.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  @SuppressWarnings("unchecked")
+  public Optional<RecipeCost> findByRecipeId(Id recipeId) {
+    List<Object[]> rows = jpaRecipeCostLineRepository.findBreakdownByRecipeId(recipeId.toUuid());
+    if (rows.isEmpty()) {
+      return Optional.empty();
+    }
+
+    String recipeName = (String) rows.get(0)[0];
+    List<IngredientCost> ingredientCosts = new ArrayList<>(rows.size());
+    for (Object[] row : rows) {
+      ingredientCosts.add(RecipeCostLineTable.toDomain((RecipeCostLineTable) row[1]));
+    }
+
+    List<Object[]> subRecipeRows = entityManager.createNativeQuery(SELECT_SUB_RECIPE_LINES)
+        .setParameter("recipeId", recipeId.getValue())
+        .getResultList();
+    List<SubRecipeCost> subRecipeCosts = new ArrayList<>(subRecipeRows.size());
+    for (Object[] row : subRecipeRows) {
+      subRecipeCosts.add(SubRecipeCost.of(
+          Id.of((String) row[0]),
+          (String) row[1],
+          ((BigDecimal) row[2]).doubleValue(),
+          Money.of((BigDecimal) row[3])));
+    }
+    return Optional.of(new RecipeCost(recipeId, recipeName, ingredientCosts, subRecipeCosts));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  @SuppressWarnings("unchecked")
+  public Map<Id, Long> sumLineCostsByRecipeIds(Collection<Id> recipeIds) {
+    String[] rawIds = recipeIds.stream().map(Id::getValue).distinct().toArray(String[]::new);
+    if (rawIds.length == 0) {
+      return Map.of();
+    }
+
+    List<Object[]> rows = entityManager.createNativeQuery(SUM_LINE_COSTS)
+        .setParameter("recipeIds", rawIds)
+        .getResultList();
+    Map<Id, Long> sums = new HashMap<>();
+    for (Object[] row : rows) {
+      sums.put(Id.of((String) row[0]), ((Number) row[1]).longValue());
+    }
+    return sums;
+  }
+
+  @Override
+  @Transactional
+  public int refreshLinesByIngredientIds(Collection<Id> ingredientIds) {
+    if (ingredientIds.isEmpty()) {
+      return 0;
+    }
+
+    String[] rawIds = ingredientIds.stream().map(Id::getValue).distinct().toArray(String[]::new);
+    return entityManager.createNativeQuery(RecipeCostSql.REFRESH_COST_LINES_FOR_INGREDIENTS)
+        .setParameter("ingredientIds", rawIds)
+        .executeUpdate();
+  }
+}
@@ -0,0 +1,182 @@
+package br.unifor.costify.recipe.infra.data.repositories.postgres;
+
+import static br.unifor.costify.shared.infra.data.CsvImport.isDecimal;
+import static br.unifor.costify.shared.infra.data.CsvImport.isUnit;
+import static br.unifor.costify.shared.infra.data.CsvImport.toDecimal;
+import static br.unifor.costify.shared.infra.data.CsvImport.toUnit;
+
+import br.unifor.costify.recipe.application.contracts.RecipeImporter;
+import br.unifor.costify.shared.application.imports.ImportReport;
+import br.unifor.costify.shared.domain.contracts.IdGenerator;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.infra.data.CsvImport;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Imports recipes through a staging table filled with {@code COPY}; see {@link CsvImport}.
+ * <p>
+ * Ingredient names are resolved with one join, and every recipe's total cost and cost
+ * breakdown are computed by the inserts themselves with the formula of {@link RecipeCostSql},
+ * so the number of statements does not depend on the number of recipes or lines.
+ */
+@Repository
+public class PostgresRecipeImporter implements RecipeImporter {
+  private static final Logger logger = LoggerFactory.getLogger(PostgresRecipeImporter.class);
+
+  /** Same limit as a recipe registered through the API. */
+  static final int MAX_INGREDIENTS_PER_RECIPE = 50;
+
+  private static final String CREATE_STAGING_TABLE =
+      "CREATE TEMPORARY TABLE recipe_import ("
+          + " row_no BIGSERIAL,"
+          + " recipe_name TEXT,"
+          + " ingredient_name TEXT,"
+          + " quantity_text TEXT,"
+          + " unit_text TEXT,"
+          + " ingredient_id UUID,"
+          + " quantity NUMERIC,"
+          + " unit measurement_unit,"
+          + " recipe_id UUID,"
+          + " error TEXT"
+          + ") ON COMMIT DROP";
+  private static final String COPY_INTO_STAGING_TABLE =
+      "COPY recipe_import (recipe_name, ingredient_name, quantity_text, unit_text)"
+          + " FROM STDIN WITH (FORMAT csv, HEADER true)";
+
+  private static final String RESOLVE_INGREDIENTS =
+      "UPDATE recipe_import s SET ingredient_id = i.id"
+          + " FROM ingredients i WHERE i.name = btrim(s.ingredient_name)";
+
+  // Quantities are DECIMAL(10,3) in recipe_ingredients
+  private static final String VALIDATE_ROWS =
+      "UPDATE recipe_import SET"
+          + " recipe_name = btrim(recipe_name),"
+          + " quantity = CASE WHEN " + isDecimal("quantity_text") + " THEN " + toDecimal("quantity_text", 3) + " END,"
+          + " unit = CASE WHEN " + isUnit("unit_text") + " THEN " + toUnit("unit_text") + " END,"
+          + " error = CASE"
+          + "   WHEN COALESCE(btrim(recipe_name), '') = '' THEN 'Recipe name is required'"
+          + "   WHEN char_length(btrim(recipe_name)) NOT BETWEEN 2 AND 100"
+          + "     THEN 'Recipe name must be between 2 and 100 characters'"
+          + "   WHEN COALESCE(btrim(ingredient_name), '') = '' THEN 'Ingredient name is required'"
+          + "   WHEN ingredient_id IS NULL THEN 'Ingredient ''' || btrim(ingredient_name) || ''' not found'"
+          + "   WHEN NOT " + isDecimal("quantity_text") + " THEN 'Quantity must be a number'"
+          + "   WHEN " + toDecimal("quantity_text", 3) + " < 0.01 THEN 'Quantity must be greater than 0'"
+          + "   WHEN " + toDecimal("quantity_text", 3) + " >= 10000000 THEN 'Quantity is too large'"
+          + "   WHEN NOT " + isUnit("unit_text") + " THEN 'Unknown unit'"
+          + " END";
+
+  /**
+   * Among the valid rows: an ingredient listed twice in a recipe, a recipe name already in
+   * use and a recipe with too many lines.
+   */
+  private static final String VALIDATE_RECIPES =
+      "UPDATE recipe_import s SET error = CASE"
+          + "   WHEN d.first_row_no <> s.row_no THEN 'Ingredient already listed on row ' || d.first_row_no"
+          + "   WHEN d.existing THEN 'Recipe already exists'"
+          + "   ELSE 'Recipe cannot have more than " + MAX_INGREDIENTS_PER_RECIPE + " ingredients' END"
+          + " FROM ("
+          + "   SELECT v.row_no,"
+          + "     MIN(v.row_no) OVER (PARTITION BY v.recipe_name, v.ingredient_id) AS first_row_no,"
+          + "     COUNT(*) OVER (PARTITION BY v.recipe_name) AS line_count,"
+          + "     EXISTS (SELECT 1 FROM recipes r WHERE r.name = v.recipe_name) AS existing"
+          + "   FROM recipe_import v WHERE v.error IS NULL"
+          + " ) d"
+          + " WHERE d.row_no = s.row_no"
+          + " AND (d.first_row_no <> s.row_no OR d.existing OR d.line_count > " + MAX_INGREDIENTS_PER_RECIPE + ")";
+
+  /** A recipe is imported whole or not at all. */
+  private static final String REJECT_INCOMPLETE_RECIPES =
+      "UPDATE recipe_import s SET error = 'Recipe has invalid rows'"
+          + " WHERE s.error IS NULL AND EXISTS ("
+          + "   SELECT 1 FROM recipe_import invalid"
+          + "   WHERE invalid.recipe_name = s.recipe_name AND invalid.error IS NOT NULL)";
+
+  private static final String COUNT_VALID_RECIPES =
+      "SELECT COUNT(DISTINCT recipe_name) FROM recipe_import WHERE error IS NULL";
+
+  /** Inserts each recipe with its total and records the new recipe ID on its rows. */
+  private static final String INSERT_RECIPES =
+      "WITH totals AS ("
+          + "   SELECT l.recipe_name, ROUND(SUM(" + RecipeCostSql.lineCost("l") + "), 2) AS total_cost,"
+          + "     ROW_NUMBER() OVER (ORDER BY MIN(l.row_no)) AS ordinal"
+          + "   FROM recipe_import l JOIN ingredients i ON i.id = l.ingredient_id"
+          + "   WHERE l.error IS NULL"
+          + "   GROUP BY l.recipe_name"
+          + " ), inserted AS ("
+          + "   INSERT INTO recipes (id, name, total_cost)"
+          + "   SELECT new_ids.id, totals.recipe_name, totals.total_cost"
+          + "   FROM totals JOIN " + CsvImport.NEW_IDS + " ON new_ids.ordinal = totals.ordinal"
+          + "   RETURNING id, name"
+          + " )"
+          + " UPDATE recipe_import s SET recipe_id = inserted.id"
+          + " FROM inserted WHERE inserted.name = s.recipe_name AND s.error IS NULL";
+
+  // Lines are inserted in file order, which is the order recipes are read back in
+  private static final String INSERT_RECIPE_INGREDIENTS =
+      "INSERT INTO recipe_ingredients (recipe_id, ingredient_id, quantity, unit)"
+          + " SELECT recipe_id, ingredient_id, quantity, unit FROM recipe_import"
+          + " WHERE recipe_id IS NOT NULL ORDER BY row_no";
+
+  private static final String INSERT_COST_LINES =
+      "INSERT INTO recipe_cost_lines"
+          + " (recipe_id, ingredient_id, position, ingredient_name, quantity, unit, cost_micro_cents)"
+          + " SELECT l.recipe_id, l.ingredient_id,"
+          + "   ROW_NUMBER() OVER (PARTITION BY l.recipe_id ORDER BY l.row_no) - 1,"
+          + "   i.name, l.quantity, l.unit,"
+          + "   ROUND(" + RecipeCostSql.lineCost("l") + " * " + Money.MICRO_CENTS_PER_UNIT + ")"
+          + " FROM recipe_import l JOIN ingredients i ON i.id = l.ingredient_id"
+          + " WHERE l.recipe_id IS NOT NULL";
+
+  private static final String SELECT_IMPORTED_LINES =
+      "SELECT recipe_id, ingredient_id FROM recipe_import WHERE recipe_id IS NOT NULL ORDER BY row_no";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final IdGenerator idGenerator;
+
+  public PostgresRecipeImporter(JdbcTemplate jdbcTemplate, IdGenerator idGenerator) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.idGenerator = idGenerator;
+  }
+
+  @Override
+  @Transactional
+  public Result importCsv(InputStream csv) {
+    jdbcTemplate.execute(CREATE_STAGING_TABLE);
+    long copiedRows = CsvImport.copyIn(jdbcTemplate, COPY_INTO_STAGING_TABLE, csv);
+    // Temporary tables are never analyzed automatically; give the planner real row counts
+    jdbcTemplate.execute("ANALYZE recipe_import");
+
+    jdbcTemplate.update(RESOLVE_INGREDIENTS);
+    jdbcTemplate.update(VALIDATE_ROWS);
+    jdbcTemplate.update(VALIDATE_RECIPES);
+    jdbcTemplate.update(REJECT_INCOMPLETE_RECIPES);
+
+    Map<Id, List<Id>> ingredientIdsByRecipe = new LinkedHashMap<>();
+    Integer validRecipes = jdbcTemplate.queryForObject(COUNT_VALID_RECIPES, Integer.class);
+    if (validRecipes != null && validRecipes > 0) {
+      jdbcTemplate.update(INSERT_RECIPES, (Object) CsvImport.newIds(idGenerator, validRecipes));
+      jdbcTemplate.update(INSERT_RECIPE_INGREDIENTS);
+      jdbcTemplate.update(INSERT_COST_LINES);
+      jdbcTemplate.query(SELECT_IMPORTED_LINES, rs -> {
+        ingredientIdsByRecipe
+            .computeIfAbsent(Id.of(rs.getString("recipe_id")), recipeId -> new ArrayList<>())
+            .add(Id.of(rs.getString("ingredient_id")));
+      });
+    }
+
+    ImportReport report = CsvImport.report(jdbcTemplate, "recipe_import");
+    logger.info("Imported {} recipes from {} of {} rows",
+        ingredientIdsByRecipe.size(), report.importedRows(), copiedRows);
+    return new Result(report, ingredientIdsByRecipe);
+  }
+}
@@ -0,0 +1,161 @@
+package br.unifor.costify.recipe.infra.data.repositories.postgres;
+
+import br.unifor.costify.recipe.application.contracts.RecipeQueryService;
+import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
+import br.unifor.costify.recipe.application.dto.query.RecipeSort;
+import br.unifor.costify.recipe.application.dto.response.RecipeIngredientDto;
+import br.unifor.costify.recipe.application.dto.response.SubRecipeDto;
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.InvalidPageRequestException;
+import br.unifor.costify.shared.application.pagination.PageCursor;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import br.unifor.costify.shared.infra.data.KeysetPagination;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reads recipe listings with plain JDBC: one query for the recipes and one for the lines of
+ * all of them, mapped straight into DTO records. Both queries run in one repeatable-read
+ * transaction, so they see the same snapshot.
+ */
+@Repository
+public class PostgresRecipeQueryService implements RecipeQueryService {
+  private static final String SELECT_ALL = "SELECT * FROM recipes ORDER BY name, id";
+
+  // Ingredient and sub-recipe lines in one round trip; ordered by id within each kind,
+  // i.e. in the order they were added
+  private static final String SELECT_LINES =
+      "SELECT recipe_id, 'I' AS kind, ingredient_id AS line_id, quantity, unit::text AS unit, id"
+          + " FROM recipe_ingredients %1$s"
+          + " UNION ALL"
+          + " SELECT recipe_id, 'S', sub_recipe_id, quantity, NULL, id FROM recipe_sub_recipes %1$s"
+          + " ORDER BY kind, id";
+  private static final String ALL_LINES = SELECT_LINES.formatted("");
+  private static final String PAGE_LINES = SELECT_LINES.formatted("WHERE recipe_id IN (:recipeIds)");
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  public PostgresRecipeQueryService(NamedParameterJdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  @Override
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public List<RecipeDto> findAll() {
+    List<RecipeRow> rows = jdbcTemplate.query(SELECT_ALL, (rs, rowNum) -> RecipeRow.read(rs));
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+    Lines lines = new Lines();
+    jdbcTemplate.query(ALL_LINES, lines::add);
+    return rows.stream().map(lines::attachTo).toList();
+  }
+
+  @Override
+  @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+  public CursorPage<RecipeDto> findPage(PageRequest<RecipeSort> request) {
+    PageCursor after = request.after();
+    String sql = KeysetPagination.selectPage(
+        "recipes", sortColumn(request.sort()), request.direction(), after != null);
+
+    MapSqlParameterSource parameters = new MapSqlParameterSource("limit", KeysetPagination.fetchSize(request));
+    if (after != null) {
+      parameters.addValue("value", parseSortValue(request.sort(), after.value()))
+          .addValue("id", KeysetPagination.cursorId(after));
+    }
+
+    List<RecipeRow> rows = jdbcTemplate.query(sql, parameters, (rs, rowNum) -> RecipeRow.read(rs));
+    Lines lines = new Lines();
+    if (!rows.isEmpty()) {
+      List<UUID> recipeIds = rows.stream().map(row -> UUID.fromString(row.id())).toList();
+      jdbcTemplate.query(PAGE_LINES, new MapSqlParameterSource("recipeIds", recipeIds), lines::add);
+    }
+    return KeysetPagination.toPage(
+        rows, request, row -> row.sortValue(request.sort()), RecipeRow::id, lines::attachTo);
+  }
+
+  private static String sortColumn(RecipeSort sort) {
+    return switch (sort) {
+      case NAME -> "name";
+      case TOTAL_COST -> "total_cost";
+      case UPDATED_AT -> "updated_at";
+    };
+  }
+
+  private static Object parseSortValue(RecipeSort sort, String value) {
+    try {
+      return switch (sort) {
+        case NAME -> value;
+        case TOTAL_COST -> new BigDecimal(value);
+        case UPDATED_AT -> LocalDateTime.parse(value);
+      };
+    } catch (RuntimeException e) {
+      throw new InvalidPageRequestException("Invalid page cursor", e);
+    }
+  }
+
+  private record RecipeRow(
+      String id, String name, BigDecimal totalCost, long version, LocalDateTime updatedAt) {
+
+    static RecipeRow read(ResultSet rs) throws SQLException {
+      return new RecipeRow(
+          rs.getString("id"),
+          rs.getString("name"),
+          rs.getBigDecimal("total_cost"),
+          rs.getLong("version"),
+          rs.getObject("updated_at", LocalDateTime.class));
+    }
+
+    String sortValue(RecipeSort sort) {
+      return switch (sort) {
+        case NAME -> name;
+        case TOTAL_COST -> totalCost.toPlainString();
+        case UPDATED_AT -> updatedAt.toString();
+      };
+    }
+  }
+
+  /**
+   * The lines read for a set of recipes, grouped by recipe ID.
+   */
+  private static final class Lines {
+    private final Map<String, List<RecipeIngredientDto>> ingredients = new HashMap<>();
+    private final Map<String, List<SubRecipeDto>> subRecipes = new HashMap<>();
+
+    void add(ResultSet rs) throws SQLException {
+      String recipeId = rs.getString("recipe_id");
+      String lineId = rs.getString("line_id");
+      double quantity = rs.getBigDecimal("quantity").doubleValue();
+      if ("I".equals(rs.getString("kind"))) {
+        ingredients.computeIfAbsent(recipeId, key -> new ArrayList<>())
+            .add(new RecipeIngredientDto(lineId, quantity, Unit.valueOf(rs.getString("unit"))));
+      } else {
+        subRecipes.computeIfAbsent(recipeId, key -> new ArrayList<>())
+            .add(new SubRecipeDto(lineId, quantity));
+      }
+    }
+
+    RecipeDto attachTo(RecipeRow row) {
+      return new RecipeDto(
+          row.id(),
+          row.name(),
+          List.copyOf(ingredients.getOrDefault(row.id(), List.of())),
+          List.copyOf(subRecipes.getOrDefault(row.id(), List.of())),
+          row.totalCost(),
+          row.version());
+    }
+  }
+}
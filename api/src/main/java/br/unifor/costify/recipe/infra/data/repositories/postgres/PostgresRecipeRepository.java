@@ -2,71 +2,389 @@ package br.unifor.costify.recipe.infra.data.repositories.postgres;
 
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
 import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.valueobject.RecipeDependency;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
+import br.unifor.costify.shared.infra.data.ResourceVersions;
 import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
 import br.unifor.costify.recipe.infra.data.entities.RecipeIngredientTable;
+import br.unifor.costify.recipe.infra.data.entities.RecipeSubRecipeTable;
 import br.unifor.costify.recipe.infra.data.entities.RecipeTable;
 import br.unifor.costify.recipe.infra.data.repositories.jpa.JpaRecipeRepository;
+import br.unifor.costify.shared.infra.data.Quantities;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 @Repository
 public class PostgresRecipeRepository implements RecipeRepository {
+  // Sub-recipes are few per recipe, so they ride along on every line as "id:quantity,..."
+  private static final String SELECT_ALL_WITH_INGREDIENTS =
+      "SELECT r.id, r.name, r.total_cost, r.version, ri.ingredient_id, ri.quantity, ri.unit::text AS unit, "
+          + "s.sub_recipes "
+          + "FROM recipes r JOIN recipe_ingredients ri ON ri.recipe_id = r.id "
+          + "LEFT JOIN (SELECT recipe_id, string_agg(sub_recipe_id || ':' || quantity, ',' ORDER BY id) AS sub_recipes "
+          + "FROM recipe_sub_recipes GROUP BY recipe_id) s ON s.recipe_id = r.id "
+          + "ORDER BY r.id, ri.id";
+  private static final String SELECT_INGREDIENT_USAGES =
+      "SELECT recipe_id, ingredient_id FROM recipe_ingredients";
+
+  /**
+   * Every sub-recipe edge on a path from :recipeIds up to the recipes that use them.
+   * UNION (not UNION ALL) drops edges already found, so the walk ends even on a cycle.
+   */
+  private static final String SELECT_DEPENDENCIES_ABOVE =
+      "WITH RECURSIVE above(recipe_id, sub_recipe_id) AS ("
+          + " SELECT s.recipe_id, s.sub_recipe_id FROM recipe_sub_recipes s"
+          + " WHERE s.sub_recipe_id = ANY(CAST(:recipeIds AS uuid[]))"
+          + " UNION"
+          + " SELECT s.recipe_id, s.sub_recipe_id FROM recipe_sub_recipes s JOIN above a ON s.sub_recipe_id = a.recipe_id"
+          + ") SELECT CAST(recipe_id AS text), CAST(sub_recipe_id AS text) FROM above";
+
+  /** Whether :recipeId is one of :recipeIds or one of their sub-recipes at any depth. */
+  private static final String SELECT_REACHES =
+      "WITH RECURSIVE below(id) AS ("
+          + " SELECT unnest(CAST(:recipeIds AS uuid[]))"
+          + " UNION"
+          + " SELECT s.sub_recipe_id FROM recipe_sub_recipes s JOIN below b ON s.recipe_id = b.id"
+          + ") SELECT EXISTS (SELECT 1 FROM below WHERE id = CAST(:recipeId AS uuid))";
+
+  /** Transaction-scoped advisory lock serializing changes to the sub-recipe graph. */
+  private static final String LOCK_SUB_RECIPE_GRAPH = "SELECT 1 FROM pg_advisory_xact_lock(:key)";
+  private static final long SUB_RECIPE_GRAPH_LOCK_KEY = "recipe_sub_recipes".hashCode();
+
   private final JpaRecipeRepository jpaRecipeRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final int streamFetchSize;
 
   @PersistenceContext
   private EntityManager entityManager;
 
-  public PostgresRecipeRepository(JpaRecipeRepository jpaRecipeRepository) {
+  public PostgresRecipeRepository(
+      JpaRecipeRepository jpaRecipeRepository,
+      JdbcTemplate jdbcTemplate,
+      @Value("${costify.recipe.stream.fetch-size:500}") int streamFetchSize) {
     this.jpaRecipeRepository = jpaRecipeRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.streamFetchSize = streamFetchSize;
   }
 
+  /**
+   * An existing recipe is only updated if it is still at the version it was read at;
+   * otherwise, or if it changes before the flush, this throws an
+   * {@link org.springframework.dao.OptimisticLockingFailureException}. The write is flushed
+   * right away, so the returned recipe carries the incremented version. Saving a recipe
+   * identical to the stored one writes nothing and leaves the version as it was.
+   */
   @Override
   @Transactional
   public Recipe save(Recipe recipe) {
     // Check if recipe exists to handle updates properly
-    Optional<RecipeTable> existingRecipe = this.jpaRecipeRepository.findById(recipe.getId().getValue());
+    Optional<RecipeTable> existingRecipe = this.jpaRecipeRepository.findById(recipe.getId().toUuid());
 
     RecipeTable recipeTable;
     if (existingRecipe.isPresent()) {
       // Update existing recipe
       recipeTable = existingRecipe.get();
-      recipeTable.name = recipe.getName();
-      recipeTable.totalCost = recipe.getTotalCost().getAmount();
-
-      // Clear and re-add ingredients to trigger orphanRemoval
-      recipeTable.ingredients.clear();
-      entityManager.flush(); // Flush the deletion before adding new ones
+      if (recipeTable.version != recipe.getVersion()) {
+        throw new ObjectOptimisticLockingFailureException(RecipeTable.class, recipeTable.id);
+      }
+      boolean changed = false;
+      if (!recipeTable.name.equals(recipe.getName())) {
+        recipeTable.name = recipe.getName();
+        changed = true;
+      }
+      BigDecimal totalCost = recipe.getTotalCost().getAmount();
+      if (recipeTable.totalCost.compareTo(totalCost) != 0) {
+        recipeTable.totalCost = totalCost;
+        changed = true;
+      }
+      changed |= mergeIngredients(recipeTable, recipe);
+      changed |= mergeSubRecipes(recipeTable, recipe);
 
-      recipeTable.ingredients.addAll(recipe.getIngredients().stream()
-          .map(ingredient -> RecipeIngredientTable.fromDomain(recipe.getId().getValue(), ingredient))
-          .toList());
+      // Marks the row dirty, so the version is incremented even when only lines changed;
+      // a save that changes nothing keeps both the version and updatedAt
+      if (changed) {
+        recipeTable.updatedAt = LocalDateTime.now();
+      }
     } else {
       // Create new recipe
       recipeTable = RecipeTable.fromDomain(recipe);
     }
 
-    RecipeTable savedRecipe = this.jpaRecipeRepository.save(recipeTable);
+    RecipeTable savedRecipe = this.jpaRecipeRepository.saveAndFlush(recipeTable);
     return RecipeTable.toDomain(savedRecipe);
   }
 
+  /**
+   * Brings the stored ingredient lines in line with the recipe, touching only the rows that
+   * differ: lines are matched by ingredient ID (unique per recipe), changed quantities or
+   * units are updated in place, missing lines are inserted and dropped ones are removed.
+   *
+   * @return whether any line was changed, added or removed
+   */
+  private boolean mergeIngredients(RecipeTable recipeTable, Recipe recipe) {
+    boolean changed = false;
+    Map<UUID, RecipeIngredientTable> existingLines = new HashMap<>();
+    for (RecipeIngredientTable line : recipeTable.ingredients) {
+      existingLines.put(line.ingredientId, line);
+    }
+
+    for (RecipeIngredient ingredient : recipe.getIngredients()) {
+      RecipeIngredientTable line = existingLines.remove(ingredient.getIngredientId().toUuid());
+      if (line == null) {
+        recipeTable.ingredients.add(RecipeIngredientTable.fromDomain(recipeTable.id, ingredient));
+        changed = true;
+        continue;
+      }
+
+      BigDecimal quantity = Quantities.of(ingredient.getQuantity());
+      if (line.quantity.compareTo(quantity) != 0) {
+        line.quantity = quantity;
+        changed = true;
+      }
+      if (line.unit != ingredient.getUnit()) {
+        line.unit = ingredient.getUnit();
+        changed = true;
+      }
+    }
+
+    // Whatever was not matched is no longer part of the recipe; orphanRemoval deletes it
+    recipeTable.ingredients.removeAll(existingLines.values());
+    return changed || !existingLines.isEmpty();
+  }
+
+  /**
+   * Same as {@link #mergeIngredients}, for the sub-recipe lines.
+   */
+  private boolean mergeSubRecipes(RecipeTable recipeTable, Recipe recipe) {
+    boolean changed = false;
+    Map<UUID, RecipeSubRecipeTable> existingLines = new HashMap<>();
+    for (RecipeSubRecipeTable line : recipeTable.subRecipes) {
+      existingLines.put(line.subRecipeId, line);
+    }
+
+    for (SubRecipe subRecipe : recipe.getSubRecipes()) {
+      RecipeSubRecipeTable line = existingLines.remove(subRecipe.getRecipeId().toUuid());
+      if (line == null) {
+        recipeTable.subRecipes.add(RecipeSubRecipeTable.fromDomain(recipeTable.id, subRecipe));
+        changed = true;
+        continue;
+      }
+
+      BigDecimal quantity = Quantities.of(subRecipe.getQuantity());
+      if (line.quantity.compareTo(quantity) != 0) {
+        line.quantity = quantity;
+        changed = true;
+      }
+    }
+
+    recipeTable.subRecipes.removeAll(existingLines.values());
+    return changed || !existingLines.isEmpty();
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  @SuppressWarnings("unchecked")
+  public List<RecipeDependency> findDependenciesAbove(Collection<Id> recipeIds) {
+    String[] rawIds = recipeIds.stream().map(Id::getValue).distinct().toArray(String[]::new);
+    if (rawIds.length == 0) {
+      return List.of();
+    }
+    List<Object[]> rows = entityManager.createNativeQuery(SELECT_DEPENDENCIES_ABOVE)
+        .setParameter("recipeIds", rawIds)
+        .getResultList();
+    return rows.stream()
+        .map(row -> new RecipeDependency(Id.of((String) row[0]), Id.of((String) row[1])))
+        .toList();
+  }
+
+  /**
+   * Takes a transaction-scoped advisory lock before walking the graph, held until the
+   * transaction ends: two transactions adding edges that would close a cycle between them
+   * are serialized, so the second one sees the first one's edges.
+   */
+  @Override
+  @Transactional
+  public boolean wouldCreateCycle(Id recipeId, Collection<Id> subRecipeIds) {
+    entityManager.createNativeQuery(LOCK_SUB_RECIPE_GRAPH)
+        .setParameter("key", SUB_RECIPE_GRAPH_LOCK_KEY)
+        .getSingleResult();
+
+    String[] rawIds = subRecipeIds.stream().map(Id::getValue).distinct().toArray(String[]::new);
+    if (rawIds.length == 0) {
+      return false;
+    }
+    return (Boolean) entityManager.createNativeQuery(SELECT_REACHES)
+        .setParameter("recipeIds", rawIds)
+        .setParameter("recipeId", recipeId.getValue())
+        .getSingleResult();
+  }
+
+  @Override
+  @Transactional
+  public boolean updateTotalCost(Id recipeId, long expectedVersion, Money totalCost) {
+    return this.jpaRecipeRepository.updateTotalCost(recipeId.toUuid(), expectedVersion, totalCost.getAmount()) > 0;
+  }
+
   @Override
   public Optional<Recipe> findById(Id id) {
     RecipeTable recipeQueryResult =
-        this.jpaRecipeRepository.findById(id.getValue()).orElse(null);
+        this.jpaRecipeRepository.findById(id.toUuid()).orElse(null);
 
     return Optional.ofNullable(recipeQueryResult).map(RecipeTable::toDomain);
   }
 
+  /**
+   * Ingredient lines are fetched in batches through {@code @BatchSize} on RecipeTable,
+   * so the number of queries does not grow with each recipe.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public List<Recipe> findAllByIds(Collection<Id> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    String[] rawIds = ids.stream().map(Id::getValue).distinct().toArray(String[]::new);
+    return this.jpaRecipeRepository.findAllByIdAny(rawIds).stream()
+        .map(RecipeTable::toDomain)
+        .toList();
+  }
+
   @Override
   public List<Recipe> findAll() {
     return this.jpaRecipeRepository.findAll().stream().map(RecipeTable::toDomain).toList();
   }
 
+  /**
+   * Reads recipes joined with their lines through a server-side cursor: inside a
+   * transaction the PostgreSQL driver fetches {@code streamFetchSize} rows at a time
+   * instead of the whole result. Rows arrive grouped by recipe, so each recipe is
+   * emitted as soon as the next one starts.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public void forEach(Consumer<Recipe> consumer) {
+    RecipeRowGrouper grouper = new RecipeRowGrouper(consumer);
+    jdbcTemplate.query(
+        connection -> {
+          var statement = connection.prepareStatement(SELECT_ALL_WITH_INGREDIENTS);
+          statement.setFetchSize(streamFetchSize);
+          return statement;
+        },
+        rs -> {
+          grouper.accept(
+              rs.getString("id"),
+              rs.getString("name"),
+              rs.getBigDecimal("total_cost"),
+              rs.getLong("version"),
+              rs.getString("sub_recipes"),
+              new RecipeIngredient(
+                  Id.of(rs.getString("ingredient_id")),
+                  rs.getBigDecimal("quantity").doubleValue(),
+                  Unit.valueOf(rs.getString("unit"))));
+        });
+    grouper.finish();
+  }
+
+  /**
+   * Passes every (recipe ID, ingredient ID) pair stored in the recipe lines to
+   * {@code consumer}, in no particular order, streaming them the same way as
+   * {@link #forEach(Consumer)}. Used to build in-memory lookups without loading recipes.
+   */
+  @Transactional(readOnly = true)
+  public void forEachIngredientUsage(BiConsumer<Id, Id> consumer) {
+    jdbcTemplate.query(
+        connection -> {
+          var statement = connection.prepareStatement(SELECT_INGREDIENT_USAGES);
+          statement.setFetchSize(streamFetchSize);
+          return statement;
+        },
+        rs -> {
+          consumer.accept(Id.of(rs.getString("recipe_id")), Id.of(rs.getString("ingredient_id")));
+        });
+  }
+
+  /**
+   * Collects consecutive rows of the same recipe and emits the recipe when its rows end.
+   */
+  private static final class RecipeRowGrouper {
+    private final Consumer<Recipe> consumer;
+    private String id;
+    private String name;
+    private BigDecimal totalCost;
+    private long version;
+    private final List<RecipeIngredient> ingredients = new ArrayList<>();
+    private final List<SubRecipe> subRecipes = new ArrayList<>();
+
+    RecipeRowGrouper(Consumer<Recipe> consumer) {
+      this.consumer = consumer;
+    }
+
+    void accept(
+        String rowId, String rowName, BigDecimal rowTotalCost, long rowVersion, String rowSubRecipes,
+        RecipeIngredient ingredient) {
+      if (!rowId.equals(id)) {
+        finish();
+        id = rowId;
+        name = rowName;
+        totalCost = rowTotalCost;
+        version = rowVersion;
+        if (rowSubRecipes != null) {
+          for (String subRecipe : rowSubRecipes.split(",")) {
+            int separator = subRecipe.indexOf(':');
+            subRecipes.add(new SubRecipe(
+                Id.of(subRecipe.substring(0, separator)), Double.parseDouble(subRecipe.substring(separator + 1))));
+          }
+        }
+      }
+      ingredients.add(ingredient);
+    }
+
+    void finish() {
+      if (id == null) {
+        return;
+      }
+      consumer.accept(new Recipe(Id.of(id), name, ingredients, subRecipes, Money.of(totalCost), version));
+      id = null;
+      ingredients.clear();
+      subRecipes.clear();
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<ResourceVersion> findVersionById(Id id) {
+    return ResourceVersions.findById(entityManager, "recipes", id);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CollectionVersion findCollectionVersion() {
+    return ResourceVersions.findCollection(entityManager, "recipes");
+  }
+
   @Override
   public boolean existsByName(String name) {
     return this.jpaRecipeRepository.existsByName(name);
@@ -74,14 +392,46 @@ public class PostgresRecipeRepository implements RecipeRepository {
 
   @Override
   public void deleteById(Id id) {
-    this.jpaRecipeRepository.deleteById(id.getValue());
+    this.jpaRecipeRepository.deleteById(id.toUuid());
+  }
+
+  @Override
+  @Transactional
+  public int recalculateTotalCostsByIngredientId(Id ingredientId) {
+    return recalculateTotalCostsByIngredientIds(List.of(ingredientId));
+  }
+
+  @Override
+  @Transactional
+  public int recalculateTotalCostsByIngredientIds(Collection<Id> ingredientIds) {
+    if (ingredientIds.isEmpty()) {
+      return 0;
+    }
+
+    String[] rawIds = ingredientIds.stream().map(Id::getValue).distinct().toArray(String[]::new);
+    return entityManager.createNativeQuery(RecipeCostSql.RECALCULATE_TOTALS_FOR_INGREDIENTS)
+        .setParameter("ingredientIds", rawIds)
+        .executeUpdate();
   }
 
   @Override
   public List<Recipe> findByIngredientId(Id ingredientId) {
-    return this.jpaRecipeRepository.findByIngredientsIngredientId(ingredientId.getValue())
+    return this.jpaRecipeRepository.findByIngredientsIngredientId(ingredientId.toUuid())
         .stream()
         .map(RecipeTable::toDomain)
         .toList();
   }
-}
\ No newline at end of file
+
+  @Override
+  public List<Id> findIdsByIngredientId(Id ingredientId) {
+    return this.jpaRecipeRepository.findIdsByIngredientId(ingredientId.toUuid())
+        .stream()
+        .map(Id::of)
+        .toList();
+  }
+
+  @Override
+  public int countByIngredientId(Id ingredientId) {
+    return this.jpaRecipeRepository.countByIngredientId(ingredientId.toUuid());
+  }
+}
@@ -0,0 +1,94 @@
+package br.unifor.costify.recipe.infra.data.repositories.postgres;
+
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+
+import java.math.BigDecimal;
+
+/**
+ * Set-based SQL for recipe cost maintenance.
+ * <p>
+ * Unit conversion factors are rendered from {@link Unit} itself, so the SQL stays in sync
+ * with the domain when a unit is added. Like the Java calculation, each line cost is rounded to
+ * whole micro-cents before it is summed, and the total is rounded once with ROUND(x, 2), which
+ * matches Money's HALF_UP rounding for non-negative amounts.
+ */
+final class RecipeCostSql {
+
+  private RecipeCostSql() {}
+
+  static String unitFactor(String column) {
+    StringBuilder sql = new StringBuilder("CASE ").append(column).append("::text");
+    for (Unit unit : Unit.values()) {
+      sql.append(" WHEN '").append(unit.name()).append("' THEN ")
+          .append(BigDecimal.valueOf(unit.toBase(1.0)).toPlainString());
+    }
+    return sql.append(" END").toString();
+  }
+
+  /**
+   * Cost of one recipe line: package_price * (line quantity in base units) / (package quantity in base units).
+   */
+  static final String LINE_COST = lineCost("ri");
+
+  /**
+   * {@link #LINE_COST} for any table alias with {@code quantity} and {@code unit} columns,
+   * joined with the ingredient as {@code i}.
+   */
+  static String lineCost(String lineAlias) {
+    return "i.package_price * (" + lineAlias + ".quantity * " + unitFactor(lineAlias + ".unit") + ")"
+        + " / (i.package_quantity * " + unitFactor("i.package_unit") + ")";
+  }
+
+  /**
+   * Rounds an amount in currency units to whole micro-cents, as {@code MoneyAccumulator.toMicroCents} does.
+   */
+  static String microCents(String amount) {
+    return "ROUND(" + amount + " * " + Money.MICRO_CENTS_PER_UNIT + ")";
+  }
+
+  /**
+   * Recomputes total_cost of every recipe that uses any of :ingredientIds in a single statement.
+   * Recipes whose total does not change are left untouched; the others get a new version.
+   * Sub-recipe lines are priced at the totals stored when the statement starts, so recipes
+   * that use an affected recipe as a sub-recipe must be recalculated afterwards.
+   */
+  static final String RECALCULATE_TOTALS_FOR_INGREDIENTS =
+      "UPDATE recipes r"
+          + " SET total_cost = c.total_cost, updated_at = CURRENT_TIMESTAMP, version = r.version + 1"
+          + " FROM ("
+          + "   SELECT t.recipe_id, ROUND((t.ingredients_micro_cents + COALESCE(("
+          + "     SELECT SUM(" + microCents("s.quantity * sr.total_cost") + ")"
+          + "     FROM recipe_sub_recipes s JOIN recipes sr ON sr.id = s.sub_recipe_id"
+          + "     WHERE s.recipe_id = t.recipe_id), 0)) / " + Money.MICRO_CENTS_PER_UNIT + ", 2) AS total_cost"
+          + "   FROM ("
+          + "     SELECT ri.recipe_id, SUM(" + microCents(LINE_COST) + ") AS ingredients_micro_cents"
+          + "     FROM recipe_ingredients ri"
+          + "     JOIN ingredients i ON i.id = ri.ingredient_id"
+          + "     WHERE ri.recipe_id IN ("
+          + "       SELECT affected.recipe_id FROM recipe_ingredients affected"
+          + "       WHERE affected.ingredient_id = ANY(CAST(:ingredientIds AS uuid[])))"
+          + "     GROUP BY ri.recipe_id"
+          + "   ) t"
+          + " ) c"
+          + " WHERE r.id = c.recipe_id"
+          + " AND r.total_cost IS DISTINCT FROM c.total_cost";
+
+  /**
+   * Recomputes the stored cost breakdown lines that use any of :ingredientIds, unrounded in
+   * micro-cents, and refreshes their ingredient names. Lines that did not change are left untouched.
+   */
+  static final String REFRESH_COST_LINES_FOR_INGREDIENTS;
+
+  static {
+    String lineCostMicroCents = microCents(lineCost("l"));
+    REFRESH_COST_LINES_FOR_INGREDIENTS =
+        "UPDATE recipe_cost_lines l"
+            + " SET ingredient_name = i.name, cost_micro_cents = " + lineCostMicroCents
+            + " FROM ingredients i"
+            + " WHERE i.id = l.ingredient_id"
+            + " AND l.ingredient_id = ANY(CAST(:ingredientIds AS uuid[]))"
+            + " AND (l.ingredient_name IS DISTINCT FROM i.name"
+            + "   OR l.cost_micro_cents IS DISTINCT FROM " + lineCostMicroCents + ")";
+  }
+}
@@ -0,0 +1,30 @@
+package br.unifor.costify.shared.application.contracts;
+
+import java.time.Duration;
+
+/**
+ * Bounds how much work runs against the database at once.
+ * <p>
+ * Shared by incoming requests and background jobs, so that together they cannot take more
+ * connections than the pool has. Every successful acquire must be paired with a
+ * {@link #release()}.
+ */
+public interface ConcurrencyLimit {
+
+  /**
+   * Waits for a slot, for as long as it takes.
+   *
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  void acquire() throws InterruptedException;
+
+  /**
+   * Waits up to the given timeout for a slot.
+   *
+   * @return false if no slot freed up in time
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  boolean tryAcquire(Duration timeout) throws InterruptedException;
+
+  void release();
+}
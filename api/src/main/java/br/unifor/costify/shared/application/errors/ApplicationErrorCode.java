@@ -8,6 +8,7 @@ public enum ApplicationErrorCode {
     // Ingredient application errors
     INGREDIENT_NOT_FOUND("APP-100", "Ingredient not found"),
     INGREDIENT_ALREADY_EXISTS("APP-101", "Ingredient already exists"),
+    INGREDIENT_PRICE_NOT_FOUND("APP-102", "Ingredient had no price at the requested time"),
     
     // Recipe application errors
     RECIPE_NOT_FOUND("APP-200", "Recipe not found"),
@@ -18,6 +19,9 @@ public enum ApplicationErrorCode {
     INGREDIENT_LOADING_ERROR("APP-301", "Error loading ingredients for recipe"),
     
     // Generic application errors
+    INVALID_PAGE_REQUEST("APP-900", "Invalid page request"),
+    INVALID_IMPORT_FILE("APP-901", "Invalid import file"),
+    STALE_VERSION("APP-902", "Resource was modified by another request"),
     APPLICATION_ERROR("APP-999", "Application error");
 
     private final String code;
@@ -0,0 +1,17 @@
+package br.unifor.costify.shared.application.errors;
+
+/**
+ * Exception thrown when an update is made against a version of a resource that is no
+ * longer current, because another request changed it since it was read.
+ */
+public class StaleVersionException extends ApplicationException {
+
+    public StaleVersionException(String message) {
+        super(ApplicationErrorCode.STALE_VERSION, message);
+    }
+
+    public static StaleVersionException of(String resource, String id, long expectedVersion, long currentVersion) {
+        return new StaleVersionException(String.format(
+            "%s with ID '%s' is at version %d, not %d", resource, id, currentVersion, expectedVersion));
+    }
+}
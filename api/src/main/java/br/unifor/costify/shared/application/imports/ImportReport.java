@@ -0,0 +1,12 @@
+package br.unifor.costify.shared.application.imports;
+
+import java.util.List;
+
+/**
+ * Outcome of a CSV import. Valid rows are imported and invalid rows are skipped; the
+ * counts cover every row, while {@code errors} lists at most the first
+ * {@link #MAX_REPORTED_ERRORS} rejected rows in file order.
+ */
+public record ImportReport(long totalRows, long importedRows, long rejectedRows, List<ImportRowError> errors) {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+}
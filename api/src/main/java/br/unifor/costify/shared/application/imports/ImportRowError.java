@@ -0,0 +1,9 @@
+package br.unifor.costify.shared.application.imports;
+
+/**
+ * Why one row of an import was rejected.
+ *
+ * @param row the 1-based data row, not counting the header
+ * @param message what is wrong with the row
+ */
+public record ImportRowError(long row, String message) {}
@@ -0,0 +1,15 @@
+package br.unifor.costify.shared.application.imports;
+
+import br.unifor.costify.shared.application.errors.ApplicationErrorCode;
+import br.unifor.costify.shared.application.errors.ApplicationException;
+
+/**
+ * Exception thrown when an import file cannot be read as a whole, e.g. a row with the
+ * wrong number of columns or an unterminated quote. Nothing is imported in that case.
+ */
+public class InvalidImportFileException extends ApplicationException {
+
+    public InvalidImportFileException(String message, Throwable cause) {
+        super(ApplicationErrorCode.INVALID_IMPORT_FILE, message, cause);
+    }
+}
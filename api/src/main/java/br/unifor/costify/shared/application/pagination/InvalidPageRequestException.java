@@ -0,0 +1,19 @@
+package br.unifor.costify.shared.application.pagination;
+
+import br.unifor.costify.shared.application.errors.ApplicationErrorCode;
+import br.unifor.costify.shared.application.errors.ApplicationException;
+
+/**
+ * Exception thrown when a listing is requested with an invalid page size or a
+ * malformed or mismatched page cursor.
+ */
+public class InvalidPageRequestException extends ApplicationException {
+
+    public InvalidPageRequestException(String message) {
+        super(ApplicationErrorCode.INVALID_PAGE_REQUEST, message);
+    }
+
+    public InvalidPageRequestException(String message, Throwable cause) {
+        super(ApplicationErrorCode.INVALID_PAGE_REQUEST, message, cause);
+    }
+}
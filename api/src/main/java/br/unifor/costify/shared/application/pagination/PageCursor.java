@@ -0,0 +1,66 @@
+package br.unifor.costify.shared.application.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last item of a page in a keyset-paginated listing: the sort it was
+ * produced for, the value of the sort key and the ID used as tie-breaker.
+ * <p>
+ * Clients only ever see the {@link #encode() encoded} form, which is opaque and URL-safe.
+ */
+public record PageCursor(String sort, SortDirection direction, String value, String id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String SEPARATOR = ".";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                encodePart(sort), encodePart(direction.name()), encodePart(value), encodePart(id));
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @throws InvalidPageRequestException if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new InvalidPageRequestException("Invalid page cursor");
+            }
+            return new PageCursor(
+                    decodePart(parts[0]),
+                    SortDirection.valueOf(decodePart(parts[1])),
+                    decodePart(parts[2]),
+                    decodePart(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException("Invalid page cursor", e);
+        }
+    }
+
+    /**
+     * Checks that this cursor was produced for the given sort, so a token cannot be
+     * replayed against a different ordering.
+     *
+     * @throws InvalidPageRequestException if the sort or direction differ
+     */
+    public PageCursor requireSort(String expectedSort, SortDirection expectedDirection) {
+        if (!sort.equals(expectedSort) || direction != expectedDirection) {
+            throw new InvalidPageRequestException("Page cursor does not match the requested sort");
+        }
+        return this;
+    }
+
+    private static String encodePart(String part) {
+        return ENCODER.encodeToString(part.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(String part) {
+        return new String(DECODER.decode(part), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,40 @@
+package br.unifor.costify.shared.application.pagination;
+
+/**
+ * Request for one page of a keyset-paginated listing.
+ *
+ * @param sort the sort key
+ * @param direction the sort direction
+ * @param after the decoded cursor of the previous page, or {@code null} for the first page
+ * @param limit the maximum number of items in the page
+ */
+public record PageRequest<S extends Enum<S>>(S sort, SortDirection direction, PageCursor after, int limit) {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    public PageRequest {
+        if (sort == null || direction == null) {
+            throw new IllegalArgumentException("Sort and direction are required");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new InvalidPageRequestException(
+                    String.format("Page limit must be between 1 and %d", MAX_LIMIT));
+        }
+        if (after != null) {
+            after.requireSort(sort.name(), direction);
+        }
+    }
+
+    /**
+     * Builds a request from raw API parameters.
+     *
+     * @param cursor the opaque token returned with the previous page, or {@code null}
+     * @param limit the page size, or {@code null} for {@link #DEFAULT_LIMIT}
+     */
+    public static <S extends Enum<S>> PageRequest<S> of(
+            S sort, SortDirection direction, String cursor, Integer limit) {
+        PageCursor after = cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor);
+        return new PageRequest<>(sort, direction, after, limit == null ? DEFAULT_LIMIT : limit);
+    }
+}
@@ -0,0 +1,6 @@
+package br.unifor.costify.shared.application.pagination;
+
+public enum SortDirection {
+    ASC,
+    DESC
+}
@@ -0,0 +1,15 @@
+package br.unifor.costify.shared.application.versioning;
+
+import java.time.Instant;
+
+/**
+ * A summary of a whole table that changes whenever a row is inserted, updated or deleted:
+ * an insert or delete changes {@code size}, and every write increments one row's version
+ * and so {@code versionSum}.
+ *
+ * @param size the number of rows
+ * @param versionSum the sum of the rows' versions
+ * @param lastModified the latest write to any row, or {@code null} if there are no rows
+ */
+public record CollectionVersion(long size, long versionSum, Instant lastModified) {
+}
@@ -0,0 +1,12 @@
+package br.unifor.costify.shared.application.versioning;
+
+import java.time.Instant;
+
+/**
+ * The validators of one stored resource, read without loading the resource.
+ *
+ * @param version the stored version, incremented on every write
+ * @param lastModified when the resource was last written
+ */
+public record ResourceVersion(long version, Instant lastModified) {
+}
@@ -15,8 +15,10 @@ public enum DomainErrorCode {
     EMPTY_RECIPE("DOMAIN-003", "Empty recipe"),
     INVALID_QUANTITY("DOMAIN-004", "Invalid recipe quantity"),
     INVALID_TOTAL_COST("DOMAIN-005", "Invalid recipe total cost"),
+    RECIPE_CYCLE("DOMAIN-006", "Recipe contains itself"),
     
     // Generic domain errors
+    INVALID_ID("DOMAIN-007", "Invalid identifier"),
     DOMAIN_CONSTRAINT_VIOLATION("DOMAIN-999", "Domain constraint violation");
 
     private final String code;
@@ -0,0 +1,11 @@
+package br.unifor.costify.shared.domain.errors;
+
+/**
+ * Exception thrown when an identifier is not a UUID.
+ */
+public class InvalidIdException extends DomainException {
+
+    public InvalidIdException(String value) {
+        super(DomainErrorCode.INVALID_ID, String.format("Invalid identifier: '%s' is not a UUID", value));
+    }
+}
@@ -1,5 +1,7 @@
 package br.unifor.costify.shared.domain.events;
 
+import java.util.List;
+
 /**
  * Interface for handling domain events.
  * Implementations should process specific types of domain events.
@@ -19,4 +21,16 @@ public interface DomainEventHandler {
    * @return true if this handler can process the event, false otherwise
    */
   boolean canHandle(DomainEvent event);
+
+  /**
+   * Handle several events at once, in order. All of them passed {@link #canHandle}.
+   * Handlers that can process a batch more cheaply than event by event should override this.
+   *
+   * @param events The domain events to handle
+   */
+  default void handleAll(List<DomainEvent> events) {
+    for (DomainEvent event : events) {
+      handle(event);
+    }
+  }
 }
@@ -1,25 +1,53 @@
 package br.unifor.costify.shared.domain.valueobject;
 
 import br.unifor.costify.shared.domain.contracts.IdGenerator;
-import java.util.Objects;
+import br.unifor.costify.shared.domain.errors.InvalidIdException;
+import java.util.UUID;
 
+/**
+ * Identifier of an aggregate.
+ * <p>
+ * Identifiers are UUIDs, held as their two 64-bit halves so equality and hashing do not
+ * walk a 36-character string. Anything else is rejected when the identifier is created,
+ * so a malformed ID in a request is answered with 400 before it reaches storage.
+ */
 public final class Id {
-  private final String value;
+  private static final int UUID_LENGTH = 36;
 
-  private Id(String value) {
-    this.value = value;
+  private final long mostSignificantBits;
+  private final long leastSignificantBits;
+
+  private Id(long mostSignificantBits, long leastSignificantBits) {
+    this.mostSignificantBits = mostSignificantBits;
+    this.leastSignificantBits = leastSignificantBits;
   }
 
+  /**
+   * @throws InvalidIdException if the value is not a canonical UUID
+   */
   public static Id of(String value) {
-    return new Id(value);
+    if (!isCanonicalUuid(value)) {
+      throw new InvalidIdException(value);
+    }
+    long mostSignificantBits = (hex(value, 0, 8) << 32) | (hex(value, 9, 13) << 16) | hex(value, 14, 18);
+    long leastSignificantBits = (hex(value, 19, 23) << 48) | hex(value, 24, 36);
+    return new Id(mostSignificantBits, leastSignificantBits);
+  }
+
+  public static Id of(UUID value) {
+    return new Id(value.getMostSignificantBits(), value.getLeastSignificantBits());
   }
 
   public static Id generate(IdGenerator generator) {
-    return new Id(generator.generate());
+    return of(generator.generate());
   }
 
   public String getValue() {
-    return value;
+    return toUuid().toString();
+  }
+
+  public UUID toUuid() {
+    return new UUID(mostSignificantBits, leastSignificantBits);
   }
 
   @Override
@@ -27,16 +55,49 @@ public final class Id {
     if (this == o) return true;
     if (!(o instanceof Id)) return false;
     Id id = (Id) o;
-    return value.equals(id.value);
+    return mostSignificantBits == id.mostSignificantBits && leastSignificantBits == id.leastSignificantBits;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(value);
+    return Long.hashCode(mostSignificantBits ^ leastSignificantBits);
   }
 
   @Override
   public String toString() {
-    return value;
+    return getValue();
+  }
+
+  /** 8-4-4-4-12 hex digits, in either case. */
+  private static boolean isCanonicalUuid(String value) {
+    if (value == null || value.length() != UUID_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < UUID_LENGTH; i++) {
+      char c = value.charAt(i);
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (c != '-') return false;
+      } else if (hexDigit(c) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static long hex(String value, int from, int to) {
+    long result = 0;
+    for (int i = from; i < to; i++) {
+      if (value.charAt(i) != '-') {
+        result = (result << 4) | hexDigit(value.charAt(i));
+      }
+    }
+    return result;
+  }
+
+  private static int hexDigit(char c) {
+    if (c >= '0' && c <= '9') return c - '0';
+    if (c >= 'a' && c <= 'f') return c - 'a' + 10;
+    if (c >= 'A' && c <= 'F') return c - 'A' + 10;
+    return -1;
   }
 }
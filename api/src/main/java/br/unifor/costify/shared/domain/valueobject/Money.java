@@ -9,6 +9,10 @@ import java.util.Objects;
 public final class Money {
     private static final int SCALE = 2; // 2 decimal places for currency
     private static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+
+    /** Fixed-point resolution used by {@link MoneyAccumulator}: 1 cent = 1,000,000 micro-cents. */
+    public static final long MICRO_CENTS_PER_CENT = 1_000_000L;
+    public static final long MICRO_CENTS_PER_UNIT = 100 * MICRO_CENTS_PER_CENT;
     
     private final BigDecimal amount;
 
@@ -28,6 +32,18 @@ public final class Money {
         return new Money(BigDecimal.valueOf(amount));
     }
 
+    /**
+     * Rounds a fixed-point amount of micro-cents to a 2-decimal Money (HALF_UP).
+     * This is the single rounding step between the fixed-point hot path and the API boundary.
+     */
+    public static Money ofMicroCents(long microCents) {
+        if (microCents < 0) {
+            throw new NegativeMoneyException("Money cannot be negative in business context");
+        }
+        long cents = (microCents + MICRO_CENTS_PER_CENT / 2) / MICRO_CENTS_PER_CENT;
+        return new Money(BigDecimal.valueOf(cents, SCALE));
+    }
+
     public static Money zero() {
         return new Money(BigDecimal.ZERO);
     }
@@ -77,6 +93,10 @@ public final class Money {
         return amount.doubleValue();
     }
 
+    public long toMicroCents() {
+        return amount.unscaledValue().longValueExact() * MICRO_CENTS_PER_CENT;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -0,0 +1,42 @@
+package br.unifor.costify.shared.domain.valueobject;
+
+/**
+ * Mutable fixed-point accumulator for money amounts expressed in micro-cents.
+ * Used on the cost calculation hot path so that summing N lines costs N primitive
+ * additions instead of N BigDecimal allocations, and so that per-line rounding errors
+ * do not add up. Conversion to {@link Money} (and its 2-decimal rounding) happens once,
+ * in {@link #toMoney()}.
+ * <p>
+ * Instances are not thread-safe and are meant to be short-lived, local to one calculation.
+ */
+public final class MoneyAccumulator {
+    private long microCents;
+
+    public MoneyAccumulator() {
+        this.microCents = 0L;
+    }
+
+    /**
+     * Converts a (possibly fractional-cent) amount in currency units to micro-cents.
+     */
+    public static long toMicroCents(double amount) {
+        return Math.round(amount * Money.MICRO_CENTS_PER_UNIT);
+    }
+
+    public MoneyAccumulator add(long microCents) {
+        this.microCents = Math.addExact(this.microCents, microCents);
+        return this;
+    }
+
+    public MoneyAccumulator add(Money money) {
+        return add(money.toMicroCents());
+    }
+
+    public long getMicroCents() {
+        return microCents;
+    }
+
+    public Money toMoney() {
+        return Money.ofMicroCents(microCents);
+    }
+}
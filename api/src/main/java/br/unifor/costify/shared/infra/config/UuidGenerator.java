@@ -1,13 +1,68 @@
 package br.unifor.costify.shared.infra.config;
 
 import br.unifor.costify.shared.domain.contracts.IdGenerator;
+import java.security.SecureRandom;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import org.springframework.stereotype.Component;
 
+/**
+ * Generates time-ordered version 7 UUIDs (RFC 9562).
+ * <p>
+ * The first 48 bits are the Unix time in milliseconds, so new keys land at the right edge
+ * of the primary key B-tree instead of on random pages. The next 12 bits are a counter,
+ * started at a random value each millisecond, which keeps IDs from one instance strictly
+ * increasing even within the same millisecond; the last 62 bits are random.
+ */
 @Component
 public class UuidGenerator implements IdGenerator {
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT_RFC_4122 = 0x8000_0000_0000_0000L;
+  private static final long COUNTER_BITS = 12;
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+  private final SecureRandom random = new SecureRandom();
+  private final LongSupplier clock;
+  /** Last issued {@code millis << 12 | counter}. */
+  private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+  public UuidGenerator() {
+    this(System::currentTimeMillis);
+  }
+
+  UuidGenerator(LongSupplier clock) {
+    this.clock = clock;
+  }
+
   @Override
   public String generate() {
-    return UUID.randomUUID().toString();
+    return nextUuid().toString();
+  }
+
+  UUID nextUuid() {
+    long timestampAndCounter = nextTimestampAndCounter();
+    long millis = timestampAndCounter >>> COUNTER_BITS;
+    long counter = timestampAndCounter & COUNTER_MASK;
+
+    long mostSignificantBits = (millis << 16) | VERSION_7 | counter;
+    long leastSignificantBits = (random.nextLong() >>> 2) | VARIANT_RFC_4122;
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+
+  /**
+   * Starts a new millisecond at a random counter in its lower half, leaving room to count up;
+   * within the same millisecond (or if the clock goes back) the previous value is incremented,
+   * overflowing into the next millisecond if needed.
+   */
+  private long nextTimestampAndCounter() {
+    while (true) {
+      long last = lastTimestampAndCounter.get();
+      long fresh = (clock.getAsLong() << COUNTER_BITS) | random.nextInt(1 << (COUNTER_BITS - 1));
+      long next = fresh > last ? fresh : last + 1;
+      if (lastTimestampAndCounter.compareAndSet(last, next)) {
+        return next;
+      }
+    }
   }
 }
@@ -0,0 +1,93 @@
+package br.unifor.costify.shared.infra.data;
+
+import br.unifor.costify.shared.application.contracts.ConcurrencyLimit;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ConcurrencyLimit} sized from the connection pool.
+ * <p>
+ * With platform threads, the Tomcat pool and the single recalculation worker implicitly
+ * bound how much work competes for connections. With virtual threads there is no such
+ * bound, so {@code costify.web.concurrency-limit.enabled} turns on a fair semaphore shared
+ * by the API requests and the recipe recalculation queue. A request can hold two
+ * connections at once (its own transaction and the {@code REQUIRES_NEW} recipe
+ * recalculation that runs after it commits), so the default limit is half the Hikari pool.
+ * <p>
+ * When the limit is not enabled, every acquire succeeds at once.
+ */
+@Component
+public class ConnectionPoolLimit implements ConcurrencyLimit {
+  private final Semaphore permits;
+  private final int maxConcurrent;
+
+  @Autowired
+  public ConnectionPoolLimit(
+      DataSource dataSource,
+      @Value("${costify.web.concurrency-limit.enabled:false}") boolean enabled,
+      @Value("${costify.web.concurrency-limit.max-requests:0}") int maxConcurrent) {
+    this(enabled ? (maxConcurrent > 0 ? maxConcurrent : defaultLimit(dataSource)) : 0);
+  }
+
+  /**
+   * @param maxConcurrent the number of slots, or 0 for no limit
+   */
+  public ConnectionPoolLimit(int maxConcurrent) {
+    if (maxConcurrent < 0) {
+      throw new IllegalArgumentException("Concurrency limit cannot be negative");
+    }
+    this.permits = maxConcurrent > 0 ? new Semaphore(maxConcurrent, true) : null;
+    this.maxConcurrent = maxConcurrent;
+  }
+
+  /**
+   * Half the connection pool, so every admitted request can get two connections.
+   */
+  static int defaultLimit(DataSource dataSource) {
+    if (dataSource instanceof HikariDataSource hikari) {
+      return Math.max(1, hikari.getMaximumPoolSize() / 2);
+    }
+    throw new IllegalStateException(
+        "costify.web.concurrency-limit.max-requests must be set when the data source is not Hikari");
+  }
+
+  public boolean isEnabled() {
+    return permits != null;
+  }
+
+  /**
+   * @return the number of slots, or 0 when the limit is not enabled
+   */
+  public int getMaxConcurrent() {
+    return maxConcurrent;
+  }
+
+  public int availableSlots() {
+    return permits == null ? Integer.MAX_VALUE : permits.availablePermits();
+  }
+
+  @Override
+  public void acquire() throws InterruptedException {
+    if (permits != null) {
+      permits.acquire();
+    }
+  }
+
+  @Override
+  public boolean tryAcquire(Duration timeout) throws InterruptedException {
+    return permits == null || permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void release() {
+    if (permits != null) {
+      permits.release();
+    }
+  }
+}
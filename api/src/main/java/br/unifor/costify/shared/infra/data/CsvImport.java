@@ -0,0 +1,129 @@
+package br.unifor.costify.shared.infra.data;
+
+import br.unifor.costify.shared.application.imports.ImportReport;
+import br.unifor.costify.shared.application.imports.ImportRowError;
+import br.unifor.costify.shared.application.imports.InvalidImportFileException;
+import br.unifor.costify.shared.domain.contracts.IdGenerator;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * SQL and JDBC helpers shared by the CSV importers.
+ * <p>
+ * An import streams the file into a temporary staging table with the PostgreSQL
+ * {@code COPY} protocol, marks invalid rows with set-based UPDATEs and then inserts the
+ * remaining rows with a single INSERT ... SELECT per target table. Staging tables hold
+ * every CSV column as text, so a malformed value becomes a row error instead of failing
+ * the COPY, and must have a {@code row_no BIGSERIAL} column (filled in file order) and
+ * an {@code error TEXT} column that stays null for valid rows.
+ */
+public final class CsvImport {
+
+    /**
+     * Freshly generated IDs, bound as the single {@code ?} parameter (a {@code String[]}),
+     * as a table {@code new_ids(id, ordinal)} numbered from 1 for joining with the rows to insert.
+     */
+    public static final String NEW_IDS = "unnest(CAST(? AS uuid[])) WITH ORDINALITY AS new_ids(id, ordinal)";
+
+    private static final String DECIMAL_PATTERN = "^([0-9]+(\\.[0-9]*)?|\\.[0-9]+)$";
+
+    private CsvImport() {
+    }
+
+    /**
+     * Streams a UTF-8 CSV file into a staging table on the connection of the current
+     * transaction. The statement must be a {@code COPY ... FROM STDIN}.
+     *
+     * @return the number of rows copied
+     * @throws InvalidImportFileException if the file is not valid CSV for the table, e.g. a row
+     *     has the wrong number of columns
+     */
+    public static long copyIn(JdbcTemplate jdbcTemplate, String copySql, InputStream csv) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql, csv);
+            } catch (SQLException e) {
+                // Class 22 covers malformed CSV, such as missing or extra columns and bad encoding
+                if (e.getSQLState() != null && e.getSQLState().startsWith("22")) {
+                    throw new InvalidImportFileException("Invalid CSV file: " + e.getMessage(), e);
+                }
+                throw e;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read the CSV file", e);
+            }
+        });
+    }
+
+    /**
+     * Condition that is true when a text column holds a plain non-negative decimal number,
+     * ignoring surrounding blanks; false for null.
+     */
+    public static String isDecimal(String column) {
+        return "COALESCE(btrim(" + column + ") ~ '" + DECIMAL_PATTERN + "', false)";
+    }
+
+    /**
+     * A text column that passed {@link #isDecimal} as a number rounded to {@code scale} digits.
+     */
+    public static String toDecimal(String column, int scale) {
+        return "ROUND(CAST(btrim(" + column + ") AS numeric), " + scale + ")";
+    }
+
+    /**
+     * Condition that is true when a text column names a {@link Unit}, ignoring case and
+     * surrounding blanks; false for null.
+     */
+    public static String isUnit(String column) {
+        String units = Arrays.stream(Unit.values())
+                .map(unit -> "'" + unit.name() + "'")
+                .collect(Collectors.joining(", "));
+        return "COALESCE(upper(btrim(" + column + ")) IN (" + units + "), false)";
+    }
+
+    /**
+     * A text column that passed {@link #isUnit} as a {@code measurement_unit}.
+     */
+    public static String toUnit(String column) {
+        return "CAST(upper(btrim(" + column + ")) AS measurement_unit)";
+    }
+
+    /**
+     * Generates {@code count} IDs for binding to {@link #NEW_IDS}.
+     */
+    public static String[] newIds(IdGenerator idGenerator, int count) {
+        String[] ids = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = idGenerator.generate();
+        }
+        return ids;
+    }
+
+    /**
+     * Counts the valid and rejected rows of a staging table and lists the first rejected ones.
+     * Table names must come from code, never from user input.
+     */
+    public static ImportReport report(JdbcTemplate jdbcTemplate, String stagingTable) {
+        Map<String, Object> counts = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) AS total_rows, COUNT(error) AS rejected_rows FROM " + stagingTable);
+        long totalRows = ((Number) counts.get("total_rows")).longValue();
+        long rejectedRows = ((Number) counts.get("rejected_rows")).longValue();
+
+        List<ImportRowError> errors = rejectedRows == 0 ? List.of() : jdbcTemplate.query(
+                "SELECT row_no, error FROM " + stagingTable + " WHERE error IS NOT NULL ORDER BY row_no LIMIT ?",
+                (rs, rowNum) -> new ImportRowError(rs.getLong("row_no"), rs.getString("error")),
+                ImportReport.MAX_REPORTED_ERRORS);
+
+        return new ImportReport(totalRows, totalRows - rejectedRows, rejectedRows, errors);
+    }
+}
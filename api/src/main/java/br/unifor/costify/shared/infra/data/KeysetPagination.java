@@ -0,0 +1,89 @@
+package br.unifor.costify.shared.infra.data;
+
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.InvalidPageRequestException;
+import br.unifor.costify.shared.application.pagination.PageCursor;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import br.unifor.costify.shared.application.pagination.SortDirection;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * SQL and result helpers shared by the keyset-paginated repository listings.
+ * <p>
+ * Rows are ordered by {@code (column, id)} and each page continues strictly after the
+ * previous page's last {@code (column, id)} pair, so pages never skip or repeat rows
+ * and the cost of a page does not depend on how deep into the listing it is.
+ */
+public final class KeysetPagination {
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Builds a native query for one page. The query binds {@code :limit}, and when
+     * {@code afterCursor} is set also {@code :value} and {@code :id}.
+     * Table and column names must come from code, never from user input.
+     */
+    public static String selectPage(String table, String column, SortDirection direction, boolean afterCursor) {
+        String comparator = direction == SortDirection.ASC ? ">" : "<";
+        String order = direction.name();
+
+        StringBuilder sql = new StringBuilder("SELECT * FROM ").append(table);
+        if (afterCursor) {
+            sql.append(" WHERE (").append(column).append(", id) ")
+                    .append(comparator).append(" (:value, :id)");
+        }
+        sql.append(" ORDER BY ").append(column).append(' ').append(order)
+                .append(", id ").append(order)
+                .append(" LIMIT :limit");
+        return sql.toString();
+    }
+
+    /**
+     * Parses the ID half of a cursor for binding to {@code :id}.
+     *
+     * @throws InvalidPageRequestException if the cursor ID is not a UUID
+     */
+    public static UUID cursorId(PageCursor after) {
+        try {
+            return UUID.fromString(after.id());
+        } catch (RuntimeException e) {
+            throw new InvalidPageRequestException("Invalid page cursor", e);
+        }
+    }
+
+    /**
+     * Number of rows to fetch for a page: one more than requested, to find out whether
+     * there is a next page without a separate count query.
+     */
+    public static int fetchSize(PageRequest<?> request) {
+        return request.limit() + 1;
+    }
+
+    /**
+     * Turns the rows fetched with {@link #fetchSize(PageRequest)} into a page, with a
+     * cursor pointing at the last returned row when more rows exist.
+     */
+    public static <R, T> CursorPage<T> toPage(
+            List<R> rows,
+            PageRequest<?> request,
+            Function<R, String> sortValue,
+            Function<R, String> id,
+            Function<R, T> mapper) {
+        boolean hasNext = rows.size() > request.limit();
+        List<R> pageRows = hasNext ? rows.subList(0, request.limit()) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            R last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new PageCursor(
+                    request.sort().name(), request.direction(), sortValue.apply(last), id.apply(last))
+                    .encode();
+        }
+
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,22 @@
+package br.unifor.costify.shared.infra.data;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Converts domain quantities to the value a {@code DECIMAL(10,3)} quantity column holds.
+ * <p>
+ * {@code new BigDecimal(0.1)} is the exact binary value 0.1000000000000000055…, which never
+ * compares equal to the stored 0.100, so a quantity must go through {@link #of(double)}
+ * before it is written or compared with a loaded row.
+ */
+public final class Quantities {
+    public static final int SCALE = 3;
+
+    private Quantities() {
+    }
+
+    public static BigDecimal of(double quantity) {
+        return BigDecimal.valueOf(quantity).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,65 @@
+package br.unifor.costify.shared.infra.data;
+
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import jakarta.persistence.EntityManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads the validators of versioned tables, i.e. tables with {@code version} and
+ * {@code updated_at} columns, without loading or mapping their rows.
+ * <p>
+ * {@code updated_at} is a {@code TIMESTAMP} written in the JVM's time zone, both by
+ * Hibernate and by {@code CURRENT_TIMESTAMP} in the connection's session, so it is read
+ * back in that zone.
+ */
+public final class ResourceVersions {
+
+    private ResourceVersions() {
+    }
+
+    /**
+     * A single primary key lookup returning two columns. Table names must come from code,
+     * never from user input.
+     */
+    @SuppressWarnings("unchecked")
+    public static Optional<ResourceVersion> findById(EntityManager entityManager, String table, Id id) {
+        List<Object[]> rows = entityManager
+                .createNativeQuery("SELECT version, updated_at FROM " + table + " WHERE id = CAST(:id AS uuid)")
+                .setParameter("id", id.getValue())
+                .getResultList();
+        return rows.stream()
+                .findFirst()
+                .map(row -> new ResourceVersion(((Number) row[0]).longValue(), toInstant(row[1])));
+    }
+
+    /**
+     * One aggregate over the table. It still reads every row, but only three narrow columns,
+     * with nothing joined, mapped or serialized.
+     */
+    public static CollectionVersion findCollection(EntityManager entityManager, String table) {
+        Object[] row = (Object[]) entityManager
+                .createNativeQuery("SELECT COUNT(*), COALESCE(SUM(version), 0), MAX(updated_at) FROM " + table)
+                .getSingleResult();
+        return new CollectionVersion(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                row[2] == null ? null : toInstant(row[2]));
+    }
+
+    private static Instant toInstant(Object timestamp) {
+        return switch (timestamp) {
+            case Timestamp sqlTimestamp -> sqlTimestamp.toInstant();
+            case LocalDateTime localDateTime -> localDateTime.atZone(ZoneId.systemDefault()).toInstant();
+            case Instant instant -> instant;
+            default -> throw new IllegalStateException("Unexpected timestamp type " + timestamp.getClass());
+        };
+    }
+}
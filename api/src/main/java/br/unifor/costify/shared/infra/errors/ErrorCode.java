@@ -16,13 +16,17 @@ public enum ErrorCode {
     // Resource errors
     RESOURCE_NOT_FOUND("INFRA-404", "Resource not found"),
     RESOURCE_CONFLICT("INFRA-409", "Resource conflict"),
+    PRECONDITION_REQUIRED("INFRA-428", "Precondition required"),
     
     // Method errors
     METHOD_NOT_ALLOWED("INFRA-405", "Method not allowed"),
     
     // Business logic errors (mapped from domain/application layers)
     BUSINESS_RULE_VIOLATION("INFRA-422", "Business rule violation"),
-    BUSINESS_LOGIC_ERROR("INFRA-400", "Business logic error");
+    BUSINESS_LOGIC_ERROR("INFRA-400", "Business logic error"),
+
+    // Capacity errors
+    SERVICE_UNAVAILABLE("INFRA-503", "Too many concurrent requests, try again shortly");
 
     private final String code;
     private final String defaultMessage;
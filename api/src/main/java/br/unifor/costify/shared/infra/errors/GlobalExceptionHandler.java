@@ -4,11 +4,13 @@ import br.unifor.costify.shared.application.errors.ApplicationErrorCode;
 import br.unifor.costify.shared.application.errors.ApplicationException;
 import br.unifor.costify.shared.domain.errors.DomainErrorCode;
 import br.unifor.costify.shared.domain.errors.DomainException;
+import br.unifor.costify.shared.infra.web.PreconditionRequiredException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -212,6 +214,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(error);
     }
 
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionRequired(
+            PreconditionRequiredException ex, HttpServletRequest request) {
+        log.warn("Precondition required: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.of(
+            HttpStatus.PRECONDITION_REQUIRED.value(),
+            "Precondition Required",
+            ErrorCode.PRECONDITION_REQUIRED.getCode(),
+            ex.getMessage(),
+            request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(error);
+    }
+
+    /**
+     * A write lost a race with a concurrent one between reading the row and flushing it;
+     * the client can read the resource again and retry.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+        log.warn("Concurrent update conflict: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.of(
+            HttpStatus.CONFLICT.value(),
+            "Conflict",
+            ErrorCode.RESOURCE_CONFLICT.getCode(),
+            "The resource was modified by another request, read it again and retry",
+            request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(NoHandlerFoundException.class)
     public ResponseEntity<ErrorResponse> handleNoHandlerFound(
             NoHandlerFoundException ex, HttpServletRequest request) {
@@ -266,9 +304,11 @@ public class GlobalExceptionHandler {
      */
     private HttpStatus getHttpStatusForApplicationError(ApplicationErrorCode applicationErrorCode) {
         return switch (applicationErrorCode) {
-            case INGREDIENT_NOT_FOUND, RECIPE_NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case INGREDIENT_NOT_FOUND, INGREDIENT_PRICE_NOT_FOUND, RECIPE_NOT_FOUND -> HttpStatus.NOT_FOUND;
             case INGREDIENT_ALREADY_EXISTS, RECIPE_ALREADY_EXISTS -> HttpStatus.CONFLICT;
-            case COST_CALCULATION_ERROR, INGREDIENT_LOADING_ERROR -> HttpStatus.BAD_REQUEST;
+            case COST_CALCULATION_ERROR, INGREDIENT_LOADING_ERROR, INVALID_PAGE_REQUEST, INVALID_IMPORT_FILE ->
+                HttpStatus.BAD_REQUEST;
+            case STALE_VERSION -> HttpStatus.PRECONDITION_FAILED;
             case APPLICATION_ERROR -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
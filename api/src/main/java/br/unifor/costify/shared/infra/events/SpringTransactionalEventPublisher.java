@@ -3,8 +3,10 @@ package br.unifor.costify.shared.infra.events;
 import br.unifor.costify.shared.domain.events.DomainEvent;
 import br.unifor.costify.shared.domain.events.DomainEventHandler;
 import br.unifor.costify.shared.domain.events.DomainEventPublisher;
+import br.unifor.costify.shared.infra.events.outbox.DomainEventOutbox;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
@@ -16,24 +18,33 @@ import org.springframework.stereotype.Component;
  *
  * This is the primary implementation used in production.
  * Events are only processed after transaction commit via @TransactionalEventListener.
+ *
+ * When the transactional outbox is enabled, events it has a codec for are also stored in
+ * it within the publishing transaction, so work that must survive a crash after commit is
+ * delivered by the outbox relay; see {@link TransactionalDomainEventWrapper#isStoredInOutbox()}.
  */
 @Component
 @Primary
 public class SpringTransactionalEventPublisher implements DomainEventPublisher {
   private static final Logger logger = LoggerFactory.getLogger(SpringTransactionalEventPublisher.class);
   private final ApplicationEventPublisher springPublisher;
+  private final DomainEventOutbox outbox;
 
-  public SpringTransactionalEventPublisher(ApplicationEventPublisher springPublisher) {
+  public SpringTransactionalEventPublisher(
+      ApplicationEventPublisher springPublisher, ObjectProvider<DomainEventOutbox> outbox) {
     this.springPublisher = springPublisher;
+    this.outbox = outbox.getIfAvailable();
   }
 
   @Override
   public void publish(DomainEvent event) {
     logger.debug("Publishing domain event: {} occurred at {}", event.getEventType(), event.getOccurredOn());
 
+    boolean storedInOutbox = outbox != null && outbox.append(event);
+
     // Wrap the domain event and publish it through Spring
     // Spring's @TransactionalEventListener will ensure it's processed after commit
-    springPublisher.publishEvent(new TransactionalDomainEventWrapper(event));
+    springPublisher.publishEvent(new TransactionalDomainEventWrapper(event, storedInOutbox));
   }
 
   @Override
@@ -7,14 +7,24 @@ import java.time.Instant;
 /**
  * Wrapper for domain events to be published within Spring transactions.
  * This wrapper ensures that domain events are only processed after the transaction commits.
+ * <p>
+ * Events that were also written to the transactional outbox are delivered to their
+ * {@link br.unifor.costify.shared.domain.events.DomainEventHandler}s by the outbox relay;
+ * after-commit listeners doing the same work should skip them.
  */
 public class TransactionalDomainEventWrapper {
   private final DomainEvent event;
   private final Instant wrapperCreatedAt;
+  private final boolean storedInOutbox;
 
   public TransactionalDomainEventWrapper(DomainEvent event) {
+    this(event, false);
+  }
+
+  public TransactionalDomainEventWrapper(DomainEvent event, boolean storedInOutbox) {
     this.event = event;
     this.wrapperCreatedAt = Instant.now();
+    this.storedInOutbox = storedInOutbox;
   }
 
   public DomainEvent getEvent() {
@@ -24,4 +34,11 @@ public class TransactionalDomainEventWrapper {
   public Instant getWrapperCreatedAt() {
     return wrapperCreatedAt;
   }
+
+  /**
+   * @return true if the event was written to the outbox and will be delivered by the relay
+   */
+  public boolean isStoredInOutbox() {
+    return storedInOutbox;
+  }
 }
@@ -1,6 +1,10 @@
 package br.unifor.costify.shared.infra.events;
 
 import br.unifor.costify.shared.domain.events.DomainEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -11,10 +15,20 @@ import org.springframework.transaction.event.TransactionalEventListener;
  * Processes domain events after transaction commits.
  * This ensures that events are only processed if the transaction was successful,
  * maintaining consistency between domain state and published events.
+ * <p>
+ * The time from an event being raised to its after-commit processing is recorded as
+ * {@value #LAG_TIMER}, tagged with the event type.
  */
 @Component
 public class TransactionalEventProcessor {
   private static final Logger logger = LoggerFactory.getLogger(TransactionalEventProcessor.class);
+  static final String LAG_TIMER = "costify.events.lag";
+
+  private final MeterRegistry meterRegistry;
+
+  public TransactionalEventProcessor(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
 
   /**
    * Process domain events after the transaction commits successfully.
@@ -25,11 +39,19 @@ public class TransactionalEventProcessor {
   @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
   public void handleAfterCommit(TransactionalDomainEventWrapper wrapper) {
     DomainEvent event = wrapper.getEvent();
+    Duration lag = Duration.between(event.getOccurredOn(), Instant.now());
+
+    Timer.builder(LAG_TIMER)
+        .description("Time from a domain event being raised to its processing after commit")
+        .tag("event", event.getEventType())
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(lag);
 
     logger.info("Processing domain event after commit: {} (occurred at: {}, processed after: {}ms)",
         event.getEventType(),
         event.getOccurredOn(),
-        java.time.Duration.between(event.getOccurredOn(), java.time.Instant.now()).toMillis());
+        lag.toMillis());
 
     // Here you can add specific event handlers or forward to external systems
     // For example:
@@ -0,0 +1,110 @@
+package br.unifor.costify.shared.infra.events.outbox;
+
+import br.unifor.costify.shared.domain.events.DomainEvent;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The {@code domain_event_outbox} table.
+ * <p>
+ * Events are appended on the connection of the transaction that raised them, so they are
+ * stored if and only if that transaction commits. The relay claims due events with
+ * {@code FOR UPDATE SKIP LOCKED}: a claimed row stays locked until the relay's transaction
+ * ends, other instances skip it, and if the relay dies the lock is released and the event
+ * is claimed again.
+ */
+@Component
+@ConditionalOnProperty(name = "costify.events.outbox.enabled", havingValue = "true")
+public class DomainEventOutbox {
+  private static final String INSERT =
+      "INSERT INTO domain_event_outbox (event_type, payload, occurred_on) VALUES (?, CAST(? AS jsonb), ?)";
+  private static final String CLAIM =
+      "SELECT id, event_type, payload::text AS payload, occurred_on, attempts FROM domain_event_outbox"
+          + " WHERE available_at <= now() ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+  private static final String DELETE =
+      "DELETE FROM domain_event_outbox WHERE id = ANY(CAST(? AS bigint[]))";
+  // Backs off exponentially from one second, up to five minutes between attempts
+  private static final String RESCHEDULE =
+      "UPDATE domain_event_outbox SET attempts = attempts + 1, last_error = ?,"
+          + " available_at = now() + LEAST(interval '5 minutes', interval '1 second' * power(2, attempts))"
+          + " WHERE id = ANY(CAST(? AS bigint[]))";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final Map<Class<?>, OutboxEventCodec<?>> codecsByClass = new HashMap<>();
+  private final Map<String, OutboxEventCodec<?>> codecsByType = new HashMap<>();
+
+  public DomainEventOutbox(JdbcTemplate jdbcTemplate, List<OutboxEventCodec<?>> codecs) {
+    this.jdbcTemplate = jdbcTemplate;
+    for (OutboxEventCodec<?> codec : codecs) {
+      codecsByClass.put(codec.eventClass(), codec);
+      codecsByType.put(codec.eventType(), codec);
+    }
+  }
+
+  /**
+   * Stores the event in the current transaction.
+   *
+   * @return false, without storing anything, if the event type has no codec or there is
+   *     no active transaction
+   */
+  public boolean append(DomainEvent event) {
+    OutboxEventCodec<?> codec = codecsByClass.get(event.getClass());
+    if (codec == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+      return false;
+    }
+    jdbcTemplate.update(INSERT, event.getEventType(), encode(codec, event), Timestamp.from(event.getOccurredOn()));
+    return true;
+  }
+
+  /**
+   * Locks up to {@code limit} due events, oldest first, until the current transaction ends.
+   */
+  public List<OutboxEntry> claim(int limit) {
+    return jdbcTemplate.query(CLAIM, (rs, rowNum) -> new OutboxEntry(
+        rs.getLong("id"),
+        rs.getString("event_type"),
+        rs.getString("payload"),
+        rs.getTimestamp("occurred_on").toInstant(),
+        rs.getInt("attempts")), limit);
+  }
+
+  /**
+   * Rebuilds the domain event stored in an entry.
+   *
+   * @throws IllegalStateException if no codec handles the entry's event type
+   */
+  public DomainEvent decode(OutboxEntry entry) {
+    OutboxEventCodec<?> codec = codecsByType.get(entry.eventType());
+    if (codec == null) {
+      throw new IllegalStateException("No outbox codec for event type " + entry.eventType());
+    }
+    return codec.decode(entry.payload());
+  }
+
+  public void delete(Collection<OutboxEntry> entries) {
+    jdbcTemplate.update(DELETE, (Object) ids(entries));
+  }
+
+  /**
+   * Makes the entries due again after a delay that grows with each failed attempt.
+   */
+  public void reschedule(Collection<OutboxEntry> entries, Throwable failure) {
+    jdbcTemplate.update(RESCHEDULE, String.valueOf(failure), ids(entries));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E extends DomainEvent> String encode(OutboxEventCodec<E> codec, DomainEvent event) {
+    return codec.encode((E) event);
+  }
+
+  private static Long[] ids(Collection<OutboxEntry> entries) {
+    return entries.stream().map(OutboxEntry::id).toArray(Long[]::new);
+  }
+}
@@ -0,0 +1,9 @@
+package br.unifor.costify.shared.infra.events.outbox;
+
+import java.time.Instant;
+
+/**
+ * A stored domain event claimed by the relay.
+ */
+public record OutboxEntry(long id, String eventType, String payload, Instant occurredOn, int attempts) {
+}
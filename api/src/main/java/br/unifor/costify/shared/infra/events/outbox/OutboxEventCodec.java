@@ -0,0 +1,26 @@
+package br.unifor.costify.shared.infra.events.outbox;
+
+import br.unifor.costify.shared.domain.events.DomainEvent;
+
+/**
+ * Converts one type of domain event to and from the JSON payload stored in the outbox.
+ * Only events with a codec bean are written to the outbox; the others are delivered
+ * in memory only.
+ *
+ * @param <E> the event type
+ */
+public interface OutboxEventCodec<E extends DomainEvent> {
+  /**
+   * @return the event class this codec converts
+   */
+  Class<E> eventClass();
+
+  /**
+   * @return the value of {@link DomainEvent#getEventType()} for this event
+   */
+  String eventType();
+
+  String encode(E event);
+
+  E decode(String payload);
+}
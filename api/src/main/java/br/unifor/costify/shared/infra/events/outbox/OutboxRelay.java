@@ -0,0 +1,159 @@
+package br.unifor.costify.shared.infra.events.outbox;
+
+import br.unifor.costify.shared.application.contracts.TransactionManager;
+import br.unifor.costify.shared.domain.events.DomainEvent;
+import br.unifor.costify.shared.domain.events.DomainEventHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Delivers the events stored in the {@link DomainEventOutbox} to every
+ * {@link DomainEventHandler} bean that can handle them.
+ * <p>
+ * Each poll claims batches of due events, one transaction per batch, and hands each
+ * handler all of the batch's events it can handle in one {@link DomainEventHandler#handleAll}
+ * call. The batch is deleted only after every handler returns, so delivery is at least
+ * once: if a handler fails the whole batch is retried later with backoff, and if the
+ * instance dies the claim is released and another instance picks the batch up. Handlers
+ * must therefore tolerate seeing an event more than once.
+ * <p>
+ * Events are delivered in order within a batch, but batches claimed by different instances
+ * may be processed concurrently.
+ */
+@Component
+@ConditionalOnProperty(name = "costify.events.outbox.enabled", havingValue = "true")
+public class OutboxRelay implements SmartInitializingSingleton, DisposableBean {
+  private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+  static final String RELAYED_COUNTER = "costify.events.outbox.relayed";
+  static final String FAILURES_COUNTER = "costify.events.outbox.failures";
+  static final String DELIVERY_TIMER = "costify.events.outbox.delivery";
+
+  private final DomainEventOutbox outbox;
+  private final List<DomainEventHandler> handlers;
+  private final TransactionManager transactionManager;
+  private final int batchSize;
+  private final Duration pollInterval;
+  private final ScheduledThreadPoolExecutor worker;
+  private final Counter relayed;
+  private final Counter failures;
+  private final Timer deliveryDelay;
+
+  public OutboxRelay(
+      DomainEventOutbox outbox,
+      List<DomainEventHandler> handlers,
+      TransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${costify.events.outbox.batch-size:100}") int batchSize,
+      @Value("${costify.events.outbox.poll-interval:1s}") Duration pollInterval) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Outbox batch size must be greater than zero");
+    }
+    this.outbox = outbox;
+    this.handlers = handlers;
+    this.transactionManager = transactionManager;
+    this.batchSize = batchSize;
+    this.pollInterval = pollInterval;
+    this.worker = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("outbox-relay").daemon(true).factory());
+    this.relayed = Counter.builder(RELAYED_COUNTER)
+        .description("Outbox events delivered to every handler")
+        .register(meterRegistry);
+    this.failures = Counter.builder(FAILURES_COUNTER)
+        .description("Outbox events whose delivery failed and was rescheduled")
+        .register(meterRegistry);
+    this.deliveryDelay = Timer.builder(DELIVERY_TIMER)
+        .description("Time from a domain event being raised to its delivery through the outbox")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  /**
+   * Starts polling once every bean, including the schema migration, is ready.
+   */
+  @Override
+  public void afterSingletonsInstantiated() {
+    worker.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    // A batch interrupted here is rolled back and claimed again later
+    worker.shutdown();
+    if (!worker.awaitTermination(pollInterval.toMillis() + 5_000, TimeUnit.MILLISECONDS)) {
+      worker.shutdownNow();
+    }
+  }
+
+  /**
+   * Relays batches until fewer than a full batch is due.
+   */
+  void poll() {
+    try {
+      int claimed;
+      do {
+        claimed = relayBatch();
+      } while (claimed == batchSize && !worker.isShutdown());
+    } catch (RuntimeException e) {
+      logger.error("Outbox relay poll failed", e);
+    }
+  }
+
+  /**
+   * Claims, delivers and deletes one batch in one transaction.
+   *
+   * @return the number of events claimed
+   */
+  int relayBatch() {
+    return transactionManager.executeInTransaction(() -> {
+      List<OutboxEntry> entries = outbox.claim(batchSize);
+      if (entries.isEmpty()) {
+        return 0;
+      }
+
+      try {
+        List<DomainEvent> events = new ArrayList<>(entries.size());
+        for (OutboxEntry entry : entries) {
+          events.add(outbox.decode(entry));
+        }
+        dispatch(events);
+      } catch (RuntimeException e) {
+        failures.increment(entries.size());
+        logger.error("Delivery of {} outbox events failed (attempt {}), rescheduling",
+            entries.size(), entries.get(0).attempts() + 1, e);
+        outbox.reschedule(entries, e);
+        return entries.size();
+      }
+
+      outbox.delete(entries);
+      relayed.increment(entries.size());
+      Instant now = Instant.now();
+      for (OutboxEntry entry : entries) {
+        deliveryDelay.record(Duration.between(entry.occurredOn(), now));
+      }
+      logger.debug("Relayed {} outbox events", entries.size());
+      return entries.size();
+    });
+  }
+
+  private void dispatch(List<DomainEvent> events) {
+    for (DomainEventHandler handler : handlers) {
+      List<DomainEvent> handled = events.stream().filter(handler::canHandle).toList();
+      if (!handled.isEmpty()) {
+        handler.handleAll(handled);
+      }
+    }
+  }
+}
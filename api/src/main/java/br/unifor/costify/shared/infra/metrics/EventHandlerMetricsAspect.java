@@ -0,0 +1,49 @@
+package br.unifor.costify.shared.infra.metrics;
+
+import br.unifor.costify.shared.infra.events.TransactionalDomainEventWrapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts failures of domain event listeners.
+ * <p>
+ * After-commit listeners cannot roll anything back, so Spring only logs what they throw;
+ * {@value #COUNTER} makes those failures visible per handler, event type and exception.
+ */
+@Aspect
+@Component
+public class EventHandlerMetricsAspect {
+  static final String COUNTER = "costify.events.handler.failures";
+
+  private final MeterRegistry meterRegistry;
+
+  public EventHandlerMetricsAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @AfterThrowing(
+      pointcut = "within(br.unifor.costify..*)"
+          + " && (@annotation(org.springframework.transaction.event.TransactionalEventListener)"
+          + " || @annotation(org.springframework.context.event.EventListener))",
+      throwing = "failure")
+  public void countFailure(JoinPoint joinPoint, Throwable failure) {
+    Counter.builder(COUNTER)
+        .description("Exceptions thrown by domain event handlers")
+        .tag("handler", joinPoint.getSignature().getDeclaringType().getSimpleName())
+        .tag("event", eventType(joinPoint.getArgs()))
+        .tag("exception", failure.getClass().getSimpleName())
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private static String eventType(Object[] args) {
+    if (args.length > 0 && args[0] instanceof TransactionalDomainEventWrapper wrapper) {
+      return wrapper.getEvent().getEventType();
+    }
+    return args.length > 0 ? args[0].getClass().getSimpleName() : "none";
+  }
+}
@@ -0,0 +1,48 @@
+package br.unifor.costify.shared.infra.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of every use case bean, without touching the use cases.
+ * <p>
+ * Recorded as {@value #TIMER} with the use case class, method, outcome and exception
+ * as tags, and with a percentile histogram so latency percentiles can be aggregated
+ * across instances.
+ */
+@Aspect
+@Component
+public class UseCaseMetricsAspect {
+  static final String TIMER = "costify.usecase";
+
+  private final MeterRegistry meterRegistry;
+
+  public UseCaseMetricsAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("execution(public * br.unifor.costify..application.usecase..*(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    Throwable failure = null;
+    try {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      failure = e;
+      throw e;
+    } finally {
+      sample.stop(Timer.builder(TIMER)
+          .description("Time spent in a use case")
+          .tag("usecase", joinPoint.getSignature().getDeclaringType().getSimpleName())
+          .tag("method", joinPoint.getSignature().getName())
+          .tag("outcome", failure == null ? "success" : "failure")
+          .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+          .publishPercentileHistogram()
+          .register(meterRegistry));
+    }
+  }
+}
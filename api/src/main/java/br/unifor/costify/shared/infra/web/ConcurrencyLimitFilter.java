@@ -0,0 +1,134 @@
+package br.unifor.costify.shared.infra.web;
+
+import br.unifor.costify.shared.infra.errors.ErrorCode;
+import br.unifor.costify.shared.infra.errors.ErrorResponse;
+import br.unifor.costify.shared.infra.data.ConnectionPoolLimit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Caps the number of API requests in flight.
+ * <p>
+ * With platform threads, the Tomcat pool implicitly bounds how many requests compete for
+ * database connections. With virtual threads there is no such bound: every request gets a
+ * thread, and a burst would pile up on the connection pool until requests fail with
+ * connection timeouts. Each request takes a slot of the {@link ConnectionPoolLimit}, which
+ * the background recipe recalculation shares, so together they never exhaust the pool.
+ * <p>
+ * A request waits up to the queue timeout for a slot and is then rejected with 503. Async
+ * requests, such as streamed exports, keep their slot until they complete. Actuator
+ * endpoints are not limited so health probes keep answering under load.
+ */
+@Component
+@ConditionalOnProperty(name = "costify.web.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+  private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+  private final ConnectionPoolLimit limit;
+  private final Duration queueTimeout;
+  private final ObjectMapper objectMapper;
+
+  public ConcurrencyLimitFilter(
+      ConnectionPoolLimit limit,
+      @Value("${costify.web.concurrency-limit.queue-timeout:5s}") Duration queueTimeout,
+      ObjectMapper objectMapper) {
+    if (!limit.isEnabled()) {
+      throw new IllegalArgumentException("Concurrent request limit must be greater than zero");
+    }
+    this.limit = limit;
+    this.queueTimeout = queueTimeout;
+    this.objectMapper = objectMapper;
+    logger.info("Limiting concurrent requests to {} (queue timeout {})", limit.getMaxConcurrent(), queueTimeout);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return request.getRequestURI().startsWith(request.getContextPath() + "/actuator");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (!acquire()) {
+      reject(request, response);
+      return;
+    }
+
+    boolean releaseNow = true;
+    try {
+      filterChain.doFilter(request, response);
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new ReleaseOnComplete());
+        releaseNow = false;
+      }
+    } finally {
+      if (releaseNow) {
+        limit.release();
+      }
+    }
+  }
+
+  private boolean acquire() {
+    try {
+      return limit.tryAcquire(queueTimeout);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    logger.warn("Rejecting {} {}: {} requests already in flight",
+        request.getMethod(), request.getRequestURI(), limit.getMaxConcurrent());
+    HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+    ErrorResponse error = ErrorResponse.of(
+        status.value(),
+        status.getReasonPhrase(),
+        ErrorCode.SERVICE_UNAVAILABLE.getCode(),
+        ErrorCode.SERVICE_UNAVAILABLE.getDefaultMessage(),
+        request.getRequestURI());
+
+    response.setStatus(status.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, queueTimeout.toSeconds())));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), error);
+  }
+
+  /** onComplete is also called after an async error or timeout. */
+  private class ReleaseOnComplete implements AsyncListener {
+    @Override
+    public void onComplete(AsyncEvent event) {
+      limit.release();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package br.unifor.costify.shared.infra.web;
+
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Evaluates {@code If-None-Match} and {@code If-Modified-Since} on reads, so a client whose
+ * cached copy is current gets an empty 304 instead of the resource.
+ * <p>
+ * Controllers read the current validators with a cheap query (see {@code ResourceVersion})
+ * and only load the resource when the answer is not 304. As in RFC 9110, {@code If-None-Match}
+ * is compared weakly and, when present, {@code If-Modified-Since} is ignored; HTTP dates have
+ * whole seconds, so the last write time is compared truncated to the second.
+ */
+public final class ConditionalRequests {
+
+  private ConditionalRequests() {}
+
+  /**
+   * @param lastModified the last write time, or {@code null} if the resource has none to offer
+   */
+  public static boolean isNotModified(HttpHeaders request, String etag, Instant lastModified) {
+    List<String> ifNoneMatch = request.getIfNoneMatch();
+    if (!ifNoneMatch.isEmpty()) {
+      String current = opaqueTag(etag);
+      return ifNoneMatch.stream().anyMatch(tag -> tag.equals("*") || opaqueTag(tag).equals(current));
+    }
+
+    if (lastModified == null) {
+      return false;
+    }
+    long ifModifiedSince;
+    try {
+      ifModifiedSince = request.getIfModifiedSince();
+    } catch (IllegalArgumentException e) {
+      // An invalid date is ignored, as if the header were absent
+      return false;
+    }
+    return ifModifiedSince >= 0 && lastModified.truncatedTo(ChronoUnit.SECONDS).toEpochMilli() <= ifModifiedSince;
+  }
+
+  public static boolean isNotModified(HttpHeaders request, ResourceVersion current) {
+    return isNotModified(request, VersionETags.of(current.version()), current.lastModified());
+  }
+
+  public static <T> ResponseEntity<T> notModified(String etag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+  }
+
+  public static <T> ResponseEntity<T> notModified(ResourceVersion current) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+        .eTag(VersionETags.of(current.version()))
+        .lastModified(current.lastModified())
+        .build();
+  }
+
+  /**
+   * A 200 with the ETag of the loaded {@code version}. {@code Last-Modified} is only added
+   * when the validators read beforehand describe that same version, since the resource may
+   * have been written in between.
+   */
+  public static <T> ResponseEntity<T> ok(T body, long version, Optional<ResourceVersion> validators) {
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(VersionETags.of(version));
+    validators
+        .filter(current -> current.version() == version)
+        .ifPresent(current -> response.lastModified(current.lastModified()));
+    return response.body(body);
+  }
+
+  private static String opaqueTag(String tag) {
+    return tag.startsWith("W/") ? tag.substring(2) : tag;
+  }
+}
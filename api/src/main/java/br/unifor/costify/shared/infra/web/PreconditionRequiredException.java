@@ -0,0 +1,12 @@
+package br.unifor.costify.shared.infra.web;
+
+/**
+ * Thrown when a conditional write is made without the {@code If-Match} header it requires;
+ * answered with 428 Precondition Required.
+ */
+public class PreconditionRequiredException extends RuntimeException {
+
+  public PreconditionRequiredException(String message) {
+    super(message);
+  }
+}
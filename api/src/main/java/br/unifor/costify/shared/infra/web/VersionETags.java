@@ -0,0 +1,64 @@
+package br.unifor.costify.shared.infra.web;
+
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.OptionalLong;
+
+/**
+ * Maps resource versions to entity tags and back.
+ * <p>
+ * The ETag of a recipe or an ingredient is its version as a strong tag, e.g. {@code "3"}.
+ * Updates must send it back in {@code If-Match}, so a client cannot overwrite changes it
+ * has not seen: a missing header is answered with 428 and a tag that is not the current
+ * version with 412. {@code If-Match: *} updates whatever version is current.
+ * <p>
+ * A listing's ETag is weak, e.g. {@code W/"12-40-1735689600000000"}: it summarizes the whole
+ * table, so it changes with any write, but the same rows may be listed in another order.
+ */
+public final class VersionETags {
+  /** Never the version of a stored resource, so it never matches. */
+  private static final long NO_VERSION = -1;
+
+  private VersionETags() {}
+
+  public static String of(long version) {
+    return "\"" + version + "\"";
+  }
+
+  public static String of(CollectionVersion version) {
+    long lastModified = version.lastModified() == null
+        ? 0
+        : ChronoUnit.MICROS.between(Instant.EPOCH, version.lastModified());
+    return "W/\"" + version.size() + "-" + version.versionSum() + "-" + lastModified + "\"";
+  }
+
+  /**
+   * Reads the version a client expects from an {@code If-Match} header.
+   *
+   * @return the expected version, or empty for {@code *}; a tag that is weak, malformed or
+   *     a list returns a version no resource has, since a single strong tag is the only
+   *     thing this API hands out
+   * @throws PreconditionRequiredException if the header is missing
+   */
+  public static OptionalLong expectedVersion(String ifMatch) {
+    if (ifMatch == null || ifMatch.isBlank()) {
+      throw new PreconditionRequiredException(
+          "This update requires an If-Match header with the ETag of the resource");
+    }
+
+    String tag = ifMatch.strip();
+    if (tag.equals("*")) {
+      return OptionalLong.empty();
+    }
+    if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+      return OptionalLong.of(NO_VERSION);
+    }
+    try {
+      long version = Long.parseLong(tag.substring(1, tag.length() - 1));
+      return OptionalLong.of(version >= 0 ? version : NO_VERSION);
+    } catch (NumberFormatException e) {
+      return OptionalLong.of(NO_VERSION);
+    }
+  }
+}
@@ -0,0 +1,6 @@
+-- Optimistic locking: every write to a recipe or an ingredient increments its version, and
+-- an update only applies if the version is still the one that was read. The version is
+-- also exposed to clients as the ETag of the resource.
+
+ALTER TABLE recipes ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE ingredients ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
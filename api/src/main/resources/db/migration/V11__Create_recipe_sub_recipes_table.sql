@@ -0,0 +1,24 @@
+-- Recipes used as components of other recipes. The quantity is a number of batches of the
+-- sub-recipe, so a line costs quantity * the sub-recipe's total_cost. The lines form a
+-- directed acyclic graph; the application rejects cycles when a recipe is saved.
+CREATE TABLE recipe_sub_recipes (
+  id SERIAL PRIMARY KEY,
+  recipe_id UUID NOT NULL,
+  sub_recipe_id UUID NOT NULL,
+  quantity DECIMAL(10,3) NOT NULL CHECK (quantity > 0),
+  created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+  CONSTRAINT fk_recipe_sub_recipes_recipe
+    FOREIGN KEY (recipe_id) REFERENCES recipes(id) ON DELETE CASCADE,
+  -- A recipe cannot be deleted while another recipe still uses it
+  CONSTRAINT fk_recipe_sub_recipes_sub_recipe
+    FOREIGN KEY (sub_recipe_id) REFERENCES recipes(id),
+  CONSTRAINT uk_recipe_sub_recipe UNIQUE (recipe_id, sub_recipe_id),
+  CONSTRAINT ck_recipe_sub_recipes_not_self CHECK (recipe_id <> sub_recipe_id)
+);
+
+-- Cost propagation walks the graph upwards, from a sub-recipe to the recipes that use it;
+-- the unique constraint already covers lookups by recipe_id
+CREATE INDEX idx_recipe_sub_recipes_sub_recipe_id ON recipe_sub_recipes(sub_recipe_id);
+
+COMMENT ON TABLE recipe_sub_recipes IS 'Recipes used as components of other recipes, with the number of batches used';
@@ -0,0 +1,73 @@
+-- Append-only history of ingredient packages and prices: one row per change, effective from
+-- the time of the transaction that made it until the next row of the same ingredient.
+-- Rows are written by a trigger on ingredients, so every write path (JPA saves, batch
+-- updates, CSV imports) records its change in its own transaction.
+-- Rows are kept when an ingredient is deleted, so there is no foreign key.
+CREATE TABLE ingredient_price_history (
+  ingredient_id UUID NOT NULL,
+  effective_from TIMESTAMPTZ NOT NULL,
+  package_quantity DECIMAL(10,3) NOT NULL,
+  package_price DECIMAL(10,2) NOT NULL,
+  package_unit measurement_unit NOT NULL,
+
+  -- Serves point-in-time lookups: the latest row of an ingredient at or before an instant
+  -- is a single backward index probe
+  PRIMARY KEY (ingredient_id, effective_from)
+) PARTITION BY RANGE (effective_from);
+
+-- Yearly partitions, so reports over a period only scan the years they cover and old years
+-- can be detached or archived whole; rows outside this range go to the default partition
+DO $$
+DECLARE
+  year INTEGER;
+BEGIN
+  FOR year IN 2020..2040 LOOP
+    EXECUTE format(
+      'CREATE TABLE ingredient_price_history_%s PARTITION OF ingredient_price_history
+         FOR VALUES FROM (%L) TO (%L)',
+      year, make_timestamptz(year, 1, 1, 0, 0, 0, 'UTC'), make_timestamptz(year + 1, 1, 1, 0, 0, 0, 'UTC'));
+  END LOOP;
+END $$;
+
+CREATE TABLE ingredient_price_history_default PARTITION OF ingredient_price_history DEFAULT;
+
+-- Rows are appended in effective_from order, so a BRIN index stays tiny and still lets
+-- period-wide scans (e.g. month-end reports) skip the blocks outside the period
+CREATE INDEX idx_ingredient_price_history_effective_from
+  ON ingredient_price_history USING BRIN (effective_from);
+
+CREATE FUNCTION record_ingredient_price_history() RETURNS trigger AS $$
+BEGIN
+  -- now() is the transaction start, so several changes to one ingredient in the same
+  -- transaction collapse into its final state
+  INSERT INTO ingredient_price_history
+    (ingredient_id, effective_from, package_quantity, package_price, package_unit)
+  VALUES (NEW.id, now(), NEW.package_quantity, NEW.package_price, NEW.package_unit)
+  ON CONFLICT (ingredient_id, effective_from) DO UPDATE SET
+    package_quantity = EXCLUDED.package_quantity,
+    package_price = EXCLUDED.package_price,
+    package_unit = EXCLUDED.package_unit;
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_ingredients_price_history_insert
+  AFTER INSERT ON ingredients
+  FOR EACH ROW EXECUTE FUNCTION record_ingredient_price_history();
+
+-- Renames do not change what a recipe costs, so only package changes are recorded
+CREATE TRIGGER trg_ingredients_price_history_update
+  AFTER UPDATE OF package_quantity, package_price, package_unit ON ingredients
+  FOR EACH ROW
+  WHEN (OLD.package_quantity IS DISTINCT FROM NEW.package_quantity
+    OR OLD.package_price IS DISTINCT FROM NEW.package_price
+    OR OLD.package_unit IS DISTINCT FROM NEW.package_unit)
+  EXECUTE FUNCTION record_ingredient_price_history();
+
+-- The history starts from each ingredient's current package, effective from its last update
+INSERT INTO ingredient_price_history
+  (ingredient_id, effective_from, package_quantity, package_price, package_unit)
+SELECT id, COALESCE(updated_at, created_at, now()), package_quantity, package_price, package_unit
+FROM ingredients;
+
+COMMENT ON TABLE ingredient_price_history IS 'Append-only history of ingredient packages and prices, for point-in-time costing';
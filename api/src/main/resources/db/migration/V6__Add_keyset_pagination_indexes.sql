@@ -0,0 +1,22 @@
+-- Keyset pagination for the recipe and ingredient listings.
+-- Every sortable column is paired with id as a tie-breaker, so (column, id) is unique
+-- and each page can continue with WHERE (column, id) > (:value, :id).
+
+-- updated_at is a sort key, so it must always be present
+UPDATE recipes SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE updated_at IS NULL;
+UPDATE ingredients SET updated_at = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE updated_at IS NULL;
+
+ALTER TABLE recipes ALTER COLUMN updated_at SET NOT NULL;
+ALTER TABLE ingredients ALTER COLUMN updated_at SET NOT NULL;
+
+CREATE INDEX idx_recipes_name_id ON recipes(name, id);
+CREATE INDEX idx_recipes_total_cost_id ON recipes(total_cost, id);
+CREATE INDEX idx_recipes_updated_at_id ON recipes(updated_at, id);
+
+CREATE INDEX idx_ingredients_name_id ON ingredients(name, id);
+CREATE INDEX idx_ingredients_package_price_id ON ingredients(package_price, id);
+CREATE INDEX idx_ingredients_updated_at_id ON ingredients(updated_at, id);
+
+-- Superseded by the (name, id) indexes above
+DROP INDEX IF EXISTS idx_recipes_name;
+DROP INDEX IF EXISTS idx_ingredients_name;
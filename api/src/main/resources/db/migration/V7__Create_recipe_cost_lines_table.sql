@@ -0,0 +1,49 @@
+-- Persisted per-ingredient cost breakdown of each recipe, so GET /recipes/{id}/cost is a
+-- single indexed read instead of a recalculation with ingredient lookups.
+-- Rows are rewritten when a recipe is saved and refreshed when one of its ingredients changes.
+CREATE TABLE recipe_cost_lines (
+  recipe_id VARCHAR(255) NOT NULL,
+  ingredient_id VARCHAR(255) NOT NULL,
+  position INTEGER NOT NULL,
+  ingredient_name VARCHAR(255) NOT NULL,
+  quantity DECIMAL(10,3) NOT NULL CHECK (quantity > 0),
+  unit measurement_unit NOT NULL,
+  cost_micro_cents BIGINT NOT NULL CHECK (cost_micro_cents >= 0),
+
+  CONSTRAINT pk_recipe_cost_lines PRIMARY KEY (recipe_id, ingredient_id),
+  CONSTRAINT fk_recipe_cost_lines_recipe
+    FOREIGN KEY (recipe_id) REFERENCES recipes(id) ON DELETE CASCADE,
+  CONSTRAINT fk_recipe_cost_lines_ingredient
+    FOREIGN KEY (ingredient_id) REFERENCES ingredients(id) ON DELETE CASCADE
+);
+
+-- Refreshing the lines of an updated ingredient looks them up by ingredient
+CREATE INDEX idx_recipe_cost_lines_ingredient_id ON recipe_cost_lines(ingredient_id);
+
+-- Backfill existing recipes with the same line cost formula used by the application
+INSERT INTO recipe_cost_lines (recipe_id, ingredient_id, position, ingredient_name, quantity, unit, cost_micro_cents)
+SELECT
+  ri.recipe_id,
+  ri.ingredient_id,
+  ROW_NUMBER() OVER (PARTITION BY ri.recipe_id ORDER BY ri.id) - 1,
+  i.name,
+  ri.quantity,
+  ri.unit,
+  ROUND(
+    i.package_price
+      * (ri.quantity * CASE ri.unit::text
+          WHEN 'ML' THEN 1 WHEN 'L' THEN 1000 WHEN 'TBSP' THEN 15
+          WHEN 'G' THEN 1 WHEN 'KG' THEN 1000 WHEN 'TBSP_BUTTER' THEN 14
+          WHEN 'UN' THEN 1 END)
+      / (i.package_quantity * CASE i.package_unit::text
+          WHEN 'ML' THEN 1 WHEN 'L' THEN 1000 WHEN 'TBSP' THEN 15
+          WHEN 'G' THEN 1 WHEN 'KG' THEN 1000 WHEN 'TBSP_BUTTER' THEN 14
+          WHEN 'UN' THEN 1 END)
+      * 100000000
+  )::BIGINT
+FROM recipe_ingredients ri
+JOIN ingredients i ON i.id = ri.ingredient_id;
+
+COMMENT ON TABLE recipe_cost_lines IS 'Per-ingredient cost breakdown of each recipe, kept in sync on save and recalculation';
+COMMENT ON COLUMN recipe_cost_lines.ingredient_name IS 'Ingredient name at the time of the last refresh';
+COMMENT ON COLUMN recipe_cost_lines.cost_micro_cents IS 'Unrounded line cost in millionths of a cent';
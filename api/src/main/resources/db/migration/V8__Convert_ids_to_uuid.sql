@@ -0,0 +1,32 @@
+-- Store every key as the native 16-byte uuid type instead of a 36-character VARCHAR.
+-- IDs have always been generated as UUID strings, so every existing value casts cleanly.
+-- Foreign keys are dropped first because both sides of each must change type together;
+-- dependent indexes, including the keyset pagination ones, are rebuilt by ALTER COLUMN.
+
+ALTER TABLE recipe_ingredients DROP CONSTRAINT fk_recipe_ingredients_recipe;
+ALTER TABLE recipe_ingredients DROP CONSTRAINT fk_recipe_ingredients_ingredient;
+ALTER TABLE recipe_cost_lines DROP CONSTRAINT fk_recipe_cost_lines_recipe;
+ALTER TABLE recipe_cost_lines DROP CONSTRAINT fk_recipe_cost_lines_ingredient;
+
+ALTER TABLE ingredients ALTER COLUMN id TYPE uuid USING id::uuid;
+ALTER TABLE recipes ALTER COLUMN id TYPE uuid USING id::uuid;
+
+ALTER TABLE recipe_ingredients
+  ALTER COLUMN recipe_id TYPE uuid USING recipe_id::uuid,
+  ALTER COLUMN ingredient_id TYPE uuid USING ingredient_id::uuid;
+
+ALTER TABLE recipe_cost_lines
+  ALTER COLUMN recipe_id TYPE uuid USING recipe_id::uuid,
+  ALTER COLUMN ingredient_id TYPE uuid USING ingredient_id::uuid;
+
+ALTER TABLE recipe_ingredients
+  ADD CONSTRAINT fk_recipe_ingredients_recipe
+    FOREIGN KEY (recipe_id) REFERENCES recipes(id) ON DELETE CASCADE,
+  ADD CONSTRAINT fk_recipe_ingredients_ingredient
+    FOREIGN KEY (ingredient_id) REFERENCES ingredients(id) ON DELETE CASCADE;
+
+ALTER TABLE recipe_cost_lines
+  ADD CONSTRAINT fk_recipe_cost_lines_recipe
+    FOREIGN KEY (recipe_id) REFERENCES recipes(id) ON DELETE CASCADE,
+  ADD CONSTRAINT fk_recipe_cost_lines_ingredient
+    FOREIGN KEY (ingredient_id) REFERENCES ingredients(id) ON DELETE CASCADE;
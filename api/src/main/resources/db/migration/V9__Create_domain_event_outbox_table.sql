@@ -0,0 +1,16 @@
+-- Transactional outbox: domain events written in the same transaction as the change that
+-- raised them, and deleted by the relay once every handler has processed them.
+-- available_at delays a failed event's next attempt; the relay claims due rows with
+-- FOR UPDATE SKIP LOCKED, so several instances can relay concurrently without overlap.
+
+CREATE TABLE domain_event_outbox (
+  id BIGSERIAL PRIMARY KEY,
+  event_type VARCHAR(100) NOT NULL,
+  payload JSONB NOT NULL,
+  occurred_on TIMESTAMPTZ NOT NULL,
+  attempts INTEGER NOT NULL DEFAULT 0,
+  available_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+  last_error TEXT
+);
+
+CREATE INDEX idx_domain_event_outbox_available_at ON domain_event_outbox (available_at, id);
@@ -0,0 +1,26 @@
+package br.unifor.costify;
+
+import br.unifor.costify.shared.domain.valueobject.Id;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Readable, stable IDs for tests that hit the database, where keys must be UUIDs:
+ * the same name always maps to the same name-based UUID.
+ */
+public final class TestIds {
+
+  private TestIds() {}
+
+  public static Id of(String name) {
+    return Id.of(uuid(name));
+  }
+
+  public static String value(String name) {
+    return uuid(name).toString();
+  }
+
+  public static UUID uuid(String name) {
+    return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+  }
+}
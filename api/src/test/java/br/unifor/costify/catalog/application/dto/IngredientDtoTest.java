@@ -1,5 +1,6 @@
 package br.unifor.costify.catalog.application.dto;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
 import br.unifor.costify.shared.domain.contracts.IdGenerator;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
@@ -11,12 +12,12 @@ class IngredientDtoTest {
 
   @Test
   void from_withIngredient_shouldCreateCorrectDto() {
-    IdGenerator fakeIdGenerator = () -> "test-id-123";
+    IdGenerator fakeIdGenerator = () -> TestIds.value("test-id-123");
     Ingredient ingredient = new Ingredient(fakeIdGenerator, "Flour", 1.0, Money.of(5.0), Unit.KG);
 
     IngredientDto dto = IngredientDto.from(ingredient);
 
-    assert dto.id().equals("test-id-123");
+    assert dto.id().equals(TestIds.value("test-id-123"));
     assert dto.name().equals("Flour");
     assert dto.packageQuantity() == 1.0;
     assert dto.packagePrice() == 5.0;
@@ -26,12 +27,12 @@ class IngredientDtoTest {
 
   @Test
   void from_withDifferentIngredient_shouldCreateCorrectDto() {
-    IdGenerator fakeIdGenerator = () -> "sugar-id-456";
+    IdGenerator fakeIdGenerator = () -> TestIds.value("sugar-id-456");
     Ingredient ingredient = new Ingredient(fakeIdGenerator, "Sugar", 2.0, Money.of(8.0), Unit.KG);
 
     IngredientDto dto = IngredientDto.from(ingredient);
 
-    assert dto.id().equals("sugar-id-456");
+    assert dto.id().equals(TestIds.value("sugar-id-456"));
     assert dto.name().equals("Sugar");
     assert dto.packageQuantity() == 2.0;
     assert dto.packagePrice() == 8.0;
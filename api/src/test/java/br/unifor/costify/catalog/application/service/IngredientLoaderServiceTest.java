@@ -0,0 +1,85 @@
+package br.unifor.costify.catalog.application.service;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.application.errors.IngredientNotFoundException;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IngredientLoaderService Tests")
+class IngredientLoaderServiceTest {
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    private IngredientLoaderService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new IngredientLoaderService(ingredientRepository);
+    }
+
+    @Test
+    @DisplayName("Should load all recipe ingredients with a single batch query")
+    void shouldLoadIngredientsWithSingleBatchQuery() {
+        // Arrange
+        var milk = new Ingredient(TestIds.of("milk-id"), "Milk", 1.0, Money.of(5.00), Unit.L);
+        var sugar = new Ingredient(TestIds.of("sugar-id"), "Sugar", 1.0, Money.of(3.00), Unit.KG);
+        var recipeIngredients = List.of(
+                new RecipeIngredient(milk.getId(), 200.0, Unit.ML),
+                new RecipeIngredient(sugar.getId(), 100.0, Unit.G),
+                new RecipeIngredient(milk.getId(), 50.0, Unit.ML)
+        );
+
+        when(ingredientRepository.findCurrentByIds(Set.of(milk.getId(), sugar.getId())))
+                .thenReturn(List.of(milk, sugar));
+
+        // Act
+        Map<Id, Ingredient> result = service.loadIngredients(recipeIngredients);
+
+        // Assert
+        assertThat(result).hasSize(2);
+        assertThat(result.get(milk.getId())).isSameAs(milk);
+        assertThat(result.get(sugar.getId())).isSameAs(sugar);
+        verify(ingredientRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should report missing ingredient IDs")
+    void shouldThrowWhenIngredientIsMissing() {
+        // Arrange
+        var milk = new Ingredient(TestIds.of("milk-id"), "Milk", 1.0, Money.of(5.00), Unit.L);
+        var recipeIngredients = List.of(
+                new RecipeIngredient(milk.getId(), 200.0, Unit.ML),
+                new RecipeIngredient(TestIds.of("missing-id"), 100.0, Unit.G)
+        );
+
+        when(ingredientRepository.findCurrentByIds(any())).thenReturn(List.of(milk));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.loadIngredients(recipeIngredients))
+                .isInstanceOf(IngredientNotFoundException.class)
+                .hasMessage("Ingredient not found with ID: " + TestIds.value("missing-id"));
+    }
+}
@@ -0,0 +1,149 @@
+package br.unifor.costify.catalog.application.usecase;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.application.dto.command.BulkUpdateIngredientsCommand;
+import br.unifor.costify.catalog.application.dto.command.UpdateIngredientCommand;
+import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
+import br.unifor.costify.catalog.application.errors.IngredientNotFoundException;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.catalog.domain.events.IngredientsBulkUpdatedEvent;
+import br.unifor.costify.shared.application.contracts.TransactionManager;
+import br.unifor.costify.shared.application.contracts.TransactionalOperation;
+import br.unifor.costify.shared.domain.events.DomainEventPublisher;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class BulkUpdateIngredientsUseCaseTest {
+
+  private IngredientRepository ingredientRepository;
+  private DomainEventPublisher eventPublisher;
+  private BulkUpdateIngredientsUseCase bulkUpdateIngredientsUseCase;
+
+  private Id milkId;
+  private Id flourId;
+
+  @BeforeEach
+  void setUp() {
+    ingredientRepository = mock(IngredientRepository.class);
+    eventPublisher = mock(DomainEventPublisher.class);
+    TransactionManager transactionManager = mock(TransactionManager.class);
+
+    // Run the operation directly, passing runtime exceptions through like the real manager
+    when(transactionManager.executeInTransaction(any())).thenAnswer(invocation -> {
+      TransactionalOperation<?> operation = invocation.getArgument(0);
+      try {
+        return operation.execute();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new RuntimeException("Transaction operation failed", e);
+      }
+    });
+
+    bulkUpdateIngredientsUseCase = new BulkUpdateIngredientsUseCase(
+        ingredientRepository, eventPublisher, transactionManager);
+
+    milkId = TestIds.of("milk-id");
+    flourId = TestIds.of("flour-id");
+    // Returned in reverse order, to check the result follows the request
+    when(ingredientRepository.findAllByIds(anyCollection())).thenAnswer(invocation -> List.of(
+        new Ingredient(flourId, "Flour", 1000.0, Money.of(4.0), Unit.G),
+        new Ingredient(milkId, "Milk", 1.0, Money.of(5.0), Unit.L)));
+    when(ingredientRepository.saveAll(anyCollection()))
+        .thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<Ingredient>>getArgument(0)));
+  }
+
+  @Test
+  void shouldUpdateAllIngredientsWithOneSaveAndOneEvent() {
+    // Arrange
+    BulkUpdateIngredientsCommand command = new BulkUpdateIngredientsCommand(List.of(
+        new BulkUpdateIngredientsCommand.Item(milkId, new UpdateIngredientCommand(null, null, 6.0, null)),
+        new BulkUpdateIngredientsCommand.Item(flourId, new UpdateIngredientCommand("Wheat Flour", null, 4.5, null))));
+
+    // Act
+    List<IngredientDto> result = bulkUpdateIngredientsUseCase.execute(command);
+
+    // Assert
+    assertEquals(2, result.size());
+    assertEquals("Milk", result.get(0).name());
+    assertEquals(6.0, result.get(0).packagePrice());
+    assertEquals("Wheat Flour", result.get(1).name());
+    assertEquals(4.5, result.get(1).packagePrice());
+    assertEquals(1000.0, result.get(1).packageQuantity());
+
+    verify(ingredientRepository).findAllByIds(Set.of(milkId, flourId));
+    verify(ingredientRepository, times(1)).saveAll(anyCollection());
+    verify(ingredientRepository, never()).save(any());
+
+    ArgumentCaptor<IngredientsBulkUpdatedEvent> eventCaptor =
+        ArgumentCaptor.forClass(IngredientsBulkUpdatedEvent.class);
+    verify(eventPublisher, times(1)).publish(eventCaptor.capture());
+    assertEquals(List.of(milkId, flourId), List.copyOf(eventCaptor.getValue().getIngredientIds()));
+  }
+
+  @Test
+  void shouldApplyRepeatedUpdatesOfTheSameIngredientInOrder() {
+    // Arrange
+    BulkUpdateIngredientsCommand command = new BulkUpdateIngredientsCommand(List.of(
+        new BulkUpdateIngredientsCommand.Item(milkId, new UpdateIngredientCommand(null, 2.0, 7.0, null)),
+        new BulkUpdateIngredientsCommand.Item(milkId, new UpdateIngredientCommand(null, null, 8.0, null))));
+
+    // Act
+    List<IngredientDto> result = bulkUpdateIngredientsUseCase.execute(command);
+
+    // Assert
+    assertEquals(1, result.size());
+    assertEquals(2.0, result.get(0).packageQuantity());
+    assertEquals(8.0, result.get(0).packagePrice());
+
+    ArgumentCaptor<IngredientsBulkUpdatedEvent> eventCaptor =
+        ArgumentCaptor.forClass(IngredientsBulkUpdatedEvent.class);
+    verify(eventPublisher).publish(eventCaptor.capture());
+    assertEquals(2, eventCaptor.getValue().getUpdates().size());
+    assertEquals(Set.of(milkId), eventCaptor.getValue().getIngredientIds());
+  }
+
+  @Test
+  void shouldFailWithoutSavingWhenAnIngredientDoesNotExist() {
+    // Arrange
+    Id missingId = TestIds.of("missing-id");
+    BulkUpdateIngredientsCommand command = new BulkUpdateIngredientsCommand(List.of(
+        new BulkUpdateIngredientsCommand.Item(milkId, new UpdateIngredientCommand(null, null, 6.0, null)),
+        new BulkUpdateIngredientsCommand.Item(missingId, new UpdateIngredientCommand(null, null, 1.0, null))));
+
+    // Act & Assert
+    IngredientNotFoundException exception = assertThrows(
+        IngredientNotFoundException.class, () -> bulkUpdateIngredientsUseCase.execute(command));
+    assertTrue(exception.getMessage().contains(TestIds.value("missing-id")));
+    verify(ingredientRepository, never()).saveAll(anyCollection());
+    verify(eventPublisher, never()).publish(any());
+  }
+
+  @Test
+  void shouldRejectBatchesOverTheLimit() {
+    // Arrange
+    BulkUpdateIngredientsCommand command = new BulkUpdateIngredientsCommand(Collections.nCopies(
+        BulkUpdateIngredientsUseCase.MAX_BATCH_SIZE + 1,
+        new BulkUpdateIngredientsCommand.Item(milkId, new UpdateIngredientCommand(null, null, 6.0, null))));
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> bulkUpdateIngredientsUseCase.execute(command));
+    verifyNoInteractions(ingredientRepository, eventPublisher);
+  }
+}
@@ -1,5 +1,6 @@
 package br.unifor.costify.catalog.application.usecase;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.catalog.application.contracts.IngredientRepository;
 import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
 import br.unifor.costify.catalog.application.errors.IngredientNotFoundException;
@@ -40,7 +41,7 @@ class GetIngredientByIdUseCaseTest {
     @DisplayName("Should get ingredient by id successfully")
     void shouldGetIngredientByIdSuccessfully() {
         // Arrange
-        var ingredientId = Id.of("ingredient-123");
+        var ingredientId = TestIds.of("ingredient-123");
         var ingredient = new Ingredient(
                 ingredientId,
                 "Milk",
@@ -70,13 +71,13 @@ class GetIngredientByIdUseCaseTest {
     @DisplayName("Should throw IngredientNotFoundException when ingredient does not exist")
     void shouldThrowExceptionWhenIngredientNotFound() {
         // Arrange
-        var ingredientId = Id.of("non-existent-id");
+        var ingredientId = TestIds.of("non-existent-id");
         when(ingredientRepository.findById(ingredientId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> useCase.execute(ingredientId.getValue()))
                 .isInstanceOf(IngredientNotFoundException.class)
-                .hasMessage("Ingredient with ID 'non-existent-id' not found");
+                .hasMessage("Ingredient with ID '" + ingredientId.getValue() + "' not found");
 
         verify(ingredientRepository).findById(ingredientId);
     }
@@ -85,7 +86,7 @@ class GetIngredientByIdUseCaseTest {
     @DisplayName("Should handle different units correctly")
     void shouldHandleDifferentUnitsCorrectly() {
         // Arrange
-        var ingredientId = Id.of("ingredient-456");
+        var ingredientId = TestIds.of("ingredient-456");
         var ingredient = new Ingredient(
                 ingredientId,
                 "Sugar",
@@ -1,11 +1,17 @@
 package br.unifor.costify.catalog.application.usecase;
 
+import br.unifor.costify.TestIds;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import br.unifor.costify.catalog.application.contracts.IngredientQueryService;
 import br.unifor.costify.catalog.application.contracts.IngredientRepository;
 import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
+import br.unifor.costify.catalog.application.dto.query.IngredientSort;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import br.unifor.costify.shared.application.pagination.SortDirection;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.shared.domain.valueobject.Unit;
@@ -22,15 +28,17 @@ class ListIngredientsUseCaseTest {
 
   @Mock private IngredientRepository ingredientRepository;
 
+  @Mock private IngredientQueryService ingredientQueryService;
+
   @InjectMocks private ListIngredientsUseCase listIngredientsUseCase;
 
   private List<Ingredient> mockIngredients;
 
   @BeforeEach
   void setUp() {
-    Ingredient milk = new Ingredient(Id.of("milk-id"), "Milk", 1.0, Money.of(5.50), Unit.L);
-    Ingredient flour = new Ingredient(Id.of("flour-id"), "Flour", 500.0, Money.of(3.20), Unit.G);
-    Ingredient sugar = new Ingredient(Id.of("sugar-id"), "Sugar", 1.0, Money.of(4.50), Unit.KG);
+    Ingredient milk = new Ingredient(TestIds.of("milk-id"), "Milk", 1.0, Money.of(5.50), Unit.L);
+    Ingredient flour = new Ingredient(TestIds.of("flour-id"), "Flour", 500.0, Money.of(3.20), Unit.G);
+    Ingredient sugar = new Ingredient(TestIds.of("sugar-id"), "Sugar", 1.0, Money.of(4.50), Unit.KG);
 
     mockIngredients = List.of(milk, flour, sugar);
   }
@@ -38,7 +46,7 @@ class ListIngredientsUseCaseTest {
   @Test
   void shouldReturnEmptyList_whenNoIngredients() {
     // Given
-    when(ingredientRepository.findAll()).thenReturn(List.of());
+    when(ingredientQueryService.findAll()).thenReturn(List.of());
 
     // When
     List<IngredientDto> result = listIngredientsUseCase.execute();
@@ -46,13 +54,14 @@ class ListIngredientsUseCaseTest {
     // Then
     assertNotNull(result);
     assertTrue(result.isEmpty());
-    verify(ingredientRepository, times(1)).findAll();
+    verify(ingredientQueryService, times(1)).findAll();
+    verifyNoInteractions(ingredientRepository);
   }
 
   @Test
   void shouldReturnAllIngredients() {
     // Given
-    when(ingredientRepository.findAll()).thenReturn(mockIngredients);
+    when(ingredientQueryService.findAll()).thenReturn(toDtos(mockIngredients));
 
     // When
     List<IngredientDto> result = listIngredientsUseCase.execute();
@@ -60,28 +69,49 @@ class ListIngredientsUseCaseTest {
     // Then
     assertNotNull(result);
     assertEquals(3, result.size());
-    verify(ingredientRepository, times(1)).findAll();
+    verify(ingredientQueryService, times(1)).findAll();
+    verifyNoInteractions(ingredientRepository);
   }
 
   @Test
   void shouldMapIngredientsToDto() {
     // Given
-    when(ingredientRepository.findAll()).thenReturn(mockIngredients);
+    when(ingredientQueryService.findAll()).thenReturn(toDtos(mockIngredients));
 
     // When
     List<IngredientDto> result = listIngredientsUseCase.execute();
 
     // Then
-    IngredientDto milkDto = result.stream().filter(dto -> dto.id().equals("milk-id")).findFirst().orElseThrow();
-    assertEquals("milk-id", milkDto.id());
+    IngredientDto milkDto = result.stream().filter(dto -> dto.id().equals(TestIds.value("milk-id"))).findFirst().orElseThrow();
+    assertEquals(TestIds.value("milk-id"), milkDto.id());
     assertEquals("Milk", milkDto.name());
     assertEquals(1.0, milkDto.packageQuantity());
     assertEquals(5.50, milkDto.packagePrice());
     assertEquals(Unit.L, milkDto.packageUnit());
 
-    IngredientDto flourDto = result.stream().filter(dto -> dto.id().equals("flour-id")).findFirst().orElseThrow();
-    assertEquals("flour-id", flourDto.id());
+    IngredientDto flourDto = result.stream().filter(dto -> dto.id().equals(TestIds.value("flour-id"))).findFirst().orElseThrow();
+    assertEquals(TestIds.value("flour-id"), flourDto.id());
     assertEquals("Flour", flourDto.name());
     assertEquals(500.0, flourDto.packageQuantity());
   }
+
+  @Test
+  void shouldReturnPageOfIngredients() {
+    // Given
+    PageRequest<IngredientSort> request = PageRequest.of(IngredientSort.NAME, SortDirection.ASC, null, 3);
+    when(ingredientQueryService.findPage(request)).thenReturn(new CursorPage<>(toDtos(mockIngredients), null));
+
+    // When
+    CursorPage<IngredientDto> result = listIngredientsUseCase.execute(request);
+
+    // Then
+    assertEquals(3, result.items().size());
+    assertEquals(TestIds.value("milk-id"), result.items().get(0).id());
+    assertFalse(result.hasNext());
+    verify(ingredientQueryService, never()).findAll();
+  }
+
+  private static List<IngredientDto> toDtos(List<Ingredient> ingredients) {
+    return ingredients.stream().map(IngredientDto::from).toList();
+  }
 }
@@ -1,5 +1,6 @@
 package br.unifor.costify.catalog.application.usecase;
 
+import br.unifor.costify.TestIds;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -41,7 +42,7 @@ class RegisterIngredientUseCaseTest {
     RegisterIngredientCommand command = new RegisterIngredientCommand("Flour", 1.0, 5.0, Unit.KG);
 
     when(ingredientRepository.existsByName("Flour")).thenReturn(false);
-    when(idGenerator.generate()).thenReturn("test-id-123");
+    when(idGenerator.generate()).thenReturn(TestIds.value("test-id-123"));
 
     Ingredient savedIngredient = new Ingredient(idGenerator, "Flour", 1.0, Money.of(5.0), Unit.KG);
     when(ingredientRepository.save(any(Ingredient.class))).thenReturn(savedIngredient);
@@ -80,7 +81,7 @@ class RegisterIngredientUseCaseTest {
     RegisterIngredientCommand command = new RegisterIngredientCommand("Sugar", 2.0, 8.0, Unit.KG);
 
     when(ingredientRepository.existsByName("Sugar")).thenReturn(false);
-    when(idGenerator.generate()).thenReturn("sugar-id-456");
+    when(idGenerator.generate()).thenReturn(TestIds.value("sugar-id-456"));
 
     Ingredient savedIngredient = new Ingredient(idGenerator, "Sugar", 2.0, Money.of(8.0), Unit.KG);
     when(ingredientRepository.save(any(Ingredient.class))).thenReturn(savedIngredient);
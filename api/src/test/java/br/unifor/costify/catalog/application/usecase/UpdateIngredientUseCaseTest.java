@@ -1,8 +1,10 @@
 package br.unifor.costify.catalog.application.usecase;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.catalog.application.contracts.IngredientRepository;
 import br.unifor.costify.shared.application.contracts.TransactionManager;
 import br.unifor.costify.shared.application.contracts.TransactionalOperation;
+import br.unifor.costify.shared.application.errors.StaleVersionException;
 import br.unifor.costify.catalog.application.dto.command.UpdateIngredientCommand;
 import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
@@ -60,7 +62,7 @@ class UpdateIngredientUseCaseTest {
   @Test
   void shouldUpdateIngredientSuccessfully() {
     // Arrange
-    Id ingredientId = Id.of("test-id");
+    Id ingredientId = TestIds.of("test-id");
     Ingredient existingIngredient = new Ingredient(
         ingredientId,
         "Milk",
@@ -98,7 +100,7 @@ class UpdateIngredientUseCaseTest {
   @Test
   void shouldPublishIngredientUpdatedEvent() {
     // Arrange
-    Id ingredientId = Id.of("test-id");
+    Id ingredientId = TestIds.of("test-id");
     Ingredient existingIngredient = new Ingredient(
         ingredientId,
         "Milk",
@@ -139,7 +141,7 @@ class UpdateIngredientUseCaseTest {
   @Test
   void shouldClearDomainEventsAfterSave() {
     // Arrange
-    Id ingredientId = Id.of("test-id");
+    Id ingredientId = TestIds.of("test-id");
     Ingredient existingIngredient = new Ingredient(
         ingredientId,
         "Milk",
@@ -175,7 +177,7 @@ class UpdateIngredientUseCaseTest {
   @Test
   void shouldThrowExceptionWhenIngredientNotFound() {
     // Arrange
-    Id ingredientId = Id.of("non-existent-id");
+    Id ingredientId = TestIds.of("non-existent-id");
     when(ingredientRepository.findById(ingredientId))
         .thenReturn(Optional.empty());
 
@@ -198,7 +200,7 @@ class UpdateIngredientUseCaseTest {
   @Test
   void shouldUpdateOnlyProvidedFields() {
     // Arrange
-    Id ingredientId = Id.of("test-id");
+    Id ingredientId = TestIds.of("test-id");
     Ingredient existingIngredient = new Ingredient(
         ingredientId,
         "Milk",
@@ -229,4 +231,44 @@ class UpdateIngredientUseCaseTest {
     assertEquals(5.0, result.packagePrice()); // Should keep old value
     assertEquals(Unit.L, result.packageUnit()); // Should keep old value
   }
+
+  @Test
+  void shouldRejectUpdateAgainstStaleVersion() {
+    // Arrange
+    Id ingredientId = TestIds.of("test-id");
+    Ingredient existingIngredient = new Ingredient(ingredientId, "Milk", 1.0, Money.of(5.0), Unit.L, 2);
+    when(ingredientRepository.findById(ingredientId))
+        .thenReturn(Optional.of(existingIngredient));
+
+    UpdateIngredientCommand command = new UpdateIngredientCommand("Skim Milk", null, null, null);
+
+    // Act & Assert
+    StaleVersionException exception = assertThrows(StaleVersionException.class, () -> {
+      updateIngredientUseCase.execute(ingredientId, 1, command);
+    });
+
+    assertEquals("Ingredient with ID '" + ingredientId.getValue() + "' is at version 2, not 1", exception.getMessage());
+    verify(ingredientRepository, never()).save(any(Ingredient.class));
+    verifyNoInteractions(eventPublisher);
+  }
+
+  @Test
+  void shouldUpdateWhenVersionMatches() {
+    // Arrange
+    Id ingredientId = TestIds.of("test-id");
+    Ingredient existingIngredient = new Ingredient(ingredientId, "Milk", 1.0, Money.of(5.0), Unit.L, 2);
+    when(ingredientRepository.findById(ingredientId))
+        .thenReturn(Optional.of(existingIngredient));
+    when(ingredientRepository.save(any(Ingredient.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+
+    UpdateIngredientCommand command = new UpdateIngredientCommand("Skim Milk", null, null, null);
+
+    // Act
+    IngredientDto result = updateIngredientUseCase.execute(ingredientId, 2, command);
+
+    // Assert
+    assertEquals("Skim Milk", result.name());
+    assertEquals(2, result.version());
+  }
 }
@@ -1,5 +1,6 @@
 package br.unifor.costify.catalog.domain.entity;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.shared.domain.contracts.IdGenerator;
 import br.unifor.costify.catalog.domain.errors.InvalidIngredientNameException;
 import br.unifor.costify.shared.domain.errors.NegativeMoneyException;
@@ -22,14 +23,14 @@ class IngredientTest {
   @BeforeEach
   void setup() {
     // IdGenerator fake previsível para teste
-    fakeIdGenerator = () -> "test-id-123";
+    fakeIdGenerator = () -> TestIds.value("test-id-123");
   }
 
   @Test
   void createIngredient_withIdGenerator_shouldInitializeCorrectly() {
     Ingredient ingredient = new Ingredient(fakeIdGenerator, "Leite", 1.0, Money.of(5.0), Unit.L);
 
-    assert ingredient.getId().getValue().equals("test-id-123");
+    assert ingredient.getId().getValue().equals(TestIds.value("test-id-123"));
     assert ingredient.getName().equals("Leite");
     assert ingredient.getPackageQuantity() == 1.0;
     assert ingredient.getPackagePrice().doubleValue() == 5.0;
@@ -38,10 +39,10 @@ class IngredientTest {
 
   @Test
   void createIngredient_withId_shouldInitializeCorrectly() {
-    Id existingId = Id.of("existing-id");
+    Id existingId = TestIds.of("existing-id");
     Ingredient ingredient = new Ingredient(existingId, "Leite", 1.0, Money.of(5.0), Unit.L);
 
-    assert ingredient.getId().getValue().equals("existing-id");
+    assert ingredient.getId().getValue().equals(TestIds.value("existing-id"));
     assert ingredient.getName().equals("Leite");
     assert ingredient.getPackageQuantity() == 1.0;
     assert ingredient.getPackagePrice().doubleValue() == 5.0;
@@ -78,7 +79,7 @@ class IngredientTest {
   @Test
   void updateIngredient_shouldUpdateAllFields() {
     // Arrange
-    Id id = Id.of("test-id");
+    Id id = TestIds.of("test-id");
     Ingredient ingredient = new Ingredient(id, "Leite", 1.0, Money.of(5.0), Unit.L);
 
     // Act
@@ -94,7 +95,7 @@ class IngredientTest {
   @Test
   void updateIngredient_shouldEmitIngredientUpdatedEvent() {
     // Arrange
-    Id id = Id.of("test-id");
+    Id id = TestIds.of("test-id");
     Ingredient ingredient = new Ingredient(id, "Leite", 1.0, Money.of(5.0), Unit.L);
 
     // Act
@@ -115,10 +116,25 @@ class IngredientTest {
     assertEquals("IngredientUpdated", event.getEventType());
   }
 
+  @Test
+  void updateIngredient_shouldCarryPreviousUnitCostInEvent() {
+    // Arrange
+    Ingredient ingredient = new Ingredient(TestIds.of("test-id"), "Leite", 1.0, Money.of(5.0), Unit.L);
+    double previousUnitCost = ingredient.getUnitCost();
+
+    // Act - a name-only change keeps the unit cost
+    ingredient.update("Leite Integral", 1.0, Money.of(5.0), Unit.L);
+    IngredientUpdatedEvent event = (IngredientUpdatedEvent) ingredient.getDomainEvents().get(0);
+
+    // Assert
+    assertEquals(previousUnitCost, event.getPreviousUnitCost());
+    assertFalse(event.isUnitCostChanged());
+  }
+
   @Test
   void updateIngredient_withInvalidName_shouldThrowException() {
     // Arrange
-    Id id = Id.of("test-id");
+    Id id = TestIds.of("test-id");
     Ingredient ingredient = new Ingredient(id, "Leite", 1.0, Money.of(5.0), Unit.L);
 
     // Act & Assert
@@ -134,7 +150,7 @@ class IngredientTest {
   @Test
   void updateIngredient_withInvalidQuantity_shouldThrowException() {
     // Arrange
-    Id id = Id.of("test-id");
+    Id id = TestIds.of("test-id");
     Ingredient ingredient = new Ingredient(id, "Leite", 1.0, Money.of(5.0), Unit.L);
 
     // Act & Assert
@@ -150,7 +166,7 @@ class IngredientTest {
   @Test
   void updateIngredient_withNegativePrice_shouldThrowException() {
     // Arrange
-    Id id = Id.of("test-id");
+    Id id = TestIds.of("test-id");
     Ingredient ingredient = new Ingredient(id, "Leite", 1.0, Money.of(5.0), Unit.L);
 
     // Act & Assert
@@ -162,7 +178,7 @@ class IngredientTest {
   @Test
   void clearDomainEvents_shouldRemoveAllEvents() {
     // Arrange
-    Id id = Id.of("test-id");
+    Id id = TestIds.of("test-id");
     Ingredient ingredient = new Ingredient(id, "Leite", 1.0, Money.of(5.0), Unit.L);
     ingredient.update("Leite Desnatado", 2.0, Money.of(8.0), Unit.L);
 
@@ -85,4 +85,28 @@ class IngredientUpdatedEventTest {
     assertEquals(price, event.getNewPackagePrice());
     assertEquals(unit, event.getNewPackageUnit());
   }
+
+  @Test
+  void shouldCarryPreviousAndNewUnitCost() {
+    // Arrange - 2L for $10.00 is $0.005 per ml
+    IngredientUpdatedEvent event = new IngredientUpdatedEvent(
+        Id.of("550e8400-e29b-41d4-a716-446655440000"), "Milk", 2.0, Money.of(10.00), Unit.L, 0.004);
+
+    // Assert
+    assertTrue(event.hasPreviousUnitCost());
+    assertEquals(0.004, event.getPreviousUnitCost(), 1e-12);
+    assertEquals(0.005, event.getNewUnitCost(), 1e-12);
+    assertTrue(event.isUnitCostChanged());
+  }
+
+  @Test
+  void shouldReportUnknownPreviousUnitCostAsChanged() {
+    // Arrange
+    IngredientUpdatedEvent event = new IngredientUpdatedEvent(
+        Id.of("550e8400-e29b-41d4-a716-446655440000"), "Milk", 1.0, Money.of(5.00), Unit.L);
+
+    // Assert
+    assertFalse(event.hasPreviousUnitCost());
+    assertTrue(event.isUnitCostChanged());
+  }
 }
@@ -1,34 +1,56 @@
 package br.unifor.costify.catalog.infra.controllers;
 
+import br.unifor.costify.TestIds;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import br.unifor.costify.catalog.application.dto.command.UpdateIngredientCommand;
 import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
+import br.unifor.costify.catalog.application.usecase.GetIngredientByIdUseCase;
 import br.unifor.costify.catalog.application.usecase.ListIngredientsUseCase;
+import br.unifor.costify.catalog.application.usecase.UpdateIngredientUseCase;
+import br.unifor.costify.catalog.infra.controllers.dto.IngredientControllerRegisterRequest;
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
+import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Unit;
+import br.unifor.costify.shared.infra.web.PreconditionRequiredException;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 @ExtendWith(MockitoExtension.class)
 class IngredientControllerTest {
 
   @Mock private ListIngredientsUseCase listIngredientsUseCase;
+  @Mock private GetIngredientByIdUseCase getIngredientByIdUseCase;
+  @Mock private UpdateIngredientUseCase updateIngredientUseCase;
 
   @InjectMocks private IngredientController ingredientController;
 
   private List<IngredientDto> mockIngredients;
 
+  private final Instant lastModified = Instant.parse("2025-03-10T12:00:00Z");
+  private final CollectionVersion collectionVersion = new CollectionVersion(2, 3, lastModified);
+
   @BeforeEach
   void setUp() {
     IngredientDto milk =
-        new IngredientDto("milk-id", "Milk", 1.0, 5.50, Unit.L, 5.50);
+        new IngredientDto(TestIds.value("milk-id"), "Milk", 1.0, 5.50, Unit.L, 5.50, 3);
     IngredientDto flour =
-        new IngredientDto("flour-id", "Flour", 500.0, 3.20, Unit.G, 0.0064);
+        new IngredientDto("flour-id", "Flour", 500.0, 3.20, Unit.G, 0.0064, 0);
 
     mockIngredients = List.of(milk, flour);
   }
@@ -36,10 +58,11 @@ class IngredientControllerTest {
   @Test
   void shouldReturnAllIngredients() {
     // Given
+    when(listIngredientsUseCase.findCollectionVersion()).thenReturn(collectionVersion);
     when(listIngredientsUseCase.execute()).thenReturn(mockIngredients);
 
     // When
-    List<IngredientDto> response = ingredientController.listIngredients();
+    List<IngredientDto> response = ingredientController.listIngredients(new HttpHeaders()).getBody();
 
     // Then
     assertNotNull(response);
@@ -50,10 +73,11 @@ class IngredientControllerTest {
   @Test
   void shouldReturnEmptyList_whenNoIngredients() {
     // Given
+    when(listIngredientsUseCase.findCollectionVersion()).thenReturn(new CollectionVersion(0, 0, null));
     when(listIngredientsUseCase.execute()).thenReturn(List.of());
 
     // When
-    List<IngredientDto> response = ingredientController.listIngredients();
+    List<IngredientDto> response = ingredientController.listIngredients(new HttpHeaders()).getBody();
 
     // Then
     assertNotNull(response);
@@ -64,14 +88,15 @@ class IngredientControllerTest {
   @Test
   void shouldReturnIngredientsWithCorrectData() {
     // Given
+    when(listIngredientsUseCase.findCollectionVersion()).thenReturn(collectionVersion);
     when(listIngredientsUseCase.execute()).thenReturn(mockIngredients);
 
     // When
-    List<IngredientDto> response = ingredientController.listIngredients();
+    List<IngredientDto> response = ingredientController.listIngredients(new HttpHeaders()).getBody();
 
     // Then
     IngredientDto milkDto = response.get(0);
-    assertEquals("milk-id", milkDto.id());
+    assertEquals(TestIds.value("milk-id"), milkDto.id());
     assertEquals("Milk", milkDto.name());
     assertEquals(1.0, milkDto.packageQuantity());
     assertEquals(5.50, milkDto.packagePrice());
@@ -81,4 +106,111 @@ class IngredientControllerTest {
     assertEquals("flour-id", flourDto.id());
     assertEquals("Flour", flourDto.name());
   }
+
+  @Test
+  void shouldReturnVersionAsETag() {
+    // Given
+    when(getIngredientByIdUseCase.execute(TestIds.value("milk-id"))).thenReturn(mockIngredients.get(0));
+
+    // When
+    ResponseEntity<IngredientDto> response = ingredientController.getIngredientById(TestIds.value("milk-id"), new HttpHeaders());
+
+    // Then
+    assertEquals("\"3\"", response.getHeaders().getETag());
+    assertEquals(mockIngredients.get(0), response.getBody());
+  }
+
+  @Test
+  void shouldAnswerNotModified_whenIfNoneMatchIsCurrentVersion() {
+    // Given
+    when(getIngredientByIdUseCase.findVersion(TestIds.value("milk-id"))).thenReturn(Optional.of(new ResourceVersion(3, lastModified)));
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfNoneMatch("\"3\"");
+
+    // When
+    ResponseEntity<IngredientDto> response = ingredientController.getIngredientById(TestIds.value("milk-id"), headers);
+
+    // Then
+    assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    assertEquals("\"3\"", response.getHeaders().getETag());
+    assertEquals(lastModified.toEpochMilli(), response.getHeaders().getLastModified());
+    assertNull(response.getBody());
+    verify(getIngredientByIdUseCase, never()).execute(any());
+  }
+
+  @Test
+  void shouldReturnIngredientWithLastModified_whenIfModifiedSinceIsOlder() {
+    // Given
+    when(getIngredientByIdUseCase.findVersion(TestIds.value("milk-id"))).thenReturn(Optional.of(new ResourceVersion(3, lastModified)));
+    when(getIngredientByIdUseCase.execute(TestIds.value("milk-id"))).thenReturn(mockIngredients.get(0));
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfModifiedSince(lastModified.minusSeconds(1));
+
+    // When
+    ResponseEntity<IngredientDto> response = ingredientController.getIngredientById(TestIds.value("milk-id"), headers);
+
+    // Then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(lastModified.toEpochMilli(), response.getHeaders().getLastModified());
+    assertEquals(mockIngredients.get(0), response.getBody());
+  }
+
+  @Test
+  void shouldAnswerNotModified_whenListingIsUnchanged() {
+    // Given
+    when(listIngredientsUseCase.findCollectionVersion()).thenReturn(collectionVersion);
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfNoneMatch(
+        ingredientController.listIngredients(new HttpHeaders()).getHeaders().getETag());
+
+    // When
+    ResponseEntity<List<IngredientDto>> response = ingredientController.listIngredients(headers);
+
+    // Then
+    assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    verify(listIngredientsUseCase, times(1)).execute();
+  }
+
+  @Test
+  void shouldUpdateIngredientAtVersionFromIfMatch() {
+    // Given
+    IngredientDto updated = new IngredientDto(TestIds.value("milk-id"), "Milk", 1.0, 6.00, Unit.L, 6.00, 4);
+    when(updateIngredientUseCase.execute(eq(TestIds.of("milk-id")), eq(3L), any(UpdateIngredientCommand.class)))
+        .thenReturn(updated);
+
+    // When
+    ResponseEntity<IngredientDto> response =
+        ingredientController.updateIngredient(TestIds.value("milk-id"), "\"3\"", milkRequest());
+
+    // Then
+    assertEquals("\"4\"", response.getHeaders().getETag());
+    assertEquals(updated, response.getBody());
+  }
+
+  @Test
+  void shouldUpdateAnyVersion_whenIfMatchIsWildcard() {
+    // Given
+    IngredientDto updated = new IngredientDto(TestIds.value("milk-id"), "Milk", 1.0, 6.00, Unit.L, 6.00, 4);
+    when(updateIngredientUseCase.execute(eq(TestIds.of("milk-id")), any(UpdateIngredientCommand.class)))
+        .thenReturn(updated);
+
+    // When
+    ResponseEntity<IngredientDto> response = ingredientController.updateIngredient(TestIds.value("milk-id"), "*", milkRequest());
+
+    // Then
+    assertEquals(updated, response.getBody());
+    verify(updateIngredientUseCase, never()).execute(any(), anyLong(), any());
+  }
+
+  @Test
+  void shouldRequireIfMatchToUpdate() {
+    assertThrows(
+        PreconditionRequiredException.class,
+        () -> ingredientController.updateIngredient(TestIds.value("milk-id"), null, milkRequest()));
+    verifyNoInteractions(updateIngredientUseCase);
+  }
+
+  private static IngredientControllerRegisterRequest milkRequest() {
+    return new IngredientControllerRegisterRequest("Milk", 1.0, 6.00, Unit.L);
+  }
 }
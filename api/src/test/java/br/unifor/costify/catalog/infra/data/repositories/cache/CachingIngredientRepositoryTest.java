@@ -0,0 +1,158 @@
+package br.unifor.costify.catalog.infra.data.repositories.cache;
+
+import br.unifor.costify.TestIds;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.catalog.infra.data.repositories.postgres.PostgresIngredientRepository;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class CachingIngredientRepositoryTest {
+
+  @Mock private PostgresIngredientRepository delegate;
+  @Mock private ObjectProvider<MeterRegistry> meterRegistry;
+
+  private CachingIngredientRepository repository;
+
+  private final Id milkId = TestIds.of("milk-id");
+  private final Id flourId = TestIds.of("flour-id");
+
+  @BeforeEach
+  void setUp() {
+    repository = new CachingIngredientRepository(delegate, 100, Duration.ofMinutes(10), meterRegistry);
+  }
+
+  private Ingredient milk() {
+    return new Ingredient(milkId, "Milk", 1.0, Money.of(5.00), Unit.L);
+  }
+
+  private Ingredient flour() {
+    return new Ingredient(flourId, "Flour", 1.0, Money.of(4.00), Unit.KG);
+  }
+
+  @Test
+  void findById_shouldServeRepeatedReadsFromCache() {
+    // Given
+    when(delegate.findById(milkId)).thenReturn(Optional.of(milk()));
+
+    // When
+    Ingredient first = repository.findById(milkId).orElseThrow();
+    Ingredient second = repository.findById(milkId).orElseThrow();
+
+    // Then
+    verify(delegate, times(1)).findById(milkId);
+    assertEquals("Milk", second.getName());
+    assertNotSame(first, second);
+    assertEquals(1, repository.stats().hitCount());
+    assertEquals(1, repository.stats().missCount());
+  }
+
+  @Test
+  void findCurrentByIds_shouldBypassStaleCachedCopy() {
+    // Given - cached before a write this instance did not see
+    when(delegate.findById(milkId)).thenReturn(Optional.of(milk()));
+    repository.findById(milkId);
+    Ingredient updated = milk();
+    updated.update("Milk", 1.0, Money.of(7.00), Unit.L);
+    when(delegate.findCurrentByIds(List.of(milkId))).thenReturn(List.of(updated));
+
+    // When
+    List<Ingredient> current = repository.findCurrentByIds(List.of(milkId));
+
+    // Then
+    assertEquals(Money.of(7.00), current.get(0).getPackagePrice());
+    verify(delegate).findCurrentByIds(List.of(milkId));
+    assertEquals(Money.of(5.00), repository.findById(milkId).orElseThrow().getPackagePrice());
+  }
+
+  @Test
+  void findById_shouldNotExposeCachedInstanceToMutation() {
+    // Given
+    when(delegate.findById(milkId)).thenReturn(Optional.of(milk()));
+    Ingredient loaded = repository.findById(milkId).orElseThrow();
+
+    // When - an uncommitted change on the returned copy
+    loaded.update("Skimmed Milk", 1.0, Money.of(6.00), Unit.L);
+
+    // Then
+    Ingredient reloaded = repository.findById(milkId).orElseThrow();
+    assertEquals("Milk", reloaded.getName());
+    assertTrue(reloaded.getDomainEvents().isEmpty());
+  }
+
+  @Test
+  void findById_shouldNotCacheMissingIngredients() {
+    // Given
+    when(delegate.findById(milkId)).thenReturn(Optional.empty());
+
+    // When
+    repository.findById(milkId);
+    repository.findById(milkId);
+
+    // Then
+    verify(delegate, times(2)).findById(milkId);
+  }
+
+  @Test
+  void findAllByIds_shouldOnlyLoadIngredientsNotYetCached() {
+    // Given
+    when(delegate.findById(milkId)).thenReturn(Optional.of(milk()));
+    when(delegate.findAllByIds(Set.of(flourId))).thenReturn(List.of(flour()));
+    repository.findById(milkId);
+
+    // When
+    List<Ingredient> found = repository.findAllByIds(List.of(milkId, flourId));
+    List<Ingredient> foundAgain = repository.findAllByIds(List.of(milkId, flourId));
+
+    // Then
+    assertEquals(2, found.size());
+    assertEquals(2, foundAgain.size());
+    verify(delegate, times(1)).findAllByIds(Set.of(flourId));
+    verifyNoMoreInteractions(delegate);
+  }
+
+  @Test
+  void save_shouldEvictCachedIngredient() {
+    // Given
+    Ingredient updated = new Ingredient(milkId, "Milk", 1.0, Money.of(6.00), Unit.L);
+    when(delegate.findById(milkId)).thenReturn(Optional.of(milk()), Optional.of(updated));
+    when(delegate.save(updated)).thenReturn(updated);
+    repository.findById(milkId);
+
+    // When
+    repository.save(updated);
+
+    // Then
+    assertEquals(Money.of(6.00), repository.findById(milkId).orElseThrow().getPackagePrice());
+    verify(delegate, times(2)).findById(milkId);
+  }
+
+  @Test
+  void evict_shouldForceReload() {
+    // Given
+    when(delegate.findById(milkId)).thenReturn(Optional.of(milk()));
+    repository.findById(milkId);
+
+    // When
+    repository.evict(milkId);
+    repository.findById(milkId);
+
+    // Then
+    verify(delegate, times(2)).findById(milkId);
+  }
+}
@@ -0,0 +1,59 @@
+package br.unifor.costify.catalog.infra.events.outbox;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.catalog.domain.events.IngredientUpdatedEvent;
+import br.unifor.costify.catalog.domain.events.IngredientsBulkUpdatedEvent;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IngredientEventCodecsTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void ingredientUpdatedEvent_shouldRoundTripWithPreviousUnitCost() {
+    var codec = new IngredientUpdatedEventCodec(objectMapper);
+    var event = new IngredientUpdatedEvent(TestIds.of("ingredient-1"), "Milk", 1.0, Money.of(5.50), Unit.L, 0.004);
+
+    IngredientUpdatedEvent decoded = codec.decode(codec.encode(event));
+
+    assertThat(decoded.getEventType()).isEqualTo(codec.eventType());
+    assertThat(decoded.getIngredientId()).isEqualTo(event.getIngredientId());
+    assertThat(decoded.getNewName()).isEqualTo("Milk");
+    assertThat(decoded.getNewPackageQuantity()).isEqualTo(1.0);
+    assertThat(decoded.getNewPackagePrice()).isEqualTo(Money.of(5.50));
+    assertThat(decoded.getNewPackageUnit()).isEqualTo(Unit.L);
+    assertThat(decoded.getPreviousUnitCost()).isEqualTo(0.004);
+    assertThat(decoded.getNewUnitCost()).isEqualTo(event.getNewUnitCost());
+  }
+
+  @Test
+  void ingredientUpdatedEvent_shouldKeepUnknownPreviousUnitCostUnknown() {
+    var codec = new IngredientUpdatedEventCodec(objectMapper);
+    var event = new IngredientUpdatedEvent(TestIds.of("ingredient-1"), "Milk", 1.0, Money.of(5.50), Unit.L);
+
+    IngredientUpdatedEvent decoded = codec.decode(codec.encode(event));
+
+    assertThat(decoded.hasPreviousUnitCost()).isFalse();
+  }
+
+  @Test
+  void ingredientsBulkUpdatedEvent_shouldRoundTripEveryUpdateInOrder() {
+    var codec = new IngredientsBulkUpdatedEventCodec(objectMapper);
+    var event = new IngredientsBulkUpdatedEvent(List.of(
+        new IngredientUpdatedEvent(TestIds.of("ingredient-1"), "Milk", 1.0, Money.of(5.50), Unit.L, 0.004),
+        new IngredientUpdatedEvent(TestIds.of("ingredient-2"), "Sugar", 1.0, Money.of(3.00), Unit.KG)));
+
+    IngredientsBulkUpdatedEvent decoded = codec.decode(codec.encode(event));
+
+    assertThat(decoded.getEventType()).isEqualTo(codec.eventType());
+    assertThat(decoded.getIngredientIds()).containsExactly(TestIds.of("ingredient-1"), TestIds.of("ingredient-2"));
+    assertThat(decoded.getUpdates().get(1).getNewPackagePrice()).isEqualTo(Money.of(3.00));
+  }
+}
@@ -0,0 +1,90 @@
+package br.unifor.costify.catalog.integration.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.TestcontainersConfiguration;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.catalog.infra.data.repositories.jpa.JpaIngredientRepository;
+import br.unifor.costify.catalog.infra.data.repositories.postgres.PostgresIngredientPriceHistoryRepository;
+import br.unifor.costify.catalog.infra.data.repositories.postgres.PostgresIngredientRepository;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class IngredientPriceHistoryIntegrationTest {
+
+  @Autowired private PostgresIngredientRepository ingredientRepository;
+
+  @Autowired private PostgresIngredientPriceHistoryRepository priceHistoryRepository;
+
+  @Autowired private JpaIngredientRepository jpaIngredientRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void cleanup() {
+    jpaIngredientRepository.deleteAll();
+    jdbcTemplate.update("DELETE FROM ingredient_price_history");
+  }
+
+  @Test
+  void save_shouldRecordEachPriceChangeInTheHistory() {
+    // Given
+    Ingredient saved = ingredientRepository.save(
+        new Ingredient(TestIds.of("history-flour"), "Flour", 1000.0, Money.of(4.00), Unit.G));
+
+    // When - a rename is not a price change, a new price is
+    Ingredient renamed = ingredientRepository.save(new Ingredient(
+        saved.getId(), "Wheat Flour", 1000.0, Money.of(4.00), Unit.G, saved.getVersion()));
+    ingredientRepository.save(new Ingredient(
+        saved.getId(), "Wheat Flour", 1000.0, Money.of(5.00), Unit.G, renamed.getVersion()));
+
+    // Then
+    List<Instant> changes = effectiveFromOf(saved);
+    assertThat(changes).hasSize(2);
+
+    Ingredient before = priceHistoryRepository.findAllAsOf(List.of(saved.getId()), changes.get(1).minusNanos(1000))
+        .get(0);
+    assertThat(before.getName()).isEqualTo("Wheat Flour");
+    assertThat(before.getPackagePrice()).isEqualTo(Money.of(4.00));
+
+    Ingredient after = priceHistoryRepository.findAllAsOf(List.of(saved.getId()), changes.get(1)).get(0);
+    assertThat(after.getPackagePrice()).isEqualTo(Money.of(5.00));
+  }
+
+  @Test
+  void findAllAsOf_shouldLeaveOutIngredientsWithoutPriceAtTheInstant() {
+    // Given
+    Ingredient saved = ingredientRepository.save(
+        new Ingredient(TestIds.of("history-butter"), "Butter", 500.0, Money.of(8.00), Unit.G));
+    Instant created = effectiveFromOf(saved).get(0);
+
+    // When
+    List<Ingredient> result =
+        priceHistoryRepository.findAllAsOf(List.of(saved.getId()), created.minusSeconds(60));
+
+    // Then
+    assertThat(result).isEmpty();
+  }
+
+  private List<Instant> effectiveFromOf(Ingredient ingredient) {
+    return jdbcTemplate.queryForList(
+            "SELECT effective_from FROM ingredient_price_history WHERE ingredient_id = ? ORDER BY effective_from",
+            Timestamp.class,
+            ingredient.getId().toUuid())
+        .stream()
+        .map(Timestamp::toInstant)
+        .toList();
+  }
+}
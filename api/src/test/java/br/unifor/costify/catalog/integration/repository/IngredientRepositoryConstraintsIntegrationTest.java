@@ -1,5 +1,6 @@
 package br.unifor.costify.catalog.integration.repository;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.TestcontainersConfiguration;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
 import br.unifor.costify.shared.domain.valueobject.Id;
@@ -32,13 +33,13 @@ class IngredientRepositoryConstraintsIntegrationTest {
   void save_withDuplicateName_shouldThrowDataIntegrityViolationException() {
     // Given - save first ingredient
     Ingredient firstIngredient =
-        new Ingredient(Id.of("first-id"), "Duplicate Name", 1.0, Money.of(5.0), Unit.L);
+        new Ingredient(TestIds.of("first-id"), "Duplicate Name", 1.0, Money.of(5.0), Unit.L);
     ingredientRepository.save(firstIngredient);
 
     // When/Then - try to save second ingredient with same name
     Ingredient secondIngredient =
         new Ingredient(
-            Id.of("second-id"),
+            TestIds.of("second-id"),
             "Duplicate Name", // Same name
             2.0,
             Money.of(10.0),
@@ -55,13 +56,13 @@ class IngredientRepositoryConstraintsIntegrationTest {
   @Test
   void save_withDuplicateId_shouldUpdateExistingRecord() {
     // Given - save original ingredient
-    Ingredient original = new Ingredient(Id.of("duplicate-id"), "Original Name", 1.0, Money.of(5.0), Unit.L);
+    Ingredient original = new Ingredient(TestIds.of("duplicate-id"), "Original Name", 1.0, Money.of(5.0), Unit.L);
     ingredientRepository.save(original);
 
     // When - save new ingredient with same ID (immutable update pattern)
     Ingredient updated =
         new Ingredient(
-            Id.of("duplicate-id"), // Same ID
+            TestIds.of("duplicate-id"), // Same ID
             "Updated Name", // Different name
             2.0,
             Money.of(10.0),
@@ -75,7 +76,7 @@ class IngredientRepositoryConstraintsIntegrationTest {
     assert saved.getPackageUnit() == Unit.KG;
 
     // Verify only one record exists
-    var found = ingredientRepository.findById(Id.of("duplicate-id"));
+    var found = ingredientRepository.findById(TestIds.of("duplicate-id"));
     assert found.isPresent();
     assert found.get().getName().equals("Updated Name");
   }
@@ -85,7 +86,7 @@ class IngredientRepositoryConstraintsIntegrationTest {
     // Given - ingredient with zero price
     Ingredient freeIngredient =
         new Ingredient(
-            Id.of("free-ingredient"),
+            TestIds.of("free-ingredient"),
             "Free Sample",
             1.0,
             Money.of(0.0), // Zero price should be allowed
@@ -104,7 +105,7 @@ class IngredientRepositoryConstraintsIntegrationTest {
     // Given - very long name (database column is VARCHAR(255))
     String longName = "A".repeat(300); // 300 characters
     Ingredient longNameIngredient =
-        new Ingredient(Id.of("long-name-id"), longName, 1.0, Money.of(5.0), Unit.G);
+        new Ingredient(TestIds.of("long-name-id"), longName, 1.0, Money.of(5.0), Unit.G);
 
     try {
       // When
@@ -123,7 +124,7 @@ class IngredientRepositoryConstraintsIntegrationTest {
     // Given - ingredient with large precise numbers
     Ingredient preciseIngredient =
         new Ingredient(
-            Id.of("precise-id"),
+            TestIds.of("precise-id"),
             "Precise Ingredient",
             999.999, // 3 decimal places
             Money.of(99999.99), // 2 decimal places
@@ -137,7 +138,7 @@ class IngredientRepositoryConstraintsIntegrationTest {
     assert saved.getPackagePrice().doubleValue() == 99999.99;
 
     // Verify after database round-trip
-    var found = ingredientRepository.findById(Id.of("precise-id"));
+    var found = ingredientRepository.findById(TestIds.of("precise-id"));
     assert found.isPresent();
     assert found.get().getPackageQuantity() == 999.999;
     assert found.get().getPackagePrice().doubleValue() == 99999.99;
@@ -151,7 +152,7 @@ class IngredientRepositoryConstraintsIntegrationTest {
     for (int i = 0; i < allUnits.length; i++) {
       Unit unit = allUnits[i];
       Ingredient ingredient =
-          new Ingredient(Id.of("unit-test-" + i), "Test " + unit.name(), 1.0, Money.of(5.0), unit);
+          new Ingredient(TestIds.of("unit-test-" + i), "Test " + unit.name(), 1.0, Money.of(5.0), unit);
 
       // Save and verify
       Ingredient saved = ingredientRepository.save(ingredient);
@@ -188,7 +189,7 @@ class IngredientRepositoryConstraintsIntegrationTest {
   @Test
   void deleteById_withNonExistingId_shouldNotThrowException() {
     // Given - non-existing ID
-    Id nonExistingId = Id.of("definitely-does-not-exist");
+    Id nonExistingId = TestIds.of("definitely-does-not-exist");
 
     // When/Then - should not throw exception
     ingredientRepository.deleteById(nonExistingId);
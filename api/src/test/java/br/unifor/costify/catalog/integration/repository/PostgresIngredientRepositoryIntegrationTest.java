@@ -1,12 +1,16 @@
 package br.unifor.costify.catalog.integration.repository;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.TestcontainersConfiguration;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.shared.domain.valueobject.Unit;
 import br.unifor.costify.catalog.infra.data.repositories.jpa.JpaIngredientRepository;
 import br.unifor.costify.catalog.infra.data.repositories.postgres.PostgresIngredientRepository;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,7 +37,7 @@ class PostgresIngredientRepositoryIntegrationTest {
 
   @BeforeEach
   void setUp() {
-    testIngredient = new Ingredient(Id.of("test-ingredient-id"), "Test Milk", 1.0, Money.of(5.50), Unit.L);
+    testIngredient = new Ingredient(TestIds.of("test-ingredient-id"), "Test Milk", 1.0, Money.of(5.50), Unit.L);
   }
 
   @Test
@@ -71,7 +75,7 @@ class PostgresIngredientRepositoryIntegrationTest {
   @Test
   void findById_withNonExistingId_shouldReturnEmpty() {
     // Given
-    Id nonExistingId = Id.of("non-existing-id");
+    Id nonExistingId = TestIds.of("non-existing-id");
 
     // When
     Optional<Ingredient> found = ingredientRepository.findById(nonExistingId);
@@ -150,12 +154,12 @@ class PostgresIngredientRepositoryIntegrationTest {
   void save_shouldHandleDifferentUnits() {
     // Test with different units
     Ingredient gramIngredient =
-        new Ingredient(Id.of("gram-ingredient"), "Flour", 500.0, Money.of(3.20), Unit.G);
+        new Ingredient(TestIds.of("gram-ingredient"), "Flour", 500.0, Money.of(3.20), Unit.G);
 
-    Ingredient kgIngredient = new Ingredient(Id.of("kg-ingredient"), "Sugar", 1.0, Money.of(4.50), Unit.KG);
+    Ingredient kgIngredient = new Ingredient(TestIds.of("kg-ingredient"), "Sugar", 1.0, Money.of(4.50), Unit.KG);
 
     Ingredient mlIngredient =
-        new Ingredient(Id.of("ml-ingredient"), "Vanilla Extract", 50.0, Money.of(8.90), Unit.ML);
+        new Ingredient(TestIds.of("ml-ingredient"), "Vanilla Extract", 50.0, Money.of(8.90), Unit.ML);
 
     // Save all
     Ingredient savedGram = ingredientRepository.save(gramIngredient);
@@ -172,11 +176,11 @@ class PostgresIngredientRepositoryIntegrationTest {
   void save_shouldHandleTbspUnits() {
     // Test with TBSP (liquid volume) units
     Ingredient tbspLiquidIngredient =
-        new Ingredient(Id.of("tbsp-liquid"), "Vanilla Extract", 10.0, Money.of(8.50), Unit.TBSP);
+        new Ingredient(TestIds.of("tbsp-liquid"), "Vanilla Extract", 10.0, Money.of(8.50), Unit.TBSP);
 
     // Test with TBSP_BUTTER (solid fat weight) units  
     Ingredient tbspButterIngredient =
-        new Ingredient(Id.of("tbsp-butter"), "Butter", 32.0, Money.of(12.00), Unit.TBSP_BUTTER);
+        new Ingredient(TestIds.of("tbsp-butter"), "Butter", 32.0, Money.of(12.00), Unit.TBSP_BUTTER);
 
     // Save both
     Ingredient savedTbspLiquid = ingredientRepository.save(tbspLiquidIngredient);
@@ -201,7 +205,7 @@ class PostgresIngredientRepositoryIntegrationTest {
     // Test TBSP (liquid) cost calculation: 1 TBSP = 15ml
     Ingredient tbspLiquid =
         new Ingredient(
-            Id.of("tbsp-cost-test"),
+            TestIds.of("tbsp-cost-test"),
             "Vanilla Extract",
             10.0, // 10 tablespoons
             Money.of(8.50), // $8.50 total
@@ -211,7 +215,7 @@ class PostgresIngredientRepositoryIntegrationTest {
     // Test TBSP_BUTTER (solid) cost calculation: 1 TBSP = 14g
     Ingredient tbspButter =
         new Ingredient(
-            Id.of("tbsp-butter-cost-test"),
+            TestIds.of("tbsp-butter-cost-test"),
             "Butter", 
             16.0, // 16 tablespoons
             Money.of(12.00), // $12.00 total
@@ -245,7 +249,7 @@ class PostgresIngredientRepositoryIntegrationTest {
     // Given
     Ingredient ingredient =
         new Ingredient(
-            Id.of("cost-test"),
+            TestIds.of("cost-test"),
             "Test Product",
             2.0, // 2 units
             Money.of(10.0), // $10 total
@@ -292,10 +296,10 @@ class PostgresIngredientRepositoryIntegrationTest {
   void findAll_shouldReturnAllIngredients() {
     // Given
     Ingredient ingredient1 =
-        new Ingredient(Id.of("ingredient-1"), "Milk", 1.0, Money.of(5.50), Unit.L);
-    Ingredient ingredient2 = new Ingredient(Id.of("ingredient-2"), "Flour", 500.0, Money.of(3.20), Unit.G);
+        new Ingredient(TestIds.of("ingredient-1"), "Milk", 1.0, Money.of(5.50), Unit.L);
+    Ingredient ingredient2 = new Ingredient(TestIds.of("ingredient-2"), "Flour", 500.0, Money.of(3.20), Unit.G);
     Ingredient ingredient3 =
-        new Ingredient(Id.of("ingredient-3"), "Sugar", 1.0, Money.of(4.50), Unit.KG);
+        new Ingredient(TestIds.of("ingredient-3"), "Sugar", 1.0, Money.of(4.50), Unit.KG);
 
     ingredientRepository.save(ingredient1);
     ingredientRepository.save(ingredient2);
@@ -312,8 +316,8 @@ class PostgresIngredientRepositoryIntegrationTest {
   @Test
   void findAll_shouldReturnIngredientsWithCorrectData() {
     // Given
-    Ingredient milk = new Ingredient(Id.of("milk-id"), "Milk", 1.0, Money.of(5.50), Unit.L);
-    Ingredient flour = new Ingredient(Id.of("flour-id"), "Flour", 500.0, Money.of(3.20), Unit.G);
+    Ingredient milk = new Ingredient(TestIds.of("milk-id"), "Milk", 1.0, Money.of(5.50), Unit.L);
+    Ingredient flour = new Ingredient(TestIds.of("flour-id"), "Flour", 500.0, Money.of(3.20), Unit.G);
 
     ingredientRepository.save(milk);
     ingredientRepository.save(flour);
@@ -342,4 +346,53 @@ class PostgresIngredientRepositoryIntegrationTest {
     assert foundFlour.get().getPackagePrice().equals(Money.of(3.20));
     assert foundFlour.get().getPackageUnit() == Unit.G;
   }
+
+  @Test
+  void findAllByIds_shouldReturnOnlyExistingIngredients() {
+    // Given
+    Ingredient sugar = new Ingredient(TestIds.of("test-sugar-id"), "Test Sugar", 1.0, Money.of(3.00), Unit.KG);
+    ingredientRepository.save(testIngredient);
+    ingredientRepository.save(sugar);
+
+    // When
+    List<Ingredient> found = ingredientRepository.findAllByIds(
+        List.of(testIngredient.getId(), sugar.getId(), TestIds.of("missing-id")));
+
+    // Then
+    assert found.size() == 2;
+    assert found.stream().anyMatch(i -> i.getId().equals(testIngredient.getId()));
+    assert found.stream().anyMatch(i -> i.getId().equals(sugar.getId()));
+  }
+
+  @Test
+  void findAllByIds_withEmptyCollection_shouldReturnEmptyList() {
+    // Given
+    ingredientRepository.save(testIngredient);
+
+    // When
+    List<Ingredient> found = ingredientRepository.findAllByIds(List.of());
+
+    // Then
+    assert found.isEmpty();
+  }
+
+  @Test
+  void findVersionById_andCollectionVersion_shouldChangeOnEveryWrite() {
+    // Given
+    Ingredient saved = ingredientRepository.save(testIngredient);
+    ResourceVersion before = ingredientRepository.findVersionById(saved.getId()).orElseThrow();
+    CollectionVersion collectionBefore = ingredientRepository.findCollectionVersion();
+
+    // When
+    ingredientRepository.save(new Ingredient(
+        saved.getId(), "Test Milk", 1.0, Money.of(6.00), Unit.L, saved.getVersion()));
+
+    // Then
+    ResourceVersion after = ingredientRepository.findVersionById(saved.getId()).orElseThrow();
+    assert after.version() == before.version() + 1;
+    assert !after.lastModified().isBefore(before.lastModified());
+    assert collectionBefore.size() == 1;
+    assert !ingredientRepository.findCollectionVersion().equals(collectionBefore);
+    assert ingredientRepository.findVersionById(TestIds.of("missing")).isEmpty();
+  }
 }
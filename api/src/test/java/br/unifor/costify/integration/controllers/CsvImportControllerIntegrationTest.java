@@ -0,0 +1,127 @@
+package br.unifor.costify.integration.controllers;
+
+import br.unifor.costify.TestcontainersConfiguration;
+import br.unifor.costify.catalog.infra.data.repositories.jpa.JpaIngredientRepository;
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.infra.data.repositories.jpa.JpaRecipeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestcontainersConfiguration.class)
+class CsvImportControllerIntegrationTest {
+
+  private static final String INGREDIENTS_CSV = """
+      name,package_quantity,package_price,package_unit
+      Flour,1000,5.00,g
+      Milk,1,4.50,L
+      Sugar,abc,3.00,KG
+      Flour,500,2.00,G
+       ,1,1.00,UN
+      Eggs,12,9.60,DOZEN
+      """;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private RecipeRepository recipeRepository;
+
+  @Autowired
+  private JpaRecipeRepository jpaRecipeRepository;
+
+  @Autowired
+  private JpaIngredientRepository jpaIngredientRepository;
+
+  @AfterEach
+  void tearDown() {
+    jpaRecipeRepository.deleteAll();
+    jpaIngredientRepository.deleteAll();
+  }
+
+  @Test
+  void shouldImportValidIngredientsAndReportInvalidRows() throws Exception {
+    importCsv("/ingredients/import", INGREDIENTS_CSV)
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalRows", is(6)))
+        .andExpect(jsonPath("$.importedRows", is(2)))
+        .andExpect(jsonPath("$.rejectedRows", is(4)))
+        .andExpect(jsonPath("$.errors[0].row", is(3)))
+        .andExpect(jsonPath("$.errors[0].message", is("Package quantity must be a number")))
+        .andExpect(jsonPath("$.errors[1].message", is("Duplicate of row 1")))
+        .andExpect(jsonPath("$.errors[2].message", is("Ingredient name is required")))
+        .andExpect(jsonPath("$.errors[3].message", is("Unknown package unit")));
+
+    assertThat(jpaIngredientRepository.count()).isEqualTo(2);
+
+    // Importing the same file again only finds existing ingredients
+    importCsv("/ingredients/import", INGREDIENTS_CSV)
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.importedRows", is(0)))
+        .andExpect(jsonPath("$.errors[0].message", is("Ingredient already exists")));
+  }
+
+  @Test
+  void shouldImportCompleteRecipesWithTheirCosts() throws Exception {
+    importCsv("/ingredients/import", INGREDIENTS_CSV).andExpect(status().isOk());
+
+    importCsv("/recipes/import", """
+        recipe_name,ingredient_name,quantity,unit
+        Pancakes,Flour,200,G
+        Pancakes,Milk,300,ML
+        Bread,Flour,500,g
+        Bread,Yeast,10,G
+        """)
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalRows", is(4)))
+        .andExpect(jsonPath("$.importedRows", is(2)))
+        .andExpect(jsonPath("$.errors[0].row", is(3)))
+        .andExpect(jsonPath("$.errors[0].message", is("Recipe has invalid rows")))
+        .andExpect(jsonPath("$.errors[1].row", is(4)))
+        .andExpect(jsonPath("$.errors[1].message", is("Ingredient 'Yeast' not found")));
+
+    Recipe pancakes = recipeRepository.findAll().stream()
+        .filter(recipe -> recipe.getName().equals("Pancakes"))
+        .findFirst()
+        .orElseThrow();
+    // 200 g of a 1000 g package at 5.00 plus 300 ml of a 1 L package at 4.50
+    assertThat(pancakes.getTotalCost().getAmount()).isEqualByComparingTo(new BigDecimal("2.35"));
+    assertThat(pancakes.getIngredients()).hasSize(2);
+
+    mockMvc.perform(get("/recipes/{id}/cost", pancakes.getId().getValue()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.ingredientCosts.length()", is(2)))
+        .andExpect(jsonPath("$.totalCost", is(2.35)));
+  }
+
+  @Test
+  void shouldRejectFileWithWrongNumberOfColumns() throws Exception {
+    importCsv("/ingredients/import", """
+        name,package_quantity,package_price,package_unit
+        Flour,1000,5.00,G,extra
+        """)
+        .andExpect(status().isBadRequest());
+
+    assertThat(jpaIngredientRepository.count()).isZero();
+  }
+
+  private ResultActions importCsv(String path, String csv) throws Exception {
+    return mockMvc.perform(post(path).contentType("text/csv").content(csv));
+  }
+}
@@ -16,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -76,6 +77,7 @@ class IngredientUpdateControllerIntegrationTest {
 
     // Act & Assert
     mockMvc.perform(put("/ingredients/{id}", existingIngredientId)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
             .contentType(MediaType.APPLICATION_JSON)
             .content(objectMapper.writeValueAsString(updateRequest)))
         .andExpect(status().isOk())
@@ -84,7 +86,57 @@ class IngredientUpdateControllerIntegrationTest {
         .andExpect(jsonPath("$.name", is("Updated Skim Milk")))
         .andExpect(jsonPath("$.packageQuantity", is(2.0)))
         .andExpect(jsonPath("$.packagePrice", is(8.50)))
-        .andExpect(jsonPath("$.packageUnit", is("L")));
+        .andExpect(jsonPath("$.packageUnit", is("L")))
+        .andExpect(jsonPath("$.version", is(1)))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+  }
+
+  @Test
+  void shouldReturn428WhenIfMatchIsMissing() throws Exception {
+    IngredientControllerRegisterRequest updateRequest = new IngredientControllerRegisterRequest(
+        "Updated Milk",
+        2.0,
+        8.50,
+        Unit.L
+    );
+
+    mockMvc.perform(put("/ingredients/{id}", existingIngredientId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(updateRequest)))
+        .andExpect(status().isPreconditionRequired())
+        .andExpect(jsonPath("$.code", is("INFRA-428")));
+  }
+
+  @Test
+  void shouldReturn412WhenIfMatchIsStale() throws Exception {
+    IngredientControllerRegisterRequest firstUpdate = new IngredientControllerRegisterRequest(
+        "First Milk",
+        2.0,
+        8.50,
+        Unit.L
+    );
+    IngredientControllerRegisterRequest secondUpdate = new IngredientControllerRegisterRequest(
+        "Second Milk",
+        2.0,
+        9.50,
+        Unit.L
+    );
+
+    // Both clients read version 0; the second one must not overwrite the first
+    mockMvc.perform(put("/ingredients/{id}", existingIngredientId)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(firstUpdate)))
+        .andExpect(status().isOk());
+    mockMvc.perform(put("/ingredients/{id}", existingIngredientId)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(secondUpdate)))
+        .andExpect(status().isPreconditionFailed())
+        .andExpect(jsonPath("$.code", is("APP-902")));
+
+    assert ingredientRepository.findById(Id.of(existingIngredientId)).orElseThrow()
+        .getName().equals("First Milk");
   }
 
   @Test
@@ -100,6 +152,7 @@ class IngredientUpdateControllerIntegrationTest {
 
     // Act & Assert
     mockMvc.perform(put("/ingredients/{id}", nonExistentId)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
             .contentType(MediaType.APPLICATION_JSON)
             .content(objectMapper.writeValueAsString(updateRequest)))
         .andExpect(status().isNotFound());
@@ -168,6 +221,7 @@ class IngredientUpdateControllerIntegrationTest {
 
     // Act
     mockMvc.perform(put("/ingredients/{id}", existingIngredientId)
+            .header(HttpHeaders.IF_MATCH, "\"0\"")
             .contentType(MediaType.APPLICATION_JSON)
             .content(objectMapper.writeValueAsString(updateRequest)))
         .andExpect(status().isOk());
@@ -1,5 +1,6 @@
 package br.unifor.costify.recipe.application.dto;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
 import br.unifor.costify.shared.domain.contracts.IdGenerator;
 import br.unifor.costify.recipe.domain.entity.Recipe;
@@ -15,9 +16,9 @@ class RecipeDtoTest {
 
   @Test
   void from_withRecipe_shouldCreateCorrectDto() {
-    IdGenerator fakeIdGenerator = () -> "test-recipe-id-123";
-    Id ingredientId1 = Id.of("ingredient-1");
-    Id ingredientId2 = Id.of("ingredient-2");
+    IdGenerator fakeIdGenerator = () -> TestIds.value("test-recipe-id-123");
+    Id ingredientId1 = TestIds.of("ingredient-1");
+    Id ingredientId2 = TestIds.of("ingredient-2");
     RecipeIngredient recipeIngredient1 = new RecipeIngredient(ingredientId1, 0.5, Unit.KG);
     RecipeIngredient recipeIngredient2 = new RecipeIngredient(ingredientId2, 0.2, Unit.KG);
     List<RecipeIngredient> ingredients = List.of(recipeIngredient1, recipeIngredient2);
@@ -26,7 +27,7 @@ class RecipeDtoTest {
 
     RecipeDto dto = RecipeDto.from(recipe);
 
-    assert dto.id().equals("test-recipe-id-123");
+    assert dto.id().equals(TestIds.value("test-recipe-id-123"));
     assert dto.name().equals("Bread Recipe");
     assert dto.ingredients().size() == 2;
     assert dto.ingredients().get(0).ingredientId().equals(ingredientId1.getValue());
@@ -40,8 +41,8 @@ class RecipeDtoTest {
 
   @Test
   void from_withDifferentRecipe_shouldCreateCorrectDto() {
-    IdGenerator fakeIdGenerator = () -> "cake-recipe-id-456";
-    Id ingredientId = Id.of("ingredient-1");
+    IdGenerator fakeIdGenerator = () -> TestIds.value("cake-recipe-id-456");
+    Id ingredientId = TestIds.of("ingredient-1");
     RecipeIngredient recipeIngredient = new RecipeIngredient(ingredientId, 1.0, Unit.KG);
     List<RecipeIngredient> ingredients = List.of(recipeIngredient);
 
@@ -49,7 +50,7 @@ class RecipeDtoTest {
 
     RecipeDto dto = RecipeDto.from(recipe);
 
-    assert dto.id().equals("cake-recipe-id-456");
+    assert dto.id().equals(TestIds.value("cake-recipe-id-456"));
     assert dto.name().equals("Cake Recipe");
     assert dto.ingredients().size() == 1;
     assert dto.ingredients().get(0).ingredientId().equals(ingredientId.getValue());
@@ -1,5 +1,6 @@
 package br.unifor.costify.recipe.application.dto;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.recipe.application.dto.command.RegisterRecipeCommand;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
@@ -11,7 +12,7 @@ class RegisterRecipeCommandTest {
 
   @Test
   void createCommand_withValidValues_shouldInitializeCorrectly() {
-    Id ingredientId = Id.of("ingredient-1");
+    Id ingredientId = TestIds.of("ingredient-1");
     RecipeIngredient recipeIngredient = new RecipeIngredient(ingredientId, 0.5, Unit.KG);
     List<RecipeIngredient> ingredients = List.of(recipeIngredient);
 
@@ -24,7 +25,7 @@ class RegisterRecipeCommandTest {
 
   @Test
   void createCommand_withNullName_shouldThrowException() {
-    Id ingredientId = Id.of("ingredient-1");
+    Id ingredientId = TestIds.of("ingredient-1");
     RecipeIngredient recipeIngredient = new RecipeIngredient(ingredientId, 0.5, Unit.KG);
     List<RecipeIngredient> ingredients = List.of(recipeIngredient);
 
@@ -38,7 +39,7 @@ class RegisterRecipeCommandTest {
 
   @Test
   void createCommand_withEmptyName_shouldThrowException() {
-    Id ingredientId = Id.of("ingredient-1");
+    Id ingredientId = TestIds.of("ingredient-1");
     RecipeIngredient recipeIngredient = new RecipeIngredient(ingredientId, 0.5, Unit.KG);
     List<RecipeIngredient> ingredients = List.of(recipeIngredient);
 
@@ -52,7 +53,7 @@ class RegisterRecipeCommandTest {
 
   @Test
   void createCommand_withBlankName_shouldThrowException() {
-    Id ingredientId = Id.of("ingredient-1");
+    Id ingredientId = TestIds.of("ingredient-1");
     RecipeIngredient recipeIngredient = new RecipeIngredient(ingredientId, 0.5, Unit.KG);
     List<RecipeIngredient> ingredients = List.of(recipeIngredient);
 
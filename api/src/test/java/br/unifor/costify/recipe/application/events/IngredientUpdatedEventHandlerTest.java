@@ -1,11 +1,15 @@
 package br.unifor.costify.recipe.application.events;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.recipe.application.usecase.RecalculateRecipeCostsForIngredientUseCase;
 import br.unifor.costify.catalog.domain.events.IngredientUpdatedEvent;
+import br.unifor.costify.catalog.domain.events.IngredientsBulkUpdatedEvent;
+import br.unifor.costify.shared.domain.events.DomainEvent;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.shared.domain.valueobject.Unit;
 import br.unifor.costify.shared.infra.events.TransactionalDomainEventWrapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +17,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,14 +35,15 @@ class IngredientUpdatedEventHandlerTest {
 
     @BeforeEach
     void setUp() {
-        eventHandler = new IngredientUpdatedEventHandler(recalculateRecipeCostsUseCase);
+        eventHandler = new IngredientUpdatedEventHandler(
+                RecipeCostRecalculationQueue.synchronous(recalculateRecipeCostsUseCase, new SimpleMeterRegistry()));
     }
 
     @Test
     @DisplayName("Should handle ingredient updated event and trigger recipe cost recalculation")
     void shouldHandleIngredientUpdatedEvent() {
         // Arrange
-        Id ingredientId = Id.of("ingredient-123");
+        Id ingredientId = TestIds.of("ingredient-123");
         var event = new IngredientUpdatedEvent(
                 ingredientId,
                 "Milk",
@@ -46,15 +56,15 @@ class IngredientUpdatedEventHandlerTest {
         eventHandler.handleIngredientUpdated(new TransactionalDomainEventWrapper(event));
 
         // Assert
-        verify(recalculateRecipeCostsUseCase).execute(ingredientId);
+        verify(recalculateRecipeCostsUseCase).execute(event);
     }
 
     @Test
     @DisplayName("Should handle multiple events independently")
     void shouldHandleMultipleEventsIndependently() {
         // Arrange
-        Id ingredientId1 = Id.of("ingredient-1");
-        Id ingredientId2 = Id.of("ingredient-2");
+        Id ingredientId1 = TestIds.of("ingredient-1");
+        Id ingredientId2 = TestIds.of("ingredient-2");
 
         var event1 = new IngredientUpdatedEvent(
                 ingredientId1,
@@ -77,8 +87,8 @@ class IngredientUpdatedEventHandlerTest {
         eventHandler.handleIngredientUpdated(new TransactionalDomainEventWrapper(event2));
 
         // Assert
-        verify(recalculateRecipeCostsUseCase).execute(ingredientId1);
-        verify(recalculateRecipeCostsUseCase).execute(ingredientId2);
+        verify(recalculateRecipeCostsUseCase).execute(event1);
+        verify(recalculateRecipeCostsUseCase).execute(event2);
         verifyNoMoreInteractions(recalculateRecipeCostsUseCase);
     }
 
@@ -86,7 +96,7 @@ class IngredientUpdatedEventHandlerTest {
     @DisplayName("Should propagate exceptions from recipe cost recalculation use case")
     void shouldPropagateExceptionsFromUseCase() {
         // Arrange
-        Id ingredientId = Id.of("ingredient-123");
+        Id ingredientId = TestIds.of("ingredient-123");
         var event = new IngredientUpdatedEvent(
                 ingredientId,
                 "Milk",
@@ -97,14 +107,70 @@ class IngredientUpdatedEventHandlerTest {
 
         doThrow(new RuntimeException("Database error"))
                 .when(recalculateRecipeCostsUseCase)
-                .execute(ingredientId);
+                .execute(event);
 
         // Act & Assert
         try {
             eventHandler.handleIngredientUpdated(new TransactionalDomainEventWrapper(event));
         } catch (RuntimeException e) {
             // Exception should be propagated
-            verify(recalculateRecipeCostsUseCase).execute(ingredientId);
+            verify(recalculateRecipeCostsUseCase).execute(event);
         }
     }
+
+    @Test
+    @DisplayName("Should recalculate all ingredients of a bulk update as one batch")
+    void shouldHandleBulkUpdateAsOneBatch() {
+        // Arrange
+        Id milkId = TestIds.of("ingredient-1");
+        Id flourId = TestIds.of("ingredient-2");
+        var event = new IngredientsBulkUpdatedEvent(List.of(
+                new IngredientUpdatedEvent(milkId, "Milk", 1.0, Money.of(5.00), Unit.L),
+                new IngredientUpdatedEvent(flourId, "Flour", 1000.0, Money.of(8.00), Unit.G),
+                new IngredientUpdatedEvent(milkId, "Milk", 1.0, Money.of(6.00), Unit.L)
+        ));
+
+        // Act
+        eventHandler.handleIngredientUpdated(new TransactionalDomainEventWrapper(event));
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase).executeBatch(Set.of(milkId, flourId));
+        verify(recalculateRecipeCostsUseCase, never()).execute(any(IngredientUpdatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should leave events stored in the outbox to the relay")
+    void shouldSkipEventsStoredInOutbox() {
+        // Arrange
+        var event = new IngredientUpdatedEvent(TestIds.of("ingredient-123"), "Milk", 1.0, Money.of(5.00), Unit.L);
+
+        // Act
+        eventHandler.handleIngredientUpdated(new TransactionalDomainEventWrapper(event, true));
+
+        // Assert
+        verifyNoInteractions(recalculateRecipeCostsUseCase);
+    }
+
+    @Test
+    @DisplayName("Should recalculate relayed events as one synchronous batch")
+    void shouldRecalculateRelayedEventsAsOneBatch() {
+        // Arrange
+        Id milkId = TestIds.of("ingredient-1");
+        Id flourId = TestIds.of("ingredient-2");
+        Id sugarId = TestIds.of("ingredient-3");
+        List<DomainEvent> events = List.of(
+                new IngredientUpdatedEvent(milkId, "Milk", 1.0, Money.of(5.00), Unit.L, 0.004),
+                new IngredientsBulkUpdatedEvent(List.of(
+                        new IngredientUpdatedEvent(flourId, "Flour", 1000.0, Money.of(8.00), Unit.G),
+                        new IngredientUpdatedEvent(milkId, "Milk", 1.0, Money.of(6.00), Unit.L))),
+                new IngredientUpdatedEvent(sugarId, "Sugar", 1.0, Money.of(3.00), Unit.KG));
+
+        // Act
+        events.forEach(event -> assertTrue(eventHandler.canHandle(event)));
+        eventHandler.handleAll(events);
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase).executeBatch(Set.of(milkId, flourId, sugarId));
+        verify(recalculateRecipeCostsUseCase, never()).execute(any(IngredientUpdatedEvent.class));
+    }
 }
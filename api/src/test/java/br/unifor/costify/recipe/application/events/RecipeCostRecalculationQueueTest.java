@@ -0,0 +1,268 @@
+package br.unifor.costify.recipe.application.events;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.recipe.application.usecase.RecalculateRecipeCostsForIngredientUseCase;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.infra.data.ConnectionPoolLimit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecipeCostRecalculationQueue Tests")
+class RecipeCostRecalculationQueueTest {
+
+    @Mock
+    private RecalculateRecipeCostsForIngredientUseCase recalculateRecipeCostsUseCase;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConnectionPoolLimit concurrencyLimit = new ConnectionPoolLimit(1);
+    private RecipeCostRecalculationQueue queue;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) {
+            queue.destroy();
+        }
+    }
+
+    private RecipeCostRecalculationQueue asyncQueue(Duration window, int capacity) {
+        return new RecipeCostRecalculationQueue(
+                recalculateRecipeCostsUseCase, concurrencyLimit, true, window, capacity, Duration.ofSeconds(5), false, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should merge repeated updates of the same ingredient into one batch")
+    void shouldMergeRepeatedUpdatesIntoOneBatch() {
+        // Arrange
+        queue = asyncQueue(Duration.ofMillis(100), 100);
+        Id ingredientId = TestIds.of("ingredient-123");
+
+        // Act
+        queue.submit(ingredientId);
+        queue.submit(ingredientId);
+        queue.submit(ingredientId);
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase, timeout(2000)).executeBatch(Set.of(ingredientId));
+        verify(recalculateRecipeCostsUseCase, never()).execute(any(Id.class));
+    }
+
+    @Test
+    @DisplayName("Should flush batches on a virtual thread when virtual threads are enabled")
+    void shouldFlushOnVirtualThreadWhenEnabled() throws Exception {
+        // Arrange
+        queue = new RecipeCostRecalculationQueue(
+                recalculateRecipeCostsUseCase, concurrencyLimit, true, Duration.ofMillis(10), 100, Duration.ofSeconds(5),
+                true, meterRegistry);
+        CompletableFuture<Boolean> flushedOnVirtualThread = new CompletableFuture<>();
+        doAnswer(invocation -> {
+            flushedOnVirtualThread.complete(Thread.currentThread().isVirtual());
+            return null;
+        }).when(recalculateRecipeCostsUseCase).executeBatch(any());
+
+        // Act
+        queue.submit(TestIds.of("ingredient-123"));
+
+        // Assert
+        assertThat(flushedOnVirtualThread.get(2, TimeUnit.SECONDS)).isTrue();
+        verify(recalculateRecipeCostsUseCase).executeBatch(Set.of(TestIds.of("ingredient-123")));
+    }
+
+    @Test
+    @DisplayName("Should wait for a connection slot held by a request before flushing")
+    void shouldWaitForConnectionSlotBeforeFlushing() throws Exception {
+        // Arrange - a request holds the only slot
+        queue = new RecipeCostRecalculationQueue(
+                recalculateRecipeCostsUseCase, concurrencyLimit, true, Duration.ofMillis(10), 100, Duration.ofSeconds(5),
+                true, meterRegistry);
+        concurrencyLimit.acquire();
+        Id ingredientId = TestIds.of("ingredient-123");
+
+        // Act
+        queue.submit(ingredientId);
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase, after(200).never()).executeBatch(any());
+        concurrencyLimit.release();
+        verify(recalculateRecipeCostsUseCase, timeout(2000)).executeBatch(Set.of(ingredientId));
+    }
+
+    @Test
+    @DisplayName("Should drain pending ingredients on shutdown")
+    void shouldDrainPendingIngredientsOnShutdown() throws InterruptedException {
+        // Arrange
+        queue = asyncQueue(Duration.ofHours(1), 100);
+        Id ingredientId1 = TestIds.of("ingredient-1");
+        Id ingredientId2 = TestIds.of("ingredient-2");
+        queue.submit(ingredientId1);
+        queue.submit(ingredientId2);
+
+        // Act
+        queue.destroy();
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase).executeBatch(Set.of(ingredientId1, ingredientId2));
+        assertThat(queue.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should recalculate synchronously when the queue is full")
+    void shouldRecalculateSynchronouslyWhenQueueIsFull() {
+        // Arrange
+        queue = asyncQueue(Duration.ofHours(1), 1);
+        Id queuedId = TestIds.of("ingredient-1");
+        Id overflowId = TestIds.of("ingredient-2");
+
+        // Act
+        queue.submit(queuedId);
+        queue.submit(overflowId);
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase).execute(overflowId);
+        assertThat(queue.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should recalculate synchronously when disabled")
+    void shouldRecalculateSynchronouslyWhenDisabled() {
+        // Arrange
+        queue = RecipeCostRecalculationQueue.synchronous(recalculateRecipeCostsUseCase, meterRegistry);
+        Id ingredientId = TestIds.of("ingredient-123");
+
+        // Act
+        queue.submit(ingredientId);
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase).execute(ingredientId);
+        verify(recalculateRecipeCostsUseCase, never()).executeBatch(any());
+        assertThat(queue.isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should merge a bulk submission with pending ingredients into one batch")
+    void shouldMergeBulkSubmissionIntoOneBatch() {
+        // Arrange
+        queue = asyncQueue(Duration.ofMillis(100), 100);
+        Id ingredientId1 = TestIds.of("ingredient-1");
+        Id ingredientId2 = TestIds.of("ingredient-2");
+
+        // Act
+        queue.submit(ingredientId1);
+        queue.submitAll(List.of(ingredientId1, ingredientId2));
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase, timeout(2000)).executeBatch(Set.of(ingredientId1, ingredientId2));
+        verify(recalculateRecipeCostsUseCase, never()).execute(any(Id.class));
+    }
+
+    @Test
+    @DisplayName("Should recalculate the overflow of a bulk submission synchronously as one batch")
+    void shouldRecalculateBulkOverflowSynchronously() {
+        // Arrange
+        queue = asyncQueue(Duration.ofHours(1), 1);
+        Id queuedId = TestIds.of("ingredient-1");
+        Id overflowId1 = TestIds.of("ingredient-2");
+        Id overflowId2 = TestIds.of("ingredient-3");
+
+        // Act
+        queue.submitAll(List.of(queuedId, overflowId1, overflowId2));
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase).executeBatch(Set.of(overflowId1, overflowId2));
+        assertThat(queue.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should recalculate a bulk submission synchronously as one batch when disabled")
+    void shouldRecalculateBulkSubmissionSynchronouslyWhenDisabled() {
+        // Arrange
+        queue = RecipeCostRecalculationQueue.synchronous(recalculateRecipeCostsUseCase, meterRegistry);
+        List<Id> ingredientIds = List.of(TestIds.of("ingredient-1"), TestIds.of("ingredient-2"));
+
+        // Act
+        queue.submitAll(ingredientIds);
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase).executeBatch(ingredientIds);
+        verify(recalculateRecipeCostsUseCase, never()).execute(any(Id.class));
+    }
+
+    @Test
+    @DisplayName("Should retry a failed batch together with ingredients submitted meanwhile")
+    void shouldRetryFailedBatchWithLaterSubmissions() {
+        // Arrange
+        queue = asyncQueue(Duration.ofMillis(50), 100);
+        Id failedId = TestIds.of("ingredient-1");
+        Id laterId = TestIds.of("ingredient-2");
+        CompletableFuture<Void> firstAttempt = new CompletableFuture<>();
+        doAnswer(invocation -> {
+            firstAttempt.complete(null);
+            throw new IllegalStateException("database is down");
+        }).doNothing().when(recalculateRecipeCostsUseCase).executeBatch(any());
+
+        // Act
+        queue.submit(failedId);
+        firstAttempt.join();
+        queue.submit(laterId);
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase, timeout(2000)).executeBatch(Set.of(failedId, laterId));
+        assertThat(queue.pendingCount()).isZero();
+        assertThat(meterRegistry.get(RecipeCostRecalculationQueue.FAILURES_COUNTER).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should recalculate ingredients one at a time once the batch attempts are exhausted")
+    void shouldIsolateIngredientsAfterRepeatedFailures() {
+        // Arrange
+        queue = asyncQueue(Duration.ofMillis(1), 100);
+        Id failingId = TestIds.of("ingredient-1");
+        Id healthyId = TestIds.of("ingredient-2");
+        Set<Id> batch = Set.of(failingId, healthyId);
+        doThrow(new IllegalStateException("bad data")).when(recalculateRecipeCostsUseCase).executeBatch(batch);
+        doThrow(new IllegalStateException("bad data")).when(recalculateRecipeCostsUseCase)
+                .executeBatch(Set.of(failingId));
+
+        // Act
+        queue.submitAll(List.of(failingId, healthyId));
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase, timeout(2000)).executeBatch(Set.of(healthyId));
+        verify(recalculateRecipeCostsUseCase, times(RecipeCostRecalculationQueue.MAX_FLUSH_ATTEMPTS))
+                .executeBatch(batch);
+        assertThat(meterRegistry.get(RecipeCostRecalculationQueue.ABANDONED_COUNTER).counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should recalculate synchronously once shutdown has begun")
+    void shouldRecalculateSynchronouslyAfterShutdown() throws InterruptedException {
+        // Arrange
+        queue = asyncQueue(Duration.ofHours(1), 100);
+        queue.destroy();
+        Id ingredientId = TestIds.of("ingredient-123");
+
+        // Act
+        queue.submit(ingredientId);
+
+        // Assert
+        verify(recalculateRecipeCostsUseCase).execute(ingredientId);
+        assertThat(queue.pendingCount()).isZero();
+    }
+}
@@ -0,0 +1,171 @@
+package br.unifor.costify.recipe.application.service;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.recipe.domain.valueobject.RecipeDependency;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
+import br.unifor.costify.shared.application.errors.StaleVersionException;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecipeCostPropagationService Tests")
+class RecipeCostPropagationServiceTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    private RecipeCostPropagationService service;
+
+    // Flour costs $0.005/g
+    private final Ingredient flour = new Ingredient(TestIds.of("flour"), "Flour", 1000.0, Money.of(5.00), Unit.G);
+
+    @BeforeEach
+    void setUp() {
+        service = new RecipeCostPropagationService(
+                recipeRepository, ingredientRepository, new RecipeCostCalculationService(),
+                new SubRecipeLoaderService(recipeRepository));
+    }
+
+    @Test
+    @DisplayName("Should recalculate each dependent once, after all of its sub-recipes")
+    void shouldRecalculateDiamondOnceInTopologicalOrder() {
+        // Arrange - base is used by left and right, which are both used by top
+        var base = recipe("base", 100.0, List.of(), Money.of(4.00));
+        var left = recipe("left", 100.0, List.of(new SubRecipe(base.getId(), 1.0)), Money.of(2.50));
+        var right = recipe("right", 200.0, List.of(new SubRecipe(base.getId(), 0.5)), Money.of(2.00));
+        var top = recipe("top", 100.0, List.of(
+                new SubRecipe(left.getId(), 1.0),
+                new SubRecipe(right.getId(), 2.0)), Money.of(7.00));
+
+        when(recipeRepository.findDependenciesAbove(List.of(base.getId()))).thenReturn(List.of(
+                new RecipeDependency(top.getId(), left.getId()),
+                new RecipeDependency(top.getId(), right.getId()),
+                new RecipeDependency(left.getId(), base.getId()),
+                new RecipeDependency(right.getId(), base.getId())));
+        when(recipeRepository.findAllByIds(Set.of(top.getId(), left.getId(), right.getId())))
+                .thenReturn(List.of(top, left, right));
+        when(recipeRepository.findAllByIds(Set.of(base.getId(), left.getId(), right.getId())))
+                .thenReturn(List.of(base, left, right));
+        when(ingredientRepository.findCurrentByIds(Set.of(flour.getId()))).thenReturn(List.of(flour));
+        when(recipeRepository.updateTotalCost(any(), anyLong(), any())).thenReturn(true);
+
+        // Act
+        int updated = service.recalculateDependents(List.of(base.getId()));
+
+        // Assert - top is priced from the new totals of left and right
+        assertThat(updated).isEqualTo(3);
+        InOrder order = inOrder(recipeRepository);
+        order.verify(recipeRepository).updateTotalCost(left.getId(), 0L, Money.of(4.50));
+        order.verify(recipeRepository).updateTotalCost(right.getId(), 0L, Money.of(3.00));
+        order.verify(recipeRepository).updateTotalCost(top.getId(), 0L, Money.of(11.00));
+        verify(recipeRepository, times(3)).updateTotalCost(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no recipe uses the changed ones")
+    void shouldDoNothingWithoutDependents() {
+        // Arrange
+        when(recipeRepository.findDependenciesAbove(List.of(TestIds.of("base")))).thenReturn(List.of());
+
+        // Act
+        int updated = service.recalculateDependents(List.of(TestIds.of("base")));
+
+        // Assert
+        assertThat(updated).isZero();
+        verify(recipeRepository, never()).findAllByIds(any());
+        verify(recipeRepository, never()).updateTotalCost(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should recalculate a directly affected recipe only once when it also uses another one")
+    void shouldRecalculateDirectRecipeThatIsAlsoDependentOnlyWithDependents() {
+        // Arrange - both recipes use the changed ingredient, and top also uses base
+        var base = recipe("base", 100.0, List.of(), Money.of(0.40));
+        var top = recipe("top", 100.0, List.of(new SubRecipe(base.getId(), 1.0)), Money.of(0.90));
+
+        when(recipeRepository.findDependenciesAbove(List.of(base.getId(), top.getId())))
+                .thenReturn(List.of(new RecipeDependency(top.getId(), base.getId())));
+        when(recipeRepository.findAllByIds(Set.of(top.getId()))).thenReturn(List.of(top));
+        when(recipeRepository.findAllByIds(Set.of(base.getId()))).thenReturn(List.of(base));
+        when(ingredientRepository.findCurrentByIds(Set.of(flour.getId()))).thenReturn(List.of(flour));
+        when(recipeRepository.updateTotalCost(any(), anyLong(), any())).thenReturn(true);
+
+        // Act
+        int updated = service.recalculate(List.of(base, top), recipe -> Money.of(0.50));
+
+        // Assert - top is priced once, from the new total of base
+        assertThat(updated).isEqualTo(2);
+        verify(recipeRepository).updateTotalCost(base.getId(), 0L, Money.of(0.50));
+        verify(recipeRepository).updateTotalCost(top.getId(), 0L, Money.of(1.00));
+        verify(recipeRepository, times(2)).updateTotalCost(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should re-read and recalculate a recipe changed concurrently")
+    void shouldRetryWithCurrentRecipeOnVersionConflict() {
+        // Arrange
+        var stale = recipe("base", 100.0, List.of(), Money.of(0.40));
+        var current = new Recipe(stale.getId(), "base", List.of(new RecipeIngredient(flour.getId(), 300.0, Unit.G)),
+                Money.of(0.40), 1);
+
+        when(recipeRepository.updateTotalCost(stale.getId(), 0L, Money.of(0.50))).thenReturn(false);
+        when(recipeRepository.findById(stale.getId())).thenReturn(Optional.of(current));
+        when(ingredientRepository.findCurrentByIds(List.of(flour.getId()))).thenReturn(List.of(flour));
+        when(recipeRepository.updateTotalCost(stale.getId(), 1L, Money.of(1.50))).thenReturn(true);
+
+        // Act & Assert
+        assertThat(service.saveIfChanged(stale, Money.of(0.50))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should give up after the maximum number of attempts")
+    void shouldThrowWhenRecipeKeepsChanging() {
+        // Arrange
+        var recipe = recipe("base", 100.0, List.of(), Money.of(0.40));
+        when(recipeRepository.updateTotalCost(any(), anyLong(), any())).thenReturn(false);
+        when(recipeRepository.findById(recipe.getId())).thenReturn(Optional.of(recipe));
+        when(ingredientRepository.findCurrentByIds(List.of(flour.getId()))).thenReturn(List.of(flour));
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.saveIfChanged(recipe, Money.of(0.90)))
+                .isInstanceOf(StaleVersionException.class);
+        verify(recipeRepository, times(RecipeCostPropagationService.MAX_SAVE_ATTEMPTS))
+                .updateTotalCost(any(), anyLong(), any());
+    }
+
+    private Recipe recipe(String id, double flourGrams, List<SubRecipe> subRecipes, Money totalCost) {
+        return new Recipe(TestIds.of(id), id, List.of(new RecipeIngredient(flour.getId(), flourGrams, Unit.G)),
+                subRecipes, totalCost, 0);
+    }
+}
@@ -0,0 +1,136 @@
+package br.unifor.costify.recipe.application.usecase;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.catalog.application.contracts.IngredientPriceHistoryRepository;
+import br.unifor.costify.catalog.application.errors.IngredientPriceNotFoundException;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostDto;
+import br.unifor.costify.recipe.application.errors.RecipeNotFoundException;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CalculateRecipeCostAsOfUseCase Tests")
+class CalculateRecipeCostAsOfUseCaseTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private IngredientPriceHistoryRepository priceHistoryRepository;
+
+    private CalculateRecipeCostAsOfUseCase useCase;
+
+    private final Instant at = Instant.parse("2025-01-31T23:59:59Z");
+
+    // Prices in effect at that instant: flour $0.004/g and butter $0.016/g
+    private final Ingredient flour = new Ingredient(TestIds.of("flour"), "Flour", 1000.0, Money.of(4.00), Unit.G);
+    private final Ingredient butter = new Ingredient(TestIds.of("butter"), "Butter", 500.0, Money.of(8.00), Unit.G);
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CalculateRecipeCostAsOfUseCase(
+                recipeRepository, priceHistoryRepository, new RecipeCostCalculationService(),
+                new SubRecipeLoaderService(recipeRepository));
+    }
+
+    @Test
+    @DisplayName("Should price the recipe with the ingredient prices in effect at the instant")
+    void shouldUseHistoricalPrices() {
+        // Arrange - the stored total reflects today's prices
+        var cake = new Recipe(TestIds.of("cake"), "Cake", List.of(
+                new RecipeIngredient(flour.getId(), 500.0, Unit.G),
+                new RecipeIngredient(butter.getId(), 100.0, Unit.G)), Money.of(4.50));
+
+        when(recipeRepository.findById(cake.getId())).thenReturn(Optional.of(cake));
+        when(priceHistoryRepository.findAllAsOf(Set.of(flour.getId(), butter.getId()), at))
+                .thenReturn(List.of(flour, butter));
+
+        // Act
+        RecipeCostDto result = useCase.execute(TestIds.value("cake"), at);
+
+        // Assert
+        assertThat(result.getTotalCost()).isEqualByComparingTo("3.60");
+        assertThat(result.getIngredientCosts()).hasSize(2);
+        verify(recipeRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should re-price sub-recipes at the instant instead of using their stored totals")
+    void shouldPriceSubRecipesHistorically() {
+        // Arrange - the pizza uses 100g of butter and two batches of dough stored at $5.00
+        var dough = new Recipe(TestIds.of("dough"), "Dough", List.of(
+                new RecipeIngredient(flour.getId(), 1000.0, Unit.G)), Money.of(5.00));
+        var pizza = new Recipe(TestIds.of("pizza"), "Pizza", List.of(
+                new RecipeIngredient(butter.getId(), 100.0, Unit.G)),
+                List.of(new SubRecipe(dough.getId(), 2.0)), Money.of(12.00), 0);
+
+        when(recipeRepository.findById(pizza.getId())).thenReturn(Optional.of(pizza));
+        when(recipeRepository.findAllByIds(Set.of(dough.getId()))).thenReturn(List.of(dough));
+        when(priceHistoryRepository.findAllAsOf(Set.of(butter.getId(), flour.getId()), at))
+                .thenReturn(List.of(flour, butter));
+
+        // Act
+        RecipeCostDto result = useCase.execute(TestIds.value("pizza"), at);
+
+        // Assert - 2 x $4.00 of dough plus $1.60 of butter
+        assertThat(result.getSubRecipeCosts()).singleElement()
+                .satisfies(line -> assertThat(line.getCost()).isEqualByComparingTo("8.00"));
+        assertThat(result.getTotalCost()).isEqualByComparingTo("9.60");
+    }
+
+    @Test
+    @DisplayName("Should throw IngredientPriceNotFoundException when an ingredient had no price yet")
+    void shouldRejectIngredientWithoutPriceAtInstant() {
+        // Arrange
+        var cake = new Recipe(TestIds.of("cake"), "Cake", List.of(
+                new RecipeIngredient(flour.getId(), 500.0, Unit.G),
+                new RecipeIngredient(butter.getId(), 100.0, Unit.G)), Money.of(4.50));
+
+        when(recipeRepository.findById(cake.getId())).thenReturn(Optional.of(cake));
+        when(priceHistoryRepository.findAllAsOf(Set.of(flour.getId(), butter.getId()), at))
+                .thenReturn(List.of(flour));
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(TestIds.value("cake"), at))
+                .isInstanceOf(IngredientPriceNotFoundException.class)
+                .hasMessageContaining(TestIds.value("butter"));
+    }
+
+    @Test
+    @DisplayName("Should throw RecipeNotFoundException for an unknown recipe")
+    void shouldRejectUnknownRecipe() {
+        // Arrange
+        when(recipeRepository.findById(TestIds.of("ghost"))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(TestIds.value("ghost"), at))
+                .isInstanceOf(RecipeNotFoundException.class);
+        verify(priceHistoryRepository, never()).findAllAsOf(any(), any());
+    }
+}
@@ -1,10 +1,13 @@
 package br.unifor.costify.recipe.application.usecase;
 
+import br.unifor.costify.TestIds;
+import br.unifor.costify.recipe.application.contracts.RecipeCostRepository;
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
 import br.unifor.costify.recipe.application.dto.response.IngredientCostDto;
 import br.unifor.costify.recipe.application.dto.response.RecipeCostDto;
 import br.unifor.costify.catalog.application.errors.IngredientNotFoundException;
 import br.unifor.costify.recipe.application.errors.RecipeNotFoundException;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
 import br.unifor.costify.catalog.application.service.IngredientLoaderService;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
 import br.unifor.costify.recipe.domain.entity.Recipe;
@@ -36,6 +39,9 @@ class CalculateRecipeCostUseCaseTest {
     
     @Mock
     private RecipeRepository recipeRepository;
+
+    @Mock
+    private RecipeCostRepository recipeCostRepository;
     
     @Mock
     private IngredientLoaderService ingredientLoaderService;
@@ -47,15 +53,16 @@ class CalculateRecipeCostUseCaseTest {
     
     @BeforeEach
     void setUp() {
-        useCase = new CalculateRecipeCostUseCase(recipeRepository, ingredientLoaderService, costCalculationService);
+        useCase = new CalculateRecipeCostUseCase(recipeRepository, recipeCostRepository, ingredientLoaderService, costCalculationService,
+                new SubRecipeLoaderService(recipeRepository));
     }
     
     @Test
     void shouldCalculateRecipeCostSuccessfully() {
         // Given
-        String recipeIdString = "recipe-1";
+        String recipeIdString = TestIds.value("recipe-1");
         Id recipeId = Id.of(recipeIdString);
-        Id ingredientId = Id.of("ingredient-1");
+        Id ingredientId = TestIds.of("ingredient-1");
         
         RecipeIngredient recipeIngredient = new RecipeIngredient(ingredientId, 100.0, Unit.G);
         Recipe recipe = new Recipe(recipeId, "Chocolate Cake", List.of(recipeIngredient), Money.of(5.99));
@@ -67,7 +74,7 @@ class CalculateRecipeCostUseCaseTest {
         
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(recipe));
         when(ingredientLoaderService.loadIngredients(List.of(recipeIngredient))).thenReturn(Map.of(ingredientId, ingredient));
-        when(costCalculationService.calculateCost(eq(recipe), any(Map.class))).thenReturn(recipeCost);
+        when(costCalculationService.calculateCost(eq(recipe), any(Map.class), any(Map.class))).thenReturn(recipeCost);
         
         // When
         RecipeCostDto result = useCase.execute(recipeIdString);
@@ -82,13 +89,38 @@ class CalculateRecipeCostUseCaseTest {
         
         verify(recipeRepository).findById(recipeId);
         verify(ingredientLoaderService).loadIngredients(List.of(recipeIngredient));
-        verify(costCalculationService).calculateCost(eq(recipe), any(Map.class));
+        verify(costCalculationService).calculateCost(eq(recipe), any(Map.class), any(Map.class));
+        verify(recipeCostRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldReturnStoredBreakdownWithoutRecalculating() {
+        // Given
+        String recipeIdString = TestIds.value("recipe-1");
+        Id recipeId = Id.of(recipeIdString);
+        Id ingredientId = TestIds.of("ingredient-1");
+
+        IngredientCost ingredientCost = new IngredientCost(ingredientId, "Flour", 100.0, Unit.G, 50_000_000L);
+        RecipeCost storedCost = new RecipeCost(recipeId, "Chocolate Cake", List.of(ingredientCost));
+
+        when(recipeCostRepository.findByRecipeId(recipeId)).thenReturn(Optional.of(storedCost));
+
+        // When
+        RecipeCostDto result = useCase.execute(recipeIdString);
+
+        // Then
+        assertThat(result.getRecipeName()).isEqualTo("Chocolate Cake");
+        assertThat(result.getIngredientCosts()).hasSize(1);
+        assertThat(result.getTotalCost()).isEqualTo(BigDecimal.valueOf(0.50).setScale(2));
+
+        verify(recipeCostRepository, never()).save(any());
+        verifyNoInteractions(recipeRepository, ingredientLoaderService, costCalculationService);
     }
     
     @Test
     void shouldThrowRecipeNotFoundExceptionWhenRecipeDoesNotExist() {
         // Given
-        String recipeIdString = "non-existent-recipe";
+        String recipeIdString = TestIds.value("non-existent-recipe");
         Id recipeId = Id.of(recipeIdString);
         
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.empty());
@@ -106,9 +138,9 @@ class CalculateRecipeCostUseCaseTest {
     @Test
     void shouldThrowIngredientNotFoundExceptionWhenIngredientDoesNotExist() {
         // Given
-        String recipeIdString = "recipe-1";
+        String recipeIdString = TestIds.value("recipe-1");
         Id recipeId = Id.of(recipeIdString);
-        Id ingredientId = Id.of("non-existent-ingredient");
+        Id ingredientId = TestIds.of("non-existent-ingredient");
         
         RecipeIngredient recipeIngredient = new RecipeIngredient(ingredientId, 100.0, Unit.G);
         Recipe recipe = new Recipe(recipeId, "Chocolate Cake", List.of(recipeIngredient), Money.of(5.99));
@@ -129,10 +161,10 @@ class CalculateRecipeCostUseCaseTest {
     @Test
     void shouldCalculateCostForRecipeWithMultipleIngredients() {
         // Given
-        String recipeIdString = "recipe-1";
+        String recipeIdString = TestIds.value("recipe-1");
         Id recipeId = Id.of(recipeIdString);
-        Id ingredientId1 = Id.of("ingredient-1");
-        Id ingredientId2 = Id.of("ingredient-2");
+        Id ingredientId1 = TestIds.of("ingredient-1");
+        Id ingredientId2 = TestIds.of("ingredient-2");
         
         RecipeIngredient recipeIngredient1 = new RecipeIngredient(ingredientId1, 100.0, Unit.G);
         RecipeIngredient recipeIngredient2 = new RecipeIngredient(ingredientId2, 2.0, Unit.UN);
@@ -150,7 +182,7 @@ class CalculateRecipeCostUseCaseTest {
             ingredientId1, ingredient1,
             ingredientId2, ingredient2
         ));
-        when(costCalculationService.calculateCost(eq(recipe), any(Map.class))).thenReturn(recipeCost);
+        when(costCalculationService.calculateCost(eq(recipe), any(Map.class), any(Map.class))).thenReturn(recipeCost);
         
         // When
         RecipeCostDto result = useCase.execute(recipeIdString);
@@ -166,7 +198,7 @@ class CalculateRecipeCostUseCaseTest {
     @Test
     void shouldHandleEmptyRecipeGracefully() {
         // Given
-        String recipeIdString = "empty-recipe";
+        String recipeIdString = TestIds.value("empty-recipe");
         Id recipeId = Id.of(recipeIdString);
         
         // This should actually throw an exception in Recipe constructor due to validation
@@ -175,7 +207,7 @@ class CalculateRecipeCostUseCaseTest {
         when(recipe.getIngredients()).thenReturn(Collections.emptyList());
         
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(recipe));
-        when(costCalculationService.calculateCost(eq(recipe), any(Map.class)))
+        when(costCalculationService.calculateCost(eq(recipe), any(Map.class), any(Map.class)))
             .thenThrow(new IllegalArgumentException("Recipe must have at least one ingredient"));
         
         // When / Then
@@ -187,10 +219,10 @@ class CalculateRecipeCostUseCaseTest {
     @Test
     void shouldCalculateCostForRecipeWithTbspUnits() {
         // Given
-        String recipeIdString = "tbsp-recipe";
+        String recipeIdString = TestIds.value("tbsp-recipe");
         Id recipeId = Id.of(recipeIdString);
-        Id vanillaId = Id.of("vanilla-extract");
-        Id butterId = Id.of("butter");
+        Id vanillaId = TestIds.of("vanilla-extract");
+        Id butterId = TestIds.of("butter");
         
         // Recipe ingredients with TBSP units
         RecipeIngredient vanillaIngredient = new RecipeIngredient(vanillaId, 1.0, Unit.TBSP); // 1 tbsp vanilla
@@ -214,7 +246,7 @@ class CalculateRecipeCostUseCaseTest {
             vanillaId, vanillaExtract,
             butterId, butter
         ));
-        when(costCalculationService.calculateCost(eq(recipe), any(Map.class))).thenReturn(recipeCost);
+        when(costCalculationService.calculateCost(eq(recipe), any(Map.class), any(Map.class))).thenReturn(recipeCost);
         
         // When
         RecipeCostDto result = useCase.execute(recipeIdString);
@@ -248,6 +280,6 @@ class CalculateRecipeCostUseCaseTest {
         
         verify(recipeRepository).findById(recipeId);
         verify(ingredientLoaderService).loadIngredients(List.of(vanillaIngredient, butterIngredient));
-        verify(costCalculationService).calculateCost(eq(recipe), any(Map.class));
+        verify(costCalculationService).calculateCost(eq(recipe), any(Map.class), any(Map.class));
     }
 }
\ No newline at end of file
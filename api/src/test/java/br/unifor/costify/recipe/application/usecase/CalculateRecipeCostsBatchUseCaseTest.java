@@ -0,0 +1,132 @@
+package br.unifor.costify.recipe.application.usecase;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostBatchDto;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostDto;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CalculateRecipeCostsBatchUseCase Tests")
+class CalculateRecipeCostsBatchUseCaseTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    private CalculateRecipeCostsBatchUseCase useCase;
+
+    private final Ingredient flour = new Ingredient(TestIds.of("flour"), "Flour", 1000.0, Money.of(5.00), Unit.G);
+    private final Ingredient milk = new Ingredient(TestIds.of("milk"), "Milk", 1.0, Money.of(4.00), Unit.L);
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CalculateRecipeCostsBatchUseCase(
+                recipeRepository, ingredientRepository, new RecipeCostCalculationService(),
+                new SubRecipeLoaderService(recipeRepository));
+    }
+
+    @Test
+    @DisplayName("Should load recipes and ingredients once and return costs in request order")
+    void shouldLoadOnceAndKeepRequestOrder() {
+        // Arrange
+        var cake = new Recipe(TestIds.of("cake"), "Cake", List.of(
+                new RecipeIngredient(flour.getId(), 200.0, Unit.G),
+                new RecipeIngredient(milk.getId(), 500.0, Unit.ML)), Money.zero());
+        var bread = new Recipe(TestIds.of("bread"), "Bread", List.of(
+                new RecipeIngredient(flour.getId(), 500.0, Unit.G)), Money.zero());
+
+        when(recipeRepository.findAllByIds(Set.of(TestIds.of("bread"), TestIds.of("cake"), TestIds.of("ghost"))))
+                .thenReturn(List.of(cake, bread));
+        when(ingredientRepository.findAllByIds(Set.of(flour.getId(), milk.getId())))
+                .thenReturn(List.of(flour, milk));
+
+        // Act
+        RecipeCostBatchDto result = useCase.execute(List.of(TestIds.value("bread"), TestIds.value("cake"), TestIds.value("ghost"), TestIds.value("bread")));
+
+        // Assert
+        assertThat(result.costs()).extracting(RecipeCostDto::getRecipeId).containsExactly(TestIds.value("bread"), TestIds.value("cake"));
+        assertThat(result.costs().get(0).getTotalCost()).isEqualByComparingTo(new BigDecimal("2.50"));
+        assertThat(result.costs().get(1).getTotalCost()).isEqualByComparingTo(new BigDecimal("3.00"));
+        assertThat(result.missingRecipeIds()).containsExactly(TestIds.value("ghost"));
+        verify(recipeRepository, times(1)).findAllByIds(any());
+        verify(ingredientRepository, times(1)).findAllByIds(any());
+    }
+
+    @Test
+    @DisplayName("Should calculate large batches in parallel without losing order")
+    void shouldCalculateLargeBatchesInParallel() {
+        // Arrange
+        int size = CalculateRecipeCostsBatchUseCase.PARALLEL_THRESHOLD * 4;
+        List<Recipe> recipes = new ArrayList<>();
+        List<String> recipeIds = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            recipeIds.add(TestIds.value("recipe-" + i));
+            recipes.add(new Recipe(TestIds.of("recipe-" + i), "Recipe " + i, List.of(
+                    new RecipeIngredient(flour.getId(), 100.0 + i, Unit.G)), Money.zero()));
+        }
+        List<Recipe> shuffled = new ArrayList<>(recipes);
+        Collections.shuffle(shuffled);
+
+        when(recipeRepository.findAllByIds(any())).thenReturn(shuffled);
+        when(ingredientRepository.findAllByIds(any())).thenReturn(List.of(flour));
+
+        // Act
+        RecipeCostBatchDto result = useCase.execute(recipeIds);
+
+        // Assert
+        assertThat(result.costs()).extracting(RecipeCostDto::getRecipeId).containsExactlyElementsOf(recipeIds);
+        var sequential = new RecipeCostCalculationService();
+        IntStream.range(0, size).forEach(i -> assertThat(result.costs().get(i).getTotalCost())
+                .isEqualByComparingTo(sequential.calculateCost(recipes.get(i), Map.of(flour.getId(), flour))
+                        .getTotalCost().getAmount()));
+        assertThat(result.missingRecipeIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject batches larger than the maximum size")
+    void shouldRejectOversizedBatch() {
+        // Arrange
+        List<String> recipeIds = IntStream.rangeClosed(0, CalculateRecipeCostsBatchUseCase.MAX_BATCH_SIZE)
+                .mapToObj(i -> TestIds.value("recipe-" + i))
+                .toList();
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(recipeIds))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(CalculateRecipeCostsBatchUseCase.MAX_BATCH_SIZE));
+        verifyNoInteractions(recipeRepository, ingredientRepository);
+    }
+}
@@ -0,0 +1,67 @@
+package br.unifor.costify.recipe.application.usecase;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportRecipesUseCase Tests")
+class ExportRecipesUseCaseTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @InjectMocks
+    private ExportRecipesUseCase exportRecipesUseCase;
+
+    @Test
+    @DisplayName("Should pass every streamed recipe to the sink as a DTO")
+    @SuppressWarnings("unchecked")
+    void shouldPassEveryRecipeToSink() {
+        // Arrange
+        Recipe cake = new Recipe(TestIds.of("cake-id"), "Cake",
+                List.of(new RecipeIngredient(TestIds.of("flour-id"), 300.0, Unit.G)), Money.of(4.50));
+        Recipe bread = new Recipe(TestIds.of("bread-id"), "Bread",
+                List.of(new RecipeIngredient(TestIds.of("flour-id"), 500.0, Unit.G)), Money.of(2.75));
+
+        doAnswer(invocation -> {
+            Consumer<Recipe> consumer = invocation.getArgument(0);
+            consumer.accept(cake);
+            consumer.accept(bread);
+            return null;
+        }).when(recipeRepository).forEach(any(Consumer.class));
+
+        List<RecipeDto> exported = new ArrayList<>();
+
+        // Act
+        exportRecipesUseCase.execute(exported::add);
+
+        // Assert
+        assertThat(exported).extracting(RecipeDto::id).containsExactly(TestIds.value("cake-id"), TestIds.value("bread-id"));
+        assertThat(exported.get(0).totalCost()).isEqualByComparingTo(new BigDecimal("4.50"));
+        assertThat(exported.get(0).ingredients()).hasSize(1);
+        verify(recipeRepository, never()).findAll();
+    }
+}
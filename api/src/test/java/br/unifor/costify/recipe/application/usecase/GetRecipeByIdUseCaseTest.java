@@ -1,5 +1,6 @@
 package br.unifor.costify.recipe.application.usecase;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
 import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
 import br.unifor.costify.recipe.application.errors.RecipeNotFoundException;
@@ -42,8 +43,8 @@ class GetRecipeByIdUseCaseTest {
     @DisplayName("Should get recipe by id successfully")
     void shouldGetRecipeByIdSuccessfully() {
         // Arrange
-        var recipeId = Id.of("recipe-123");
-        var ingredientId = Id.of("ingredient-456");
+        var recipeId = TestIds.of("recipe-123");
+        var ingredientId = TestIds.of("ingredient-456");
 
         var recipeIngredient = new RecipeIngredient(ingredientId, 500.0, Unit.ML);
         var recipe = new Recipe(
@@ -75,13 +76,13 @@ class GetRecipeByIdUseCaseTest {
     @DisplayName("Should throw RecipeNotFoundException when recipe does not exist")
     void shouldThrowExceptionWhenRecipeNotFound() {
         // Arrange
-        var recipeId = Id.of("non-existent-id");
+        var recipeId = TestIds.of("non-existent-id");
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> useCase.execute(recipeId.getValue()))
                 .isInstanceOf(RecipeNotFoundException.class)
-                .hasMessage("Recipe with ID 'non-existent-id' not found");
+                .hasMessage("Recipe with ID '" + recipeId.getValue() + "' not found");
 
         verify(recipeRepository).findById(recipeId);
     }
@@ -90,10 +91,10 @@ class GetRecipeByIdUseCaseTest {
     @DisplayName("Should handle recipe with multiple ingredients")
     void shouldHandleRecipeWithMultipleIngredients() {
         // Arrange
-        var recipeId = Id.of("recipe-789");
-        var ingredient1 = Id.of("ing-1");
-        var ingredient2 = Id.of("ing-2");
-        var ingredient3 = Id.of("ing-3");
+        var recipeId = TestIds.of("recipe-789");
+        var ingredient1 = TestIds.of("ing-1");
+        var ingredient2 = TestIds.of("ing-2");
+        var ingredient3 = TestIds.of("ing-3");
 
         var ingredients = List.of(
                 new RecipeIngredient(ingredient1, 500.0, Unit.ML),
@@ -0,0 +1,72 @@
+package br.unifor.costify.recipe.application.usecase;
+
+import br.unifor.costify.TestIds;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import br.unifor.costify.recipe.application.contracts.RecipeImporter;
+import br.unifor.costify.recipe.domain.events.RecipesImportedEvent;
+import br.unifor.costify.shared.application.imports.ImportReport;
+import br.unifor.costify.shared.application.imports.ImportRowError;
+import br.unifor.costify.shared.domain.events.DomainEventPublisher;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ImportRecipesUseCaseTest {
+
+  @Mock private RecipeImporter recipeImporter;
+  @Mock private DomainEventPublisher eventPublisher;
+
+  private ImportRecipesUseCase useCase;
+  private InputStream csv;
+
+  @BeforeEach
+  void setUp() {
+    useCase = new ImportRecipesUseCase(recipeImporter, eventPublisher);
+    csv = new ByteArrayInputStream(
+        "recipe_name,ingredient_name,quantity,unit\nCake,Flour,300,G\n".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  void shouldPublishImportedRecipesAndReturnReport() {
+    // Given
+    Map<Id, List<Id>> imported = Map.of(TestIds.of("cake-id"), List.of(TestIds.of("flour-id")));
+    ImportReport report = new ImportReport(1, 1, 0, List.of());
+    when(recipeImporter.importCsv(csv)).thenReturn(new RecipeImporter.Result(report, imported));
+
+    // When
+    ImportReport result = useCase.execute(csv);
+
+    // Then
+    assertSame(report, result);
+    ArgumentCaptor<RecipesImportedEvent> eventCaptor = ArgumentCaptor.forClass(RecipesImportedEvent.class);
+    verify(eventPublisher).publish(eventCaptor.capture());
+    assertEquals(imported, eventCaptor.getValue().getIngredientIdsByRecipe());
+  }
+
+  @Test
+  void shouldNotPublishWhenNothingWasImported() {
+    // Given
+    ImportReport report = new ImportReport(1, 0, 1, List.of(new ImportRowError(1, "Ingredient 'Flour' not found")));
+    when(recipeImporter.importCsv(csv)).thenReturn(new RecipeImporter.Result(report, Map.of()));
+
+    // When
+    ImportReport result = useCase.execute(csv);
+
+    // Then
+    assertEquals(1, result.rejectedRows());
+    verify(eventPublisher, never()).publish(any());
+  }
+}
@@ -1,11 +1,17 @@
 package br.unifor.costify.recipe.application.usecase;
 
+import br.unifor.costify.TestIds;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import br.unifor.costify.recipe.application.contracts.RecipeQueryService;
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
 import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
+import br.unifor.costify.recipe.application.dto.query.RecipeSort;
 import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import br.unifor.costify.shared.application.pagination.SortDirection;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
@@ -23,17 +29,19 @@ class ListRecipesUseCaseTest {
 
   @Mock private RecipeRepository recipeRepository;
 
+  @Mock private RecipeQueryService recipeQueryService;
+
   @InjectMocks private ListRecipesUseCase listRecipesUseCase;
 
   private List<Recipe> mockRecipes;
 
   @BeforeEach
   void setUp() {
-    RecipeIngredient milk = new RecipeIngredient(Id.of("milk-id"), 500.0, Unit.ML);
-    RecipeIngredient flour = new RecipeIngredient(Id.of("flour-id"), 300.0, Unit.G);
+    RecipeIngredient milk = new RecipeIngredient(TestIds.of("milk-id"), 500.0, Unit.ML);
+    RecipeIngredient flour = new RecipeIngredient(TestIds.of("flour-id"), 300.0, Unit.G);
 
-    Recipe cake = new Recipe(Id.of("cake-id"), "Cake", List.of(milk, flour), Money.of(15.50));
-    Recipe bread = new Recipe(Id.of("bread-id"), "Bread", List.of(flour), Money.of(8.00));
+    Recipe cake = new Recipe(TestIds.of("cake-id"), "Cake", List.of(milk, flour), Money.of(15.50));
+    Recipe bread = new Recipe(TestIds.of("bread-id"), "Bread", List.of(flour), Money.of(8.00));
 
     mockRecipes = List.of(cake, bread);
   }
@@ -41,7 +49,7 @@ class ListRecipesUseCaseTest {
   @Test
   void shouldReturnEmptyList_whenNoRecipes() {
     // Given
-    when(recipeRepository.findAll()).thenReturn(List.of());
+    when(recipeQueryService.findAll()).thenReturn(List.of());
 
     // When
     List<RecipeDto> result = listRecipesUseCase.execute();
@@ -49,13 +57,14 @@ class ListRecipesUseCaseTest {
     // Then
     assertNotNull(result);
     assertTrue(result.isEmpty());
-    verify(recipeRepository, times(1)).findAll();
+    verify(recipeQueryService, times(1)).findAll();
+    verifyNoInteractions(recipeRepository);
   }
 
   @Test
   void shouldReturnAllRecipes() {
     // Given
-    when(recipeRepository.findAll()).thenReturn(mockRecipes);
+    when(recipeQueryService.findAll()).thenReturn(toDtos(mockRecipes));
 
     // When
     List<RecipeDto> result = listRecipesUseCase.execute();
@@ -63,28 +72,50 @@ class ListRecipesUseCaseTest {
     // Then
     assertNotNull(result);
     assertEquals(2, result.size());
-    verify(recipeRepository, times(1)).findAll();
+    verify(recipeQueryService, times(1)).findAll();
+    verifyNoInteractions(recipeRepository);
   }
 
   @Test
   void shouldMapRecipesToDto() {
     // Given
-    when(recipeRepository.findAll()).thenReturn(mockRecipes);
+    when(recipeQueryService.findAll()).thenReturn(toDtos(mockRecipes));
 
     // When
     List<RecipeDto> result = listRecipesUseCase.execute();
 
     // Then
     RecipeDto cakeDto =
-        result.stream().filter(dto -> dto.id().equals("cake-id")).findFirst().orElseThrow();
-    assertEquals("cake-id", cakeDto.id());
+        result.stream().filter(dto -> dto.id().equals(TestIds.value("cake-id"))).findFirst().orElseThrow();
+    assertEquals(TestIds.value("cake-id"), cakeDto.id());
     assertEquals("Cake", cakeDto.name());
     assertEquals(2, cakeDto.ingredients().size());
 
     RecipeDto breadDto =
-        result.stream().filter(dto -> dto.id().equals("bread-id")).findFirst().orElseThrow();
-    assertEquals("bread-id", breadDto.id());
+        result.stream().filter(dto -> dto.id().equals(TestIds.value("bread-id"))).findFirst().orElseThrow();
+    assertEquals(TestIds.value("bread-id"), breadDto.id());
     assertEquals("Bread", breadDto.name());
     assertEquals(1, breadDto.ingredients().size());
   }
+
+  @Test
+  void shouldReturnPageOfRecipes() {
+    // Given
+    PageRequest<RecipeSort> request = PageRequest.of(RecipeSort.TOTAL_COST, SortDirection.DESC, null, 2);
+    when(recipeQueryService.findPage(request)).thenReturn(new CursorPage<>(toDtos(mockRecipes), "next-token"));
+
+    // When
+    CursorPage<RecipeDto> result = listRecipesUseCase.execute(request);
+
+    // Then
+    assertEquals(2, result.items().size());
+    assertEquals(TestIds.value("cake-id"), result.items().get(0).id());
+    assertEquals("next-token", result.nextCursor());
+    assertTrue(result.hasNext());
+    verify(recipeQueryService, never()).findAll();
+  }
+
+  private static List<RecipeDto> toDtos(List<Recipe> recipes) {
+    return recipes.stream().map(RecipeDto::from).toList();
+  }
 }
@@ -1,26 +1,37 @@
 package br.unifor.costify.recipe.application.usecase;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.recipe.application.contracts.RecipeCostRepository;
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.application.service.RecipeCostPropagationService;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.catalog.domain.events.IngredientUpdatedEvent;
 import br.unifor.costify.recipe.domain.entity.Recipe;
 import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.shared.application.errors.StaleVersionException;
 import br.unifor.costify.shared.domain.valueobject.Id;
-import br.unifor.costify.recipe.domain.valueobject.IngredientCost;
 import br.unifor.costify.shared.domain.valueobject.Money;
-import br.unifor.costify.recipe.domain.valueobject.RecipeCost;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
 import br.unifor.costify.shared.domain.valueobject.Unit;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -32,6 +43,9 @@ class RecalculateRecipeCostsForIngredientUseCaseTest {
     @Mock
     private RecipeRepository recipeRepository;
 
+    @Mock
+    private RecipeCostRepository recipeCostRepository;
+
     @Mock
     private IngredientRepository ingredientRepository;
 
@@ -42,10 +56,23 @@ class RecalculateRecipeCostsForIngredientUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new RecalculateRecipeCostsForIngredientUseCase(
+        useCase = useCase(RecalculateRecipeCostsForIngredientUseCase.Mode.PER_RECIPE, new SimpleMeterRegistry());
+    }
+
+    private RecalculateRecipeCostsForIngredientUseCase useCase(
+            RecalculateRecipeCostsForIngredientUseCase.Mode mode, MeterRegistry meterRegistry) {
+        var subRecipeLoaderService = new SubRecipeLoaderService(recipeRepository);
+        var costPropagationService = new RecipeCostPropagationService(
+                recipeRepository, ingredientRepository, costCalculationService, subRecipeLoaderService);
+        return new RecalculateRecipeCostsForIngredientUseCase(
                 recipeRepository,
+                recipeCostRepository,
                 ingredientRepository,
-                costCalculationService
+                costCalculationService,
+                costPropagationService,
+                subRecipeLoaderService,
+                mode,
+                meterRegistry
         );
     }
 
@@ -53,7 +80,7 @@ class RecalculateRecipeCostsForIngredientUseCaseTest {
     @DisplayName("Should update costs of all recipes containing the updated ingredient")
     void shouldUpdateCostsOfRecipesContainingIngredient() {
         // Arrange
-        Id ingredientId = Id.of("ingredient-123");
+        Id ingredientId = TestIds.of("ingredient-123");
 
         var ingredient = new Ingredient(
                 ingredientId,
@@ -64,14 +91,14 @@ class RecalculateRecipeCostsForIngredientUseCaseTest {
         );
 
         var recipe1 = new Recipe(
-                Id.of("recipe-1"),
+                TestIds.of("recipe-1"),
                 "Cake",
                 List.of(new RecipeIngredient(ingredientId, 0.5, Unit.L)),
                 Money.of(5.00)
         );
 
         var recipe2 = new Recipe(
-                Id.of("recipe-2"),
+                TestIds.of("recipe-2"),
                 "Smoothie",
                 List.of(new RecipeIngredient(ingredientId, 0.3, Unit.L)),
                 Money.of(3.00)
@@ -81,37 +108,32 @@ class RecalculateRecipeCostsForIngredientUseCaseTest {
 
         when(recipeRepository.findByIngredientId(ingredientId))
                 .thenReturn(recipesUsingIngredient);
-        when(ingredientRepository.findById(ingredientId))
-                .thenReturn(Optional.of(ingredient));
-        var ingredientCost1 = new IngredientCost(ingredientId, "Milk", 0.5, Unit.L, Money.of(10.00));
-        var ingredientCost2 = new IngredientCost(ingredientId, "Milk", 0.3, Unit.L, Money.of(6.00));
+        when(ingredientRepository.findCurrentByIds(List.of(ingredientId)))
+                .thenReturn(List.of(ingredient));
+        when(costCalculationService.calculateTotalCost(eq(recipe1), anyMap(), anyMap()))
+                .thenReturn(Money.of(10.00));
+        when(costCalculationService.calculateTotalCost(eq(recipe2), anyMap(), anyMap()))
+                .thenReturn(Money.of(6.00));
 
-        when(costCalculationService.calculateCost(eq(recipe1), anyMap()))
-                .thenReturn(new RecipeCost(recipe1.getId(), recipe1.getName(), List.of(ingredientCost1)));
-        when(costCalculationService.calculateCost(eq(recipe2), anyMap()))
-                .thenReturn(new RecipeCost(recipe2.getId(), recipe2.getName(), List.of(ingredientCost2)));
+        when(recipeRepository.updateTotalCost(any(), anyLong(), any())).thenReturn(true);
 
         // Act
         useCase.execute(ingredientId);
 
         // Assert
+        verify(recipeCostRepository).refreshLinesByIngredientIds(List.of(ingredientId));
         verify(recipeRepository).findByIngredientId(ingredientId);
-        verify(costCalculationService, times(2)).calculateCost(any(Recipe.class), anyMap());
-        verify(recipeRepository).save(argThat(recipe ->
-                recipe.getId().equals(Id.of("recipe-1")) &&
-                recipe.getTotalCost().equals(Money.of(10.00))
-        ));
-        verify(recipeRepository).save(argThat(recipe ->
-                recipe.getId().equals(Id.of("recipe-2")) &&
-                recipe.getTotalCost().equals(Money.of(6.00))
-        ));
+        verify(costCalculationService, times(2)).calculateTotalCost(any(Recipe.class), anyMap(), anyMap());
+        verify(recipeRepository).updateTotalCost(TestIds.of("recipe-1"), 0L, Money.of(10.00));
+        verify(recipeRepository).updateTotalCost(TestIds.of("recipe-2"), 0L, Money.of(6.00));
+        verify(recipeRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("Should do nothing when no recipes use the updated ingredient")
     void shouldDoNothingWhenNoRecipesUseIngredient() {
         // Arrange
-        Id ingredientId = Id.of("ingredient-123");
+        Id ingredientId = TestIds.of("ingredient-123");
 
         when(recipeRepository.findByIngredientId(ingredientId))
                 .thenReturn(Collections.emptyList());
@@ -121,7 +143,7 @@ class RecalculateRecipeCostsForIngredientUseCaseTest {
 
         // Assert
         verify(recipeRepository).findByIngredientId(ingredientId);
-        verify(costCalculationService, never()).calculateCost(any(), anyMap());
+        verify(costCalculationService, never()).calculateTotalCost(any(), anyMap(), anyMap());
         verify(recipeRepository, never()).save(any());
     }
 
@@ -129,8 +151,8 @@ class RecalculateRecipeCostsForIngredientUseCaseTest {
     @DisplayName("Should handle multiple ingredients in a recipe correctly")
     void shouldHandleMultipleIngredientsInRecipe() {
         // Arrange
-        Id milkId = Id.of("ingredient-milk");
-        Id sugarId = Id.of("ingredient-sugar");
+        Id milkId = TestIds.of("ingredient-milk");
+        Id sugarId = TestIds.of("ingredient-sugar");
 
         var milk = new Ingredient(
                 milkId,
@@ -149,7 +171,7 @@ class RecalculateRecipeCostsForIngredientUseCaseTest {
         );
 
         var recipe = new Recipe(
-                Id.of("recipe-1"),
+                TestIds.of("recipe-1"),
                 "Cake",
                 List.of(
                         new RecipeIngredient(milkId, 0.5, Unit.L),
@@ -160,26 +182,356 @@ class RecalculateRecipeCostsForIngredientUseCaseTest {
 
         when(recipeRepository.findByIngredientId(milkId))
                 .thenReturn(List.of(recipe));
-        when(ingredientRepository.findById(milkId))
-                .thenReturn(Optional.of(milk));
-        when(ingredientRepository.findById(sugarId))
-                .thenReturn(Optional.of(sugar));
+        when(ingredientRepository.findCurrentByIds(List.of(milkId, sugarId)))
+                .thenReturn(List.of(milk, sugar));
 
-        var ingredientCost1 = new IngredientCost(milkId, "Milk", 0.5, Unit.L, Money.of(2.50));
-        var ingredientCost2 = new IngredientCost(sugarId, "Sugar", 0.2, Unit.KG, Money.of(0.60));
+        when(costCalculationService.calculateTotalCost(eq(recipe), anyMap(), anyMap()))
+                .thenReturn(Money.of(3.10));
 
-        when(costCalculationService.calculateCost(eq(recipe), anyMap()))
-                .thenReturn(new RecipeCost(recipe.getId(), recipe.getName(), List.of(ingredientCost1, ingredientCost2)));
+        when(recipeRepository.updateTotalCost(any(), anyLong(), any())).thenReturn(true);
 
         // Act
         useCase.execute(milkId);
 
         // Assert
         verify(recipeRepository).findByIngredientId(milkId);
-        verify(costCalculationService).calculateCost(any(Recipe.class), anyMap());
-        verify(recipeRepository).save(argThat(r ->
-                r.getId().equals(Id.of("recipe-1")) &&
-                r.getTotalCost().equals(Money.of(3.10))
-        ));
+        verify(ingredientRepository).findCurrentByIds(List.of(milkId, sugarId));
+        verify(ingredientRepository, never()).findById(any());
+        verify(costCalculationService).calculateTotalCost(any(Recipe.class), anyMap(), anyMap());
+        verify(recipeRepository).updateTotalCost(TestIds.of("recipe-1"), 0L, Money.of(3.10));
+    }
+
+    @Test
+    @DisplayName("Should record the affected recipes, not the updated rows, per set-based recalculation")
+    void shouldRecordRecipesAffectedPerRecalculation() {
+        // Arrange
+        var meterRegistry = new SimpleMeterRegistry();
+        var setBasedUseCase = useCase(RecalculateRecipeCostsForIngredientUseCase.Mode.SET_BASED, meterRegistry);
+        Id milkId = TestIds.of("milk");
+        Id sugarId = TestIds.of("sugar");
+        when(recipeRepository.findIdsByIngredientId(milkId))
+                .thenReturn(List.of(TestIds.of("cake"), TestIds.of("tea"), TestIds.of("pudding")));
+        when(recipeRepository.findIdsByIngredientId(sugarId))
+                .thenReturn(List.of(TestIds.of("cake"), TestIds.of("fudge")));
+        // Only some of the affected totals actually change
+        when(recipeRepository.recalculateTotalCostsByIngredientId(milkId)).thenReturn(1);
+        when(recipeRepository.recalculateTotalCostsByIngredientIds(List.of(milkId, sugarId))).thenReturn(0);
+
+        // Act
+        setBasedUseCase.execute(milkId);
+        setBasedUseCase.executeBatch(List.of(milkId, sugarId));
+
+        // Assert - 3 recipes use milk, 4 distinct recipes use milk or sugar
+        DistributionSummary summary = meterRegistry
+                .get(RecalculateRecipeCostsForIngredientUseCase.RECIPES_SUMMARY)
+                .tag("mode", "SET_BASED")
+                .summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.totalAmount()).isEqualTo(7);
+        assertThat(summary.max()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should delegate to a single set-based update in SET_BASED mode")
+    void shouldDelegateToSetBasedUpdateInSetBasedMode() {
+        // Arrange
+        Id ingredientId = TestIds.of("ingredient-123");
+        var setBasedUseCase = useCase(RecalculateRecipeCostsForIngredientUseCase.Mode.SET_BASED, new SimpleMeterRegistry());
+
+        when(recipeRepository.findIdsByIngredientId(ingredientId)).thenReturn(List.of(TestIds.of("recipe-1")));
+        when(recipeRepository.recalculateTotalCostsByIngredientId(ingredientId)).thenReturn(1);
+
+        // Act
+        setBasedUseCase.execute(ingredientId);
+
+        // Assert
+        verify(recipeRepository).recalculateTotalCostsByIngredientId(ingredientId);
+        verify(recipeRepository, never()).findByIngredientId(any());
+        verify(recipeRepository, never()).save(any());
+        verifyNoInteractions(ingredientRepository, costCalculationService);
+    }
+
+    @Test
+    @DisplayName("Should recalculate a recipe shared by several batched ingredients only once")
+    void shouldRecalculateSharedRecipeOnceInBatch() {
+        // Arrange
+        Id milkId = TestIds.of("ingredient-milk");
+        Id sugarId = TestIds.of("ingredient-sugar");
+
+        var milk = new Ingredient(milkId, "Milk", 1.0, Money.of(5.00), Unit.L);
+        var sugar = new Ingredient(sugarId, "Sugar", 1.0, Money.of(3.00), Unit.KG);
+
+        var recipe = new Recipe(
+                TestIds.of("recipe-1"),
+                "Cake",
+                List.of(
+                        new RecipeIngredient(milkId, 0.5, Unit.L),
+                        new RecipeIngredient(sugarId, 0.2, Unit.KG)
+                ),
+                Money.of(10.00)
+        );
+
+        when(recipeRepository.findIdsByIngredientId(milkId)).thenReturn(List.of(recipe.getId()));
+        when(recipeRepository.findIdsByIngredientId(sugarId)).thenReturn(List.of(recipe.getId()));
+        when(recipeRepository.findAllByIds(Set.of(recipe.getId()))).thenReturn(List.of(recipe));
+        when(ingredientRepository.findCurrentByIds(Set.of(milkId, sugarId)))
+                .thenReturn(List.of(milk, sugar));
+        when(costCalculationService.calculateTotalCost(eq(recipe), anyMap(), anyMap()))
+                .thenReturn(Money.of(3.10));
+
+        when(recipeRepository.updateTotalCost(any(), anyLong(), any())).thenReturn(true);
+
+        // Act
+        useCase.executeBatch(List.of(milkId, sugarId));
+
+        // Assert
+        verify(recipeRepository, times(1)).findAllByIds(any());
+        verify(ingredientRepository, times(1)).findCurrentByIds(any());
+        verify(costCalculationService, times(1)).calculateTotalCost(any(Recipe.class), anyMap(), anyMap());
+        verify(recipeRepository, times(1)).updateTotalCost(TestIds.of("recipe-1"), 0L, Money.of(3.10));
+    }
+
+    @Test
+    @DisplayName("Should delegate a batch to one set-based update in SET_BASED mode")
+    void shouldDelegateBatchToSetBasedUpdateInSetBasedMode() {
+        // Arrange
+        List<Id> ingredientIds = List.of(TestIds.of("ingredient-1"), TestIds.of("ingredient-2"));
+        var setBasedUseCase = useCase(RecalculateRecipeCostsForIngredientUseCase.Mode.SET_BASED, new SimpleMeterRegistry());
+
+        when(recipeRepository.findIdsByIngredientId(ingredientIds.get(0))).thenReturn(List.of(TestIds.of("recipe-1")));
+        when(recipeRepository.findIdsByIngredientId(ingredientIds.get(1))).thenReturn(List.of(TestIds.of("recipe-2")));
+        when(recipeRepository.recalculateTotalCostsByIngredientIds(ingredientIds)).thenReturn(2);
+
+        // Act
+        setBasedUseCase.executeBatch(ingredientIds);
+
+        // Assert
+        verify(recipeRepository).recalculateTotalCostsByIngredientIds(ingredientIds);
+        verify(recipeRepository, never()).findByIngredientId(any());
+        verifyNoInteractions(ingredientRepository, costCalculationService);
+    }
+
+    @Test
+    @DisplayName("Should take totals from the refreshed cost lines and skip unchanged recipes in INCREMENTAL mode")
+    void shouldTakeTotalsFromRefreshedCostLinesInIncrementalMode() {
+        // Arrange
+        Id milkId = TestIds.of("ingredient-milk");
+        var incrementalUseCase = useCase(RecalculateRecipeCostsForIngredientUseCase.Mode.INCREMENTAL, new SimpleMeterRegistry());
+        var event = new IngredientUpdatedEvent(milkId, "Milk", 1.0, Money.of(6.00), Unit.L, 0.005);
+
+        var changedRecipe = new Recipe(
+                TestIds.of("recipe-1"),
+                "Cake",
+                List.of(new RecipeIngredient(milkId, 0.5, Unit.L)),
+                Money.of(2.50)
+        );
+        var unchangedRecipe = new Recipe(
+                TestIds.of("recipe-2"),
+                "Tea",
+                List.of(new RecipeIngredient(milkId, 1.0, Unit.ML)),
+                Money.of(1.00)
+        );
+
+        // The stored lines are unrounded: the tea's total is $0.996, shown as $1.00
+        when(recipeRepository.findByIngredientId(milkId)).thenReturn(List.of(changedRecipe, unchangedRecipe));
+        when(recipeCostRepository.sumLineCostsByRecipeIds(List.of(changedRecipe.getId(), unchangedRecipe.getId())))
+                .thenReturn(Map.of(changedRecipe.getId(), 300_000_000L, unchangedRecipe.getId(), 99_600_000L));
+
+        when(recipeRepository.updateTotalCost(any(), anyLong(), any())).thenReturn(true);
+
+        // Act
+        incrementalUseCase.execute(event);
+
+        // Assert
+        InOrder inOrder = inOrder(recipeCostRepository);
+        inOrder.verify(recipeCostRepository).refreshLinesByIngredientIds(List.of(milkId));
+        inOrder.verify(recipeCostRepository).sumLineCostsByRecipeIds(any());
+        verify(recipeRepository).updateTotalCost(TestIds.of("recipe-1"), 0L, Money.of(3.00));
+        verify(recipeRepository, never()).updateTotalCost(eq(TestIds.of("recipe-2")), anyLong(), any());
+        verifyNoInteractions(ingredientRepository, costCalculationService);
+    }
+
+    @Test
+    @DisplayName("Should not apply a redelivered update twice in INCREMENTAL mode")
+    void shouldNotDoubleCountRedeliveredUpdateInIncrementalMode() {
+        // Arrange - the lines were already re-priced by the first delivery
+        Id milkId = TestIds.of("ingredient-milk");
+        var incrementalUseCase = useCase(RecalculateRecipeCostsForIngredientUseCase.Mode.INCREMENTAL, new SimpleMeterRegistry());
+        var event = new IngredientUpdatedEvent(milkId, "Milk", 1.0, Money.of(6.00), Unit.L, 0.005);
+        var recipe = new Recipe(
+                TestIds.of("recipe-1"),
+                "Cake",
+                List.of(new RecipeIngredient(milkId, 0.5, Unit.L)),
+                Money.of(3.00)
+        );
+
+        when(recipeRepository.findByIngredientId(milkId)).thenReturn(List.of(recipe));
+        when(recipeCostRepository.sumLineCostsByRecipeIds(List.of(recipe.getId())))
+                .thenReturn(Map.of(recipe.getId(), 300_000_000L));
+
+        // Act
+        incrementalUseCase.execute(event);
+
+        // Assert
+        verify(recipeRepository, never()).updateTotalCost(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should take batch totals from the refreshed cost lines in INCREMENTAL mode")
+    void shouldTakeBatchTotalsFromRefreshedCostLinesInIncrementalMode() {
+        // Arrange - queued updates only carry the ingredient IDs
+        Id milkId = TestIds.of("ingredient-milk");
+        Id sugarId = TestIds.of("ingredient-sugar");
+        var incrementalUseCase = useCase(RecalculateRecipeCostsForIngredientUseCase.Mode.INCREMENTAL, new SimpleMeterRegistry());
+        var recipe = new Recipe(
+                TestIds.of("recipe-1"),
+                "Cake",
+                List.of(new RecipeIngredient(milkId, 0.5, Unit.L), new RecipeIngredient(sugarId, 0.2, Unit.KG)),
+                Money.of(10.00)
+        );
+
+        when(recipeRepository.findIdsByIngredientId(milkId)).thenReturn(List.of(recipe.getId()));
+        when(recipeRepository.findIdsByIngredientId(sugarId)).thenReturn(List.of(recipe.getId()));
+        when(recipeRepository.findAllByIds(Set.of(recipe.getId()))).thenReturn(List.of(recipe));
+        when(recipeCostRepository.sumLineCostsByRecipeIds(List.of(recipe.getId())))
+                .thenReturn(Map.of(recipe.getId(), 310_000_000L));
+        when(recipeRepository.updateTotalCost(any(), anyLong(), any())).thenReturn(true);
+
+        // Act
+        incrementalUseCase.executeBatch(List.of(milkId, sugarId));
+
+        // Assert
+        InOrder inOrder = inOrder(recipeCostRepository);
+        inOrder.verify(recipeCostRepository).refreshLinesByIngredientIds(List.of(milkId, sugarId));
+        inOrder.verify(recipeCostRepository).sumLineCostsByRecipeIds(any());
+        verify(recipeRepository).updateTotalCost(TestIds.of("recipe-1"), 0L, Money.of(3.10));
+        verifyNoInteractions(ingredientRepository, costCalculationService);
+    }
+
+    @Test
+    @DisplayName("Should only refresh cost lines when the unit cost did not change in INCREMENTAL mode")
+    void shouldSkipRecalculationWhenUnitCostUnchanged() {
+        // Arrange
+        Id milkId = TestIds.of("ingredient-milk");
+        var incrementalUseCase = useCase(RecalculateRecipeCostsForIngredientUseCase.Mode.INCREMENTAL, new SimpleMeterRegistry());
+        var event = new IngredientUpdatedEvent(milkId, "Whole Milk", 1.0, Money.of(5.00), Unit.L, 0.005);
+
+        // Act
+        incrementalUseCase.execute(event);
+
+        // Assert
+        verify(recipeCostRepository).refreshLinesByIngredientIds(List.of(milkId));
+        verifyNoInteractions(recipeRepository, ingredientRepository, costCalculationService);
+    }
+
+    @Test
+    @DisplayName("Should not save a recipe whose recalculated total is unchanged")
+    void shouldNotSaveRecipeWithUnchangedTotal() {
+        // Arrange
+        Id ingredientId = TestIds.of("ingredient-123");
+        var ingredient = new Ingredient(ingredientId, "Milk", 1.0, Money.of(5.00), Unit.L);
+        var recipe = new Recipe(
+                TestIds.of("recipe-1"),
+                "Cake",
+                List.of(new RecipeIngredient(ingredientId, 0.5, Unit.L)),
+                Money.of(2.50)
+        );
+
+        when(recipeRepository.findByIngredientId(ingredientId)).thenReturn(List.of(recipe));
+        when(ingredientRepository.findCurrentByIds(List.of(ingredientId))).thenReturn(List.of(ingredient));
+        when(costCalculationService.calculateTotalCost(eq(recipe), anyMap(), anyMap())).thenReturn(Money.of(2.50));
+
+        // Act
+        useCase.execute(ingredientId);
+
+        // Assert
+        verify(recipeRepository, never()).updateTotalCost(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should read the recipe again and recalculate it when it changed concurrently")
+    void shouldRetryWithCurrentRecipeOnVersionConflict() {
+        // Arrange
+        Id ingredientId = TestIds.of("ingredient-123");
+        var ingredient = new Ingredient(ingredientId, "Milk", 1.0, Money.of(6.00), Unit.L);
+        var staleRecipe = new Recipe(
+                TestIds.of("recipe-1"),
+                "Cake",
+                List.of(new RecipeIngredient(ingredientId, 0.5, Unit.L)),
+                Money.of(2.50),
+                4
+        );
+        var currentRecipe = new Recipe(
+                TestIds.of("recipe-1"),
+                "Cake",
+                List.of(new RecipeIngredient(ingredientId, 1.0, Unit.L)),
+                Money.of(5.00),
+                5
+        );
+
+        when(recipeRepository.findByIngredientId(ingredientId)).thenReturn(List.of(staleRecipe));
+        when(recipeRepository.findById(TestIds.of("recipe-1"))).thenReturn(Optional.of(currentRecipe));
+        when(ingredientRepository.findCurrentByIds(List.of(ingredientId))).thenReturn(List.of(ingredient));
+        when(costCalculationService.calculateTotalCost(eq(staleRecipe), anyMap(), anyMap())).thenReturn(Money.of(3.00));
+        when(costCalculationService.calculateTotalCost(eq(currentRecipe), anyMap(), anyMap())).thenReturn(Money.of(6.00));
+        when(recipeRepository.updateTotalCost(TestIds.of("recipe-1"), 4L, Money.of(3.00))).thenReturn(false);
+        when(recipeRepository.updateTotalCost(TestIds.of("recipe-1"), 5L, Money.of(6.00))).thenReturn(true);
+
+        // Act
+        useCase.execute(ingredientId);
+
+        // Assert
+        verify(recipeRepository).updateTotalCost(TestIds.of("recipe-1"), 5L, Money.of(6.00));
+        assertThat(currentRecipe.getTotalCost()).isEqualTo(Money.of(6.00));
+    }
+
+    @Test
+    @DisplayName("Should skip a recipe deleted while it was being recalculated")
+    void shouldSkipRecipeDeletedDuringRecalculation() {
+        // Arrange
+        Id ingredientId = TestIds.of("ingredient-123");
+        var ingredient = new Ingredient(ingredientId, "Milk", 1.0, Money.of(6.00), Unit.L);
+        var recipe = new Recipe(
+                TestIds.of("recipe-1"),
+                "Cake",
+                List.of(new RecipeIngredient(ingredientId, 0.5, Unit.L)),
+                Money.of(2.50)
+        );
+
+        when(recipeRepository.findByIngredientId(ingredientId)).thenReturn(List.of(recipe));
+        when(recipeRepository.findById(TestIds.of("recipe-1"))).thenReturn(Optional.empty());
+        when(ingredientRepository.findCurrentByIds(List.of(ingredientId))).thenReturn(List.of(ingredient));
+        when(costCalculationService.calculateTotalCost(eq(recipe), anyMap(), anyMap())).thenReturn(Money.of(3.00));
+
+        // Act
+        useCase.execute(ingredientId);
+
+        // Assert
+        verify(recipeRepository, times(1)).updateTotalCost(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should give up after repeated version conflicts")
+    void shouldFailAfterRepeatedVersionConflicts() {
+        // Arrange
+        Id ingredientId = TestIds.of("ingredient-123");
+        var ingredient = new Ingredient(ingredientId, "Milk", 1.0, Money.of(6.00), Unit.L);
+        var recipe = new Recipe(
+                TestIds.of("recipe-1"),
+                "Cake",
+                List.of(new RecipeIngredient(ingredientId, 0.5, Unit.L)),
+                Money.of(2.50)
+        );
+
+        when(recipeRepository.findByIngredientId(ingredientId)).thenReturn(List.of(recipe));
+        when(recipeRepository.findById(TestIds.of("recipe-1"))).thenReturn(Optional.of(recipe));
+        when(ingredientRepository.findCurrentByIds(List.of(ingredientId))).thenReturn(List.of(ingredient));
+        when(costCalculationService.calculateTotalCost(eq(recipe), anyMap(), anyMap())).thenReturn(Money.of(3.00));
+        when(recipeRepository.updateTotalCost(any(), anyLong(), any())).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(ingredientId)).isInstanceOf(StaleVersionException.class);
+        verify(recipeRepository, times(RecipeCostPropagationService.MAX_SAVE_ATTEMPTS))
+                .updateTotalCost(any(), anyLong(), any());
     }
 }
@@ -1,13 +1,16 @@
 package br.unifor.costify.recipe.application.usecase;
 
+import br.unifor.costify.TestIds;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import br.unifor.costify.recipe.application.contracts.RecipeCostRepository;
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
 import br.unifor.costify.recipe.application.dto.command.RegisterRecipeCommand;
 import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
 import br.unifor.costify.recipe.application.errors.RecipeAlreadyExistsException;
 import br.unifor.costify.recipe.application.factory.RecipeFactory;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
 import br.unifor.costify.catalog.application.service.IngredientLoaderService;
 import br.unifor.costify.shared.application.validation.ValidationService;
 import br.unifor.costify.shared.domain.contracts.IdGenerator;
@@ -30,6 +33,7 @@ import org.mockito.MockitoAnnotations;
 
 class RegisterRecipeUseCaseTest {
   @Mock private RecipeRepository recipeRepository;
+  @Mock private RecipeCostRepository recipeCostRepository;
   @Mock private IngredientLoaderService ingredientLoaderService;
   @Mock private IdGenerator idGenerator;
   @Mock private ValidationService validationService;
@@ -42,13 +46,13 @@ class RegisterRecipeUseCaseTest {
   void setup() {
     MockitoAnnotations.openMocks(this);
     recipeFactory = new RecipeFactory(idGenerator);
-    useCase = new RegisterRecipeUseCase(recipeRepository, ingredientLoaderService, recipeFactory, validationService, costCalculationService);
+    useCase = new RegisterRecipeUseCase(recipeRepository, recipeCostRepository, ingredientLoaderService, recipeFactory, validationService, costCalculationService, new SubRecipeLoaderService(recipeRepository));
   }
 
   @Test
   void execute_withValidCommand_shouldSaveAndReturnRecipeDto() {
-    Id ingredientId1 = Id.of("ingredient-1");
-    Id ingredientId2 = Id.of("ingredient-2");
+    Id ingredientId1 = TestIds.of("ingredient-1");
+    Id ingredientId2 = TestIds.of("ingredient-2");
     RecipeIngredient recipeIngredient1 = new RecipeIngredient(ingredientId1, 0.5, Unit.KG);
     RecipeIngredient recipeIngredient2 = new RecipeIngredient(ingredientId2, 0.2, Unit.KG);
     List<RecipeIngredient> ingredients = List.of(recipeIngredient1, recipeIngredient2);
@@ -60,7 +64,7 @@ class RegisterRecipeUseCaseTest {
     Ingredient ingredient2 = new Ingredient(ingredientId2, "Sugar", 1000.0, Money.of(3.0), Unit.G);
     
     when(recipeRepository.existsByName("Bread Recipe")).thenReturn(false);
-    when(idGenerator.generate()).thenReturn("test-recipe-id-123");
+    when(idGenerator.generate()).thenReturn(TestIds.value("test-recipe-id-123"));
     when(ingredientLoaderService.loadIngredients(ingredients)).thenReturn(Map.of(
         ingredientId1, ingredient1,
         ingredientId2, ingredient2
@@ -69,10 +73,10 @@ class RegisterRecipeUseCaseTest {
     // Mock cost calculation
     IngredientCost ingredientCost1 = new IngredientCost(ingredientId1, "Flour", 0.5, Unit.KG, Money.of(2.5));
     IngredientCost ingredientCost2 = new IngredientCost(ingredientId2, "Sugar", 0.2, Unit.KG, Money.of(0.6));
-    RecipeCost recipeCost = new RecipeCost(Id.of("test-recipe-id-123"), "Bread Recipe", List.of(ingredientCost1, ingredientCost2));
-    when(costCalculationService.calculateCost(any(Recipe.class), any(Map.class))).thenReturn(recipeCost);
+    RecipeCost recipeCost = new RecipeCost(TestIds.of("test-recipe-id-123"), "Bread Recipe", List.of(ingredientCost1, ingredientCost2));
+    when(costCalculationService.calculateCost(any(Recipe.class), any(Map.class), any(Map.class))).thenReturn(recipeCost);
 
-    Recipe savedRecipe = new Recipe(Id.of("test-recipe-id-123"), "Bread Recipe", ingredients, Money.of(3.1));
+    Recipe savedRecipe = new Recipe(TestIds.of("test-recipe-id-123"), "Bread Recipe", ingredients, Money.of(3.1));
     when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
 
     RecipeDto result = useCase.execute(command);
@@ -88,13 +92,14 @@ class RegisterRecipeUseCaseTest {
 
     verify(recipeRepository).existsByName("Bread Recipe");
     verify(ingredientLoaderService).loadIngredients(ingredients);
-    verify(costCalculationService).calculateCost(any(Recipe.class), any(Map.class));
+    verify(costCalculationService).calculateCost(any(Recipe.class), any(Map.class), any(Map.class));
     verify(recipeRepository).save(any(Recipe.class));
+    verify(recipeCostRepository).save(recipeCost);
   }
 
   @Test
   void execute_withExistingRecipeName_shouldThrowException() {
-    Id ingredientId = Id.of("ingredient-1");
+    Id ingredientId = TestIds.of("ingredient-1");
     RecipeIngredient recipeIngredient = new RecipeIngredient(ingredientId, 0.5, Unit.KG);
     List<RecipeIngredient> ingredients = List.of(recipeIngredient);
 
@@ -112,11 +117,12 @@ class RegisterRecipeUseCaseTest {
 
     verify(recipeRepository).existsByName("Existing Recipe");
     verify(recipeRepository, never()).save(any(Recipe.class));
+    verifyNoInteractions(recipeCostRepository);
   }
 
   @Test
   void execute_withValidCommand_shouldCallRepositoryMethods() {
-    Id ingredientId = Id.of("ingredient-1");
+    Id ingredientId = TestIds.of("ingredient-1");
     RecipeIngredient recipeIngredient = new RecipeIngredient(ingredientId, 1.0, Unit.KG);
     List<RecipeIngredient> ingredients = List.of(recipeIngredient);
 
@@ -126,22 +132,22 @@ class RegisterRecipeUseCaseTest {
     Ingredient ingredient = new Ingredient(ingredientId, "Flour", 1000.0, Money.of(5.0), Unit.G);
     
     when(recipeRepository.existsByName("Cake Recipe")).thenReturn(false);
-    when(idGenerator.generate()).thenReturn("cake-recipe-id-456");
+    when(idGenerator.generate()).thenReturn(TestIds.value("cake-recipe-id-456"));
     when(ingredientLoaderService.loadIngredients(ingredients)).thenReturn(Map.of(ingredientId, ingredient));
     
     // Mock cost calculation
     IngredientCost ingredientCost = new IngredientCost(ingredientId, "Flour", 1.0, Unit.KG, Money.of(5.0));
-    RecipeCost recipeCost = new RecipeCost(Id.of("cake-recipe-id-456"), "Cake Recipe", List.of(ingredientCost));
-    when(costCalculationService.calculateCost(any(Recipe.class), any(Map.class))).thenReturn(recipeCost);
+    RecipeCost recipeCost = new RecipeCost(TestIds.of("cake-recipe-id-456"), "Cake Recipe", List.of(ingredientCost));
+    when(costCalculationService.calculateCost(any(Recipe.class), any(Map.class), any(Map.class))).thenReturn(recipeCost);
 
-    Recipe savedRecipe = new Recipe(Id.of("cake-recipe-id-456"), "Cake Recipe", ingredients, Money.of(5.0));
+    Recipe savedRecipe = new Recipe(TestIds.of("cake-recipe-id-456"), "Cake Recipe", ingredients, Money.of(5.0));
     when(recipeRepository.save(any(Recipe.class))).thenReturn(savedRecipe);
 
     useCase.execute(command);
 
     verify(recipeRepository, times(1)).existsByName("Cake Recipe");
     verify(ingredientLoaderService, times(1)).loadIngredients(ingredients);
-    verify(costCalculationService, times(1)).calculateCost(any(Recipe.class), any(Map.class));
+    verify(costCalculationService, times(1)).calculateCost(any(Recipe.class), any(Map.class), any(Map.class));
     verify(recipeRepository, times(1)).save(any(Recipe.class));
   }
 }
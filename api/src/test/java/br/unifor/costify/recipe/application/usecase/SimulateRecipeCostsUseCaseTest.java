@@ -0,0 +1,180 @@
+package br.unifor.costify.recipe.application.usecase;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.application.errors.IngredientNotFoundException;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.application.dto.command.SimulateRecipeCostsCommand;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostImpactDto;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostSimulationDto;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.recipe.domain.valueobject.RecipeDependency;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SimulateRecipeCostsUseCase Tests")
+class SimulateRecipeCostsUseCaseTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private IngredientRepository ingredientRepository;
+
+    private SimulateRecipeCostsUseCase useCase;
+
+    // Flour costs $0.005/g and butter $0.02/g
+    private final Ingredient flour = new Ingredient(TestIds.of("flour"), "Flour", 1000.0, Money.of(5.00), Unit.G);
+    private final Ingredient butter = new Ingredient(TestIds.of("butter"), "Butter", 500.0, Money.of(10.00), Unit.G);
+
+    @BeforeEach
+    void setUp() {
+        useCase = new SimulateRecipeCostsUseCase(
+                recipeRepository, ingredientRepository, new RecipeCostCalculationService(),
+                new SubRecipeLoaderService(recipeRepository));
+    }
+
+    @Test
+    @DisplayName("Should price affected recipes with the changes and sort them by size of the change")
+    void shouldReturnImpactsSortedByDelta() {
+        // Arrange
+        var cake = new Recipe(TestIds.of("cake"), "Cake", List.of(
+                new RecipeIngredient(flour.getId(), 500.0, Unit.G),
+                new RecipeIngredient(butter.getId(), 100.0, Unit.G)), Money.of(4.50));
+        var bread = new Recipe(TestIds.of("bread"), "Bread", List.of(
+                new RecipeIngredient(flour.getId(), 1.0, Unit.KG)), Money.of(5.00));
+        var cookie = new Recipe(TestIds.of("cookie"), "Cookie", List.of(
+                new RecipeIngredient(butter.getId(), 200.0, Unit.G)), Money.of(4.00));
+
+        when(recipeRepository.findIdsByIngredientId(flour.getId())).thenReturn(List.of(cake.getId(), bread.getId()));
+        when(recipeRepository.findIdsByIngredientId(butter.getId())).thenReturn(List.of(cake.getId(), cookie.getId()));
+        when(recipeRepository.findAllByIds(Set.of(cake.getId(), bread.getId(), cookie.getId())))
+                .thenReturn(List.of(cake, bread, cookie));
+        when(ingredientRepository.findAllByIds(Set.of(flour.getId(), butter.getId()))).thenReturn(List.of(flour, butter));
+
+        var command = new SimulateRecipeCostsCommand(List.of(
+                new SimulateRecipeCostsCommand.Change(flour.getId(), null, null, 12.0, null),
+                new SimulateRecipeCostsCommand.Change(butter.getId(), null, null, -5.0, null)));
+
+        // Act
+        RecipeCostSimulationDto result = useCase.execute(command);
+
+        // Assert
+        assertThat(result.recipesEvaluated()).isEqualTo(3);
+        assertThat(result.impacts()).extracting(RecipeCostImpactDto::recipeName)
+                .containsExactly("Bread", "Cake", "Cookie");
+
+        RecipeCostImpactDto breadImpact = result.impacts().get(0);
+        assertThat(breadImpact.currentTotalCost()).isEqualByComparingTo("5.00");
+        assertThat(breadImpact.simulatedTotalCost()).isEqualByComparingTo("5.60");
+        assertThat(breadImpact.delta()).isEqualByComparingTo("0.60");
+        assertThat(breadImpact.deltaPercent()).isEqualByComparingTo("12.00");
+        assertThat(result.impacts().get(1).delta()).isEqualByComparingTo("0.20");
+        assertThat(result.impacts().get(2).delta()).isEqualByComparingTo("-0.20");
+    }
+
+    @Test
+    @DisplayName("Should carry simulated totals up to the recipes that use affected ones as sub-recipes")
+    void shouldPropagateThroughSubRecipes() {
+        // Arrange - the pizza uses 100g of butter and two batches of dough
+        var dough = new Recipe(TestIds.of("dough"), "Dough", List.of(
+                new RecipeIngredient(flour.getId(), 1000.0, Unit.G)), Money.of(5.00));
+        var pizza = new Recipe(TestIds.of("pizza"), "Pizza", List.of(
+                new RecipeIngredient(butter.getId(), 100.0, Unit.G)),
+                List.of(new SubRecipe(dough.getId(), 2.0)), Money.of(12.00), 0);
+
+        when(recipeRepository.findIdsByIngredientId(flour.getId())).thenReturn(List.of(dough.getId()));
+        when(recipeRepository.findDependenciesAbove(Set.of(dough.getId())))
+                .thenReturn(List.of(new RecipeDependency(pizza.getId(), dough.getId())));
+        when(recipeRepository.findAllByIds(Set.of(dough.getId(), pizza.getId()))).thenReturn(List.of(dough, pizza));
+        when(recipeRepository.findAllByIds(Set.of(dough.getId()))).thenReturn(List.of(dough));
+        when(ingredientRepository.findAllByIds(Set.of(flour.getId(), butter.getId()))).thenReturn(List.of(flour, butter));
+
+        var command = new SimulateRecipeCostsCommand(List.of(
+                new SimulateRecipeCostsCommand.Change(flour.getId(), null, 10.00, null, null)));
+
+        // Act
+        RecipeCostSimulationDto result = useCase.execute(command);
+
+        // Assert - the pizza is priced from the simulated dough total
+        assertThat(result.impacts()).extracting(RecipeCostImpactDto::recipeName).containsExactly("Pizza", "Dough");
+        assertThat(result.impacts().get(0).simulatedTotalCost()).isEqualByComparingTo("22.00");
+        assertThat(result.impacts().get(0).delta()).isEqualByComparingTo("10.00");
+        assertThat(result.impacts().get(1).delta()).isEqualByComparingTo("5.00");
+    }
+
+    @Test
+    @DisplayName("Should leave out recipes whose total would not change, and write nothing")
+    void shouldLeaveOutUnchangedRecipes() {
+        // Arrange - twice the package for twice the price keeps the unit cost
+        var bread = new Recipe(TestIds.of("bread"), "Bread", List.of(
+                new RecipeIngredient(flour.getId(), 500.0, Unit.G)), Money.of(2.50));
+
+        when(recipeRepository.findIdsByIngredientId(flour.getId())).thenReturn(List.of(bread.getId()));
+        when(recipeRepository.findDependenciesAbove(Set.of(bread.getId()))).thenReturn(List.of());
+        when(recipeRepository.findAllByIds(Set.of(bread.getId()))).thenReturn(List.of(bread));
+        when(ingredientRepository.findAllByIds(Set.of(flour.getId()))).thenReturn(List.of(flour));
+
+        var command = new SimulateRecipeCostsCommand(List.of(
+                new SimulateRecipeCostsCommand.Change(flour.getId(), 2000.0, 10.00, null, null)));
+
+        // Act
+        RecipeCostSimulationDto result = useCase.execute(command);
+
+        // Assert
+        assertThat(result.recipesEvaluated()).isEqualTo(1);
+        assertThat(result.impacts()).isEmpty();
+        verify(recipeRepository, never()).save(any());
+        verify(recipeRepository, never()).updateTotalCost(any(), anyLong(), any());
+        verify(ingredientRepository).findAllByIds(Set.of(flour.getId()));
+        verifyNoMoreInteractions(ingredientRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw IngredientNotFoundException for an unknown ingredient")
+    void shouldRejectUnknownIngredient() {
+        // Arrange
+        when(recipeRepository.findIdsByIngredientId(TestIds.of("ghost"))).thenReturn(List.of());
+        when(ingredientRepository.findAllByIds(Set.of(TestIds.of("ghost")))).thenReturn(List.of());
+
+        var command = new SimulateRecipeCostsCommand(List.of(
+                new SimulateRecipeCostsCommand.Change(TestIds.of("ghost"), null, 1.00, null, null)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(command))
+                .isInstanceOf(IngredientNotFoundException.class)
+                .hasMessageContaining(TestIds.value("ghost"));
+    }
+
+    @Test
+    @DisplayName("Should reject a change with both a new price and a price change percent")
+    void shouldRejectAmbiguousPriceChange() {
+        assertThatThrownBy(() -> new SimulateRecipeCostsCommand.Change(flour.getId(), null, 6.00, 10.0, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,16 +1,25 @@
 package br.unifor.costify.recipe.application.usecase;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.application.service.IngredientLoaderService;
+import br.unifor.costify.recipe.application.contracts.RecipeCostRepository;
 import br.unifor.costify.recipe.application.contracts.RecipeRepository;
 import br.unifor.costify.recipe.application.dto.command.UpdateRecipeCommand;
 import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
 import br.unifor.costify.recipe.application.errors.RecipeNotFoundException;
+import br.unifor.costify.recipe.application.service.RecipeCostPropagationService;
+import br.unifor.costify.recipe.application.service.SubRecipeLoaderService;
+import br.unifor.costify.catalog.application.errors.IngredientNotFoundException;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
 import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.errors.RecipeCycleException;
 import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.shared.application.errors.StaleVersionException;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
 import br.unifor.costify.shared.domain.valueobject.Unit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,10 +32,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,25 +48,33 @@ class UpdateRecipeUseCaseTest {
     @Mock
     private RecipeRepository recipeRepository;
 
+    @Mock
+    private RecipeCostRepository recipeCostRepository;
+
     @Mock
     private IngredientRepository ingredientRepository;
 
     @Mock
     private RecipeCostCalculationService costCalculationService;
 
+    @Mock
+    private RecipeCostPropagationService costPropagationService;
+
     private UpdateRecipeUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new UpdateRecipeUseCase(recipeRepository, ingredientRepository, costCalculationService);
+        useCase = new UpdateRecipeUseCase(
+                recipeRepository, recipeCostRepository, new IngredientLoaderService(ingredientRepository), costCalculationService,
+                new SubRecipeLoaderService(recipeRepository), costPropagationService);
     }
 
     @Test
     @DisplayName("Should update recipe successfully")
     void shouldUpdateRecipeSuccessfully() {
         // Arrange
-        var recipeId = Id.of("recipe-123");
-        var ingredientId = Id.of("ingredient-456");
+        var recipeId = TestIds.of("recipe-123");
+        var ingredientId = TestIds.of("ingredient-456");
 
         var existingRecipe = new Recipe(
                 recipeId,
@@ -91,8 +110,8 @@ class UpdateRecipeUseCaseTest {
         );
 
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
-        when(ingredientRepository.findById(ingredientId)).thenReturn(Optional.of(ingredient));
-        when(costCalculationService.calculateCost(any(Recipe.class), any())).thenReturn(mockRecipeCost);
+        when(ingredientRepository.findCurrentByIds(any())).thenReturn(List.of(ingredient));
+        when(costCalculationService.calculateCost(any(Recipe.class), any(), any())).thenReturn(mockRecipeCost);
         when(recipeRepository.save(any(Recipe.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
@@ -110,16 +129,18 @@ class UpdateRecipeUseCaseTest {
         Recipe savedRecipe = recipeCaptor.getValue();
         assertThat(savedRecipe.getName()).isEqualTo("Bolo Atualizado");
         assertThat(savedRecipe.getIngredients()).hasSize(1);
+        verify(recipeCostRepository).save(mockRecipeCost);
+        verify(costPropagationService).recalculateDependents(List.of(recipeId));
     }
 
     @Test
     @DisplayName("Should throw RecipeNotFoundException when recipe does not exist")
     void shouldThrowExceptionWhenRecipeNotFound() {
         // Arrange
-        var recipeId = Id.of("non-existent-id");
+        var recipeId = TestIds.of("non-existent-id");
         var command = new UpdateRecipeCommand(
                 "Bolo",
-                List.of(new RecipeIngredient(Id.of("ing-1"), 500.0, Unit.ML))
+                List.of(new RecipeIngredient(TestIds.of("ing-1"), 500.0, Unit.ML))
         );
 
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.empty());
@@ -127,7 +148,7 @@ class UpdateRecipeUseCaseTest {
         // Act & Assert
         assertThatThrownBy(() -> useCase.execute(recipeId, command))
                 .isInstanceOf(RecipeNotFoundException.class)
-                .hasMessage("Recipe with ID 'non-existent-id' not found");
+                .hasMessage("Recipe with ID '" + recipeId.getValue() + "' not found");
 
         verify(recipeRepository).findById(recipeId);
     }
@@ -136,9 +157,9 @@ class UpdateRecipeUseCaseTest {
     @DisplayName("Should update recipe with multiple ingredients")
     void shouldUpdateRecipeWithMultipleIngredients() {
         // Arrange
-        var recipeId = Id.of("recipe-789");
-        var ing1 = Id.of("ing-1");
-        var ing2 = Id.of("ing-2");
+        var recipeId = TestIds.of("recipe-789");
+        var ing1 = TestIds.of("ing-1");
+        var ing2 = TestIds.of("ing-2");
 
         var existingRecipe = new Recipe(
                 recipeId,
@@ -167,9 +188,8 @@ class UpdateRecipeUseCaseTest {
         );
 
         when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
-        when(ingredientRepository.findById(ing1)).thenReturn(Optional.of(ingredient1));
-        when(ingredientRepository.findById(ing2)).thenReturn(Optional.of(ingredient2));
-        when(costCalculationService.calculateCost(any(Recipe.class), any())).thenReturn(mockRecipeCost);
+        when(ingredientRepository.findCurrentByIds(any())).thenReturn(List.of(ingredient1, ingredient2));
+        when(costCalculationService.calculateCost(any(Recipe.class), any(), any())).thenReturn(mockRecipeCost);
         when(recipeRepository.save(any(Recipe.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
@@ -180,4 +200,138 @@ class UpdateRecipeUseCaseTest {
         assertThat(result.ingredients()).hasSize(2);
         assertThat(result.totalCost()).isEqualByComparingTo(new BigDecimal("3.10"));
     }
+
+    @Test
+    @DisplayName("Should throw IngredientNotFoundException when an ingredient does not exist")
+    void shouldThrowExceptionWhenIngredientNotFound() {
+        // Arrange
+        var recipeId = TestIds.of("recipe-123");
+        var missingId = TestIds.of("missing-ingredient");
+
+        var existingRecipe = new Recipe(
+                recipeId,
+                "Bolo",
+                List.of(new RecipeIngredient(TestIds.of("ing-1"), 100.0, Unit.G)),
+                Money.of(new BigDecimal("5.00"))
+        );
+        var command = new UpdateRecipeCommand(
+                "Bolo",
+                List.of(new RecipeIngredient(missingId, 500.0, Unit.ML))
+        );
+
+        when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
+        when(ingredientRepository.findCurrentByIds(any())).thenReturn(List.of());
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(recipeId, command))
+                .isInstanceOf(IngredientNotFoundException.class)
+                .hasMessageContaining(TestIds.value("missing-ingredient"));
+
+        verify(recipeRepository, never()).save(any(Recipe.class));
+    }
+
+    @Test
+    @DisplayName("Should reject an update made against a stale version")
+    void shouldRejectUpdateAgainstStaleVersion() {
+        // Arrange
+        var recipeId = TestIds.of("recipe-123");
+        var existingRecipe = new Recipe(
+                recipeId,
+                "Bolo",
+                List.of(new RecipeIngredient(TestIds.of("ing-1"), 500.0, Unit.ML)),
+                Money.of(new BigDecimal("10.00")),
+                5
+        );
+        var command = new UpdateRecipeCommand(
+                "Bolo Atualizado",
+                List.of(new RecipeIngredient(TestIds.of("ing-1"), 600.0, Unit.ML))
+        );
+
+        when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(recipeId, 4, command))
+                .isInstanceOf(StaleVersionException.class)
+                .hasMessage("Recipe with ID '" + recipeId.getValue() + "' is at version 5, not 4");
+
+        verify(recipeRepository, never()).save(any());
+        verify(recipeCostRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should not propagate to dependent recipes when the total is unchanged")
+    void shouldNotPropagateWhenTotalIsUnchanged() {
+        // Arrange
+        var recipeId = TestIds.of("recipe-123");
+        var ingredientId = TestIds.of("ing-1");
+        var existingRecipe = new Recipe(
+                recipeId,
+                "Bolo",
+                List.of(new RecipeIngredient(ingredientId, 500.0, Unit.ML)),
+                Money.of(new BigDecimal("2.50"))
+        );
+        var command = new UpdateRecipeCommand(
+                "Bolo Renomeado",
+                List.of(new RecipeIngredient(ingredientId, 500.0, Unit.ML))
+        );
+        var ingredient = new Ingredient(ingredientId, "Leite", 1000.0, Money.of(new BigDecimal("5.00")), Unit.ML);
+        var mockRecipeCost = new br.unifor.costify.recipe.domain.valueobject.RecipeCost(
+                recipeId,
+                "Bolo Renomeado",
+                List.of(new br.unifor.costify.recipe.domain.valueobject.IngredientCost(
+                        ingredientId, "Leite", 500.0, Unit.ML, Money.of(new BigDecimal("2.50"))))
+        );
+
+        when(recipeRepository.findById(recipeId)).thenReturn(Optional.of(existingRecipe));
+        when(ingredientRepository.findCurrentByIds(any())).thenReturn(List.of(ingredient));
+        when(costCalculationService.calculateCost(any(Recipe.class), any(), any())).thenReturn(mockRecipeCost);
+        when(recipeRepository.save(any(Recipe.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        useCase.execute(recipeId, command);
+
+        // Assert
+        verify(costPropagationService, never()).recalculateDependents(any());
+    }
+
+    @Test
+    @DisplayName("Should reject sub-recipes that already use the recipe")
+    void shouldRejectSubRecipeThatWouldCreateCycle() {
+        // Arrange - the pizza already uses the dough, so the dough cannot use the pizza
+        var doughId = TestIds.of("dough");
+        var pizzaId = TestIds.of("pizza");
+        var ingredientId = TestIds.of("ing-1");
+        var dough = new Recipe(
+                doughId,
+                "Massa",
+                List.of(new RecipeIngredient(ingredientId, 500.0, Unit.ML)),
+                Money.of(new BigDecimal("2.50"))
+        );
+        var pizza = new Recipe(
+                pizzaId,
+                "Pizza",
+                List.of(new RecipeIngredient(ingredientId, 100.0, Unit.ML)),
+                List.of(new SubRecipe(doughId, 1.0)),
+                Money.of(new BigDecimal("3.00")),
+                0
+        );
+        var command = new UpdateRecipeCommand(
+                "Massa",
+                List.of(new RecipeIngredient(ingredientId, 500.0, Unit.ML)),
+                List.of(new SubRecipe(pizzaId, 0.5))
+        );
+        var ingredient = new Ingredient(ingredientId, "Leite", 1000.0, Money.of(new BigDecimal("5.00")), Unit.ML);
+
+        when(recipeRepository.findById(doughId)).thenReturn(Optional.of(dough));
+        when(ingredientRepository.findCurrentByIds(any())).thenReturn(List.of(ingredient));
+        when(recipeRepository.findAllByIds(Set.of(pizzaId))).thenReturn(List.of(pizza));
+        when(recipeRepository.wouldCreateCycle(doughId, Set.of(pizzaId))).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.execute(doughId, command))
+                .isInstanceOf(RecipeCycleException.class);
+
+        verify(recipeRepository, never()).save(any());
+        verify(recipeCostRepository, never()).save(any());
+    }
 }
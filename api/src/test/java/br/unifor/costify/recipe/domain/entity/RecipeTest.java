@@ -1,11 +1,14 @@
 package br.unifor.costify.recipe.domain.entity;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.shared.domain.contracts.IdGenerator;
 import br.unifor.costify.recipe.domain.errors.EmptyRecipeException;
 import br.unifor.costify.recipe.domain.errors.InvalidTotalCostException;
+import br.unifor.costify.recipe.domain.errors.RecipeCycleException;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
 import br.unifor.costify.shared.domain.valueobject.Unit;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,10 +23,10 @@ class RecipeTest {
 
   @BeforeEach
   void setup() {
-    fakeIdGenerator = () -> "test-recipe-id-123";
+    fakeIdGenerator = () -> TestIds.value("test-recipe-id-123");
 
-    Id ingredientId1 = Id.of("ingredient-id-1");
-    Id ingredientId2 = Id.of("ingredient-id-2");
+    Id ingredientId1 = TestIds.of("ingredient-id-1");
+    Id ingredientId2 = TestIds.of("ingredient-id-2");
 
     recipeIngredient1 = new RecipeIngredient(ingredientId1, 0.5, Unit.KG);
     recipeIngredient2 = new RecipeIngredient(ingredientId2, 0.2, Unit.KG);
@@ -34,7 +37,7 @@ class RecipeTest {
     Recipe recipe =
         new Recipe(fakeIdGenerator, "Bread Recipe", List.of(recipeIngredient1, recipeIngredient2), Money.of(10.50));
 
-    assert recipe.getId().getValue().equals("test-recipe-id-123");
+    assert recipe.getId().getValue().equals(TestIds.value("test-recipe-id-123"));
     assert recipe.getName().equals("Bread Recipe");
     assert recipe.getIngredients().size() == 2;
     assert recipe.getIngredients().contains(recipeIngredient1);
@@ -43,10 +46,10 @@ class RecipeTest {
 
   @Test
   void createRecipe_withId_shouldInitializeCorrectly() {
-    Id existingId = Id.of("existing-recipe-id");
+    Id existingId = TestIds.of("existing-recipe-id");
     Recipe recipe = new Recipe(existingId, "Cake Recipe", List.of(recipeIngredient1), Money.of(8.25));
 
-    assert recipe.getId().getValue().equals("existing-recipe-id");
+    assert recipe.getId().getValue().equals(TestIds.value("existing-recipe-id"));
     assert recipe.getName().equals("Cake Recipe");
     assert recipe.getIngredients().size() == 1;
     assert recipe.getIngredients().contains(recipeIngredient1);
@@ -124,9 +127,28 @@ class RecipeTest {
   void createRecipe_withNullCost_shouldThrowException() {
     // This tests that the constructor properly validates null cost
     InvalidTotalCostException exception = assertThrows(InvalidTotalCostException.class, () -> {
-      new Recipe(Id.of("test-id"), "Test Recipe", List.of(recipeIngredient1), null);
+      new Recipe(TestIds.of("test-id"), "Test Recipe", List.of(recipeIngredient1), null);
     });
     
     assertTrue(exception.getMessage().contains("Total cost cannot be null"));
   }
+
+  @Test
+  void createRecipe_withSubRecipes_shouldKeepThem() {
+    SubRecipe dough = new SubRecipe(TestIds.of("dough-id"), 2.0);
+    Recipe recipe =
+        new Recipe(TestIds.of("pizza-id"), "Pizza", List.of(recipeIngredient1), List.of(dough), Money.of(9.0), 0);
+
+    assertTrue(recipe.hasSubRecipes());
+    assertEquals(List.of(dough), recipe.getSubRecipes());
+  }
+
+  @Test
+  void updateSubRecipes_withItself_shouldThrowException() {
+    Recipe recipe = new Recipe(TestIds.of("pizza-id"), "Pizza", List.of(recipeIngredient1), Money.of(9.0));
+
+    assertThrows(
+        RecipeCycleException.class,
+        () -> recipe.updateSubRecipes(List.of(new SubRecipe(TestIds.of("pizza-id"), 1.0))));
+  }
 }
@@ -1,11 +1,14 @@
 package br.unifor.costify.recipe.domain.service;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
 import br.unifor.costify.recipe.domain.entity.Recipe;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
 import br.unifor.costify.recipe.domain.valueobject.RecipeCost;
 import br.unifor.costify.recipe.domain.valueobject.IngredientCost;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipeCost;
 import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.shared.domain.valueobject.Unit;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,7 +34,7 @@ class RecipeCostCalculationServiceTest {
         // Create test ingredients
         // Flour: 1kg package costs $5.00, so per gram = $0.005
         flour = new Ingredient(
-            Id.of("flour-id"),
+            TestIds.of("flour-id"),
             "Flour",
             1.0,    // 1kg package quantity
             Money.of(5.00),   // $5.00 package price
@@ -40,7 +43,7 @@ class RecipeCostCalculationServiceTest {
         
         // Sugar: 500g package costs $3.00, so per gram = $0.006
         sugar = new Ingredient(
-            Id.of("sugar-id"),
+            TestIds.of("sugar-id"),
             "Sugar", 
             500.0,  // 500g package
             Money.of(3.00),   // $3.00 package price
@@ -49,7 +52,7 @@ class RecipeCostCalculationServiceTest {
         
         // Create recipe that needs 300g flour + 100g sugar
         breadRecipe = new Recipe(
-            Id.of("bread-id"),
+            TestIds.of("bread-id"),
             "Simple Bread",
             Arrays.asList(
                 new RecipeIngredient(flour.getId(), 300.0, Unit.G), // 300g flour
@@ -97,7 +100,7 @@ class RecipeCostCalculationServiceTest {
     void shouldHandleUnitConversionInCostCalculation() {
         // Arrange - Recipe uses ML but ingredient package is in L
         Ingredient milk = new Ingredient(
-            Id.of("milk-id"),
+            TestIds.of("milk-id"),
             "Milk",
             1.0,    // 1L package  
             Money.of(2.50),   // $2.50 package price
@@ -105,7 +108,7 @@ class RecipeCostCalculationServiceTest {
         );
         
         Recipe milkshakeRecipe = new Recipe(
-            Id.of("milkshake-id"),
+            TestIds.of("milkshake-id"),
             "Milkshake",
             List.of(new RecipeIngredient(milk.getId(), 250.0, Unit.ML)), // needs 250ml
             Money.of(8.0)
@@ -167,7 +170,7 @@ class RecipeCostCalculationServiceTest {
     void shouldCalculateCostForRecipeWithSameIngredientMultipleTimes() {
         // Arrange - Recipe that uses flour twice in different measurements
         Recipe complexRecipe = new Recipe(
-            Id.of("complex-id"),
+            TestIds.of("complex-id"),
             "Complex Recipe",
             Arrays.asList(
                 new RecipeIngredient(flour.getId(), 200.0, Unit.G), // 200g flour
@@ -195,4 +198,98 @@ class RecipeCostCalculationServiceTest {
         // Should have separate entries for each ingredient usage
         assertEquals(3, result.getIngredientCosts().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldCalculateTotalCostWithoutBreakdown() {
+        // Arrange
+        Map<Id, Ingredient> ingredientMap = Map.of(
+            flour.getId(), flour,
+            sugar.getId(), sugar
+        );
+
+        // Act
+        Money result = service.calculateTotalCost(breadRecipe, ingredientMap);
+
+        // Assert
+        assertEquals(Money.of(2.10), result);
+        assertEquals(service.calculateCost(breadRecipe, ingredientMap).getTotalCost(), result);
+    }
+
+    @Test
+    void shouldRoundTotalOnceInsteadOfSummingRoundedLines() {
+        // Arrange - Salt: 1000g package costs $1.00, so per gram = $0.001
+        Ingredient salt = new Ingredient(TestIds.of("salt-id"), "Salt", 1000.0, Money.of(1.00), Unit.G);
+        Ingredient pepper = new Ingredient(TestIds.of("pepper-id"), "Pepper", 1000.0, Money.of(1.00), Unit.G);
+        Ingredient paprika = new Ingredient(TestIds.of("paprika-id"), "Paprika", 1000.0, Money.of(1.00), Unit.G);
+
+        // 5g of each costs $0.005, which rounds to $0.01 per line
+        Recipe seasoning = new Recipe(
+            TestIds.of("seasoning-id"),
+            "Seasoning",
+            List.of(
+                new RecipeIngredient(salt.getId(), 5.0, Unit.G),
+                new RecipeIngredient(pepper.getId(), 5.0, Unit.G),
+                new RecipeIngredient(paprika.getId(), 5.0, Unit.G)
+            ),
+            Money.zero()
+        );
+
+        Map<Id, Ingredient> ingredientMap = Map.of(
+            salt.getId(), salt,
+            pepper.getId(), pepper,
+            paprika.getId(), paprika
+        );
+
+        // Act
+        RecipeCost result = service.calculateCost(seasoning, ingredientMap);
+
+        // Assert - $0.015 total, rounded once
+        assertEquals(Money.of(0.02), result.getTotalCost());
+        assertEquals(Money.of(0.01), result.getIngredientCosts().get(0).getCost());
+        assertEquals(Money.of(0.02), service.calculateTotalCost(seasoning, ingredientMap));
+    }
+
+    @Test
+    void shouldPriceSubRecipesAtTheirStoredTotals() {
+        // Arrange - a sandwich uses 100g of flour and half a batch of bread, which costs $2.10
+        Recipe bread = new Recipe(breadRecipe.getId(), breadRecipe.getName(),
+            breadRecipe.getIngredients(), Money.of(2.10));
+        Recipe sandwich = new Recipe(
+            TestIds.of("sandwich-id"),
+            "Sandwich",
+            List.of(new RecipeIngredient(flour.getId(), 100.0, Unit.G)),
+            List.of(new SubRecipe(bread.getId(), 0.5)),
+            Money.zero(),
+            0);
+        Map<Id, Ingredient> ingredientMap = Map.of(flour.getId(), flour);
+        Map<Id, Recipe> subRecipeMap = Map.of(bread.getId(), bread);
+
+        // Act
+        RecipeCost result = service.calculateCost(sandwich, ingredientMap, subRecipeMap);
+
+        // Assert - $0.50 of flour + 0.5 * $2.10 of bread
+        assertEquals(Money.of(1.55), result.getTotalCost());
+        assertEquals(1, result.getSubRecipeCosts().size());
+        SubRecipeCost breadCost = result.getSubRecipeCosts().get(0);
+        assertEquals(bread.getId(), breadCost.getSubRecipeId());
+        assertEquals("Simple Bread", breadCost.getSubRecipeName());
+        assertEquals(Money.of(1.05), breadCost.getCost());
+        assertEquals(result.getTotalCost(), service.calculateTotalCost(sandwich, ingredientMap, subRecipeMap));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSubRecipeNotInMap() {
+        // Arrange
+        Recipe sandwich = new Recipe(
+            TestIds.of("sandwich-id"),
+            "Sandwich",
+            List.of(new RecipeIngredient(flour.getId(), 100.0, Unit.G)),
+            List.of(new SubRecipe(breadRecipe.getId(), 0.5)),
+            Money.zero(),
+            0);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> service.calculateTotalCost(sandwich, Map.of(flour.getId(), flour), Map.of()));
+    }
+}
@@ -0,0 +1,81 @@
+package br.unifor.costify.recipe.domain.service;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.recipe.domain.errors.RecipeCycleException;
+import br.unifor.costify.recipe.domain.valueobject.RecipeDependency;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecipeDependencyGraphTest {
+
+    private final Id dough = TestIds.of("dough");
+    private final Id sauce = TestIds.of("sauce");
+    private final Id pizza = TestIds.of("pizza");
+    private final Id menu = TestIds.of("menu");
+
+    @Test
+    void shouldOrderEveryRecipeAfterItsSubRecipes() {
+        // menu uses pizza and sauce, pizza uses dough and sauce
+        List<RecipeDependency> dependencies = List.of(
+                new RecipeDependency(menu, pizza),
+                new RecipeDependency(menu, sauce),
+                new RecipeDependency(pizza, dough),
+                new RecipeDependency(pizza, sauce));
+
+        List<Id> order = RecipeDependencyGraph.topologicalOrder(List.of(menu, pizza, sauce, dough), dependencies);
+
+        assertThat(order).containsExactlyInAnyOrder(menu, pizza, sauce, dough);
+        assertThat(order.indexOf(pizza)).isGreaterThan(order.indexOf(dough)).isGreaterThan(order.indexOf(sauce));
+        assertThat(order.indexOf(menu)).isGreaterThan(order.indexOf(pizza));
+    }
+
+    @Test
+    void shouldIgnoreDependenciesOnRecipesOutsideTheSet() {
+        List<RecipeDependency> dependencies = List.of(
+                new RecipeDependency(pizza, dough),
+                new RecipeDependency(menu, pizza));
+
+        List<Id> order = RecipeDependencyGraph.topologicalOrder(List.of(menu, pizza), dependencies);
+
+        assertThat(order).containsExactly(pizza, menu);
+    }
+
+    @Test
+    void shouldKeepInputOrderForIndependentRecipes() {
+        List<Id> order = RecipeDependencyGraph.topologicalOrder(List.of(sauce, dough), List.of());
+
+        assertThat(order).containsExactly(sauce, dough);
+    }
+
+    @Test
+    void shouldRejectCycle() {
+        List<RecipeDependency> dependencies = List.of(
+                new RecipeDependency(pizza, dough),
+                new RecipeDependency(dough, menu),
+                new RecipeDependency(menu, pizza));
+
+        assertThatThrownBy(() -> RecipeDependencyGraph.topologicalOrder(List.of(pizza, dough, menu), dependencies))
+                .isInstanceOf(RecipeCycleException.class);
+    }
+
+    @Test
+    void shouldGroupRecipesIntoLevelsAfterTheirSubRecipes() {
+        List<RecipeDependency> dependencies = List.of(
+                new RecipeDependency(menu, pizza),
+                new RecipeDependency(menu, sauce),
+                new RecipeDependency(pizza, dough),
+                new RecipeDependency(pizza, sauce));
+
+        List<List<Id>> levels = RecipeDependencyGraph.levels(List.of(menu, pizza, sauce, dough), dependencies);
+
+        assertThat(levels).hasSize(3);
+        assertThat(levels.get(0)).containsExactlyInAnyOrder(sauce, dough);
+        assertThat(levels.get(1)).containsExactly(pizza);
+        assertThat(levels.get(2)).containsExactly(menu);
+    }
+}
@@ -1,5 +1,6 @@
 package br.unifor.costify.recipe.domain.valueobject;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Unit;
 
@@ -9,7 +10,7 @@ import org.junit.jupiter.api.Test;
 class RecipeIngredientTest {
   @Test
   void createRecipeIngredient_withValidValues_shouldInitializeCorrectly() {
-    Id ingredientId = Id.of("ingredient-123");
+    Id ingredientId = TestIds.of("ingredient-123");
     RecipeIngredient recipeIngredient = new RecipeIngredient(ingredientId, 2.5, Unit.KG);
 
     assert recipeIngredient.getIngredientId().equals(ingredientId);
@@ -20,7 +21,7 @@ class RecipeIngredientTest {
 
   @Test
   void createRecipeIngredient_withZeroQuantity_shouldThrowException() {
-    Id ingredientId = Id.of("ingredient-123");
+    Id ingredientId = TestIds.of("ingredient-123");
     try {
       new RecipeIngredient(ingredientId, 0, Unit.KG);
       assert false;
@@ -30,7 +31,7 @@ class RecipeIngredientTest {
 
   @Test
   void createRecipeIngredient_withNegativeQuantity_shouldThrowException() {
-    Id ingredientId = Id.of("ingredient-123");
+    Id ingredientId = TestIds.of("ingredient-123");
     try {
       new RecipeIngredient(ingredientId, -1.0, Unit.KG);
       assert false;
@@ -41,7 +42,7 @@ class RecipeIngredientTest {
 
   @Test
   void recipeIngredient_equals_shouldWorkCorrectly() {
-    Id ingredientId = Id.of("ingredient-123");
+    Id ingredientId = TestIds.of("ingredient-123");
     RecipeIngredient ri1 = new RecipeIngredient(ingredientId, 2.5, Unit.KG);
     RecipeIngredient ri2 = new RecipeIngredient(ingredientId, 2.5, Unit.KG);
     RecipeIngredient ri3 = new RecipeIngredient(ingredientId, 3.0, Unit.KG);
@@ -1,37 +1,68 @@
 package br.unifor.costify.recipe.infra.controllers;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
+import br.unifor.costify.recipe.application.dto.query.RecipeSort;
+import br.unifor.costify.recipe.application.dto.response.IngredientCostDto;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostBatchDto;
+import br.unifor.costify.recipe.application.dto.response.RecipeCostDto;
 import br.unifor.costify.recipe.application.dto.response.RecipeIngredientDto;
+import br.unifor.costify.recipe.application.usecase.CalculateRecipeCostUseCase;
+import br.unifor.costify.recipe.application.usecase.CalculateRecipeCostsBatchUseCase;
+import br.unifor.costify.recipe.application.usecase.ExportRecipesUseCase;
 import br.unifor.costify.recipe.application.usecase.ListRecipesUseCase;
+import br.unifor.costify.recipe.infra.controllers.dto.RecipeCostBatchRequest;
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import br.unifor.costify.shared.application.pagination.SortDirection;
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
 import br.unifor.costify.shared.domain.valueobject.Unit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ExtendWith(MockitoExtension.class)
 class RecipeControllerTest {
 
   @Mock private ListRecipesUseCase listRecipesUseCase;
+  @Mock private CalculateRecipeCostUseCase calculateRecipeCostUseCase;
+  @Mock private CalculateRecipeCostsBatchUseCase calculateRecipeCostsBatchUseCase;
 
   @InjectMocks private RecipeController recipeController;
 
   private List<RecipeDto> mockRecipes;
 
+  private final CollectionVersion collectionVersion =
+      new CollectionVersion(2, 0, Instant.parse("2025-03-10T12:00:00Z"));
+
   @BeforeEach
   void setUp() {
     RecipeIngredientDto milk = new RecipeIngredientDto("milk-id", 500.0, Unit.ML);
     RecipeIngredientDto flour = new RecipeIngredientDto("flour-id", 300.0, Unit.G);
 
-    RecipeDto cake = new RecipeDto("cake-id", "Cake", List.of(milk, flour), BigDecimal.valueOf(15.50));
-    RecipeDto bread = new RecipeDto("bread-id", "Bread", List.of(flour), BigDecimal.valueOf(8.30));
+    RecipeDto cake = new RecipeDto("cake-id", "Cake", List.of(milk, flour), List.of(), BigDecimal.valueOf(15.50), 0);
+    RecipeDto bread = new RecipeDto("bread-id", "Bread", List.of(flour), List.of(), BigDecimal.valueOf(8.30), 0);
 
     mockRecipes = List.of(cake, bread);
   }
@@ -39,10 +70,11 @@ class RecipeControllerTest {
   @Test
   void shouldReturnAllRecipes() {
     // Given
+    when(listRecipesUseCase.findCollectionVersion()).thenReturn(collectionVersion);
     when(listRecipesUseCase.execute()).thenReturn(mockRecipes);
 
     // When
-    List<RecipeDto> response = recipeController.listRecipes();
+    List<RecipeDto> response = recipeController.listRecipes(new HttpHeaders()).getBody();
 
     // Then
     assertNotNull(response);
@@ -53,10 +85,11 @@ class RecipeControllerTest {
   @Test
   void shouldReturnEmptyList_whenNoRecipes() {
     // Given
+    when(listRecipesUseCase.findCollectionVersion()).thenReturn(new CollectionVersion(0, 0, null));
     when(listRecipesUseCase.execute()).thenReturn(List.of());
 
     // When
-    List<RecipeDto> response = recipeController.listRecipes();
+    List<RecipeDto> response = recipeController.listRecipes(new HttpHeaders()).getBody();
 
     // Then
     assertNotNull(response);
@@ -67,10 +100,11 @@ class RecipeControllerTest {
   @Test
   void shouldReturnRecipesWithCorrectData() {
     // Given
+    when(listRecipesUseCase.findCollectionVersion()).thenReturn(collectionVersion);
     when(listRecipesUseCase.execute()).thenReturn(mockRecipes);
 
     // When
-    List<RecipeDto> response = recipeController.listRecipes();
+    List<RecipeDto> response = recipeController.listRecipes(new HttpHeaders()).getBody();
 
     // Then
     RecipeDto cakeDto = response.get(0);
@@ -83,4 +117,103 @@ class RecipeControllerTest {
     assertEquals("Bread", breadDto.name());
     assertEquals(1, breadDto.ingredients().size());
   }
+
+  @Test
+  void shouldReturnPageOfRecipes_whenLimitIsGiven() {
+    // Given
+    PageRequest<RecipeSort> request = PageRequest.of(RecipeSort.UPDATED_AT, SortDirection.DESC, null, 2);
+    when(listRecipesUseCase.findCollectionVersion()).thenReturn(collectionVersion);
+    when(listRecipesUseCase.execute(request)).thenReturn(new CursorPage<>(mockRecipes, "next-token"));
+
+    // When
+    CursorPage<RecipeDto> response = recipeController
+        .listRecipesPage(2, null, RecipeSort.UPDATED_AT, SortDirection.DESC, new HttpHeaders())
+        .getBody();
+
+    // Then
+    assertEquals(2, response.items().size());
+    assertEquals("next-token", response.nextCursor());
+    verify(listRecipesUseCase, never()).execute();
+  }
+
+  @Test
+  void shouldAnswerNotModified_whenPageIsRequestedWithCurrentListingETag() {
+    // Given
+    when(listRecipesUseCase.findCollectionVersion()).thenReturn(collectionVersion);
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfNoneMatch("W/\"2-0-1741608000000000\"");
+
+    // When
+    ResponseEntity<CursorPage<RecipeDto>> response =
+        recipeController.listRecipesPage(2, null, RecipeSort.NAME, SortDirection.ASC, headers);
+
+    // Then
+    assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    assertNull(response.getBody());
+    verify(listRecipesUseCase, never()).execute(any(PageRequest.class));
+  }
+
+  @Test
+  void shouldStreamRecipesAsNdjson() throws Exception {
+    // Given
+    ExportRecipesUseCase exportRecipesUseCase = mock(ExportRecipesUseCase.class);
+    RecipeController controller = new RecipeController(
+        null, listRecipesUseCase, null, null, exportRecipesUseCase, null, null, null, null, null, new ObjectMapper(),
+        Duration.ofMinutes(30));
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    AsyncWebRequest asyncWebRequest = mock(AsyncWebRequest.class);
+    WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncWebRequest);
+    doAnswer(invocation -> {
+      Consumer<RecipeDto> sink = invocation.getArgument(0);
+      mockRecipes.forEach(sink);
+      return null;
+    }).when(exportRecipesUseCase).execute(any());
+
+    // When
+    ResponseEntity<StreamingResponseBody> response = controller.exportRecipes(request);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    response.getBody().writeTo(out);
+
+    // Then
+    assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, lines.length);
+    assertTrue(lines[0].contains("\"id\":\"cake-id\""));
+    assertTrue(lines[1].contains("\"id\":\"bread-id\""));
+    verify(asyncWebRequest).setTimeout(Duration.ofMinutes(30).toMillis());
+    verify(listRecipesUseCase, never()).execute();
+  }
+
+  @Test
+  void shouldReturnRecipeCostBreakdown() {
+    // Given
+    RecipeCostDto cost = new RecipeCostDto(
+        "cake-id",
+        "Chocolate Cake",
+        List.of(new IngredientCostDto("flour-id", "Flour", 100.0, Unit.G, new BigDecimal("0.50"))),
+        new BigDecimal("0.50"));
+    when(calculateRecipeCostUseCase.execute("cake-id")).thenReturn(cost);
+
+    // When
+    RecipeCostDto response = recipeController.getRecipeCost("cake-id");
+
+    // Then
+    assertEquals("cake-id", response.getRecipeId());
+    assertEquals(1, response.getIngredientCosts().size());
+    assertEquals(new BigDecimal("0.50"), response.getTotalCost());
+  }
+
+  @Test
+  void shouldDelegateBatchCostCalculation() {
+    // Given
+    RecipeCostBatchDto batch = new RecipeCostBatchDto(List.of(), List.of("ghost-id"));
+    when(calculateRecipeCostsBatchUseCase.execute(List.of("ghost-id"))).thenReturn(batch);
+
+    // When
+    RecipeCostBatchDto response = recipeController.calculateRecipeCosts(new RecipeCostBatchRequest(List.of("ghost-id")));
+
+    // Then
+    assertEquals(List.of("ghost-id"), response.missingRecipeIds());
+    verify(calculateRecipeCostsBatchUseCase).execute(List.of("ghost-id"));
+  }
 }
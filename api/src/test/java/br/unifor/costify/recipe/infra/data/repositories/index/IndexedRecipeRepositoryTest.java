@@ -0,0 +1,222 @@
+package br.unifor.costify.recipe.infra.data.repositories.index;
+
+import br.unifor.costify.TestIds;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.events.RecipesImportedEvent;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.infra.data.repositories.postgres.PostgresRecipeRepository;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import br.unifor.costify.shared.infra.events.TransactionalDomainEventWrapper;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class IndexedRecipeRepositoryTest {
+
+  @Mock private PostgresRecipeRepository delegate;
+
+  private IndexedRecipeRepository repository;
+
+  private final Id flourId = TestIds.of("flour-id");
+  private final Id eggsId = TestIds.of("eggs-id");
+  private final Id milkId = TestIds.of("milk-id");
+
+  @BeforeEach
+  void setUp() {
+    repository = new IndexedRecipeRepository(delegate, Duration.ZERO);
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.destroy();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  private Recipe recipe(String id, Id... ingredientIds) {
+    List<RecipeIngredient> ingredients = Arrays.stream(ingredientIds)
+        .map(ingredientId -> new RecipeIngredient(ingredientId, 100.0, Unit.G))
+        .toList();
+    return new Recipe(TestIds.of(id), "Recipe " + id, ingredients, Money.zero());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenStoredUsages(String... recipeAndIngredientIds) {
+    doAnswer(invocation -> {
+      BiConsumer<Id, Id> consumer = invocation.getArgument(0);
+      for (int i = 0; i < recipeAndIngredientIds.length; i += 2) {
+        consumer.accept(TestIds.of(recipeAndIngredientIds[i]), TestIds.of(recipeAndIngredientIds[i + 1]));
+      }
+      return null;
+    }).when(delegate).forEachIngredientUsage(any(BiConsumer.class));
+  }
+
+  @Test
+  void countByIngredientId_shouldFallBackToDatabaseUntilIndexIsBuilt() {
+    // Given
+    when(delegate.countByIngredientId(flourId)).thenReturn(1);
+
+    // When
+    int count = repository.countByIngredientId(flourId);
+
+    // Then
+    assertEquals(1, count);
+    verify(delegate).countByIngredientId(flourId);
+  }
+
+  @Test
+  void countByIngredientId_shouldBeAnsweredFromIndexAfterRebuild() {
+    // Given
+    givenStoredUsages("cake", "flour-id", "cake", "eggs-id", "bread", "flour-id");
+
+    // When
+    repository.rebuild();
+
+    // Then
+    assertEquals(2, repository.countByIngredientId(flourId));
+    assertEquals(1, repository.countByIngredientId(eggsId));
+    assertEquals(0, repository.countByIngredientId(milkId));
+    verify(delegate, never()).countByIngredientId(any());
+  }
+
+  @Test
+  void recalculationLookups_shouldSeeRecipeWrittenOutsideIndex() {
+    // Given - bread was written by another instance after the index was built
+    givenStoredUsages("cake", "flour-id");
+    repository.rebuild();
+    List<Recipe> recipes = List.of(recipe("cake", flourId), recipe("bread", flourId, milkId));
+    when(delegate.findByIngredientId(flourId)).thenReturn(recipes);
+    when(delegate.findIdsByIngredientId(milkId)).thenReturn(List.of(TestIds.of("bread")));
+    when(delegate.recalculateTotalCostsByIngredientIds(List.of(milkId))).thenReturn(1);
+
+    // When
+    List<Recipe> found = repository.findByIngredientId(flourId);
+    List<Id> recipeIds = repository.findIdsByIngredientId(milkId);
+    int updated = repository.recalculateTotalCostsByIngredientIds(List.of(milkId));
+
+    // Then
+    assertEquals(recipes, found);
+    assertEquals(List.of(TestIds.of("bread")), recipeIds);
+    assertEquals(1, updated);
+    assertEquals(0, repository.countByIngredientId(milkId));
+  }
+
+  @Test
+  void save_shouldMoveRecipeToItsNewIngredients() {
+    // Given
+    givenStoredUsages("cake", "flour-id", "cake", "eggs-id");
+    repository.rebuild();
+    Recipe changed = recipe("cake", eggsId, milkId);
+    when(delegate.save(changed)).thenReturn(changed);
+
+    // When
+    repository.save(changed);
+
+    // Then
+    assertEquals(0, repository.countByIngredientId(flourId));
+    assertEquals(1, repository.countByIngredientId(eggsId));
+    assertEquals(1, repository.countByIngredientId(milkId));
+  }
+
+  @Test
+  void onRecipesImported_shouldAddImportedRecipes() {
+    // Given
+    givenStoredUsages("cake", "flour-id");
+    repository.rebuild();
+    RecipesImportedEvent event = new RecipesImportedEvent(Map.of(
+        TestIds.of("bread"), List.of(flourId),
+        TestIds.of("pancakes"), List.of(flourId, milkId)));
+
+    // When
+    repository.onRecipesImported(new TransactionalDomainEventWrapper(event));
+
+    // Then
+    assertEquals(3, repository.countByIngredientId(flourId));
+    assertEquals(1, repository.countByIngredientId(milkId));
+  }
+
+  @Test
+  void deleteById_shouldRemoveRecipeFromIndex() {
+    // Given
+    givenStoredUsages("cake", "flour-id", "bread", "flour-id");
+    repository.rebuild();
+
+    // When
+    repository.deleteById(TestIds.of("cake"));
+
+    // Then
+    verify(delegate).deleteById(TestIds.of("cake"));
+    assertEquals(1, repository.countByIngredientId(flourId));
+  }
+
+  @Test
+  void save_shouldUpdateIndexOnlyAfterCommit() {
+    // Given
+    givenStoredUsages("cake", "flour-id");
+    repository.rebuild();
+    Recipe bread = recipe("bread", flourId);
+    when(delegate.save(bread)).thenReturn(bread);
+    TransactionSynchronizationManager.initSynchronization();
+
+    // When
+    repository.save(bread);
+
+    // Then
+    assertEquals(1, repository.countByIngredientId(flourId));
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    assertEquals(2, repository.countByIngredientId(flourId));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void rebuild_shouldKeepChangesCommittedWhileReadingDatabase() {
+    // Given - a recipe saved while the rebuild is streaming the old lines
+    Recipe bread = recipe("bread", milkId);
+    when(delegate.save(bread)).thenReturn(bread);
+    doAnswer(invocation -> {
+      BiConsumer<Id, Id> consumer = invocation.getArgument(0);
+      consumer.accept(TestIds.of("bread"), flourId);
+      repository.save(bread);
+      return null;
+    }).when(delegate).forEachIngredientUsage(any(BiConsumer.class));
+
+    // When
+    repository.rebuild();
+
+    // Then
+    assertEquals(0, repository.countByIngredientId(flourId));
+    assertEquals(1, repository.countByIngredientId(milkId));
+  }
+
+  @Test
+  void rebuild_shouldKeepServingFromDatabaseWhenFirstBuildFails() {
+    // Given
+    doThrow(new IllegalStateException("database unavailable"))
+        .when(delegate).forEachIngredientUsage(any());
+    when(delegate.countByIngredientId(flourId)).thenReturn(3);
+
+    // When
+    repository.rebuild();
+
+    // Then
+    assertEquals(3, repository.countByIngredientId(flourId));
+  }
+}
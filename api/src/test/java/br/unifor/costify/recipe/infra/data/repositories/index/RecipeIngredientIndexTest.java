@@ -0,0 +1,78 @@
+package br.unifor.costify.recipe.infra.data.repositories.index;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class RecipeIngredientIndexTest {
+
+  @Test
+  void builder_shouldIndexPairsInAnyOrderWithoutDuplicates() {
+    // Given
+    RecipeIngredientIndex.Builder builder = new RecipeIngredientIndex.Builder();
+    builder.add("bread", "flour");
+    builder.add("cake", "eggs");
+    builder.add("cake", "flour");
+    builder.add("bread", "flour");
+
+    // When
+    RecipeIngredientIndex index = builder.build();
+
+    // Then
+    assertEquals(2, index.size());
+    assertEquals(List.of("bread", "cake"), index.recipeIdsUsing("flour"));
+    assertEquals(List.of("cake"), index.recipeIdsUsing("eggs"));
+    assertEquals(0, index.countRecipesUsing("milk"));
+  }
+
+  @Test
+  void put_shouldReplaceIngredientsOfExistingRecipe() {
+    // Given
+    RecipeIngredientIndex index = new RecipeIngredientIndex();
+    index.put("cake", List.of("flour", "eggs"));
+    index.put("bread", List.of("flour"));
+
+    // When
+    index.put("cake", List.of("eggs", "milk", "milk"));
+
+    // Then
+    assertEquals(2, index.size());
+    assertEquals(List.of("bread"), index.recipeIdsUsing("flour"));
+    assertEquals(List.of("cake"), index.recipeIdsUsing("eggs"));
+    assertEquals(1, index.countRecipesUsing("milk"));
+  }
+
+  @Test
+  void remove_shouldDropRecipeFromEveryIngredient() {
+    // Given
+    RecipeIngredientIndex index = new RecipeIngredientIndex();
+    index.put("cake", List.of("flour", "eggs"));
+    index.put("bread", List.of("flour"));
+
+    // When
+    index.remove("cake");
+    index.remove("unknown");
+
+    // Then
+    assertEquals(1, index.size());
+    assertEquals(List.of("bread"), index.recipeIdsUsing("flour"));
+    assertTrue(index.recipeIdsUsing("eggs").isEmpty());
+  }
+
+  @Test
+  void put_shouldGrowPastInitialCapacity() {
+    // Given
+    RecipeIngredientIndex index = new RecipeIngredientIndex();
+
+    // When
+    for (int i = 0; i < 100; i++) {
+      index.put("recipe-" + i, List.of("ingredient-" + i, "salt"));
+    }
+
+    // Then
+    assertEquals(100, index.size());
+    assertEquals(100, index.countRecipesUsing("salt"));
+    assertEquals(List.of("recipe-42"), index.recipeIdsUsing("ingredient-42"));
+  }
+}
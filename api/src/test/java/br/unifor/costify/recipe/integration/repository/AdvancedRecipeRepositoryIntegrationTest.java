@@ -1,8 +1,12 @@
 package br.unifor.costify.recipe.integration.repository;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.TestcontainersConfiguration;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
 import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.recipe.domain.valueobject.RecipeDependency;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
 import br.unifor.costify.shared.domain.valueobject.Id;
 import br.unifor.costify.shared.domain.valueobject.Money;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
@@ -17,9 +21,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest
 @Import(TestcontainersConfiguration.class)
@@ -30,6 +42,8 @@ class AdvancedRecipeRepositoryIntegrationTest {
 
   @Autowired private JpaRecipeRepository jpaRecipeRepository;
   @Autowired private JpaIngredientRepository jpaIngredientRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private RecipeCostCalculationService costCalculationService;
 
   @AfterEach
   void cleanup() {
@@ -46,26 +60,26 @@ class AdvancedRecipeRepositoryIntegrationTest {
   
   private void createAdvancedTestIngredients() {
     // Create a variety of ingredients for complex recipe testing
-    ingredientRepository.save(new Ingredient(Id.of("premium-flour"), "Premium Flour", 1000.0, Money.of(5.50), Unit.G));
-    ingredientRepository.save(new Ingredient(Id.of("organic-sugar"), "Organic Sugar", 1000.0, Money.of(6.00), Unit.G));
-    ingredientRepository.save(new Ingredient(Id.of("farm-eggs"), "Farm Fresh Eggs", 12.0, Money.of(8.00), Unit.UN));
-    ingredientRepository.save(new Ingredient(Id.of("whole-milk"), "Whole Milk", 1000.0, Money.of(3.50), Unit.ML));
-    ingredientRepository.save(new Ingredient(Id.of("vanilla-extract"), "Pure Vanilla Extract", 50.0, Money.of(12.00), Unit.ML));
-    ingredientRepository.save(new Ingredient(Id.of("butter"), "Unsalted Butter", 500.0, Money.of(7.50), Unit.G));
-    ingredientRepository.save(new Ingredient(Id.of("baking-powder"), "Baking Powder", 200.0, Money.of(4.50), Unit.G));
-    ingredientRepository.save(new Ingredient(Id.of("cocoa-powder"), "Dutch Cocoa Powder", 250.0, Money.of(9.50), Unit.G));
+    ingredientRepository.save(new Ingredient(TestIds.of("premium-flour"), "Premium Flour", 1000.0, Money.of(5.50), Unit.G));
+    ingredientRepository.save(new Ingredient(TestIds.of("organic-sugar"), "Organic Sugar", 1000.0, Money.of(6.00), Unit.G));
+    ingredientRepository.save(new Ingredient(TestIds.of("farm-eggs"), "Farm Fresh Eggs", 12.0, Money.of(8.00), Unit.UN));
+    ingredientRepository.save(new Ingredient(TestIds.of("whole-milk"), "Whole Milk", 1000.0, Money.of(3.50), Unit.ML));
+    ingredientRepository.save(new Ingredient(TestIds.of("vanilla-extract"), "Pure Vanilla Extract", 50.0, Money.of(12.00), Unit.ML));
+    ingredientRepository.save(new Ingredient(TestIds.of("butter"), "Unsalted Butter", 500.0, Money.of(7.50), Unit.G));
+    ingredientRepository.save(new Ingredient(TestIds.of("baking-powder"), "Baking Powder", 200.0, Money.of(4.50), Unit.G));
+    ingredientRepository.save(new Ingredient(TestIds.of("cocoa-powder"), "Dutch Cocoa Powder", 250.0, Money.of(9.50), Unit.G));
   }
 
   @Test
   void save_shouldUpdateExistingRecipe_whenImmutableEntityIsReplaced() {
     // Given - save initial recipe
     List<RecipeIngredient> originalIngredients = List.of(
-        new RecipeIngredient(Id.of("premium-flour"), 500.0, Unit.G),
-        new RecipeIngredient(Id.of("farm-eggs"), 2.0, Unit.UN)
+        new RecipeIngredient(TestIds.of("premium-flour"), 500.0, Unit.G),
+        new RecipeIngredient(TestIds.of("farm-eggs"), 2.0, Unit.UN)
     );
     
     Recipe testRecipe = new Recipe(
-        Id.of("update-test-recipe"),
+        TestIds.of("update-test-recipe"),
         "Original Cake",
         originalIngredients,
         Money.of(15.50)
@@ -74,9 +88,9 @@ class AdvancedRecipeRepositoryIntegrationTest {
 
     // When - create new immutable entity with same ID but different values
     List<RecipeIngredient> updatedIngredients = List.of(
-        new RecipeIngredient(Id.of("organic-sugar"), 300.0, Unit.G),
-        new RecipeIngredient(Id.of("whole-milk"), 250.0, Unit.ML),
-        new RecipeIngredient(Id.of("vanilla-extract"), 5.0, Unit.ML)
+        new RecipeIngredient(TestIds.of("organic-sugar"), 300.0, Unit.G),
+        new RecipeIngredient(TestIds.of("whole-milk"), 250.0, Unit.ML),
+        new RecipeIngredient(TestIds.of("vanilla-extract"), 5.0, Unit.ML)
     );
     
     Recipe updatedRecipe = new Recipe(
@@ -95,9 +109,9 @@ class AdvancedRecipeRepositoryIntegrationTest {
 
     // Verify ingredients were updated
     List<RecipeIngredient> savedIngredients = saved.getIngredients();
-    assert savedIngredients.stream().anyMatch(ri -> ri.getIngredientId().getValue().equals("organic-sugar"));
-    assert savedIngredients.stream().anyMatch(ri -> ri.getIngredientId().getValue().equals("whole-milk"));
-    assert savedIngredients.stream().anyMatch(ri -> ri.getIngredientId().getValue().equals("vanilla-extract"));
+    assert savedIngredients.stream().anyMatch(ri -> ri.getIngredientId().equals(TestIds.of("organic-sugar")));
+    assert savedIngredients.stream().anyMatch(ri -> ri.getIngredientId().equals(TestIds.of("whole-milk")));
+    assert savedIngredients.stream().anyMatch(ri -> ri.getIngredientId().equals(TestIds.of("vanilla-extract")));
 
     // Verify in database
     Optional<Recipe> found = recipeRepository.findById(testRecipe.getId());
@@ -112,15 +126,15 @@ class AdvancedRecipeRepositoryIntegrationTest {
   void save_shouldHandleDifferentIngredientUnits() {
     // Test with recipe using different units
     List<RecipeIngredient> mixedIngredients = List.of(
-        new RecipeIngredient(Id.of("premium-flour"), 250.0, Unit.G),
-        new RecipeIngredient(Id.of("whole-milk"), 500.0, Unit.ML),
-        new RecipeIngredient(Id.of("organic-sugar"), 200.0, Unit.G),
-        new RecipeIngredient(Id.of("farm-eggs"), 3.0, Unit.UN),
-        new RecipeIngredient(Id.of("vanilla-extract"), 10.0, Unit.ML)
+        new RecipeIngredient(TestIds.of("premium-flour"), 250.0, Unit.G),
+        new RecipeIngredient(TestIds.of("whole-milk"), 500.0, Unit.ML),
+        new RecipeIngredient(TestIds.of("organic-sugar"), 200.0, Unit.G),
+        new RecipeIngredient(TestIds.of("farm-eggs"), 3.0, Unit.UN),
+        new RecipeIngredient(TestIds.of("vanilla-extract"), 10.0, Unit.ML)
     );
 
     Recipe mixedUnitsRecipe = new Recipe(
-        Id.of("mixed-units-recipe"),
+        TestIds.of("mixed-units-recipe"),
         "Mixed Units Cake",
         mixedIngredients,
         Money.of(18.90)
@@ -131,29 +145,29 @@ class AdvancedRecipeRepositoryIntegrationTest {
 
     // Verify units are preserved
     List<RecipeIngredient> savedIngredients = saved.getIngredients();
-    assert savedIngredients.stream().anyMatch(ri -> ri.getUnit() == Unit.G && ri.getIngredientId().getValue().equals("premium-flour"));
-    assert savedIngredients.stream().anyMatch(ri -> ri.getUnit() == Unit.ML && ri.getIngredientId().getValue().equals("whole-milk"));
-    assert savedIngredients.stream().anyMatch(ri -> ri.getUnit() == Unit.G && ri.getIngredientId().getValue().equals("organic-sugar"));
-    assert savedIngredients.stream().anyMatch(ri -> ri.getUnit() == Unit.UN && ri.getIngredientId().getValue().equals("farm-eggs"));
-    assert savedIngredients.stream().anyMatch(ri -> ri.getUnit() == Unit.ML && ri.getIngredientId().getValue().equals("vanilla-extract"));
+    assert savedIngredients.stream().anyMatch(ri -> ri.getUnit() == Unit.G && ri.getIngredientId().equals(TestIds.of("premium-flour")));
+    assert savedIngredients.stream().anyMatch(ri -> ri.getUnit() == Unit.ML && ri.getIngredientId().equals(TestIds.of("whole-milk")));
+    assert savedIngredients.stream().anyMatch(ri -> ri.getUnit() == Unit.G && ri.getIngredientId().equals(TestIds.of("organic-sugar")));
+    assert savedIngredients.stream().anyMatch(ri -> ri.getUnit() == Unit.UN && ri.getIngredientId().equals(TestIds.of("farm-eggs")));
+    assert savedIngredients.stream().anyMatch(ri -> ri.getUnit() == Unit.ML && ri.getIngredientId().equals(TestIds.of("vanilla-extract")));
   }
 
   @Test
   void save_shouldHandleManyIngredients() {
     // Given - recipe with many ingredients (complex recipe)
     List<RecipeIngredient> manyIngredients = List.of(
-        new RecipeIngredient(Id.of("premium-flour"), 300.0, Unit.G),
-        new RecipeIngredient(Id.of("organic-sugar"), 250.0, Unit.G),
-        new RecipeIngredient(Id.of("farm-eggs"), 4.0, Unit.UN),
-        new RecipeIngredient(Id.of("whole-milk"), 400.0, Unit.ML),
-        new RecipeIngredient(Id.of("vanilla-extract"), 15.0, Unit.ML),
-        new RecipeIngredient(Id.of("butter"), 200.0, Unit.G),
-        new RecipeIngredient(Id.of("baking-powder"), 10.0, Unit.G),
-        new RecipeIngredient(Id.of("cocoa-powder"), 50.0, Unit.G)
+        new RecipeIngredient(TestIds.of("premium-flour"), 300.0, Unit.G),
+        new RecipeIngredient(TestIds.of("organic-sugar"), 250.0, Unit.G),
+        new RecipeIngredient(TestIds.of("farm-eggs"), 4.0, Unit.UN),
+        new RecipeIngredient(TestIds.of("whole-milk"), 400.0, Unit.ML),
+        new RecipeIngredient(TestIds.of("vanilla-extract"), 15.0, Unit.ML),
+        new RecipeIngredient(TestIds.of("butter"), 200.0, Unit.G),
+        new RecipeIngredient(TestIds.of("baking-powder"), 10.0, Unit.G),
+        new RecipeIngredient(TestIds.of("cocoa-powder"), 50.0, Unit.G)
     );
     
     Recipe complexRecipe = new Recipe(
-        Id.of("complex-recipe"),
+        TestIds.of("complex-recipe"),
         "Complex Chocolate Cake with Many Ingredients",
         manyIngredients,
         Money.of(45.50)
@@ -166,28 +180,28 @@ class AdvancedRecipeRepositoryIntegrationTest {
     assert saved.getIngredients().size() == 8;
     
     // Verify from database
-    var found = recipeRepository.findById(Id.of("complex-recipe"));
+    var found = recipeRepository.findById(TestIds.of("complex-recipe"));
     assert found.isPresent();
     assert found.get().getIngredients().size() == 8;
     
     // Verify specific ingredients are preserved
     List<RecipeIngredient> foundIngredients = found.get().getIngredients();
-    assert foundIngredients.stream().anyMatch(ri -> ri.getIngredientId().getValue().equals("premium-flour"));
-    assert foundIngredients.stream().anyMatch(ri -> ri.getIngredientId().getValue().equals("cocoa-powder"));
-    assert foundIngredients.stream().anyMatch(ri -> ri.getIngredientId().getValue().equals("baking-powder"));
+    assert foundIngredients.stream().anyMatch(ri -> ri.getIngredientId().equals(TestIds.of("premium-flour")));
+    assert foundIngredients.stream().anyMatch(ri -> ri.getIngredientId().equals(TestIds.of("cocoa-powder")));
+    assert foundIngredients.stream().anyMatch(ri -> ri.getIngredientId().equals(TestIds.of("baking-powder")));
   }
 
   @Test
   void save_shouldHandlePreciseQuantitiesAndCosts() {
     // Given - recipe with precise values
     List<RecipeIngredient> preciseIngredients = List.of(
-        new RecipeIngredient(Id.of("vanilla-extract"), 2.5, Unit.ML),
-        new RecipeIngredient(Id.of("baking-powder"), 7.25, Unit.G),
-        new RecipeIngredient(Id.of("premium-flour"), 123.456, Unit.G)
+        new RecipeIngredient(TestIds.of("vanilla-extract"), 2.5, Unit.ML),
+        new RecipeIngredient(TestIds.of("baking-powder"), 7.25, Unit.G),
+        new RecipeIngredient(TestIds.of("premium-flour"), 123.456, Unit.G)
     );
 
     Recipe preciseRecipe = new Recipe(
-        Id.of("precise-recipe"),
+        TestIds.of("precise-recipe"),
         "Precise Recipe",
         preciseIngredients,
         Money.of(12.99) // Precise cost
@@ -202,19 +216,19 @@ class AdvancedRecipeRepositoryIntegrationTest {
     // Check individual ingredient precision
     List<RecipeIngredient> savedIngredients = saved.getIngredients();
     Optional<RecipeIngredient> vanillaIngredient = savedIngredients.stream()
-        .filter(ri -> ri.getIngredientId().getValue().equals("vanilla-extract"))
+        .filter(ri -> ri.getIngredientId().equals(TestIds.of("vanilla-extract")))
         .findFirst();
     assert vanillaIngredient.isPresent();
     assert vanillaIngredient.get().getQuantity() == 2.5;
     
     Optional<RecipeIngredient> bakingPowderIngredient = savedIngredients.stream()
-        .filter(ri -> ri.getIngredientId().getValue().equals("baking-powder"))
+        .filter(ri -> ri.getIngredientId().equals(TestIds.of("baking-powder")))
         .findFirst();
     assert bakingPowderIngredient.isPresent();
     assert bakingPowderIngredient.get().getQuantity() == 7.25;
     
     Optional<RecipeIngredient> flourIngredient = savedIngredients.stream()
-        .filter(ri -> ri.getIngredientId().getValue().equals("premium-flour"))
+        .filter(ri -> ri.getIngredientId().equals(TestIds.of("premium-flour")))
         .findFirst();
     assert flourIngredient.isPresent();
     assert flourIngredient.get().getQuantity() == 123.456;
@@ -224,7 +238,7 @@ class AdvancedRecipeRepositoryIntegrationTest {
     assert found.isPresent();
     assert found.get().getTotalCost().doubleValue() == 12.99;
     assert found.get().getIngredients().stream()
-        .filter(ri -> ri.getIngredientId().getValue().equals("premium-flour"))
+        .filter(ri -> ri.getIngredientId().equals(TestIds.of("premium-flour")))
         .findFirst().get().getQuantity() == 123.456;
   }
 
@@ -232,11 +246,11 @@ class AdvancedRecipeRepositoryIntegrationTest {
   void save_shouldHandleRecipeWithSingleExpensiveIngredient() {
     // Given - recipe with single expensive ingredient
     List<RecipeIngredient> singleExpensiveIngredient = List.of(
-        new RecipeIngredient(Id.of("vanilla-extract"), 25.0, Unit.ML) // Expensive extract
+        new RecipeIngredient(TestIds.of("vanilla-extract"), 25.0, Unit.ML) // Expensive extract
     );
 
     Recipe expensiveSimpleRecipe = new Recipe(
-        Id.of("expensive-simple-recipe"),
+        TestIds.of("expensive-simple-recipe"),
         "Premium Vanilla Recipe",
         singleExpensiveIngredient,
         Money.of(30.00) // High cost due to premium ingredient
@@ -247,7 +261,7 @@ class AdvancedRecipeRepositoryIntegrationTest {
 
     // Then
     assert saved.getIngredients().size() == 1;
-    assert saved.getIngredients().get(0).getIngredientId().getValue().equals("vanilla-extract");
+    assert saved.getIngredients().get(0).getIngredientId().equals(TestIds.of("vanilla-extract"));
     assert saved.getIngredients().get(0).getQuantity() == 25.0;
     assert saved.getIngredients().get(0).getUnit() == Unit.ML;
     assert saved.getTotalCost().doubleValue() == 30.00;
@@ -257,11 +271,11 @@ class AdvancedRecipeRepositoryIntegrationTest {
   void existsByName_shouldBeCaseExactMatch() {
     // Given
     List<RecipeIngredient> ingredients = List.of(
-        new RecipeIngredient(Id.of("premium-flour"), 200.0, Unit.G)
+        new RecipeIngredient(TestIds.of("premium-flour"), 200.0, Unit.G)
     );
     
     Recipe testRecipe = new Recipe(
-        Id.of("case-test-recipe"),
+        TestIds.of("case-test-recipe"),
         "Chocolate Cake Supreme", // Specific case
         ingredients,
         Money.of(12.50)
@@ -281,15 +295,15 @@ class AdvancedRecipeRepositoryIntegrationTest {
   void save_shouldMaintainIngredientOrderConsistently() {
     // Given - recipe with ingredients in specific order
     List<RecipeIngredient> orderedIngredients = List.of(
-        new RecipeIngredient(Id.of("premium-flour"), 300.0, Unit.G),     // 1st
-        new RecipeIngredient(Id.of("organic-sugar"), 200.0, Unit.G),     // 2nd  
-        new RecipeIngredient(Id.of("farm-eggs"), 3.0, Unit.UN),          // 3rd
-        new RecipeIngredient(Id.of("whole-milk"), 250.0, Unit.ML),       // 4th
-        new RecipeIngredient(Id.of("vanilla-extract"), 5.0, Unit.ML)     // 5th
+        new RecipeIngredient(TestIds.of("premium-flour"), 300.0, Unit.G),     // 1st
+        new RecipeIngredient(TestIds.of("organic-sugar"), 200.0, Unit.G),     // 2nd  
+        new RecipeIngredient(TestIds.of("farm-eggs"), 3.0, Unit.UN),          // 3rd
+        new RecipeIngredient(TestIds.of("whole-milk"), 250.0, Unit.ML),       // 4th
+        new RecipeIngredient(TestIds.of("vanilla-extract"), 5.0, Unit.ML)     // 5th
     );
 
     Recipe orderedRecipe = new Recipe(
-        Id.of("ordered-recipe"),
+        TestIds.of("ordered-recipe"),
         "Ordered Ingredients Recipe",
         orderedIngredients,
         Money.of(22.75)
@@ -300,14 +314,305 @@ class AdvancedRecipeRepositoryIntegrationTest {
 
     // Then - verify all ingredients are present (order may vary due to database)
     assert saved.getIngredients().size() == 5;
-    List<String> savedIngredientIds = saved.getIngredients().stream()
-        .map(ri -> ri.getIngredientId().getValue())
+    List<Id> savedIngredientIds = saved.getIngredients().stream()
+        .map(RecipeIngredient::getIngredientId)
         .toList();
     
-    assert savedIngredientIds.contains("premium-flour");
-    assert savedIngredientIds.contains("organic-sugar");
-    assert savedIngredientIds.contains("farm-eggs");
-    assert savedIngredientIds.contains("whole-milk");
-    assert savedIngredientIds.contains("vanilla-extract");
+    assert savedIngredientIds.contains(TestIds.of("premium-flour"));
+    assert savedIngredientIds.contains(TestIds.of("organic-sugar"));
+    assert savedIngredientIds.contains(TestIds.of("farm-eggs"));
+    assert savedIngredientIds.contains(TestIds.of("whole-milk"));
+    assert savedIngredientIds.contains(TestIds.of("vanilla-extract"));
+  }
+
+  @Test
+  void recalculateTotalCostsByIngredientId_shouldUpdateAffectedRecipesInDatabase() {
+    // Given - 0.5kg flour ($2.75) + 2 eggs ($1.333...) = $4.08, stored with a stale total
+    recipeRepository.save(new Recipe(
+        TestIds.of("set-based-recipe"),
+        "Set Based Cake",
+        List.of(
+            new RecipeIngredient(TestIds.of("premium-flour"), 0.5, Unit.KG),
+            new RecipeIngredient(TestIds.of("farm-eggs"), 2.0, Unit.UN)
+        ),
+        Money.of(1.00)
+    ));
+    recipeRepository.save(new Recipe(
+        TestIds.of("unrelated-recipe"),
+        "Unrelated Drink",
+        List.of(new RecipeIngredient(TestIds.of("whole-milk"), 250.0, Unit.ML)),
+        Money.of(1.00)
+    ));
+
+    // When
+    int updated = recipeRepository.recalculateTotalCostsByIngredientId(TestIds.of("premium-flour"));
+
+    // Then
+    assert updated == 1;
+    assert recipeRepository.findById(TestIds.of("set-based-recipe")).orElseThrow()
+        .getTotalCost().equals(Money.of(4.08));
+    assert recipeRepository.findById(TestIds.of("unrelated-recipe")).orElseThrow()
+        .getTotalCost().equals(Money.of(1.00));
+
+    // Running again changes nothing
+    assert recipeRepository.recalculateTotalCostsByIngredientId(TestIds.of("premium-flour")) == 0;
+  }
+
+  @Test
+  void recalculateTotalCostsByIngredientId_shouldRoundLikePerRecipeCalculationAtHalfCent() {
+    // Given - three lines of $0.333333333... (each rounded down to micro-cents) plus one of $0.005:
+    // the unrounded sum is exactly $1.005, the sum of rounded lines is just below it
+    List<Ingredient> ingredients = List.of(
+        new Ingredient(TestIds.of("third-a"), "Third A", 3.0, Money.of(1.00), Unit.UN),
+        new Ingredient(TestIds.of("third-b"), "Third B", 3.0, Money.of(1.00), Unit.UN),
+        new Ingredient(TestIds.of("third-c"), "Third C", 3.0, Money.of(1.00), Unit.UN),
+        new Ingredient(TestIds.of("half-cent"), "Half Cent", 2.0, Money.of(0.01), Unit.UN));
+    ingredients.forEach(ingredientRepository::save);
+    Recipe recipe = recipeRepository.save(new Recipe(
+        TestIds.of("boundary-recipe"),
+        "Boundary Mix",
+        ingredients.stream()
+            .map(ingredient -> new RecipeIngredient(ingredient.getId(), 1.0, Unit.UN))
+            .toList(),
+        Money.of(9.99)
+    ));
+    Money perRecipeTotal = costCalculationService.calculateTotalCost(
+        recipe,
+        ingredients.stream().collect(Collectors.toMap(Ingredient::getId, ingredient -> ingredient)),
+        Map.of());
+
+    // When
+    int updated = recipeRepository.recalculateTotalCostsByIngredientId(TestIds.of("half-cent"));
+
+    // Then
+    assert updated == 1;
+    assert perRecipeTotal.equals(Money.of(1.00));
+    assert recipeRepository.findById(TestIds.of("boundary-recipe")).orElseThrow()
+        .getTotalCost().equals(perRecipeTotal);
+  }
+
+  @Test
+  void save_shouldOnlyRewriteChangedIngredientLines() {
+    // Given
+    recipeRepository.save(new Recipe(
+        TestIds.of("diff-recipe"),
+        "Diff Cake",
+        List.of(
+            new RecipeIngredient(TestIds.of("premium-flour"), 500.0, Unit.G),
+            new RecipeIngredient(TestIds.of("farm-eggs"), 2.0, Unit.UN),
+            new RecipeIngredient(TestIds.of("butter"), 100.0, Unit.G)
+        ),
+        Money.of(10.00)
+    ));
+    Map<UUID, Integer> originalRowIds = ingredientRowIds("diff-recipe");
+
+    // When - keep flour, change eggs, drop butter, add milk
+    recipeRepository.save(new Recipe(
+        TestIds.of("diff-recipe"),
+        "Diff Cake",
+        List.of(
+            new RecipeIngredient(TestIds.of("premium-flour"), 500.0, Unit.G),
+            new RecipeIngredient(TestIds.of("farm-eggs"), 3.0, Unit.UN),
+            new RecipeIngredient(TestIds.of("whole-milk"), 200.0, Unit.ML)
+        ),
+        Money.of(10.00)
+    ));
+
+    // Then - unchanged and changed lines keep their rows
+    Map<UUID, Integer> updatedRowIds = ingredientRowIds("diff-recipe");
+    assert updatedRowIds.size() == 3;
+    assert updatedRowIds.get(TestIds.uuid("premium-flour")).equals(originalRowIds.get(TestIds.uuid("premium-flour")));
+    assert updatedRowIds.get(TestIds.uuid("farm-eggs")).equals(originalRowIds.get(TestIds.uuid("farm-eggs")));
+    assert !updatedRowIds.containsKey(TestIds.uuid("butter"));
+    assert updatedRowIds.containsKey(TestIds.uuid("whole-milk"));
+
+    Recipe reloaded = recipeRepository.findById(TestIds.of("diff-recipe")).orElseThrow();
+    assert reloaded.getIngredients().contains(new RecipeIngredient(TestIds.of("farm-eggs"), 3.0, Unit.UN));
+  }
+
+  @Test
+  void updateTotalCost_shouldOnlyWriteAtExpectedVersion() {
+    // Given
+    recipeRepository.save(new Recipe(
+        TestIds.of("cost-only-recipe"),
+        "Cost Only Cake",
+        List.of(new RecipeIngredient(TestIds.of("premium-flour"), 500.0, Unit.G)),
+        Money.of(2.00)
+    ));
+    Map<UUID, Integer> originalRowIds = ingredientRowIds("cost-only-recipe");
+
+    // When
+    boolean changed = recipeRepository.updateTotalCost(TestIds.of("cost-only-recipe"), 0, Money.of(2.75));
+    boolean changedAtStaleVersion =
+        recipeRepository.updateTotalCost(TestIds.of("cost-only-recipe"), 0, Money.of(3.50));
+
+    // Then
+    assert changed;
+    assert !changedAtStaleVersion;
+    assert !recipeRepository.updateTotalCost(TestIds.of("missing-recipe"), 0, Money.of(2.75));
+    Recipe stored = recipeRepository.findById(TestIds.of("cost-only-recipe")).orElseThrow();
+    assert stored.getTotalCost().equals(Money.of(2.75));
+    assert stored.getVersion() == 1;
+    assert ingredientRowIds("cost-only-recipe").equals(originalRowIds);
+  }
+
+  @Test
+  void save_shouldRejectRecipeReadAtStaleVersion() {
+    // Given
+    Recipe created = recipeRepository.save(new Recipe(
+        TestIds.of("versioned-recipe"),
+        "Versioned Cake",
+        List.of(new RecipeIngredient(TestIds.of("premium-flour"), 500.0, Unit.G)),
+        Money.of(2.00)
+    ));
+    Recipe first = recipeRepository.findById(TestIds.of("versioned-recipe")).orElseThrow();
+    Recipe second = recipeRepository.findById(TestIds.of("versioned-recipe")).orElseThrow();
+
+    // When
+    first.updateIngredients(List.of(new RecipeIngredient(TestIds.of("premium-flour"), 600.0, Unit.G)));
+    Recipe updated = recipeRepository.save(first);
+    second.updateName("Versioned Cake v2");
+
+    // Then
+    assert updated.getVersion() == created.getVersion() + 1;
+    assertThrows(ObjectOptimisticLockingFailureException.class, () -> recipeRepository.save(second));
+    assert recipeRepository.findById(TestIds.of("versioned-recipe")).orElseThrow()
+        .getName().equals("Versioned Cake");
+  }
+
+  @Test
+  void save_shouldRejectIngredientReadAtStaleVersion() {
+    // Given
+    Ingredient first = ingredientRepository.findById(TestIds.of("premium-flour")).orElseThrow();
+    Ingredient second = ingredientRepository.findById(TestIds.of("premium-flour")).orElseThrow();
+
+    // When
+    first.update(first.getName(), first.getPackageQuantity(), Money.of(9.99), first.getPackageUnit());
+    Ingredient updated = ingredientRepository.save(first);
+    second.update(second.getName(), second.getPackageQuantity(), Money.of(1.99), second.getPackageUnit());
+
+    // Then
+    assert updated.getVersion() == first.getVersion() + 1;
+    assertThrows(ObjectOptimisticLockingFailureException.class, () -> ingredientRepository.save(second));
+  }
+
+  @Test
+  void save_shouldNotRewriteLinesWhoseDecimalQuantityIsUnchanged() {
+    // Given - 0.1 has no exact binary representation
+    recipeRepository.save(new Recipe(
+        TestIds.of("dough-recipe"),
+        "Dough",
+        List.of(new RecipeIngredient(TestIds.of("premium-flour"), 0.1, Unit.KG)),
+        Money.of(0.55)
+    ));
+    Recipe pizza = new Recipe(
+        TestIds.of("pizza-recipe"),
+        "Pizza",
+        List.of(new RecipeIngredient(TestIds.of("butter"), 0.1, Unit.KG)),
+        List.of(new SubRecipe(TestIds.of("dough-recipe"), 0.1)),
+        Money.of(1.56),
+        0);
+    recipeRepository.save(pizza);
+    List<String> originalRowVersions = lineRowVersions("pizza-recipe");
+
+    // When - the same recipe is saved again
+    recipeRepository.save(pizza);
+
+    // Then - xmin changes with every UPDATE, so no line was rewritten
+    assert lineRowVersions("pizza-recipe").equals(originalRowVersions);
+  }
+
+  @Test
+  void save_shouldKeepVersionAndUpdatedAtWhenNothingChanged() {
+    // Given
+    Recipe created = recipeRepository.save(new Recipe(
+        TestIds.of("unchanged-recipe"),
+        "Unchanged Cake",
+        List.of(new RecipeIngredient(TestIds.of("premium-flour"), 500.0, Unit.G)),
+        Money.of(2.75)
+    ));
+    Object originalUpdatedAt = jdbcTemplate.queryForObject(
+        "SELECT updated_at FROM recipes WHERE id = ?", Object.class, TestIds.uuid("unchanged-recipe"));
+
+    // When - the stored recipe is saved again as read
+    Recipe saved = recipeRepository.save(recipeRepository.findById(TestIds.of("unchanged-recipe")).orElseThrow());
+
+    // Then
+    assert saved.getVersion() == created.getVersion();
+    assert jdbcTemplate.queryForObject(
+        "SELECT updated_at FROM recipes WHERE id = ?", Object.class, TestIds.uuid("unchanged-recipe"))
+        .equals(originalUpdatedAt);
+  }
+
+  private List<String> lineRowVersions(String recipeName) {
+    return jdbcTemplate.queryForList(
+        "SELECT xmin::text FROM recipe_ingredients WHERE recipe_id = ?"
+            + " UNION ALL SELECT xmin::text FROM recipe_sub_recipes WHERE recipe_id = ?",
+        String.class, TestIds.uuid(recipeName), TestIds.uuid(recipeName));
+  }
+
+  private Map<UUID, Integer> ingredientRowIds(String recipeName) {
+    return jpaRecipeRepository.findById(TestIds.uuid(recipeName)).orElseThrow().ingredients.stream()
+        .collect(Collectors.toMap(line -> line.ingredientId, line -> line.id));
+  }
+
+  @Test
+  void forEach_shouldStreamEveryRecipeWithItsIngredients() {
+    // Given
+    recipeRepository.save(new Recipe(
+        TestIds.of("stream-b"),
+        "Stream B",
+        List.of(
+            new RecipeIngredient(TestIds.of("premium-flour"), 500.0, Unit.G),
+            new RecipeIngredient(TestIds.of("farm-eggs"), 2.0, Unit.UN)
+        ),
+        Money.of(4.08)
+    ));
+    recipeRepository.save(new Recipe(
+        TestIds.of("stream-a"),
+        "Stream A",
+        List.of(new RecipeIngredient(TestIds.of("whole-milk"), 250.0, Unit.ML)),
+        Money.of(0.88)
+    ));
+
+    // When
+    List<Recipe> streamed = new ArrayList<>();
+    recipeRepository.forEach(streamed::add);
+
+    // Then - ordered by ID, each recipe emitted once with all its lines
+    assert streamed.size() == 2;
+    assert streamed.get(0).getId().equals(TestIds.of("stream-a"));
+    assert streamed.get(0).getIngredients().size() == 1;
+    assert streamed.get(1).getId().equals(TestIds.of("stream-b"));
+    assert streamed.get(1).getIngredients().size() == 2;
+    assert streamed.get(1).getTotalCost().equals(Money.of(4.08));
+  }
+
+  @Test
+  void findDependenciesAbove_shouldWalkSubRecipeGraphUpwards() {
+    // Given - top uses mid, which uses base
+    List<RecipeIngredient> flour = List.of(new RecipeIngredient(TestIds.of("premium-flour"), 100.0, Unit.G));
+    recipeRepository.save(new Recipe(TestIds.of("graph-base"), "Graph Base", flour, Money.of(0.55)));
+    recipeRepository.save(new Recipe(TestIds.of("graph-mid"), "Graph Mid", flour,
+        List.of(new SubRecipe(TestIds.of("graph-base"), 2.0)), Money.of(1.65), 0));
+    recipeRepository.save(new Recipe(TestIds.of("graph-top"), "Graph Top", flour,
+        List.of(new SubRecipe(TestIds.of("graph-mid"), 1.0)), Money.of(2.20), 0));
+
+    try {
+      // When
+      List<RecipeDependency> dependencies = recipeRepository.findDependenciesAbove(List.of(TestIds.of("graph-base")));
+
+      // Then
+      assert dependencies.size() == 2;
+      assert dependencies.contains(new RecipeDependency(TestIds.of("graph-mid"), TestIds.of("graph-base")));
+      assert dependencies.contains(new RecipeDependency(TestIds.of("graph-top"), TestIds.of("graph-mid")));
+      assert recipeRepository.findById(TestIds.of("graph-top")).orElseThrow().getSubRecipes().size() == 1;
+      assert recipeRepository.wouldCreateCycle(TestIds.of("graph-base"), List.of(TestIds.of("graph-top")));
+      assert !recipeRepository.wouldCreateCycle(TestIds.of("graph-top"), List.of(TestIds.of("graph-base")));
+    } finally {
+      // A recipe cannot be deleted while another one uses it
+      recipeRepository.deleteById(TestIds.of("graph-top"));
+      recipeRepository.deleteById(TestIds.of("graph-mid"));
+    }
   }
-}
\ No newline at end of file
+}
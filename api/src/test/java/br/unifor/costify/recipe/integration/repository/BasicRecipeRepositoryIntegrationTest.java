@@ -1,5 +1,6 @@
 package br.unifor.costify.recipe.integration.repository;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.TestcontainersConfiguration;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
 import br.unifor.costify.recipe.domain.entity.Recipe;
@@ -46,21 +47,21 @@ class BasicRecipeRepositoryIntegrationTest {
   }
   
   private void createTestIngredients() {
-    ingredientRepository.save(new Ingredient(Id.of("flour-ingredient"), "Flour", 1000.0, Money.of(3.50), Unit.G));
-    ingredientRepository.save(new Ingredient(Id.of("egg-ingredient"), "Eggs", 12.0, Money.of(4.80), Unit.UN));
-    ingredientRepository.save(new Ingredient(Id.of("milk-ingredient"), "Milk", 1000.0, Money.of(2.50), Unit.ML));
+    ingredientRepository.save(new Ingredient(TestIds.of("flour-ingredient"), "Flour", 1000.0, Money.of(3.50), Unit.G));
+    ingredientRepository.save(new Ingredient(TestIds.of("egg-ingredient"), "Eggs", 12.0, Money.of(4.80), Unit.UN));
+    ingredientRepository.save(new Ingredient(TestIds.of("milk-ingredient"), "Milk", 1000.0, Money.of(2.50), Unit.ML));
   }
 
   @Test
   void save_shouldPersistBasicRecipeToDatabase() {
     // Given
     List<RecipeIngredient> ingredients = List.of(
-        new RecipeIngredient(Id.of("flour-ingredient"), 500.0, Unit.G),
-        new RecipeIngredient(Id.of("egg-ingredient"), 2.0, Unit.UN)
+        new RecipeIngredient(TestIds.of("flour-ingredient"), 500.0, Unit.G),
+        new RecipeIngredient(TestIds.of("egg-ingredient"), 2.0, Unit.UN)
     );
     
     Recipe testRecipe = new Recipe(
-        Id.of("basic-recipe-id"),
+        TestIds.of("basic-recipe-id"),
         "Basic Cake",
         ingredients,
         Money.of(15.50)
@@ -81,11 +82,11 @@ class BasicRecipeRepositoryIntegrationTest {
   void findById_withExistingId_shouldReturnRecipe() {
     // Given
     List<RecipeIngredient> ingredients = List.of(
-        new RecipeIngredient(Id.of("flour-ingredient"), 300.0, Unit.G)
+        new RecipeIngredient(TestIds.of("flour-ingredient"), 300.0, Unit.G)
     );
     
     Recipe testRecipe = new Recipe(
-        Id.of("findable-recipe"),
+        TestIds.of("findable-recipe"),
         "Findable Recipe",
         ingredients,
         Money.of(8.00)
@@ -107,7 +108,7 @@ class BasicRecipeRepositoryIntegrationTest {
   @Test
   void findById_withNonExistingId_shouldReturnEmpty() {
     // Given
-    Id nonExistingId = Id.of("non-existing-recipe");
+    Id nonExistingId = TestIds.of("non-existing-recipe");
 
     // When
     Optional<Recipe> found = recipeRepository.findById(nonExistingId);
@@ -120,11 +121,11 @@ class BasicRecipeRepositoryIntegrationTest {
   void existsByName_withExistingName_shouldReturnTrue() {
     // Given
     List<RecipeIngredient> ingredients = List.of(
-        new RecipeIngredient(Id.of("flour-ingredient"), 200.0, Unit.G)
+        new RecipeIngredient(TestIds.of("flour-ingredient"), 200.0, Unit.G)
     );
     
     Recipe testRecipe = new Recipe(
-        Id.of("exists-recipe"),
+        TestIds.of("exists-recipe"),
         "Existing Recipe",
         ingredients,
         Money.of(6.00)
@@ -151,11 +152,11 @@ class BasicRecipeRepositoryIntegrationTest {
   void deleteById_shouldRemoveRecipeFromDatabase() {
     // Given
     List<RecipeIngredient> ingredients = List.of(
-        new RecipeIngredient(Id.of("flour-ingredient"), 400.0, Unit.G)
+        new RecipeIngredient(TestIds.of("flour-ingredient"), 400.0, Unit.G)
     );
     
     Recipe testRecipe = new Recipe(
-        Id.of("deletable-recipe"),
+        TestIds.of("deletable-recipe"),
         "Deletable Recipe",
         ingredients,
         Money.of(10.00)
@@ -175,11 +176,11 @@ class BasicRecipeRepositoryIntegrationTest {
   void save_withDuplicateName_shouldThrowDataIntegrityViolationException() {
     // Given - save first recipe
     List<RecipeIngredient> ingredients = List.of(
-        new RecipeIngredient(Id.of("flour-ingredient"), 500.0, Unit.G)
+        new RecipeIngredient(TestIds.of("flour-ingredient"), 500.0, Unit.G)
     );
     
     Recipe firstRecipe = new Recipe(
-        Id.of("first-recipe"),
+        TestIds.of("first-recipe"),
         "Duplicate Name Recipe",
         ingredients,
         Money.of(10.0)
@@ -188,7 +189,7 @@ class BasicRecipeRepositoryIntegrationTest {
 
     // When/Then - try to save second recipe with same name
     Recipe secondRecipe = new Recipe(
-        Id.of("second-recipe"),
+        TestIds.of("second-recipe"),
         "Duplicate Name Recipe", // Same name
         ingredients,
         Money.of(15.0)
@@ -206,11 +207,11 @@ class BasicRecipeRepositoryIntegrationTest {
   void save_shouldHandleZeroCostRecipe() {
     // Given - recipe with zero cost
     List<RecipeIngredient> ingredients = List.of(
-        new RecipeIngredient(Id.of("flour-ingredient"), 100.0, Unit.G)
+        new RecipeIngredient(TestIds.of("flour-ingredient"), 100.0, Unit.G)
     );
     
     Recipe freeRecipe = new Recipe(
-        Id.of("free-recipe"),
+        TestIds.of("free-recipe"),
         "Free Sample Recipe",
         ingredients,
         Money.of(0.0) // Zero cost should be allowed
@@ -0,0 +1,179 @@
+package br.unifor.costify.recipe.integration.repository;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.TestcontainersConfiguration;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.catalog.infra.data.repositories.jpa.JpaIngredientRepository;
+import br.unifor.costify.catalog.infra.data.repositories.postgres.PostgresIngredientRepository;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.service.RecipeCostCalculationService;
+import br.unifor.costify.recipe.domain.valueobject.IngredientCost;
+import br.unifor.costify.recipe.domain.valueobject.RecipeCost;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.infra.data.repositories.jpa.JpaRecipeRepository;
+import br.unifor.costify.recipe.infra.data.repositories.postgres.PostgresRecipeCostRepository;
+import br.unifor.costify.recipe.infra.data.repositories.postgres.PostgresRecipeRepository;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class RecipeCostRepositoryIntegrationTest {
+
+  @Autowired private PostgresRecipeCostRepository recipeCostRepository;
+  @Autowired private PostgresRecipeRepository recipeRepository;
+  @Autowired private PostgresIngredientRepository ingredientRepository;
+  @Autowired private RecipeCostCalculationService costCalculationService;
+
+  @Autowired private JpaRecipeRepository jpaRecipeRepository;
+  @Autowired private JpaIngredientRepository jpaIngredientRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private Ingredient flour;
+  private Ingredient eggs;
+
+  @BeforeEach
+  void setUp() {
+    flour = ingredientRepository.save(new Ingredient(TestIds.of("flour-ingredient"), "Flour", 1000.0, Money.of(3.50), Unit.G));
+    eggs = ingredientRepository.save(new Ingredient(TestIds.of("egg-ingredient"), "Eggs", 12.0, Money.of(4.80), Unit.UN));
+  }
+
+  @AfterEach
+  void cleanup() {
+    // Cost lines are removed by the ON DELETE CASCADE foreign keys
+    jpaRecipeRepository.deleteAll();
+    jpaIngredientRepository.deleteAll();
+  }
+
+  private RecipeCost saveRecipeWithCost(Recipe recipe) {
+    RecipeCost recipeCost = costCalculationService.calculateCost(
+        recipe, Map.of(flour.getId(), flour, eggs.getId(), eggs));
+    recipe.updateTotalCost(recipeCost.getTotalCost());
+    recipeRepository.save(recipe);
+    recipeCostRepository.save(recipeCost);
+    return recipeCost;
+  }
+
+  @Test
+  void findByRecipeId_shouldReturnStoredLinesInRecipeOrder() {
+    // Given
+    Recipe recipe = new Recipe(TestIds.of("cake-recipe"), "Cake", List.of(
+        new RecipeIngredient(flour.getId(), 500.0, Unit.G),
+        new RecipeIngredient(eggs.getId(), 3.0, Unit.UN)), Money.zero());
+    RecipeCost saved = saveRecipeWithCost(recipe);
+
+    // When
+    Optional<RecipeCost> found = recipeCostRepository.findByRecipeId(recipe.getId());
+
+    // Then
+    assert found.isPresent();
+    assert found.get().getRecipeName().equals("Cake");
+    assert found.get().getIngredientCosts().size() == 2;
+    assert found.get().getIngredientCosts().get(0).getIngredientName().equals("Flour");
+    assert found.get().getIngredientCosts().get(1).getIngredientName().equals("Eggs");
+    assert found.get().getTotalCostMicroCents() == saved.getTotalCostMicroCents();
+  }
+
+  @Test
+  void findByRecipeId_shouldReturnEmptyForUnknownRecipe() {
+    assert recipeCostRepository.findByRecipeId(TestIds.of("missing-recipe")).isEmpty();
+  }
+
+  @Test
+  void save_shouldReplaceLinesOfChangedRecipe() {
+    // Given
+    Recipe recipe = new Recipe(TestIds.of("cake-recipe"), "Cake", List.of(
+        new RecipeIngredient(flour.getId(), 500.0, Unit.G),
+        new RecipeIngredient(eggs.getId(), 3.0, Unit.UN)), Money.zero());
+    saveRecipeWithCost(recipe);
+
+    // When
+    recipe.updateIngredients(List.of(new RecipeIngredient(eggs.getId(), 6.0, Unit.UN)));
+    saveRecipeWithCost(recipe);
+
+    // Then
+    List<IngredientCost> lines = recipeCostRepository.findByRecipeId(recipe.getId())
+        .orElseThrow()
+        .getIngredientCosts();
+    assert lines.size() == 1;
+    assert lines.get(0).getIngredientId().equals(eggs.getId());
+    assert lines.get(0).getQuantityUsed() == 6.0;
+    assert lines.get(0).getCost().getAmount().compareTo(new BigDecimal("2.40")) == 0;
+  }
+
+  @Test
+  void save_shouldNotRewriteLinesWhoseDecimalQuantityIsUnchanged() {
+    // Given - 0.1 has no exact binary representation
+    Recipe recipe = new Recipe(TestIds.of("cake-recipe"), "Cake", List.of(
+        new RecipeIngredient(flour.getId(), 0.1, Unit.KG)), Money.zero());
+    RecipeCost recipeCost = saveRecipeWithCost(recipe);
+    String originalRowVersion = lineRowVersion(recipe);
+
+    // When
+    recipeCostRepository.save(recipeCost);
+
+    // Then - xmin changes with every UPDATE, so the line was not rewritten
+    assert lineRowVersion(recipe).equals(originalRowVersion);
+  }
+
+  private String lineRowVersion(Recipe recipe) {
+    return jdbcTemplate.queryForObject(
+        "SELECT xmin::text FROM recipe_cost_lines WHERE recipe_id = ?",
+        String.class, recipe.getId().toUuid());
+  }
+
+  @Test
+  void sumLineCostsByRecipeIds_shouldSumUnroundedLines() {
+    // Given - 1g of flour costs $0.0035, less than a cent
+    Recipe recipe = new Recipe(TestIds.of("cake-recipe"), "Cake", List.of(
+        new RecipeIngredient(flour.getId(), 1.0, Unit.G),
+        new RecipeIngredient(eggs.getId(), 3.0, Unit.UN)), Money.zero());
+    RecipeCost saved = saveRecipeWithCost(recipe);
+
+    // When
+    Map<Id, Long> sums = recipeCostRepository.sumLineCostsByRecipeIds(
+        List.of(recipe.getId(), TestIds.of("missing-recipe")));
+
+    // Then
+    assert sums.size() == 1;
+    assert sums.get(recipe.getId()) == saved.getTotalCostMicroCents();
+    assert sums.get(recipe.getId()) == 120_350_000L;
+  }
+
+  @Test
+  void refreshLinesByIngredientIds_shouldApplyCurrentIngredientPriceAndName() {
+    // Given
+    Recipe recipe = new Recipe(TestIds.of("cake-recipe"), "Cake", List.of(
+        new RecipeIngredient(flour.getId(), 500.0, Unit.G),
+        new RecipeIngredient(eggs.getId(), 3.0, Unit.UN)), Money.zero());
+    saveRecipeWithCost(recipe);
+
+    flour.update("Wheat Flour", 1000.0, Money.of(7.00), Unit.G);
+    ingredientRepository.save(flour);
+
+    // When
+    int refreshed = recipeCostRepository.refreshLinesByIngredientIds(List.of(flour.getId()));
+
+    // Then
+    assert refreshed == 1;
+    IngredientCost flourLine = recipeCostRepository.findByRecipeId(recipe.getId())
+        .orElseThrow()
+        .getIngredientCosts()
+        .get(0);
+    assert flourLine.getIngredientName().equals("Wheat Flour");
+    assert flourLine.getCost().getAmount().compareTo(new BigDecimal("3.50")) == 0;
+  }
+}
@@ -0,0 +1,131 @@
+package br.unifor.costify.recipe.integration.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.TestcontainersConfiguration;
+import br.unifor.costify.catalog.application.dto.entity.IngredientDto;
+import br.unifor.costify.catalog.application.dto.query.IngredientSort;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.catalog.infra.data.repositories.jpa.JpaIngredientRepository;
+import br.unifor.costify.catalog.infra.data.repositories.postgres.PostgresIngredientQueryService;
+import br.unifor.costify.catalog.infra.data.repositories.postgres.PostgresIngredientRepository;
+import br.unifor.costify.recipe.application.dto.entity.RecipeDto;
+import br.unifor.costify.recipe.application.dto.query.RecipeSort;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.recipe.domain.valueobject.SubRecipe;
+import br.unifor.costify.recipe.infra.data.repositories.jpa.JpaRecipeRepository;
+import br.unifor.costify.recipe.infra.data.repositories.postgres.PostgresRecipeQueryService;
+import br.unifor.costify.recipe.infra.data.repositories.postgres.PostgresRecipeRepository;
+import br.unifor.costify.shared.application.pagination.CursorPage;
+import br.unifor.costify.shared.application.pagination.PageRequest;
+import br.unifor.costify.shared.application.pagination.SortDirection;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+@Import(TestcontainersConfiguration.class)
+class RecipeQueryServiceIntegrationTest {
+
+  @Autowired private PostgresRecipeQueryService recipeQueryService;
+  @Autowired private PostgresIngredientQueryService ingredientQueryService;
+  @Autowired private PostgresRecipeRepository recipeRepository;
+  @Autowired private PostgresIngredientRepository ingredientRepository;
+
+  @Autowired private JpaRecipeRepository jpaRecipeRepository;
+  @Autowired private JpaIngredientRepository jpaIngredientRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void cleanup() {
+    jdbcTemplate.update("DELETE FROM recipe_sub_recipes");
+    jpaRecipeRepository.deleteAll();
+    jpaIngredientRepository.deleteAll();
+  }
+
+  @BeforeEach
+  void setUp() {
+    ingredientRepository.save(new Ingredient(TestIds.of("flour"), "Flour", 1000.0, Money.of(3.50), Unit.G));
+    ingredientRepository.save(new Ingredient(TestIds.of("eggs"), "Eggs", 12.0, Money.of(4.80), Unit.UN));
+    ingredientRepository.save(new Ingredient(TestIds.of("milk"), "Milk", 1.0, Money.of(2.50), Unit.L));
+
+    recipeRepository.save(new Recipe(TestIds.of("dough"), "Dough", List.of(
+        new RecipeIngredient(TestIds.of("flour"), 500.0, Unit.G),
+        new RecipeIngredient(TestIds.of("eggs"), 2.0, Unit.UN)), Money.of(2.55)));
+    recipeRepository.save(new Recipe(TestIds.of("pancakes"), "Pancakes", List.of(
+        new RecipeIngredient(TestIds.of("milk"), 250.0, Unit.ML)),
+        List.of(new SubRecipe(TestIds.of("dough"), 0.5)), Money.of(1.90), 0));
+    recipeRepository.save(new Recipe(TestIds.of("custard"), "Custard", List.of(
+        new RecipeIngredient(TestIds.of("milk"), 500.0, Unit.ML),
+        new RecipeIngredient(TestIds.of("eggs"), 3.0, Unit.UN)), Money.of(2.45)));
+  }
+
+  @Test
+  void findAll_shouldMatchTheAggregateReadPath() {
+    // When
+    List<RecipeDto> recipes = recipeQueryService.findAll();
+
+    // Then - same DTOs as loading the aggregates, ordered by name
+    List<RecipeDto> expected = recipeRepository.findAll().stream().map(RecipeDto::from).toList();
+    assertThat(recipes).containsExactlyInAnyOrderElementsOf(expected);
+    assertThat(recipes).extracting(RecipeDto::name).containsExactly("Custard", "Dough", "Pancakes");
+
+    List<IngredientDto> ingredients = ingredientQueryService.findAll();
+    assertThat(ingredients).containsExactlyInAnyOrderElementsOf(
+        ingredientRepository.findAll().stream().map(IngredientDto::from).toList());
+  }
+
+  @Test
+  void findPage_shouldWalkAllRecipesWithTheirLines() {
+    // Given
+    List<RecipeDto> walked = new ArrayList<>();
+    String cursor = null;
+
+    // When
+    do {
+      CursorPage<RecipeDto> page = recipeQueryService.findPage(
+          PageRequest.of(RecipeSort.TOTAL_COST, SortDirection.DESC, cursor, 2));
+      walked.addAll(page.items());
+      cursor = page.nextCursor();
+    } while (cursor != null);
+
+    // Then
+    assertThat(walked).extracting(RecipeDto::name).containsExactly("Dough", "Custard", "Pancakes");
+    RecipeDto pancakes = walked.get(2);
+    assertThat(pancakes.ingredients()).singleElement()
+        .satisfies(line -> assertThat(line.quantity()).isEqualTo(250.0));
+    assertThat(pancakes.subRecipes()).singleElement()
+        .satisfies(line -> assertThat(line.recipeId()).isEqualTo(TestIds.of("dough").getValue()));
+  }
+
+  @Test
+  void findPage_shouldWalkAllIngredientsByPackagePrice() {
+    // Given
+    List<IngredientDto> walked = new ArrayList<>();
+    String cursor = null;
+    int pages = 0;
+
+    // When
+    do {
+      CursorPage<IngredientDto> page = ingredientQueryService.findPage(
+          PageRequest.of(IngredientSort.PACKAGE_PRICE, SortDirection.ASC, cursor, 2));
+      walked.addAll(page.items());
+      cursor = page.nextCursor();
+      pages++;
+    } while (cursor != null);
+
+    // Then
+    assertThat(pages).isEqualTo(2);
+    assertThat(walked).extracting(IngredientDto::name).containsExactly("Milk", "Flour", "Eggs");
+  }
+}
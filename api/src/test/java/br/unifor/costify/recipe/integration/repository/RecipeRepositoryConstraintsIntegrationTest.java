@@ -1,5 +1,6 @@
 package br.unifor.costify.recipe.integration.repository;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.TestcontainersConfiguration;
 import br.unifor.costify.catalog.domain.entity.Ingredient;
 import br.unifor.costify.recipe.domain.entity.Recipe;
@@ -46,20 +47,20 @@ class RecipeRepositoryConstraintsIntegrationTest {
   
   private void createBaseTestIngredients() {
     // Create standard ingredients that can be reused across tests
-    ingredientRepository.save(new Ingredient(Id.of("base-flour"), "Base Flour", 1000.0, Money.of(3.50), Unit.G));
-    ingredientRepository.save(new Ingredient(Id.of("base-sugar"), "Base Sugar", 1000.0, Money.of(4.00), Unit.G));
-    ingredientRepository.save(new Ingredient(Id.of("base-eggs"), "Base Eggs", 12.0, Money.of(5.00), Unit.UN));
+    ingredientRepository.save(new Ingredient(TestIds.of("base-flour"), "Base Flour", 1000.0, Money.of(3.50), Unit.G));
+    ingredientRepository.save(new Ingredient(TestIds.of("base-sugar"), "Base Sugar", 1000.0, Money.of(4.00), Unit.G));
+    ingredientRepository.save(new Ingredient(TestIds.of("base-eggs"), "Base Eggs", 12.0, Money.of(5.00), Unit.UN));
   }
 
   @Test
   void save_withDuplicateName_shouldThrowDataIntegrityViolationException() {
     // Given - save first recipe
     List<RecipeIngredient> ingredients = List.of(
-        new RecipeIngredient(Id.of("base-flour"), 500.0, Unit.G)
+        new RecipeIngredient(TestIds.of("base-flour"), 500.0, Unit.G)
     );
     
     Recipe firstRecipe = new Recipe(
-        Id.of("first-id"),
+        TestIds.of("first-id"),
         "Duplicate Recipe Name",
         ingredients,
         Money.of(10.0)
@@ -68,7 +69,7 @@ class RecipeRepositoryConstraintsIntegrationTest {
 
     // When/Then - try to save second recipe with same name
     Recipe secondRecipe = new Recipe(
-        Id.of("second-id"),
+        TestIds.of("second-id"),
         "Duplicate Recipe Name", // Same name
         ingredients,
         Money.of(15.0)
@@ -86,11 +87,11 @@ class RecipeRepositoryConstraintsIntegrationTest {
   void save_withDuplicateId_shouldUpdateExistingRecord() {
     // Given - save original recipe
     List<RecipeIngredient> originalIngredients = List.of(
-        new RecipeIngredient(Id.of("base-flour"), 500.0, Unit.G)
+        new RecipeIngredient(TestIds.of("base-flour"), 500.0, Unit.G)
     );
     
     Recipe original = new Recipe(
-        Id.of("duplicate-id"),
+        TestIds.of("duplicate-id"),
         "Original Recipe",
         originalIngredients,
         Money.of(10.0)
@@ -99,12 +100,12 @@ class RecipeRepositoryConstraintsIntegrationTest {
 
     // When - save new recipe with same ID (immutable update pattern)
     List<RecipeIngredient> updatedIngredients = List.of(
-        new RecipeIngredient(Id.of("base-sugar"), 750.0, Unit.G),
-        new RecipeIngredient(Id.of("base-eggs"), 2.0, Unit.UN)
+        new RecipeIngredient(TestIds.of("base-sugar"), 750.0, Unit.G),
+        new RecipeIngredient(TestIds.of("base-eggs"), 2.0, Unit.UN)
     );
     
     Recipe updated = new Recipe(
-        Id.of("duplicate-id"), // Same ID
+        TestIds.of("duplicate-id"), // Same ID
         "Updated Recipe", // Different name
         updatedIngredients, // Different ingredients
         Money.of(20.0) // Different cost
@@ -117,7 +118,7 @@ class RecipeRepositoryConstraintsIntegrationTest {
     assert saved.getIngredients().size() == 2;
 
     // Verify only one record exists
-    var found = recipeRepository.findById(Id.of("duplicate-id"));
+    var found = recipeRepository.findById(TestIds.of("duplicate-id"));
     assert found.isPresent();
     assert found.get().getName().equals("Updated Recipe");
     assert found.get().getIngredients().size() == 2;
@@ -127,11 +128,11 @@ class RecipeRepositoryConstraintsIntegrationTest {
   void save_withZeroCost_shouldBeAllowed() {
     // Given - recipe with zero cost
     List<RecipeIngredient> freeIngredients = List.of(
-        new RecipeIngredient(Id.of("base-flour"), 1.0, Unit.G)
+        new RecipeIngredient(TestIds.of("base-flour"), 1.0, Unit.G)
     );
     
     Recipe freeRecipe = new Recipe(
-        Id.of("free-recipe"),
+        TestIds.of("free-recipe"),
         "Free Sample Recipe",
         freeIngredients,
         Money.of(0.0) // Zero cost should be allowed
@@ -149,11 +150,11 @@ class RecipeRepositoryConstraintsIntegrationTest {
     // Given - very long name (database column is VARCHAR(255))
     String longName = "A".repeat(300); // 300 characters
     List<RecipeIngredient> ingredients = List.of(
-        new RecipeIngredient(Id.of("base-flour"), 1.0, Unit.G)
+        new RecipeIngredient(TestIds.of("base-flour"), 1.0, Unit.G)
     );
     
     Recipe longNameRecipe = new Recipe(
-        Id.of("long-name-id"),
+        TestIds.of("long-name-id"),
         longName,
         ingredients,
         Money.of(5.0)
@@ -175,11 +176,11 @@ class RecipeRepositoryConstraintsIntegrationTest {
   void save_withVeryLargeCost_shouldHandlePrecision() {
     // Given - recipe with large precise cost
     List<RecipeIngredient> ingredients = List.of(
-        new RecipeIngredient(Id.of("base-sugar"), 999.999, Unit.G)
+        new RecipeIngredient(TestIds.of("base-sugar"), 999.999, Unit.G)
     );
     
     Recipe expensiveRecipe = new Recipe(
-        Id.of("expensive-recipe"),
+        TestIds.of("expensive-recipe"),
         "Expensive Recipe",
         ingredients,
         Money.of(99999.99) // Large cost with 2 decimal places
@@ -192,7 +193,7 @@ class RecipeRepositoryConstraintsIntegrationTest {
     assert saved.getTotalCost().doubleValue() == 99999.99;
 
     // Verify after database round-trip
-    var found = recipeRepository.findById(Id.of("expensive-recipe"));
+    var found = recipeRepository.findById(TestIds.of("expensive-recipe"));
     assert found.isPresent();
     assert found.get().getTotalCost().doubleValue() == 99999.99;
   }
@@ -200,23 +201,23 @@ class RecipeRepositoryConstraintsIntegrationTest {
   @Test
   void save_withAllUnitsInIngredients_shouldPersistCorrectly() {
     // Create ingredients with different units  
-    ingredientRepository.save(new Ingredient(Id.of("gram-ingredient"), "Flour Special", 1000.0, Money.of(3.0), Unit.G));
-    ingredientRepository.save(new Ingredient(Id.of("kg-ingredient"), "Sugar Bulk", 1.0, Money.of(4.0), Unit.KG));
-    ingredientRepository.save(new Ingredient(Id.of("ml-ingredient"), "Vanilla Extract", 100.0, Money.of(8.0), Unit.ML));
-    ingredientRepository.save(new Ingredient(Id.of("liter-ingredient"), "Milk Premium", 1.0, Money.of(2.5), Unit.L));
-    ingredientRepository.save(new Ingredient(Id.of("unit-ingredient"), "Eggs Organic", 12.0, Money.of(6.0), Unit.UN));
+    ingredientRepository.save(new Ingredient(TestIds.of("gram-ingredient"), "Flour Special", 1000.0, Money.of(3.0), Unit.G));
+    ingredientRepository.save(new Ingredient(TestIds.of("kg-ingredient"), "Sugar Bulk", 1.0, Money.of(4.0), Unit.KG));
+    ingredientRepository.save(new Ingredient(TestIds.of("ml-ingredient"), "Vanilla Extract", 100.0, Money.of(8.0), Unit.ML));
+    ingredientRepository.save(new Ingredient(TestIds.of("liter-ingredient"), "Milk Premium", 1.0, Money.of(2.5), Unit.L));
+    ingredientRepository.save(new Ingredient(TestIds.of("unit-ingredient"), "Eggs Organic", 12.0, Money.of(6.0), Unit.UN));
     
     // Test recipe with all available units
     List<RecipeIngredient> allUnitsIngredients = List.of(
-        new RecipeIngredient(Id.of("gram-ingredient"), 250.0, Unit.G),
-        new RecipeIngredient(Id.of("kg-ingredient"), 1.5, Unit.KG),
-        new RecipeIngredient(Id.of("ml-ingredient"), 500.0, Unit.ML),
-        new RecipeIngredient(Id.of("liter-ingredient"), 0.3, Unit.L),
-        new RecipeIngredient(Id.of("unit-ingredient"), 5.0, Unit.UN)
+        new RecipeIngredient(TestIds.of("gram-ingredient"), 250.0, Unit.G),
+        new RecipeIngredient(TestIds.of("kg-ingredient"), 1.5, Unit.KG),
+        new RecipeIngredient(TestIds.of("ml-ingredient"), 500.0, Unit.ML),
+        new RecipeIngredient(TestIds.of("liter-ingredient"), 0.3, Unit.L),
+        new RecipeIngredient(TestIds.of("unit-ingredient"), 5.0, Unit.UN)
     );
 
     Recipe allUnitsRecipe = new Recipe(
-        Id.of("all-units-recipe"),
+        TestIds.of("all-units-recipe"),
         "Recipe with All Units",
         allUnitsIngredients,
         Money.of(25.75)
@@ -268,7 +269,7 @@ class RecipeRepositoryConstraintsIntegrationTest {
   @Test
   void deleteById_withNonExistingId_shouldNotThrowException() {
     // Given - non-existing ID
-    Id nonExistingId = Id.of("definitely-does-not-exist");
+    Id nonExistingId = TestIds.of("definitely-does-not-exist");
 
     // When/Then - should not throw exception
     recipeRepository.deleteById(nonExistingId);
@@ -282,12 +283,12 @@ class RecipeRepositoryConstraintsIntegrationTest {
   void save_shouldHandleCascadeDeleteOfIngredients() {
     // Given - save a recipe with ingredients
     List<RecipeIngredient> ingredients = List.of(
-        new RecipeIngredient(Id.of("base-flour"), 100.0, Unit.G),
-        new RecipeIngredient(Id.of("base-sugar"), 200.0, Unit.G)
+        new RecipeIngredient(TestIds.of("base-flour"), 100.0, Unit.G),
+        new RecipeIngredient(TestIds.of("base-sugar"), 200.0, Unit.G)
     );
     
     Recipe originalRecipe = new Recipe(
-        Id.of("cascade-test-recipe"),
+        TestIds.of("cascade-test-recipe"),
         "Cascade Test Recipe",
         ingredients,
         Money.of(10.0)
@@ -296,11 +297,11 @@ class RecipeRepositoryConstraintsIntegrationTest {
 
     // When - update recipe with different ingredients (should cascade delete old ones)
     List<RecipeIngredient> newIngredients = List.of(
-        new RecipeIngredient(Id.of("base-eggs"), 3.0, Unit.UN)
+        new RecipeIngredient(TestIds.of("base-eggs"), 3.0, Unit.UN)
     );
     
     Recipe updatedRecipe = new Recipe(
-        Id.of("cascade-test-recipe"), // Same ID
+        TestIds.of("cascade-test-recipe"), // Same ID
         "Updated Cascade Test Recipe",
         newIngredients, // Completely different ingredients
         Money.of(15.0)
@@ -309,13 +310,13 @@ class RecipeRepositoryConstraintsIntegrationTest {
 
     // Then - old ingredients should be removed, new ones added
     assert saved.getIngredients().size() == 1;
-    assert saved.getIngredients().get(0).getIngredientId().getValue().equals("base-eggs");
+    assert saved.getIngredients().get(0).getIngredientId().equals(TestIds.of("base-eggs"));
     assert saved.getIngredients().get(0).getQuantity() == 3.0;
 
     // Verify from database
-    var found = recipeRepository.findById(Id.of("cascade-test-recipe"));
+    var found = recipeRepository.findById(TestIds.of("cascade-test-recipe"));
     assert found.isPresent();
     assert found.get().getIngredients().size() == 1;
-    assert found.get().getIngredients().get(0).getIngredientId().getValue().equals("base-eggs");
+    assert found.get().getIngredients().get(0).getIngredientId().equals(TestIds.of("base-eggs"));
   }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package br.unifor.costify.shared.application.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class PageCursorTest {
+
+  enum TestSort { NAME, TOTAL_COST }
+
+  @Test
+  void encode_shouldRoundTripThroughDecode() {
+    // Given - values containing the separator must survive
+    PageCursor cursor = new PageCursor("NAME", SortDirection.DESC, "Cake. Chocolate", "recipe-1");
+
+    // When
+    PageCursor decoded = PageCursor.decode(cursor.encode());
+
+    // Then
+    assertEquals(cursor, decoded);
+  }
+
+  @Test
+  void encode_shouldProduceUrlSafeToken() {
+    // When
+    String token = new PageCursor("NAME", SortDirection.ASC, "Açúcar/+?", "id").encode();
+
+    // Then
+    assertTrue(token.matches("[A-Za-z0-9_-]+"));
+  }
+
+  @Test
+  void decode_shouldRejectMalformedToken() {
+    assertThrows(InvalidPageRequestException.class, () -> PageCursor.decode("not a cursor!"));
+    assertThrows(InvalidPageRequestException.class, () -> PageCursor.decode("Zm9v"));
+  }
+
+  @Test
+  void pageRequest_shouldRejectCursorFromDifferentSort() {
+    // Given
+    String token = new PageCursor("NAME", SortDirection.ASC, "Cake", "recipe-1").encode();
+
+    // Then
+    assertThrows(InvalidPageRequestException.class,
+        () -> PageRequest.of(TestSort.TOTAL_COST, SortDirection.ASC, token, 10));
+    assertThrows(InvalidPageRequestException.class,
+        () -> PageRequest.of(TestSort.NAME, SortDirection.DESC, token, 10));
+  }
+
+  @Test
+  void pageRequest_shouldValidateLimit() {
+    // Then
+    assertEquals(PageRequest.DEFAULT_LIMIT, PageRequest.of(TestSort.NAME, SortDirection.ASC, null, null).limit());
+    assertThrows(InvalidPageRequestException.class,
+        () -> PageRequest.of(TestSort.NAME, SortDirection.ASC, null, 0));
+    assertThrows(InvalidPageRequestException.class,
+        () -> PageRequest.of(TestSort.NAME, SortDirection.ASC, null, PageRequest.MAX_LIMIT + 1));
+  }
+}
@@ -1,35 +1,69 @@
 package br.unifor.costify.shared.domain.valueobject;
 
 import br.unifor.costify.shared.domain.contracts.IdGenerator;
+import br.unifor.costify.shared.domain.errors.InvalidIdException;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 public class IdTest {
   @Test
   void createIdFromValue_shouldReturnCorrectId() {
-    Id id = Id.of("12345");
-    assert id.getValue().equals("12345");
-    assert id.toString() != null;
+    Id id = Id.of("0190a6b2-7c3e-7d4f-8a1b-2c3d4e5f6a7b");
+    assert id.getValue().equals("0190a6b2-7c3e-7d4f-8a1b-2c3d4e5f6a7b");
+    assert id.toString().equals(id.getValue());
   }
 
 
   @Test
   void generateId_shouldCallGenerator() {
     // Mock do IdGenerator
-    IdGenerator generator = () -> "generated-id";
+    IdGenerator generator = () -> "0190a6b2-7c3e-7d4f-8a1b-2c3d4e5f6a7b";
 
     Id id = Id.generate(generator);
-    assert id.getValue().equals("generated-id");
+    assert id.getValue().equals("0190a6b2-7c3e-7d4f-8a1b-2c3d4e5f6a7b");
   }
 
   @Test
   void equalsAndHashCode_shouldWorkCorrectly() {
-    Id id1 = Id.of("abc");
-    Id id2 = Id.of("abc");
-    Id id3 = Id.of("def");
+    Id id1 = Id.of("0190a6b2-7c3e-7d4f-8a1b-2c3d4e5f6a7b");
+    Id id2 = Id.of("0190a6b2-7c3e-7d4f-8a1b-2c3d4e5f6a7b");
+    Id id3 = Id.of("0190a6b2-7c3e-7d4f-8a1b-2c3d4e5f6a7c");
 
     assert id1.equals(id2);
     assert !id1.equals(id3);
     assert id1.hashCode() == id2.hashCode();
     assert id1.hashCode() != id3.hashCode();
   }
+
+  @Test
+  void uuidId_shouldRoundTripThroughUuid() {
+    UUID uuid = UUID.fromString("0190a6b2-7c3e-7d4f-8a1b-2c3d4e5f6a7b");
+
+    Id fromString = Id.of(uuid.toString());
+    Id fromUuid = Id.of(uuid);
+
+    assert fromString.toUuid().equals(uuid);
+    assert fromString.equals(fromUuid);
+    assert fromString.hashCode() == fromUuid.hashCode();
+    assert fromUuid.getValue().equals(uuid.toString());
+  }
+
+  @Test
+  void uuidId_shouldIgnoreCaseOfHexDigits() {
+    Id lower = Id.of("0190a6b2-7c3e-7d4f-8a1b-2c3d4e5f6a7b");
+    Id upper = Id.of("0190A6B2-7C3E-7D4F-8A1B-2C3D4E5F6A7B");
+
+    assert lower.equals(upper);
+    assert upper.getValue().equals(lower.getValue());
+  }
+
+  @Test
+  void nonUuidId_shouldBeRejected() {
+    assertThrows(InvalidIdException.class, () -> Id.of("12345"));
+    assertThrows(InvalidIdException.class, () -> Id.of("1-2-3-4-5"));
+    assertThrows(InvalidIdException.class, () -> Id.of("0190a6b2-7c3e-7d4f-8a1b-2c3d4e5f6a7g"));
+    assertThrows(InvalidIdException.class, () -> Id.of((String) null));
+  }
 }
@@ -0,0 +1,46 @@
+package br.unifor.costify.shared.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyAccumulatorTest {
+
+    @Test
+    void shouldStartAtZero() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+
+        assertEquals(0L, accumulator.getMicroCents());
+        assertEquals(Money.zero(), accumulator.toMoney());
+    }
+
+    @Test
+    void shouldConvertFractionalAmountToMicroCents() {
+        assertEquals(500_000L, MoneyAccumulator.toMicroCents(0.005));
+        assertEquals(62_500_000L, MoneyAccumulator.toMicroCents(0.625));
+    }
+
+    @Test
+    void shouldRoundOnlyOnceWhenConvertingToMoney() {
+        MoneyAccumulator accumulator = new MoneyAccumulator();
+
+        // Three lines of half a cent each: rounding per line would give 0.03
+        accumulator.add(MoneyAccumulator.toMicroCents(0.005));
+        accumulator.add(MoneyAccumulator.toMicroCents(0.005));
+        accumulator.add(MoneyAccumulator.toMicroCents(0.005));
+
+        assertEquals(1_500_000L, accumulator.getMicroCents());
+        assertEquals(new BigDecimal("0.02"), accumulator.toMoney().getAmount());
+    }
+
+    @Test
+    void shouldAddMoneyValues() {
+        MoneyAccumulator accumulator = new MoneyAccumulator()
+            .add(Money.of(new BigDecimal("10.50")))
+            .add(Money.of(new BigDecimal("5.25")));
+
+        assertEquals(Money.of(new BigDecimal("15.75")), accumulator.toMoney());
+    }
+}
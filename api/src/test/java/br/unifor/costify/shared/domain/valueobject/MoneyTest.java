@@ -197,4 +197,24 @@ class MoneyTest {
         // Should handle precision properly
         assertEquals(new BigDecimal("15.58"), result.getAmount()); // Rounded to 2 decimal places
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRoundMicroCentsHalfUpToTwoDecimals() {
+        assertEquals(new BigDecimal("0.63"), Money.ofMicroCents(62_500_000L).getAmount());
+        assertEquals(new BigDecimal("0.62"), Money.ofMicroCents(62_499_999L).getAmount());
+        assertEquals(new BigDecimal("0.00"), Money.ofMicroCents(0L).getAmount());
+    }
+
+    @Test
+    void shouldConvertToMicroCents() {
+        Money money = Money.of(new BigDecimal("10.25"));
+
+        assertEquals(1_025_000_000L, money.toMicroCents());
+        assertEquals(money, Money.ofMicroCents(money.toMicroCents()));
+    }
+
+    @Test
+    void shouldThrowExceptionForNegativeMicroCents() {
+        assertThrows(NegativeMoneyException.class, () -> Money.ofMicroCents(-1L));
+    }
+}
@@ -1,5 +1,6 @@
 package br.unifor.costify.shared.domain.valueobject;
 
+import br.unifor.costify.TestIds;
 import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
 
 import br.unifor.costify.catalog.domain.entity.Ingredient;
@@ -40,7 +41,7 @@ public class TbspUnitsValidationTest {
     void tbspUnits_shouldWorkInIngredientCreation() {
         // Test TBSP (liquid) ingredient creation
         Ingredient vanillaExtract = new Ingredient(
-            Id.of("vanilla-test"),
+            TestIds.of("vanilla-test"),
             "Vanilla Extract",
             10.0, // 10 tablespoons
             Money.of(8.50),
@@ -49,7 +50,7 @@ public class TbspUnitsValidationTest {
         
         // Test TBSP_BUTTER (solid) ingredient creation
         Ingredient butter = new Ingredient(
-            Id.of("butter-test"),
+            TestIds.of("butter-test"),
             "Butter",
             32.0, // 32 tablespoons
             Money.of(12.00),
@@ -69,8 +70,8 @@ public class TbspUnitsValidationTest {
     @Test
     void tbspUnits_shouldWorkInRecipeIngredients() {
         // Given
-        Id vanillaId = Id.of("vanilla");
-        Id butterId = Id.of("butter");
+        Id vanillaId = TestIds.of("vanilla");
+        Id butterId = TestIds.of("butter");
         
         // When - create recipe ingredients with TBSP units
         RecipeIngredient vanillaIngredient = new RecipeIngredient(vanillaId, 1.0, Unit.TBSP);
@@ -89,9 +90,9 @@ public class TbspUnitsValidationTest {
     @Test
     void tbspUnits_shouldWorkInCompleteRecipe() {
         // Given
-        Id recipeId = Id.of("tbsp-recipe");
-        Id vanillaId = Id.of("vanilla");
-        Id butterId = Id.of("butter");
+        Id recipeId = TestIds.of("tbsp-recipe");
+        Id vanillaId = TestIds.of("vanilla");
+        Id butterId = TestIds.of("butter");
         
         RecipeIngredient vanillaIngredient = new RecipeIngredient(vanillaId, 1.0, Unit.TBSP);
         RecipeIngredient butterIngredient = new RecipeIngredient(butterId, 2.0, Unit.TBSP_BUTTER);
@@ -115,7 +116,7 @@ public class TbspUnitsValidationTest {
     void tbspUnits_shouldCalculateCorrectUnitCosts() {
         // Test TBSP liquid ingredient unit cost calculation
         Ingredient vanillaExtract = new Ingredient(
-            Id.of("vanilla-cost-test"),
+            TestIds.of("vanilla-cost-test"),
             "Vanilla Extract",
             10.0, // 10 tablespoons
             Money.of(8.50), // $8.50 total
@@ -128,7 +129,7 @@ public class TbspUnitsValidationTest {
         
         // Test TBSP_BUTTER ingredient unit cost calculation
         Ingredient butter = new Ingredient(
-            Id.of("butter-cost-test"),
+            TestIds.of("butter-cost-test"),
             "Butter",
             16.0, // 16 tablespoons
             Money.of(12.00), // $12.00 total
@@ -143,8 +144,8 @@ public class TbspUnitsValidationTest {
     @Test
     void tbspUnits_shouldHandleFractionalQuantities() {
         // Test half tablespoon measurements
-        RecipeIngredient halfVanilla = new RecipeIngredient(Id.of("vanilla"), 0.5, Unit.TBSP);
-        RecipeIngredient halfButter = new RecipeIngredient(Id.of("butter"), 0.5, Unit.TBSP_BUTTER);
+        RecipeIngredient halfVanilla = new RecipeIngredient(TestIds.of("vanilla"), 0.5, Unit.TBSP);
+        RecipeIngredient halfButter = new RecipeIngredient(TestIds.of("butter"), 0.5, Unit.TBSP_BUTTER);
         
         assert halfVanilla.getQuantity() == 0.5;
         assert halfButter.getQuantity() == 0.5;
@@ -157,8 +158,8 @@ public class TbspUnitsValidationTest {
     @Test
     void tbspUnits_shouldHandleMultipleTablespoons() {
         // Test multiple tablespoon measurements (common in recipes)
-        RecipeIngredient fourTbspVanilla = new RecipeIngredient(Id.of("vanilla"), 4.0, Unit.TBSP);
-        RecipeIngredient eightTbspButter = new RecipeIngredient(Id.of("butter"), 8.0, Unit.TBSP_BUTTER);
+        RecipeIngredient fourTbspVanilla = new RecipeIngredient(TestIds.of("vanilla"), 4.0, Unit.TBSP);
+        RecipeIngredient eightTbspButter = new RecipeIngredient(TestIds.of("butter"), 8.0, Unit.TBSP_BUTTER);
         
         assert fourTbspVanilla.getQuantity() == 4.0;
         assert eightTbspButter.getQuantity() == 8.0;
@@ -171,14 +172,14 @@ public class TbspUnitsValidationTest {
     @Test
     void tbspUnits_shouldBeCompatibleWithOtherUnits() {
         // Verify TBSP units can coexist with other units in recipes
-        Id recipeId = Id.of("mixed-units-recipe");
+        Id recipeId = TestIds.of("mixed-units-recipe");
         
         List<RecipeIngredient> mixedIngredients = List.of(
-            new RecipeIngredient(Id.of("flour"), 500.0, Unit.G),      // Weight in grams
-            new RecipeIngredient(Id.of("milk"), 250.0, Unit.ML),      // Volume in milliliters  
-            new RecipeIngredient(Id.of("vanilla"), 1.0, Unit.TBSP),   // Volume in tablespoons
-            new RecipeIngredient(Id.of("butter"), 4.0, Unit.TBSP_BUTTER), // Weight in tablespoon units
-            new RecipeIngredient(Id.of("eggs"), 2.0, Unit.UN)         // Count units
+            new RecipeIngredient(TestIds.of("flour"), 500.0, Unit.G),      // Weight in grams
+            new RecipeIngredient(TestIds.of("milk"), 250.0, Unit.ML),      // Volume in milliliters  
+            new RecipeIngredient(TestIds.of("vanilla"), 1.0, Unit.TBSP),   // Volume in tablespoons
+            new RecipeIngredient(TestIds.of("butter"), 4.0, Unit.TBSP_BUTTER), // Weight in tablespoon units
+            new RecipeIngredient(TestIds.of("eggs"), 2.0, Unit.UN)         // Count units
         );
         
         Recipe mixedUnitsRecipe = new Recipe(
@@ -0,0 +1,53 @@
+package br.unifor.costify.shared.infra.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidGeneratorTest {
+
+  @Test
+  void generate_shouldReturnVersion7UuidWithCurrentTimestamp() {
+    // Given
+    long now = 1_720_000_000_000L;
+    UuidGenerator generator = new UuidGenerator(() -> now);
+
+    // When
+    UUID uuid = UUID.fromString(generator.generate());
+
+    // Then
+    assertEquals(7, uuid.version());
+    assertEquals(2, uuid.variant());
+    assertEquals(now, uuid.getMostSignificantBits() >>> 16);
+  }
+
+  @Test
+  void generate_shouldBeStrictlyIncreasingWithinTheSameMillisecond() {
+    // Given
+    UuidGenerator generator = new UuidGenerator(() -> 1_720_000_000_000L);
+
+    // When / Then - more IDs than the 12-bit counter holds
+    UUID previous = generator.nextUuid();
+    for (int i = 0; i < 10_000; i++) {
+      UUID next = generator.nextUuid();
+      assertTrue(next.toString().compareTo(previous.toString()) > 0);
+      previous = next;
+    }
+  }
+
+  @Test
+  void generate_shouldNotGoBackwardsWhenClockDoes() {
+    // Given
+    long[] now = {1_720_000_000_000L};
+    UuidGenerator generator = new UuidGenerator(() -> now[0]);
+    UUID first = generator.nextUuid();
+
+    // When
+    now[0] -= 5_000;
+    UUID second = generator.nextUuid();
+
+    // Then
+    assertTrue(second.toString().compareTo(first.toString()) > 0);
+  }
+}
@@ -0,0 +1,45 @@
+package br.unifor.costify.shared.infra.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class ConnectionPoolLimitTest {
+
+  @Test
+  void shouldDefaultToHalfTheHikariPool() {
+    HikariDataSource dataSource = mock(HikariDataSource.class);
+    when(dataSource.getMaximumPoolSize()).thenReturn(20);
+
+    assertThat(new ConnectionPoolLimit(dataSource, true, 0).getMaxConcurrent()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldPreferConfiguredLimit() {
+    assertThat(new ConnectionPoolLimit(mock(HikariDataSource.class), true, 4).getMaxConcurrent()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldAdmitEverythingWhenDisabled() throws InterruptedException {
+    ConnectionPoolLimit limit = new ConnectionPoolLimit(mock(HikariDataSource.class), false, 4);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(limit.tryAcquire(Duration.ZERO)).isTrue();
+    }
+    assertThat(limit.isEnabled()).isFalse();
+  }
+
+  @Test
+  void shouldShareSlotsBetweenCallers() throws InterruptedException {
+    ConnectionPoolLimit limit = new ConnectionPoolLimit(1);
+
+    limit.acquire();
+    assertThat(limit.tryAcquire(Duration.ofMillis(10))).isFalse();
+    limit.release();
+    assertThat(limit.tryAcquire(Duration.ofMillis(10))).isTrue();
+  }
+}
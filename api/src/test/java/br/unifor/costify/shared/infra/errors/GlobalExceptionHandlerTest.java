@@ -9,6 +9,7 @@ import br.unifor.costify.recipe.application.errors.RecipeAlreadyExistsException;
 import br.unifor.costify.shared.domain.errors.DomainException;
 import br.unifor.costify.shared.domain.errors.DomainErrorCode;
 import br.unifor.costify.catalog.domain.errors.InvalidIngredientNameException;
+import br.unifor.costify.shared.domain.errors.InvalidIdException;
 import br.unifor.costify.shared.domain.errors.NegativeMoneyException;
 import br.unifor.costify.recipe.domain.errors.EmptyRecipeException;
 import br.unifor.costify.recipe.domain.errors.InvalidQuantityException;
@@ -163,6 +164,19 @@ class GlobalExceptionHandlerTest {
         assertEquals("DOMAIN-002", body.code()); // Original domain error code
     }
 
+    @Test
+    void shouldHandleInvalidIdException() {
+        InvalidIdException exception = new InvalidIdException("recipe-1");
+
+        ResponseEntity<ErrorResponse> response = handler.handleDomainException(exception, request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        ErrorResponse body = response.getBody();
+        assertNotNull(body);
+        assertEquals("DOMAIN-007", body.code());
+        assertEquals("Invalid identifier: 'recipe-1' is not a UUID", body.message());
+    }
+
     @Test
     void shouldHandleEmptyRecipeException() {
         EmptyRecipeException exception = new EmptyRecipeException("Recipe is empty");
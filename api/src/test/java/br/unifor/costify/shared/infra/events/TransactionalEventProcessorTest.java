@@ -0,0 +1,37 @@
+package br.unifor.costify.shared.infra.events;
+
+import br.unifor.costify.shared.domain.events.DomainEvent;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionalEventProcessorTest {
+
+  @Test
+  void shouldRecordLagBetweenEventAndCommitProcessing() {
+    var meterRegistry = new SimpleMeterRegistry();
+    var processor = new TransactionalEventProcessor(meterRegistry);
+    Instant occurredOn = Instant.now().minusSeconds(2);
+    DomainEvent event = new DomainEvent() {
+      @Override
+      public Instant getOccurredOn() {
+        return occurredOn;
+      }
+
+      @Override
+      public String getEventType() {
+        return "TestEvent";
+      }
+    };
+
+    processor.handleAfterCommit(new TransactionalDomainEventWrapper(event));
+
+    Timer lag = meterRegistry.get(TransactionalEventProcessor.LAG_TIMER).tag("event", "TestEvent").timer();
+    assertThat(lag.count()).isEqualTo(1);
+    assertThat(lag.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(2000);
+  }
+}
@@ -0,0 +1,146 @@
+package br.unifor.costify.shared.infra.events.outbox;
+
+import br.unifor.costify.TestcontainersConfiguration;
+import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.application.dto.command.UpdateIngredientCommand;
+import br.unifor.costify.catalog.application.usecase.UpdateIngredientUseCase;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.recipe.application.contracts.RecipeRepository;
+import br.unifor.costify.recipe.domain.entity.Recipe;
+import br.unifor.costify.recipe.domain.valueobject.RecipeIngredient;
+import br.unifor.costify.shared.domain.contracts.IdGenerator;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The relay is never scheduled here (the poll interval is an hour); tests drive it directly.
+ */
+@SpringBootTest(properties = {
+    "costify.events.outbox.enabled=true",
+    "costify.events.outbox.poll-interval=1h"
+})
+@ActiveProfiles("dev")
+@Import(TestcontainersConfiguration.class)
+class OutboxRelayIntegrationTest {
+
+  @Autowired
+  private UpdateIngredientUseCase updateIngredientUseCase;
+
+  @Autowired
+  private IngredientRepository ingredientRepository;
+
+  @Autowired
+  private RecipeRepository recipeRepository;
+
+  @Autowired
+  private IdGenerator idGenerator;
+
+  @Autowired
+  private DomainEventOutbox outbox;
+
+  @Autowired
+  private OutboxRelay relay;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private Id milkId;
+  private Id cakeId;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM domain_event_outbox");
+    milkId = ingredientRepository.save(new Ingredient(idGenerator, "Milk", 1.0, Money.of(5.0), Unit.L)).getId();
+    cakeId = recipeRepository.save(new Recipe(idGenerator, "Cake",
+        List.of(new RecipeIngredient(milkId, 0.5, Unit.L)), Money.of(2.50))).getId();
+  }
+
+  @AfterEach
+  void tearDown() {
+    recipeRepository.deleteById(cakeId);
+    ingredientRepository.deleteById(milkId);
+    jdbcTemplate.update("DELETE FROM domain_event_outbox");
+  }
+
+  @Test
+  void shouldStoreIngredientUpdateAndRecalculateOnlyWhenRelayed() {
+    updateIngredientUseCase.execute(milkId, new UpdateIngredientCommand("Milk", 1.0, 8.0, Unit.L));
+
+    assertThat(outboxSize()).isEqualTo(1);
+    assertThat(recipeRepository.findById(cakeId).orElseThrow().getTotalCost()).isEqualTo(Money.of(2.50));
+
+    relay.poll();
+
+    assertThat(outboxSize()).isZero();
+    assertThat(recipeRepository.findById(cakeId).orElseThrow().getTotalCost()).isEqualTo(Money.of(4.00));
+  }
+
+  @Test
+  void shouldTolerateDuplicateDelivery() {
+    updateIngredientUseCase.execute(milkId, new UpdateIngredientCommand("Milk", 1.0, 8.0, Unit.L));
+    // A copy of the event, as left behind by a relay that died after recalculating
+    jdbcTemplate.update("INSERT INTO domain_event_outbox (event_type, payload, occurred_on)"
+        + " SELECT event_type, payload, occurred_on FROM domain_event_outbox");
+
+    relay.poll();
+
+    assertThat(outboxSize()).isZero();
+    assertThat(recipeRepository.findById(cakeId).orElseThrow().getTotalCost()).isEqualTo(Money.of(4.00));
+  }
+
+  @Test
+  void shouldNotHandTheSameEventsToConcurrentClaims() throws Exception {
+    for (int i = 0; i < 4; i++) {
+      updateIngredientUseCase.execute(milkId, new UpdateIngredientCommand("Milk", 1.0, 5.0 + i, Unit.L));
+    }
+    CountDownLatch claimed = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<List<OutboxEntry>> first = CompletableFuture.supplyAsync(() ->
+        transactionTemplate.execute(status -> {
+          List<OutboxEntry> entries = outbox.claim(2);
+          claimed.countDown();
+          await(release);
+          return entries;
+        }));
+    await(claimed);
+    List<OutboxEntry> second = transactionTemplate.execute(status -> outbox.claim(10));
+    release.countDown();
+
+    List<Long> firstIds = first.get(10, TimeUnit.SECONDS).stream().map(OutboxEntry::id).toList();
+    List<Long> secondIds = second.stream().map(OutboxEntry::id).toList();
+    assertThat(firstIds).hasSize(2);
+    assertThat(secondIds).hasSize(2).doesNotContainAnyElementsOf(firstIds);
+  }
+
+  private int outboxSize() {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM domain_event_outbox", Integer.class);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package br.unifor.costify.shared.infra.events.outbox;
+
+import br.unifor.costify.shared.application.contracts.TransactionManager;
+import br.unifor.costify.shared.application.contracts.TransactionalOperation;
+import br.unifor.costify.shared.domain.events.DomainEvent;
+import br.unifor.costify.shared.domain.events.DomainEventHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+  private DomainEventOutbox outbox;
+  private DomainEventHandler handler;
+  private DomainEventHandler otherHandler;
+  private SimpleMeterRegistry meterRegistry;
+  private OutboxRelay relay;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    outbox = mock(DomainEventOutbox.class);
+    handler = mock(DomainEventHandler.class);
+    otherHandler = mock(DomainEventHandler.class);
+    meterRegistry = new SimpleMeterRegistry();
+
+    TransactionManager transactionManager = mock(TransactionManager.class);
+    when(transactionManager.executeInTransaction(any())).thenAnswer(
+        invocation -> invocation.getArgument(0, TransactionalOperation.class).execute());
+
+    relay = new OutboxRelay(outbox, List.of(handler, otherHandler), transactionManager, meterRegistry,
+        2, Duration.ofSeconds(1));
+  }
+
+  @Test
+  void shouldDeliverBatchToHandlersThatCanHandleItAndDeleteIt() {
+    OutboxEntry first = entry(1);
+    OutboxEntry second = entry(2);
+    DomainEvent firstEvent = event("First");
+    DomainEvent secondEvent = event("Second");
+    when(outbox.claim(2)).thenReturn(List.of(first, second));
+    when(outbox.decode(first)).thenReturn(firstEvent);
+    when(outbox.decode(second)).thenReturn(secondEvent);
+    when(handler.canHandle(any())).thenReturn(true);
+    when(otherHandler.canHandle(secondEvent)).thenReturn(true);
+
+    int claimed = relay.relayBatch();
+
+    assertThat(claimed).isEqualTo(2);
+    verify(handler).handleAll(List.of(firstEvent, secondEvent));
+    verify(otherHandler).handleAll(List.of(secondEvent));
+    verify(outbox).delete(List.of(first, second));
+    verify(outbox, never()).reschedule(any(), any());
+    assertThat(meterRegistry.get(OutboxRelay.RELAYED_COUNTER).counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRescheduleBatchWhenAHandlerFails() {
+    OutboxEntry entry = entry(1);
+    DomainEvent event = event("Failing");
+    RuntimeException failure = new IllegalStateException("database is down");
+    when(outbox.claim(2)).thenReturn(List.of(entry));
+    when(outbox.decode(entry)).thenReturn(event);
+    when(handler.canHandle(event)).thenReturn(true);
+    doThrow(failure).when(handler).handleAll(List.of(event));
+
+    relay.relayBatch();
+
+    verify(outbox).reschedule(List.of(entry), failure);
+    verify(outbox, never()).delete(any());
+    assertThat(meterRegistry.get(OutboxRelay.FAILURES_COUNTER).counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepClaimingWhileBatchesAreFull() {
+    when(outbox.claim(2)).thenReturn(List.of(entry(1), entry(2)), List.of(entry(3)));
+    when(outbox.decode(any())).thenReturn(event("Event"));
+
+    relay.poll();
+
+    verify(outbox, times(2)).claim(anyInt());
+    verify(outbox, times(2)).delete(any());
+  }
+
+  @Test
+  void shouldDoNothingWhenNoEventIsDue() {
+    when(outbox.claim(2)).thenReturn(List.of());
+
+    relay.poll();
+
+    verify(outbox).claim(2);
+    verifyNoInteractions(handler, otherHandler);
+    verify(outbox, never()).delete(any());
+  }
+
+  private static OutboxEntry entry(long id) {
+    return new OutboxEntry(id, "Event", "{}", Instant.now(), 0);
+  }
+
+  private static DomainEvent event(String type) {
+    Instant occurredOn = Instant.now();
+    return new DomainEvent() {
+      @Override
+      public Instant getOccurredOn() {
+        return occurredOn;
+      }
+
+      @Override
+      public String getEventType() {
+        return type;
+      }
+    };
+  }
+}
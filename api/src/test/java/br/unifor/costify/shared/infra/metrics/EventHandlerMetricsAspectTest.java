@@ -0,0 +1,47 @@
+package br.unifor.costify.shared.infra.metrics;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.catalog.domain.events.IngredientUpdatedEvent;
+import br.unifor.costify.recipe.application.events.IngredientUpdatedEventHandler;
+import br.unifor.costify.recipe.application.events.RecipeCostRecalculationQueue;
+import br.unifor.costify.recipe.application.usecase.RecalculateRecipeCostsForIngredientUseCase;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import br.unifor.costify.shared.infra.events.TransactionalDomainEventWrapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class EventHandlerMetricsAspectTest {
+
+  @Test
+  void shouldCountHandlerFailuresByHandlerEventAndException() {
+    var recalculateUseCase = mock(RecalculateRecipeCostsForIngredientUseCase.class);
+    var meterRegistry = new SimpleMeterRegistry();
+    var event = new IngredientUpdatedEvent(TestIds.of("ingredient-1"), "Milk", 1.0, Money.of(5.00), Unit.L);
+    doThrow(new IllegalStateException("database is down")).when(recalculateUseCase).execute(event);
+
+    AspectJProxyFactory proxyFactory = new AspectJProxyFactory(
+        new IngredientUpdatedEventHandler(RecipeCostRecalculationQueue.synchronous(recalculateUseCase, meterRegistry)));
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAspect(new EventHandlerMetricsAspect(meterRegistry));
+    IngredientUpdatedEventHandler handler = proxyFactory.getProxy();
+
+    assertThatThrownBy(() -> handler.handleIngredientUpdated(new TransactionalDomainEventWrapper(event)))
+        .isInstanceOf(IllegalStateException.class);
+
+    double failures = meterRegistry.get(EventHandlerMetricsAspect.COUNTER)
+        .tag("handler", "IngredientUpdatedEventHandler")
+        .tag("event", "IngredientUpdated")
+        .tag("exception", "IllegalStateException")
+        .counter()
+        .count();
+    assertThat(failures).isEqualTo(1);
+  }
+}
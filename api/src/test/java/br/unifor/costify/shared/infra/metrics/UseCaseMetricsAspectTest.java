@@ -0,0 +1,71 @@
+package br.unifor.costify.shared.infra.metrics;
+
+import br.unifor.costify.TestIds;
+import br.unifor.costify.catalog.application.contracts.IngredientRepository;
+import br.unifor.costify.catalog.application.errors.IngredientNotFoundException;
+import br.unifor.costify.catalog.application.usecase.GetIngredientByIdUseCase;
+import br.unifor.costify.catalog.domain.entity.Ingredient;
+import br.unifor.costify.shared.domain.valueobject.Id;
+import br.unifor.costify.shared.domain.valueobject.Money;
+import br.unifor.costify.shared.domain.valueobject.Unit;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UseCaseMetricsAspectTest {
+
+  private IngredientRepository ingredientRepository;
+  private SimpleMeterRegistry meterRegistry;
+  private GetIngredientByIdUseCase useCase;
+
+  @BeforeEach
+  void setUp() {
+    ingredientRepository = mock(IngredientRepository.class);
+    meterRegistry = new SimpleMeterRegistry();
+
+    AspectJProxyFactory proxyFactory =
+        new AspectJProxyFactory(new GetIngredientByIdUseCase(ingredientRepository));
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAspect(new UseCaseMetricsAspect(meterRegistry));
+    useCase = proxyFactory.getProxy();
+  }
+
+  @Test
+  void shouldTimeSuccessfulExecution() {
+    Id id = TestIds.of("ingredient-1");
+    when(ingredientRepository.findById(id))
+        .thenReturn(Optional.of(new Ingredient(id, "Milk", 1.0, Money.of(5.00), Unit.L)));
+
+    useCase.execute(TestIds.value("ingredient-1"));
+
+    Timer timer = meterRegistry.get(UseCaseMetricsAspect.TIMER)
+        .tag("usecase", "GetIngredientByIdUseCase")
+        .tag("method", "execute")
+        .tag("outcome", "success")
+        .tag("exception", "none")
+        .timer();
+    assertThat(timer.count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldTimeFailedExecutionAndRethrow() {
+    when(ingredientRepository.findById(TestIds.of("missing"))).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> useCase.execute(TestIds.value("missing")))
+        .isInstanceOf(IngredientNotFoundException.class);
+
+    Timer timer = meterRegistry.get(UseCaseMetricsAspect.TIMER)
+        .tag("outcome", "failure")
+        .tag("exception", "IngredientNotFoundException")
+        .timer();
+    assertThat(timer.count()).isEqualTo(1);
+  }
+}
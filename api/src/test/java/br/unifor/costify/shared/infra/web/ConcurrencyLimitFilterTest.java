@@ -0,0 +1,108 @@
+package br.unifor.costify.shared.infra.web;
+
+import br.unifor.costify.shared.infra.data.ConnectionPoolLimit;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitFilterTest {
+
+  private ConnectionPoolLimit limit;
+  private ConcurrencyLimitFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    limit = new ConnectionPoolLimit(1);
+    filter = new ConcurrencyLimitFilter(limit, Duration.ofMillis(50), new ObjectMapper().findAndRegisterModules());
+  }
+
+  @Test
+  void shouldReleaseSlotAfterRequest() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(new MockHttpServletRequest("GET", "/recipes"), response, (req, res) -> {
+      assertThat(limit.availableSlots()).isZero();
+    });
+
+    assertThat(response.getStatus()).isEqualTo(200);
+    assertThat(limit.availableSlots()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectWith503WhenNoSlotFreesUpInTime() throws Exception {
+    CountDownLatch inFlight = new CountDownLatch(1);
+    CountDownLatch finish = new CountDownLatch(1);
+    Thread holder = Thread.ofVirtual().start(() -> {
+      try {
+        filter.doFilter(new MockHttpServletRequest("PUT", "/ingredients/1"), new MockHttpServletResponse(),
+            (req, res) -> {
+              inFlight.countDown();
+              awaitQuietly(finish);
+            });
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    assertThat(inFlight.await(2, TimeUnit.SECONDS)).isTrue();
+
+    MockHttpServletResponse rejected = new MockHttpServletResponse();
+    FilterChain chain = (req, res) -> {
+      throw new AssertionError("Request should not be admitted");
+    };
+    filter.doFilter(new MockHttpServletRequest("PUT", "/ingredients/2"), rejected, chain);
+
+    finish.countDown();
+    holder.join();
+    assertThat(rejected.getStatus()).isEqualTo(503);
+    assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+    assertThat(rejected.getContentAsString()).contains("\"code\":\"INFRA-503\"");
+    assertThat(limit.availableSlots()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldKeepSlotUntilAsyncRequestCompletes() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/recipes/export");
+    request.setAsyncSupported(true);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, (req, res) -> req.startAsync());
+
+    assertThat(limit.availableSlots()).isZero();
+    ((MockAsyncContext) request.getAsyncContext()).complete();
+    assertThat(limit.availableSlots()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotLimitActuatorEndpoints() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+
+    filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+      assertThat(limit.availableSlots()).isEqualTo(1);
+    });
+  }
+
+  @Test
+  void shouldRejectDisabledLimit() {
+    assertThatThrownBy(() -> new ConcurrencyLimitFilter(
+        new ConnectionPoolLimit(0), Duration.ofMillis(50), new ObjectMapper()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(2, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package br.unifor.costify.shared.infra.web;
+
+import br.unifor.costify.shared.application.versioning.ResourceVersion;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalRequestsTest {
+
+  private final Instant lastModified = Instant.parse("2025-03-10T12:00:00.750Z");
+  private final ResourceVersion current = new ResourceVersion(3, lastModified);
+
+  @Test
+  void shouldMatchCurrentTagInIfNoneMatch() {
+    assertThat(ConditionalRequests.isNotModified(ifNoneMatch("\"2\", \"3\""), current)).isTrue();
+    assertThat(ConditionalRequests.isNotModified(ifNoneMatch("W/\"3\""), current)).isTrue();
+    assertThat(ConditionalRequests.isNotModified(ifNoneMatch("*"), current)).isTrue();
+    assertThat(ConditionalRequests.isNotModified(ifNoneMatch("\"2\""), current)).isFalse();
+  }
+
+  @Test
+  void shouldIgnoreIfModifiedSince_whenIfNoneMatchIsPresent() {
+    HttpHeaders headers = ifNoneMatch("\"2\"");
+    headers.setIfModifiedSince(lastModified.plusSeconds(60));
+
+    assertThat(ConditionalRequests.isNotModified(headers, current)).isFalse();
+  }
+
+  @Test
+  void shouldCompareIfModifiedSinceToTheSecond() {
+    HttpHeaders sameSecond = new HttpHeaders();
+    sameSecond.setIfModifiedSince(Instant.parse("2025-03-10T12:00:00Z"));
+    HttpHeaders before = new HttpHeaders();
+    before.setIfModifiedSince(Instant.parse("2025-03-10T11:59:59Z"));
+
+    assertThat(ConditionalRequests.isNotModified(sameSecond, current)).isTrue();
+    assertThat(ConditionalRequests.isNotModified(before, current)).isFalse();
+  }
+
+  @Test
+  void shouldIgnoreInvalidIfModifiedSince() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.IF_MODIFIED_SINCE, "yesterday");
+
+    assertThat(ConditionalRequests.isNotModified(headers, current)).isFalse();
+  }
+
+  @Test
+  void shouldBeModified_withoutConditionalHeaders() {
+    assertThat(ConditionalRequests.isNotModified(new HttpHeaders(), current)).isFalse();
+  }
+
+  @Test
+  void shouldAddLastModifiedOnlyForTheVersionItDescribes() {
+    ResponseEntity<String> sameVersion = ConditionalRequests.ok("body", 3, Optional.of(current));
+    ResponseEntity<String> newerVersion = ConditionalRequests.ok("body", 4, Optional.of(current));
+
+    assertThat(sameVersion.getHeaders().getLastModified()).isEqualTo(Instant.parse("2025-03-10T12:00:00Z").toEpochMilli());
+    assertThat(newerVersion.getHeaders().getLastModified()).isEqualTo(-1);
+    assertThat(newerVersion.getHeaders().getETag()).isEqualTo("\"4\"");
+  }
+
+  @Test
+  void shouldAnswerNotModifiedWithValidatorsAndNoBody() {
+    ResponseEntity<String> response = ConditionalRequests.notModified(current);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
+    assertThat(response.hasBody()).isFalse();
+  }
+
+  private static HttpHeaders ifNoneMatch(String value) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.IF_NONE_MATCH, value);
+    return headers;
+  }
+}
@@ -0,0 +1,47 @@
+package br.unifor.costify.shared.infra.web;
+
+import br.unifor.costify.shared.application.versioning.CollectionVersion;
+import java.time.Instant;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VersionETagsTest {
+
+  @Test
+  void shouldRoundTripVersionThroughETag() {
+    assertThat(VersionETags.of(7)).isEqualTo("\"7\"");
+    assertThat(VersionETags.expectedVersion(VersionETags.of(7))).isEqualTo(OptionalLong.of(7));
+  }
+
+  @Test
+  void shouldAcceptAnyVersionForWildcard() {
+    assertThat(VersionETags.expectedVersion(" * ")).isEmpty();
+  }
+
+  @Test
+  void shouldNeverMatchWeakOrMalformedTags() {
+    assertThat(VersionETags.expectedVersion("W/\"7\"")).hasValue(-1);
+    assertThat(VersionETags.expectedVersion("7")).hasValue(-1);
+    assertThat(VersionETags.expectedVersion("\"seven\"")).hasValue(-1);
+    assertThat(VersionETags.expectedVersion("\"7\", \"8\"")).hasValue(-1);
+  }
+
+  @Test
+  void shouldRequireHeader() {
+    assertThatThrownBy(() -> VersionETags.expectedVersion(null))
+        .isInstanceOf(PreconditionRequiredException.class);
+    assertThatThrownBy(() -> VersionETags.expectedVersion(" "))
+        .isInstanceOf(PreconditionRequiredException.class);
+  }
+
+  @Test
+  void shouldTagCollectionWeaklyFromItsSummary() {
+    CollectionVersion version = new CollectionVersion(12, 40, Instant.parse("2025-01-01T00:00:00.000123Z"));
+
+    assertThat(VersionETags.of(version)).isEqualTo("W/\"12-40-1735689600000123\"");
+    assertThat(VersionETags.of(new CollectionVersion(0, 0, null))).isEqualTo("W/\"0-0-0\"");
+  }
+}
@@ -17,15 +17,21 @@ export async function listIngredients() {
 	return data;
 }
 
-export async function getIngredientById(id: string) {
-	const { data } = await client.get<Ingredient>(`/api/ingredients/${id}`);
-	return data;
+export async function getIngredientById(id: string): Promise<Ingredient> {
+	const { data, headers } = await client.get<Ingredient>(
+		`/api/ingredients/${id}`,
+	);
+	return { ...data, etag: headers.etag as string | undefined };
 }
 
+// A API exige o ETag lido no GET em If-Match; um ingrediente alterado desde então resulta em 412
 export async function updateIngredient(
 	id: string,
 	input: UpdateIngredientInput,
+	etag: string,
 ) {
-	const { data } = await client.put(`/api/ingredients/${id}`, input);
+	const { data } = await client.put(`/api/ingredients/${id}`, input, {
+		headers: { "If-Match": etag },
+	});
 	return data;
 }
@@ -20,6 +20,8 @@ export type Ingredient = {
 	packagePrice: number;
 	packageUnit: string;
 	unitCost?: number; // pode vir calculado pelo backend
+	version?: number;
+	etag?: string; // header ETag do GET, enviado em If-Match na atualização
 };
 
 export type IngredientsListResponse = Ingredient[];
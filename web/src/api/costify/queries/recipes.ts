@@ -16,12 +16,19 @@ export async function registerRecipe(input: CreateRecipeInput) {
 	return data;
 }
 
-export async function getRecipeById(id: string) {
-	const { data } = await client.get<Recipe>(`/api/recipes/${id}`);
-	return data;
+export async function getRecipeById(id: string): Promise<Recipe> {
+	const { data, headers } = await client.get<Recipe>(`/api/recipes/${id}`);
+	return { ...data, etag: headers.etag as string | undefined };
 }
 
-export async function updateRecipe(id: string, input: UpdateRecipeInput) {
-	const { data } = await client.put(`/api/recipes/${id}`, input);
+// A API exige o ETag lido no GET em If-Match; uma receita alterada desde então resulta em 412
+export async function updateRecipe(
+	id: string,
+	input: UpdateRecipeInput,
+	etag: string,
+) {
+	const { data } = await client.put(`/api/recipes/${id}`, input, {
+		headers: { "If-Match": etag },
+	});
 	return data;
 }
@@ -33,8 +33,10 @@ export type Recipe = {
 	name: string;
 	ingredients: RecipeIngredientDetail[];
 	totalCost?: number;
+	version?: number;
 	createdAt?: string;
 	updatedAt?: string;
+	etag?: string; // header ETag do GET, enviado em If-Match na atualização
 };
 
 // ===== Atualização =====
@@ -38,7 +38,13 @@ export function useIngredient(id: string) {
 export function useUpdateIngredient(id: string) {
 	const qc = useQueryClient();
 	return useMutation({
-		mutationFn: (input: UpdateIngredientInput) => updateIngredient(id, input),
+		mutationFn: ({
+			input,
+			etag,
+		}: {
+			input: UpdateIngredientInput;
+			etag: string;
+		}) => updateIngredient(id, input, etag),
 		onSuccess: () => {
 			qc.invalidateQueries({ queryKey: ["ingredients"] });
 			qc.invalidateQueries({ queryKey: ["ingredients", id] });
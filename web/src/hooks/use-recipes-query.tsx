@@ -38,7 +38,8 @@ export function useRecipe(id: string) {
 export function useUpdateRecipe(id: string) {
 	const qc = useQueryClient();
 	return useMutation({
-		mutationFn: (input: UpdateRecipeInput) => updateRecipe(id, input),
+		mutationFn: ({ input, etag }: { input: UpdateRecipeInput; etag: string }) =>
+			updateRecipe(id, input, etag),
 		onSuccess: () => {
 			qc.invalidateQueries({ queryKey: ["recipes"] });
 			qc.invalidateQueries({ queryKey: ["recipes", id] });
@@ -85,7 +85,7 @@ export function IngredientForm({
 
 	async function onSubmit(data: CreateIngredientInput | UpdateIngredientInput) {
 		if (mode === "edit") {
-			await updateIngredient(data);
+			await updateIngredient({ input: data, etag: initialData?.etag ?? "" });
 		} else {
 			await registerIngredient(data);
 			reset();
@@ -98,7 +98,7 @@ export function RecipeForm({
 
 	async function onSubmit(data: CreateRecipeInput | UpdateRecipeInput) {
 		if (mode === "edit") {
-			await updateRecipe(data);
+			await updateRecipe({ input: data, etag: initialData?.etag ?? "" });
 		} else {
 			await registerRecipe(data);
 			reset();